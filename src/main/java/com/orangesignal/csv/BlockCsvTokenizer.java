@@ -0,0 +1,474 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * 文字入力ストリームからまとめて読込んだ文字配列を直接走査して字句解析を行う {@link CsvTokenizer} の実装です。<p>
+ * 行バッファや CSV トークンの値は文字配列上の範囲として扱い、
+ * 区切り文字や囲み文字、改行文字などの特殊文字以外の文字の並びは一括して読み飛ばします。
+ * CSV トークンの値は後処理が不要な場合は文字配列から直接切出します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ * @see TokenizerPolicy#BLOCK
+ * @see TokenizerPolicy#VECTOR
+ */
+class BlockCsvTokenizer extends CsvTokenizer {
+
+	/**
+	 * 文字入力ストリームを保持します。
+	 */
+	private Reader in;
+
+	/**
+	 * 入力バッファを保持します。
+	 */
+	private char[] buf;
+
+	/**
+	 * 行フィルタで照合する為に入力バッファ全体を参照する文字シーケンスを保持します。
+	 */
+	private CharBuffer bufView;
+
+	/**
+	 * 入力バッファ内の有効な文字数を保持します。
+	 */
+	private int limit;
+
+	/**
+	 * 入力バッファ内の行バッファの開始位置を保持します。
+	 */
+	private int lineStart;
+
+	/**
+	 * 入力バッファ内の行バッファの終了位置 (終端文字を含む) を保持します。
+	 */
+	private int lineEnd;
+
+	/**
+	 * 入力バッファの位置を保持します。
+	 */
+	private int pos;
+
+	/**
+	 * 読込み中の CSV トークンの入力バッファ内の開始位置を保持します。CSV トークンを読込み中でない場合は {@code -1} です。
+	 */
+	private int tokenStart = -1;
+
+	/**
+	 * 文字入力ストリームの終わりに達したかどうかを保持します。
+	 */
+	private boolean eof;
+
+	/**
+	 * 直前の行が LF を伴わない CR で終了したかどうかを保持します。
+	 */
+	private boolean loneCr;
+
+	/**
+	 * 直前の文字が復帰文字かどうかを保持します。
+	 */
+	private boolean cr = false;
+
+	/**
+	 * BOM (Byte Order Mark) を除去するかどうかを保持します。
+	 */
+	private final boolean utf8bom;
+
+	/**
+	 * 直前に読込んだ CSV トークンが囲み項目の可能性があるかどうかを保持します。
+	 */
+	private boolean tokenEnclosed;
+
+	/**
+	 * 直前に読込んだ CSV トークンの値にエスケープ文字を含むかどうかを保持します。
+	 */
+	private boolean tokenUnescape;
+
+	/**
+	 * 特殊文字以外の文字の並びを読み飛ばす走査処理を保持します。
+	 */
+	private final CsvCharScanner scanner;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param in 文字入力ストリーム
+	 * @param sz 入力バッファのサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @param utf8bom BOM (Byte Order Mark) を除去するかどうか
+	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合
+	 */
+	BlockCsvTokenizer(final Reader in, final int sz, final CsvConfig cfg, final boolean utf8bom) {
+		super(cfg);
+		if (sz <= 0) {
+			throw new IllegalArgumentException("Buffer size <= 0");
+		}
+		this.in = in;
+		this.buf = new char[sz];
+		this.utf8bom = utf8bom;
+		this.scanner = CsvCharScanner.newInstance(cfg, cfg.getTokenizerPolicy() == TokenizerPolicy.VECTOR);
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 入力バッファへ文字入力ストリームから文字を読込みます。<p>
+	 * 行バッファおよび読込み中の CSV トークンより前の文字は入力バッファから除去されるため、入力バッファ内の位置は前方へ移動します。
+	 *
+	 * @return 入力バッファ内の位置の移動量
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int fill() throws IOException {
+		if (eof) {
+			return 0;
+		}
+		scanner.reset();
+		final int keep = tokenStart >= 0 && tokenStart < lineStart ? tokenStart : lineStart;
+		if (keep > 0) {
+			limit -= keep;
+			System.arraycopy(buf, keep, buf, 0, limit);
+			lineStart -= keep;
+			lineEnd -= keep;
+			pos -= keep;
+			if (tokenStart >= 0) {
+				tokenStart -= keep;
+			}
+		}
+		if (limit == buf.length) {
+			buf = Arrays.copyOf(buf, buf.length << 1);
+		}
+		int n;
+		do {
+			n = in.read(buf, limit, buf.length - limit);
+		} while (n == 0);
+		if (n < 0) {
+			eof = true;
+		} else {
+			limit += n;
+		}
+		return keep;
+	}
+
+	@Override
+	protected int cacheLine() throws IOException {
+		lineStart = lineEnd;
+		pos = lineStart;
+
+		// BOM (Byte Order Mark) を除去する場合は BOM を読み飛ばします。
+		if (lineNumber == 0 && utf8bom && !loneCr) {
+			if (lineStart >= limit) {
+				fill();
+			}
+			if (lineStart < limit && buf[lineStart] == BOM) {
+				if (tokenStart >= 0) {
+					System.arraycopy(buf, tokenStart, buf, tokenStart + 1, lineStart - tokenStart);
+					scanner.reset();
+					tokenStart++;
+				}
+				lineStart++;
+			}
+		}
+		loneCr = false;
+
+		int result = -1;	// CR または LF の出現位置
+		int i = lineStart;
+		while (true) {
+			i = scanner.skipLine(buf, i, limit);
+			if (i >= limit) {
+				i -= fill();
+				if (i >= limit) {
+					break;
+				}
+				continue;
+			}
+			final char c = buf[i++];
+			result = i - lineStart;
+			if (c == CR) {
+				if (i >= limit) {
+					i -= fill();
+				}
+				if (i < limit) {
+					if (buf[i] == LF) {
+						i++;
+					} else {
+						loneCr = true;
+					}
+				}
+			}
+			break;
+		}
+		lineEnd = i;
+		pos = lineStart;
+
+		return result;
+	}
+
+	@Override
+	protected void clearLine() {
+		lineStart = lineEnd;
+		pos = lineEnd;
+	}
+
+	@Override
+	protected boolean isLineEmpty() {
+		return lineEnd == lineStart;
+	}
+
+	@Override
+	protected boolean isLineConsumed() {
+		return lineEnd == lineStart || lineEnd <= pos;
+	}
+
+	@Override
+	protected CharSequence getLine(final int breakLine) {
+		return CharBuffer.wrap(buf, lineStart, breakLine == -1 ? lineEnd - lineStart : breakLine - 1);
+	}
+
+	@Override
+	protected boolean isWhitespaceLine(final int breakLine) {
+		return isWhitespaces(buf, lineStart, breakLine == -1 ? lineEnd : lineStart + breakLine - 1);
+	}
+
+	@Override
+	protected boolean isFilteredLine(final CsvLineFilter filter, final int breakLine) {
+		// 入力バッファ全体を参照する文字シーケンスを入力バッファが拡張されるまで再利用します。
+		if (bufView == null || bufView.array() != buf) {
+			bufView = CharBuffer.wrap(buf);
+		}
+		return filter.matches(bufView, lineStart, breakLine == -1 ? lineEnd : lineStart + breakLine - 1);
+	}
+
+	@Override
+	protected CsvToken readCsvToken() throws IOException {
+		final int end = scanCsvToken();
+		final CsvToken token;
+		if (tokenEnclosed || tokenUnescape || cfg.isIgnoreLeadingWhitespaces() || cfg.isIgnoreTrailingWhitespaces()) {
+			token = newCsvToken(buf, tokenStart, end - tokenStart, tokenEnclosed);
+		} else {
+			// 後処理が不要な場合は入力バッファから値を直接切出します。
+			token = new SimpleCsvToken(toNullIfNullString(new String(buf, tokenStart, end - tokenStart)), startTokenLineNumber, endTokenLineNumber, false);
+		}
+		tokenStart = -1;
+		return token;
+	}
+
+	@Override
+	protected void skipCsvToken() throws IOException {
+		scanCsvToken();
+		// 読飛ばす CSV トークンは文字列を構築しません。
+		tokenStart = -1;
+	}
+
+	@Override
+	protected void readCsvToken(final CsvRow row) throws IOException {
+		final int end = scanCsvToken();
+		// 入力バッファの範囲を論理行の文字配列へコピーして処理するため、文字列や CSV トークンを構築しません。
+		final boolean finish = tokenEnclosed || tokenUnescape || cfg.isIgnoreLeadingWhitespaces() || cfg.isIgnoreTrailingWhitespaces();
+		row.add(cfg, buf, tokenStart, end - tokenStart, finish, tokenEnclosed, startTokenLineNumber, endTokenLineNumber);
+		tokenStart = -1;
+	}
+
+	/**
+	 * CSV トークンを読込み、入力バッファ内の CSV トークンの終了位置を返します。<p>
+	 * CSV トークンの開始位置は {@link #tokenStart} に設定され、囲み項目の可能性とエスケープ文字の有無は
+	 * {@link #tokenEnclosed} および {@link #tokenUnescape} に設定されます。
+	 *
+	 * @return 入力バッファ内の CSV トークンの終了位置 (この位置の文字は含みません)
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int scanCsvToken() throws IOException {
+		final char sep = cfg.getSeparator();
+		final char quote = cfg.getQuote();
+		final char esc = cfg.getEscape();
+		final boolean quoteEnabled = !cfg.isQuoteDisabled();
+		final boolean escapeEnabled = !cfg.isEscapeDisabled();
+		// 囲み文字とエスケープ文字が同一の場合
+		final boolean sameEscape = escapeEnabled && quote == esc;
+		// 囲み文字の外のエスケープ文字が有効な場合
+		final boolean outerEscape = !quoteEnabled && escapeEnabled;
+
+		boolean inQuote = false;	// 囲み項目を処理中であるかどうか
+		boolean enclosed = false;	// 囲み項目の可能性を示唆します。
+		boolean escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の中)
+		boolean _escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の外)
+		boolean unescape = false;	// 値にエスケープ文字を含むかどうか
+
+		endTokenLineNumber = startTokenLineNumber;
+
+		// 直前のトークンが CR で終了した場合は後続の LF を読み飛ばします。
+		if (cr) {
+			cr = false;
+			if (isLineConsumed()) {
+				cacheLine();
+			}
+			if (pos < lineEnd && buf[pos] == LF) {
+				pos++;
+			}
+		}
+		if (isLineConsumed()) {
+			cacheLine();
+		}
+		tokenStart = pos;
+
+		int p = pos;
+		int end;
+		while (true) {
+			if (p >= lineEnd) {
+				pos = p;
+				cacheLine();
+				p = pos;
+				if (lineEnd == lineStart) {
+					if (cr) {
+						cr = false;
+						escaped = false;
+					}
+					endOfLine = true;
+					endOfFile = true;
+					end = p;
+					break;
+				}
+			}
+
+			// 特殊文字以外の文字の並びを読み飛ばします。
+			if (!cr && !escaped && !_escaped) {
+				p = scanner.skip(buf, p, lineEnd, inQuote);
+				if (p >= lineEnd) {
+					continue;
+				}
+			}
+
+			final char c = buf[p++];
+			if (escapeEnabled && c == esc) {
+				unescape = true;
+			}
+			if (cr) {
+				cr = false;
+				escaped = false;
+				if (c == LF) {
+					continue;
+				}
+			} else if (_escaped && c == sep) {
+				_escaped = false;
+				continue;
+			}
+			_escaped = false;
+
+			// 囲み文字の外(外側)の場合
+			if (!inQuote) {
+				// 区切り文字
+				if (c == sep) {
+					end = p - 1;
+					break;
+				// CR
+				} else if (c == CR) {
+					endOfLine = true;
+					cr = true;
+					end = p - 1;
+					break;
+				// LF
+				} else if (c == LF) {
+					endOfLine = true;
+					end = p - 1;
+					break;
+				// 囲み文字
+				} else if (quoteEnabled && !enclosed && c == quote) {
+					if (isWhitespaces(buf, tokenStart, p - 1)) {
+						inQuote = true;
+					}
+				// エスケープ文字
+				} else if (outerEscape && c == esc) {
+					_escaped = true;
+				}
+			// 囲み文字の中(内側)の場合
+			} else {
+				// 囲み文字とエスケープ文字が同一の場合
+				if (sameEscape) {
+					// 直前の文字がエスケープ文字の場合
+					if (escaped) {
+						// エスケープ文字直後が区切り文字の場合
+						if (c == sep) {
+							end = p - 1;
+							break;
+						} else if (c == CR) {
+							endOfLine = true;
+							cr = true;
+							end = p - 1;
+							break;
+						} else if (c == LF) {
+							endOfLine = true;
+							end = p - 1;
+							break;
+						} else if (c == esc) {
+							escaped = false;
+							continue;
+						}
+					// 直前の文字がない場合や直前の文字がエスケープ文字ではない場合に、現在の文字がエスケープ文字(囲み文字と同一)の場合
+					} else if (c == esc) {
+						escaped = true;
+						continue;
+					}
+				}
+
+				// 囲み文字
+				if (c == quote) {
+					if (escaped) {
+						// 直前がエスケープ文字の場合
+						escaped = false;
+					} else {
+						inQuote = false;
+						enclosed = true;
+					}
+				// CR
+				} else if (c == CR) {
+					cr = true;
+					endTokenLineNumber++;
+				// LF
+				} else if (c == LF) {
+					endTokenLineNumber++;
+				}
+
+				escaped = escapeEnabled && c == esc;
+			}
+		}
+		pos = p;
+
+		if (escaped) {
+			enclosed = true;
+		}
+		tokenEnclosed = enclosed;
+		tokenUnescape = unescape;
+		return end;
+	}
+
+	// ------------------------------------------------------------------------
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+		in = null;
+		buf = null;
+		bufView = null;
+		super.close();
+	}
+
+}
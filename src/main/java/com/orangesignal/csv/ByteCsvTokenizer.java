@@ -0,0 +1,840 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * バイト入力ストリームからまとめて読込んだバイト配列を文字へ変換せずに走査して字句解析を行う {@link CsvTokenizer} の実装です。<p>
+ * 区切り文字や囲み文字、エスケープ文字、改行文字の位置はバイト配列上で判定し、
+ * 文字への変換は CSV トークンの値や無視する行パターンの判定などで必要になった範囲に対してだけ行います。
+ * このクラスは {@link #isSupported(Charset, CsvConfig)} が {@code true} を返す文字セットと区切り文字形式情報の組合せでのみ使用できます。<p>
+ * ファイルチャネルから構築した場合は、ファイルを読込み専用でメモリーへマップした領域を入力バッファとして直接走査します。
+ * この場合、入力バッファへのコピーは行わず、CSV トークンの値は値が要求されるまで文字へ変換しない {@link MappedCsvToken} として返します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+class ByteCsvTokenizer extends CsvTokenizer {
+
+	/**
+	 * 復帰文字です。
+	 */
+	private static final byte CR_BYTE = '\r';
+
+	/**
+	 * 改行文字です。
+	 */
+	private static final byte LF_BYTE = '\n';
+
+	/**
+	 * UTF-8 の BOM (Byte Order Mark) です。
+	 */
+	private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+	/**
+	 * メモリーへマップする領域のデフォルトのサイズです。
+	 */
+	static final int DEFAULT_SEGMENT_SIZE = 1 << 28;
+
+	/**
+	 * バイト入力ストリームを保持します。
+	 */
+	private InputStream in;
+
+	/**
+	 * ファイルチャネルを保持します。
+	 */
+	private FileChannel channel;
+
+	/**
+	 * 入力バッファの先頭のファイル内の位置を保持します。
+	 */
+	private long position;
+
+	/**
+	 * メモリーへマップする領域のサイズを保持します。
+	 */
+	private final int segmentSize;
+
+	/**
+	 * 文字セットを保持します。
+	 */
+	private final Charset charset;
+
+	/**
+	 * 入力バッファを保持します。
+	 */
+	private ByteBuffer buf;
+
+	/**
+	 * 入力バッファ内の有効なバイト数を保持します。
+	 */
+	private int limit;
+
+	/**
+	 * 入力バッファ内の行バッファの開始位置を保持します。
+	 */
+	private int lineStart;
+
+	/**
+	 * 入力バッファ内の行バッファの終了位置 (終端文字を含む) を保持します。
+	 */
+	private int lineEnd;
+
+	/**
+	 * 入力バッファの位置を保持します。
+	 */
+	private int pos;
+
+	/**
+	 * 読込み中の CSV トークンの入力バッファ内の開始位置を保持します。CSV トークンを読込み中でない場合は {@code -1} です。
+	 */
+	private int tokenStart = -1;
+
+	/**
+	 * 読込み中の CSV トークンの値から除去する BOM (Byte Order Mark) の入力バッファ内の位置を保持します。
+	 */
+	private int[] boms = new int[0];
+
+	/**
+	 * 読込み中の CSV トークンの値から除去する BOM (Byte Order Mark) の数を保持します。
+	 */
+	private int bomCount;
+
+	/**
+	 * 直前に読込んだ CSV トークンが囲み項目の可能性があるかどうかを保持します。
+	 */
+	private boolean tokenEnclosed;
+
+	/**
+	 * 直前に読込んだ CSV トークンの値にエスケープ文字を含むかどうかを保持します。
+	 */
+	private boolean tokenUnescape;
+
+	/**
+	 * バイト入力ストリームの終わりに達したかどうかを保持します。
+	 */
+	private boolean eof;
+
+	/**
+	 * 直前の行が LF を伴わない CR で終了したかどうかを保持します。
+	 */
+	private boolean loneCr;
+
+	/**
+	 * 直前の文字が復帰文字かどうかを保持します。
+	 */
+	private boolean cr = false;
+
+	/**
+	 * BOM (Byte Order Mark) を除去するかどうかを保持します。
+	 */
+	private final boolean utf8bom;
+
+	/**
+	 * CSV トークンの範囲を文字へ変換する文字セットデコーダを保持します。
+	 */
+	private CharsetDecoder decoder;
+
+	/**
+	 * 文字へ変換する範囲を参照する入力バッファのビューを保持します。入力バッファを置換えた場合は {@code null} です。
+	 */
+	private ByteBuffer view;
+
+	/**
+	 * CSV トークンの範囲を変換した文字を格納する作業用バッファを保持します。
+	 */
+	private CharBuffer chars;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param in バイト入力ストリーム
+	 * @param charset 文字セット
+	 * @param sz 入力バッファのサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合
+	 */
+	ByteCsvTokenizer(final InputStream in, final Charset charset, final int sz, final CsvConfig cfg) {
+		super(cfg);
+		if (sz <= 0) {
+			throw new IllegalArgumentException("Buffer size <= 0");
+		}
+		this.in = in;
+		this.charset = charset;
+		this.buf = ByteBuffer.wrap(new byte[sz]);
+		this.segmentSize = 0;
+		this.utf8bom = StandardCharsets.UTF_8.equals(charset);
+	}
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param channel ファイルチャネル
+	 * @param charset 文字セット
+	 * @param segmentSize メモリーへマップする領域のサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code segmentSize} が {@code 0} 以下の場合
+	 */
+	ByteCsvTokenizer(final FileChannel channel, final Charset charset, final int segmentSize, final CsvConfig cfg) {
+		this(channel, charset, 0, segmentSize, cfg);
+	}
+
+	/**
+	 * ファイル内の指定された位置から字句解析を開始するコンストラクタです。<p>
+	 * 開始位置は論理行の先頭でなければなりません。開始位置がファイルの先頭以外の場合は BOM (Byte Order Mark) を除去しません。
+	 *
+	 * @param channel ファイルチャネル
+	 * @param charset 文字セット
+	 * @param start 字句解析を開始するファイル内の位置
+	 * @param segmentSize メモリーへマップする領域のサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code segmentSize} が {@code 0} 以下の場合
+	 */
+	ByteCsvTokenizer(final FileChannel channel, final Charset charset, final long start, final int segmentSize, final CsvConfig cfg) {
+		super(cfg);
+		if (segmentSize <= 0) {
+			throw new IllegalArgumentException("Segment size <= 0");
+		}
+		this.channel = channel;
+		this.charset = charset;
+		this.buf = ByteBuffer.allocate(0);
+		this.position = start;
+		this.segmentSize = segmentSize;
+		this.utf8bom = start == 0 && StandardCharsets.UTF_8.equals(charset);
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 指定された文字セットと区切り文字形式情報の組合せで、文字へ変換せずに字句解析が可能かどうかを返します。<p>
+	 * 改行文字および有効な区切り文字、囲み文字、エスケープ文字が、
+	 * 指定された文字セットで常に同一の 1 バイトで表現され、かつ複数バイト文字の一部として出現しない場合にのみ {@code true} を返します。
+	 *
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @return 文字へ変換せずに字句解析が可能な場合は {@code true}
+	 */
+	static boolean isSupported(final Charset charset, final CsvConfig cfg) {
+		final int max = getSingleByteSafeLimit(charset);
+		if (max == 0 || cfg.getSeparator() >= max) {
+			return false;
+		}
+		if (!cfg.isQuoteDisabled() && cfg.getQuote() >= max) {
+			return false;
+		}
+		if (!cfg.isEscapeDisabled() && cfg.getEscape() >= max) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 指定された文字セットで、常に同一の 1 バイトで表現され複数バイト文字の一部として出現しない文字の上限 (この値を含みません) を返します。
+	 *
+	 * @param charset 文字セット
+	 * @return 文字の上限。該当する文字がない場合は {@code 0}
+	 */
+	private static int getSingleByteSafeLimit(final Charset charset) {
+		final String name = charset.name();
+		// 複数バイト文字のバイトがすべて 0x80 以上の文字セット
+		if ("UTF-8".equals(name) || "US-ASCII".equals(name) || "EUC-JP".equals(name)) {
+			return 0x80;
+		}
+		// 複数バイト文字の後続バイトが 0x40 以上の文字セット
+		if ("Shift_JIS".equals(name) || "windows-31j".equals(name)) {
+			return 0x40;
+		}
+		// ASCII 互換の 1 バイト文字セット
+		if (charset.canEncode()) {
+			final CharsetEncoder encoder = charset.newEncoder();
+			if (encoder.maxBytesPerChar() == 1f) {
+				final char[] ascii = new char[0x80];
+				for (int i = 0; i < ascii.length; i++) {
+					ascii[i] = (char) i;
+				}
+				try {
+					final byte[] bytes = encoder.encode(CharBuffer.wrap(ascii)).array();
+					for (int i = 0; i < ascii.length; i++) {
+						if (bytes[i] != i) {
+							return 0;
+						}
+					}
+					return 0x80;
+				} catch (final CharacterCodingException e) {
+					return 0;
+				}
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * 直前の論理行が CR で終了した状態から字句解析を開始します。<p>
+	 * 開始位置のバイトが LF の場合は、直前の論理行を終了した CR の後続の LF として扱います。
+	 * 直前の論理行が CR で終了した位置から字句解析を開始する場合に、先頭から読込んだ場合と同じ状態にするために使用します。
+	 * このメソッドは論理行を読込む前にのみ使用でき、読み飛ばす行の処理を先に行います。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	void resumeAfterCr() throws IOException {
+		skipLines();
+		while (limit < 1 && !eof) {
+			fill();
+		}
+		if (limit > 0 && buf.get(0) == LF_BYTE) {
+			lineEnd = 1;
+		}
+		cr = true;
+	}
+
+	/**
+	 * 次の論理行の開始位置を返します。<p>
+	 * ファイルチャネルから構築した場合はファイル内の位置を返し、それ以外の場合はバイト入力ストリームの読込み開始からの位置を返します。
+	 * このメソッドは論理行を読込んでいない場合または論理行の読込み直後にのみ使用できます。
+	 *
+	 * @return 次の論理行の開始位置
+	 */
+	long getPosition() {
+		// 直前の論理行が CR で終了した場合は後続の LF を論理行に含めます。
+		if (cr && pos < lineEnd && buf.get(pos) == LF_BYTE) {
+			return position + pos + 1;
+		}
+		return position + pos;
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 入力バッファへバイト入力ストリームからバイトを読込みます。<p>
+	 * 行バッファおよび読込み中の CSV トークンより前のバイトは入力バッファから除去されるため、入力バッファ内の位置は前方へ移動します。
+	 * ファイルチャネルから構築した場合は、入力バッファへ残すバイトの位置から次の領域をメモリーへマップします。
+	 *
+	 * @return 入力バッファ内の位置の移動量
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int fill() throws IOException {
+		if (eof) {
+			return 0;
+		}
+		final int keep = tokenStart >= 0 && tokenStart < lineStart ? tokenStart : lineStart;
+		if (channel != null) {
+			return map(keep);
+		}
+		final byte[] array = buf.array();
+		if (keep > 0) {
+			limit -= keep;
+			System.arraycopy(array, keep, array, 0, limit);
+			position += keep;
+			shift(keep);
+		}
+		if (limit == array.length) {
+			buf = ByteBuffer.wrap(Arrays.copyOf(array, array.length << 1));
+			view = null;
+		}
+		int n;
+		do {
+			n = in.read(buf.array(), limit, buf.capacity() - limit);
+		} while (n == 0);
+		if (n < 0) {
+			eof = true;
+		} else {
+			limit += n;
+		}
+		return keep;
+	}
+
+	/**
+	 * 入力バッファへ残すバイトの位置から次の領域をファイルからメモリーへマップします。
+	 *
+	 * @param keep 入力バッファへ残すバイトの開始位置
+	 * @return 入力バッファ内の位置の移動量
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int map(final int keep) throws IOException {
+		final long start = position + keep;
+		final long remaining = channel.size() - start;
+		final int len = limit - keep;
+		if (remaining <= len) {
+			eof = true;
+			return 0;
+		}
+		final int size = (int) Math.min(remaining, Math.max(segmentSize, Math.min((long) len << 1, Integer.MAX_VALUE)));
+		if (size <= len) {
+			throw new IOException("Line too long");
+		}
+		buf = channel.map(MapMode.READ_ONLY, start, size);
+		view = null;
+		position = start;
+		limit = size;
+		shift(keep);
+		return keep;
+	}
+
+	/**
+	 * 入力バッファ内の位置を前方へ移動します。
+	 *
+	 * @param n 移動量
+	 */
+	private void shift(final int n) {
+		lineStart -= n;
+		lineEnd -= n;
+		pos -= n;
+		if (tokenStart >= 0) {
+			tokenStart -= n;
+		}
+		for (int i = 0; i < bomCount; i++) {
+			boms[i] -= n;
+		}
+	}
+
+	@Override
+	protected int cacheLine() throws IOException {
+		lineStart = lineEnd;
+		pos = lineStart;
+
+		// BOM (Byte Order Mark) を除去する場合は BOM を読み飛ばします。
+		if (lineNumber == 0 && utf8bom && !loneCr) {
+			while (lineStart + UTF8_BOM.length > limit && !eof) {
+				fill();
+			}
+			if (lineStart + UTF8_BOM.length <= limit
+					&& buf.get(lineStart) == UTF8_BOM[0] && buf.get(lineStart + 1) == UTF8_BOM[1] && buf.get(lineStart + 2) == UTF8_BOM[2]) {
+				// 読込み中の CSV トークンの途中の BOM は CSV トークンの値を構築する際に除去します。
+				if (tokenStart >= 0) {
+					if (bomCount == boms.length) {
+						boms = Arrays.copyOf(boms, bomCount + 1);
+					}
+					boms[bomCount++] = lineStart;
+				}
+				lineStart += UTF8_BOM.length;
+			}
+		}
+		loneCr = false;
+
+		int result = -1;	// CR または LF の出現位置
+		int i = lineStart;
+		while (true) {
+			while (i < limit) {
+				final byte b = buf.get(i);
+				if (b == CR_BYTE || b == LF_BYTE) {
+					break;
+				}
+				i++;
+			}
+			if (i >= limit) {
+				i -= fill();
+				if (i >= limit) {
+					break;
+				}
+				continue;
+			}
+			final byte b = buf.get(i++);
+			result = i - lineStart;
+			if (b == CR_BYTE) {
+				if (i >= limit) {
+					i -= fill();
+				}
+				if (i < limit) {
+					if (buf.get(i) == LF_BYTE) {
+						i++;
+					} else {
+						loneCr = true;
+					}
+				}
+			}
+			break;
+		}
+		lineEnd = i;
+		pos = lineStart;
+
+		return result;
+	}
+
+	@Override
+	protected void clearLine() {
+		lineStart = lineEnd;
+		pos = lineEnd;
+	}
+
+	@Override
+	protected boolean isLineEmpty() {
+		return lineEnd == lineStart;
+	}
+
+	@Override
+	protected boolean isLineConsumed() {
+		return lineEnd == lineStart || lineEnd <= pos;
+	}
+
+	@Override
+	protected CharSequence getLine(final int breakLine) {
+		return decode(lineStart, breakLine == -1 ? lineEnd : lineStart + breakLine - 1);
+	}
+
+	@Override
+	protected boolean isWhitespaceLine(final int breakLine) {
+		return isWhitespaces(lineStart, breakLine == -1 ? lineEnd : lineStart + breakLine - 1);
+	}
+
+	/**
+	 * 入力バッファの指定された範囲がホワイトスペースのみで構成されているかどうかを返します。<p>
+	 * ASCII 以外のバイトが出現した場合は、その位置以降を文字へ変換して判定します。
+	 *
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置のバイトは含みません)
+	 * @return 指定された範囲がホワイトスペースのみで構成されている場合は {@code true}。それ以外の場合は {@code false}
+	 */
+	private boolean isWhitespaces(final int start, final int end) {
+		for (int i = start; i < end; i++) {
+			final byte b = buf.get(i);
+			if (b < 0) {
+				return isWhitespaces(decode(i, end));
+			}
+			if (!Character.isWhitespace(b)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected CsvToken readCsvToken() throws IOException {
+		final int end = scanCsvToken();
+		final boolean finish = tokenEnclosed || tokenUnescape || cfg.isIgnoreLeadingWhitespaces() || cfg.isIgnoreTrailingWhitespaces();
+		final CsvToken token;
+		if (channel != null && bomCount == 0) {
+			// メモリーへマップした領域は変更されないため、値が要求されるまで文字へ変換しません。
+			token = new MappedCsvToken(buf, tokenStart, end - tokenStart, charset, cfg, finish, tokenEnclosed, startTokenLineNumber, endTokenLineNumber);
+		} else {
+			// CSV トークンの範囲だけを文字へ変換します。
+			if (finish) {
+				final int len = decodeChars(tokenStart, end);
+				token = newCsvToken(chars.array(), 0, len, tokenEnclosed);
+			} else {
+				token = new SimpleCsvToken(toNullIfNullString(decode(tokenStart, end)), startTokenLineNumber, endTokenLineNumber, false);
+			}
+		}
+		tokenStart = -1;
+		bomCount = 0;
+		return token;
+	}
+
+	@Override
+	protected void skipCsvToken() throws IOException {
+		scanCsvToken();
+		// 読飛ばす CSV トークンは文字へ変換しません。
+		tokenStart = -1;
+		bomCount = 0;
+	}
+
+	/**
+	 * CSV トークンを読込み、入力バッファ内の CSV トークンの終了位置を返します。<p>
+	 * CSV トークンの開始位置は {@link #tokenStart} に設定され、囲み項目の可能性とエスケープ文字の有無は
+	 * {@link #tokenEnclosed} および {@link #tokenUnescape} に設定されます。
+	 *
+	 * @return 入力バッファ内の CSV トークンの終了位置 (この位置のバイトは含みません)
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int scanCsvToken() throws IOException {
+		final byte sep = (byte) cfg.getSeparator();
+		final byte quote = (byte) cfg.getQuote();
+		final byte esc = (byte) cfg.getEscape();
+		final boolean quoteEnabled = !cfg.isQuoteDisabled();
+		final boolean escapeEnabled = !cfg.isEscapeDisabled();
+		// 囲み文字とエスケープ文字が同一の場合
+		final boolean sameEscape = escapeEnabled && quote == esc;
+		// 囲み文字の外のエスケープ文字が有効な場合
+		final boolean outerEscape = !quoteEnabled && escapeEnabled;
+		// 読み飛ばしを中断するバイト (無効な文字は区切り文字で代替します)
+		final byte q = quoteEnabled ? quote : sep;
+		final byte e = escapeEnabled ? esc : sep;
+
+		boolean inQuote = false;	// 囲み項目を処理中であるかどうか
+		boolean enclosed = false;	// 囲み項目の可能性を示唆します。
+		boolean escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の中)
+		boolean _escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の外)
+		boolean unescape = false;	// 値にエスケープ文字を含むかどうか
+
+		endTokenLineNumber = startTokenLineNumber;
+
+		// 直前のトークンが CR で終了した場合は後続の LF を読み飛ばします。
+		if (cr) {
+			cr = false;
+			if (isLineConsumed()) {
+				cacheLine();
+			}
+			if (pos < lineEnd && buf.get(pos) == LF_BYTE) {
+				pos++;
+			}
+		}
+		if (isLineConsumed()) {
+			cacheLine();
+		}
+		tokenStart = pos;
+
+		int p = pos;
+		int end;
+		while (true) {
+			if (p >= lineEnd) {
+				pos = p;
+				cacheLine();
+				p = pos;
+				if (lineEnd == lineStart) {
+					if (cr) {
+						cr = false;
+						escaped = false;
+					}
+					endOfLine = true;
+					endOfFile = true;
+					end = p;
+					break;
+				}
+			}
+
+			// 特殊文字以外のバイトの並びを読み飛ばします。
+			if (!cr && !escaped && !_escaped) {
+				if (!inQuote) {
+					while (p < lineEnd) {
+						final byte b = buf.get(p);
+						if (b == sep || b == q || b == e || b == CR_BYTE || b == LF_BYTE) {
+							break;
+						}
+						p++;
+					}
+				} else {
+					while (p < lineEnd) {
+						final byte b = buf.get(p);
+						if (b == q || b == e || b == CR_BYTE || b == LF_BYTE) {
+							break;
+						}
+						p++;
+					}
+				}
+				if (p >= lineEnd) {
+					continue;
+				}
+			}
+
+			final byte c = buf.get(p++);
+			if (escapeEnabled && c == esc) {
+				unescape = true;
+			}
+			if (cr) {
+				cr = false;
+				escaped = false;
+				if (c == LF_BYTE) {
+					continue;
+				}
+			} else if (_escaped && c == sep) {
+				_escaped = false;
+				continue;
+			}
+			_escaped = false;
+
+			// 囲み文字の外(外側)の場合
+			if (!inQuote) {
+				// 区切り文字
+				if (c == sep) {
+					end = p - 1;
+					break;
+				// CR
+				} else if (c == CR_BYTE) {
+					endOfLine = true;
+					cr = true;
+					end = p - 1;
+					break;
+				// LF
+				} else if (c == LF_BYTE) {
+					endOfLine = true;
+					end = p - 1;
+					break;
+				// 囲み文字
+				} else if (quoteEnabled && !enclosed && c == quote) {
+					if (isWhitespaces(tokenStart, p - 1)) {
+						inQuote = true;
+					}
+				// エスケープ文字
+				} else if (outerEscape && c == esc) {
+					_escaped = true;
+				}
+			// 囲み文字の中(内側)の場合
+			} else {
+				// 囲み文字とエスケープ文字が同一の場合
+				if (sameEscape) {
+					// 直前の文字がエスケープ文字の場合
+					if (escaped) {
+						// エスケープ文字直後が区切り文字の場合
+						if (c == sep) {
+							end = p - 1;
+							break;
+						} else if (c == CR_BYTE) {
+							endOfLine = true;
+							cr = true;
+							end = p - 1;
+							break;
+						} else if (c == LF_BYTE) {
+							endOfLine = true;
+							end = p - 1;
+							break;
+						} else if (c == esc) {
+							escaped = false;
+							continue;
+						}
+					// 直前の文字がない場合や直前の文字がエスケープ文字ではない場合に、現在の文字がエスケープ文字(囲み文字と同一)の場合
+					} else if (c == esc) {
+						escaped = true;
+						continue;
+					}
+				}
+
+				// 囲み文字
+				if (c == quote) {
+					if (escaped) {
+						// 直前がエスケープ文字の場合
+						escaped = false;
+					} else {
+						inQuote = false;
+						enclosed = true;
+					}
+				// CR
+				} else if (c == CR_BYTE) {
+					cr = true;
+					endTokenLineNumber++;
+				// LF
+				} else if (c == LF_BYTE) {
+					endTokenLineNumber++;
+				}
+
+				escaped = escapeEnabled && c == esc;
+			}
+		}
+		pos = p;
+
+		if (escaped) {
+			enclosed = true;
+		}
+		tokenEnclosed = enclosed;
+		tokenUnescape = unescape;
+		return end;
+	}
+
+	/**
+	 * 入力バッファの指定された範囲を文字へ変換します。<p>
+	 * 範囲内に読込み中の CSV トークンから除去する BOM (Byte Order Mark) がある場合は除去して変換します。
+	 *
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置のバイトは含みません)
+	 * @return 変換した文字列
+	 */
+	private String decode(final int start, final int end) {
+		if (buf.hasArray() && (bomCount == 0 || end <= boms[0] || boms[bomCount - 1] + UTF8_BOM.length <= start)) {
+			return new String(buf.array(), start, end - start, charset);
+		}
+		final byte[] bytes = new byte[end - start];
+		int len = 0;
+		int i = start;
+		for (int n = 0; n < bomCount; n++) {
+			final int bom = boms[n];
+			if (bom >= start && bom + UTF8_BOM.length <= end) {
+				buf.get(i, bytes, len, bom - i);
+				len += bom - i;
+				i = bom + UTF8_BOM.length;
+			}
+		}
+		buf.get(i, bytes, len, end - i);
+		len += end - i;
+		return new String(bytes, 0, len, charset);
+	}
+
+	/**
+	 * 入力バッファの指定された範囲を作業用バッファ {@link #chars} の先頭から文字へ変換し、変換した文字数を返します。<p>
+	 * 文字列を経由せずに変換するため、作業用バッファと文字セットデコーダは CSV トークン間で再利用します。
+	 * 範囲内に除去する BOM (Byte Order Mark) がある場合は {@link #decode(int, int)} で変換した文字列を複写します。
+	 *
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置のバイトは含みません)
+	 * @return 変換した文字数
+	 */
+	private int decodeChars(final int start, final int end) {
+		if (decoder == null) {
+			// new String(byte[], Charset) と同様に不正な入力は置換文字へ置換えます。
+			decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		if (bomCount == 0 || end <= boms[0] || boms[bomCount - 1] + UTF8_BOM.length <= start) {
+			final int capacity = (int) Math.ceil((end - start) * (double) decoder.maxCharsPerByte());
+			ensureChars(capacity);
+			if (view == null) {
+				view = buf.duplicate();
+			}
+			view.limit(end).position(start);
+			decoder.reset();
+			decoder.decode(view, chars, true);
+			decoder.flush(chars);
+			return chars.position();
+		}
+		final String value = decode(start, end);
+		ensureChars(value.length());
+		value.getChars(0, value.length(), chars.array(), 0);
+		return value.length();
+	}
+
+	/**
+	 * 作業用バッファ {@link #chars} を指定された容量以上にして、位置を先頭へ戻します。
+	 *
+	 * @param capacity 必要な容量
+	 */
+	private void ensureChars(final int capacity) {
+		if (chars == null || chars.capacity() < capacity) {
+			chars = CharBuffer.allocate(Math.max(capacity, 256));
+		} else {
+			chars.clear();
+		}
+	}
+
+	// ------------------------------------------------------------------------
+
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		} else {
+			in.close();
+			in = null;
+		}
+		buf = null;
+		view = null;
+		super.close();
+	}
+
+}
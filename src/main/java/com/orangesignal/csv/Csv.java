@@ -16,6 +16,7 @@
 
 package com.orangesignal.csv;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
@@ -23,13 +24,35 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
@@ -47,6 +70,18 @@ import com.orangesignal.jlha.LhaOutputStream;
  */
 public abstract class Csv {
 
+	/**
+	 * 複数のファイルを読込む場合に並行して読込むファイルのデフォルトの最大数です。
+	 *
+	 * @since 3.0
+	 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+
+	/**
+	 * エグゼキュータで並行して処理する場合に先読みして結果の受取りを待つ入力元の最大数です。
+	 */
+	private static final int DEFAULT_MAX_PENDING = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
 	/**
 	 * デフォルトコンストラクタです。
 	 */
@@ -151,6 +186,264 @@ public abstract class Csv {
 		}
 	}
 
+	/**
+	 * 指定されたファイル群を指定されたエンコーディングで読込み、
+	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。<p>
+	 * ファイルのオープンと読込みは最大 {@code concurrency} 個のスレッドで並行して行い、読込んだ内容は呼出し元のスレッドでファイル群の順にハンドラで変換します。
+	 * ハンドラを並行して呼出さないため、スレッドセーフではない書式オブジェクトを設定したハンドラも使用できます。
+	 * 並べ替え、取得開始位置、取得最大件数はすべてのファイルを変換した後に {@link CsvListHandler#processScalar(List)} で適用します。
+	 * ファイルの内容はメモリへ一括して読込むため、大きなファイルや変換も並行して行う場合は {@link #load(Collection, String, CsvConfig, Supplier, int, Map)} を使用して下さい。<p>
+	 * {@code errors} が {@code null} でない場合、読込みや変換に失敗したファイルはファイルと例外の組として {@code errors} へ追加して残りのファイルの処理を続けます。
+	 * {@code errors} が {@code null} の場合は最初に発生した例外をスローします。
+	 * 処理中に割込まれた場合は {@code errors} の指定に関わらず {@link InterruptedIOException} をスローします。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param encoding エンコーディング。{@code null} の場合はプラットフォームのデフォルトエンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return ハンドラによって変換された区切り文字形式データのインスタンス
+	 * @throws IllegalArgumentException {@code paths} が {@code null} の場合。または {@code concurrency} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> List<T> load(final Collection<Path> paths, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		if (paths == null) {
+			throw new IllegalArgumentException("Paths must not be null");
+		}
+		if (concurrency <= 0) {
+			throw new IllegalArgumentException("concurrency <= 0");
+		}
+		if (paths.isEmpty()) {
+			return handler.processScalar(new ArrayList<T>());
+		}
+
+		// concurrency * 2 は溢れる可能性があるため、ファイル数で制限してから先読み数を求めます。
+		final int threads = Math.min(concurrency, paths.size());
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final List<T> list = new ArrayList<>();
+			forEachOrdered(paths.iterator(), Files::readAllBytes, executor, threads * 2, bytes -> list.addAll(loadIgnoreScalar(new ByteArrayInputStream(bytes), encoding, cfg, handler)), errors);
+			return handler.processScalar(list);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 指定されたファイル群をプラットフォームのデフォルトエンコーディングで読込み、
+	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return ハンドラによって変換された区切り文字形式データのインスタンス
+	 * @throws IllegalArgumentException {@code paths} が {@code null} の場合。または {@code concurrency} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #load(Collection, String, CsvConfig, CsvListHandler, int, Map)
+	 * @since 3.0
+	 */
+	public static <T> List<T> load(final Collection<Path> paths, final CsvConfig cfg, final CsvListHandler<T> handler, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		return load(paths, null, cfg, handler, concurrency, errors);
+	}
+
+	/**
+	 * 指定されたファイル群を指定されたエンコーディングで読込み、
+	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。<p>
+	 * ファイルの読込みとハンドラによる変換は最大 {@code concurrency} 個のスレッドでファイルごとに並行して行い、変換結果をファイル群の順に連結します。
+	 * ファイルの内容はメモリへ一括して読込まずに、ファイルから直接読込みながら変換します。
+	 * ハンドラは並行して使用できないため、ファイルごとに {@code handlerFactory} から新しいハンドラを取得して変換します。
+	 * 並べ替え、取得開始位置、取得最大件数はすべてのファイルを変換した後に {@code handlerFactory} から取得したハンドラの {@link CsvListHandler#processScalar(List)} で適用するため、
+	 * {@code handlerFactory} は常に同じ設定のハンドラを返す必要があります。<p>
+	 * {@code errors} が {@code null} でない場合、読込みや変換に失敗したファイルはファイルと例外の組として {@code errors} へ追加して残りのファイルの処理を続けます。
+	 * {@code errors} が {@code null} の場合は最初に発生した例外をスローします。
+	 * 処理中に割込まれた場合は {@code errors} の指定に関わらず {@link InterruptedIOException} をスローします。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param encoding エンコーディング。{@code null} の場合はプラットフォームのデフォルトエンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handlerFactory 区切り文字形式データアクセスハンドラを生成する処理
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return ハンドラによって変換された区切り文字形式データのインスタンス
+	 * @throws IllegalArgumentException {@code paths} が {@code null} の場合。または {@code concurrency} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> List<T> load(final Collection<Path> paths, final String encoding, final CsvConfig cfg, final Supplier<? extends CsvListHandler<T>> handlerFactory, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		if (paths == null) {
+			throw new IllegalArgumentException("Paths must not be null");
+		}
+		if (concurrency <= 0) {
+			throw new IllegalArgumentException("concurrency <= 0");
+		}
+		if (paths.isEmpty()) {
+			return handlerFactory.get().processScalar(new ArrayList<T>());
+		}
+
+		// concurrency * 2 は溢れる可能性があるため、ファイル数で制限してから先読み数を求めます。
+		final int threads = Math.min(concurrency, paths.size());
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final List<T> list = new ArrayList<>();
+			forEachOrdered(paths.iterator(), path -> loadIgnoreScalar(Files.newInputStream(path), encoding, cfg, handlerFactory.get()), executor, threads * 2, list::addAll, errors);
+			return handlerFactory.get().processScalar(list);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 指定されたファイル群をプラットフォームのデフォルトエンコーディングで読込み、
+	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param cfg 区切り文字形式情報
+	 * @param handlerFactory 区切り文字形式データアクセスハンドラを生成する処理
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return ハンドラによって変換された区切り文字形式データのインスタンス
+	 * @throws IllegalArgumentException {@code paths} が {@code null} の場合。または {@code concurrency} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #load(Collection, String, CsvConfig, Supplier, int, Map)
+	 * @since 3.0
+	 */
+	public static <T> List<T> load(final Collection<Path> paths, final CsvConfig cfg, final Supplier<? extends CsvListHandler<T>> handlerFactory, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		return load(paths, null, cfg, handlerFactory, concurrency, errors);
+	}
+
+	/**
+	 * 入力元ごとにエグゼキュータで実行する処理です。
+	 *
+	 * @param <S> 入力元の型
+	 * @param <R> 処理結果の型
+	 */
+	private interface SourceTask<S, R> {
+
+		/**
+		 * 指定された入力元を処理します。
+		 *
+		 * @param source 入力元
+		 * @return 処理結果
+		 * @throws IOException 入出力エラーが発生した場合
+		 */
+		R run(S source) throws IOException;
+
+	}
+
+	/**
+	 * 入力元ごとの処理結果を呼出し元のスレッドで入力元群の順に受取る処理です。
+	 *
+	 * @param <R> 処理結果の型
+	 */
+	private interface ResultSink<R> {
+
+		/**
+		 * 指定された処理結果を受取ります。
+		 *
+		 * @param result 処理結果
+		 * @throws IOException 入出力エラーが発生した場合
+		 */
+		void accept(R result) throws IOException;
+
+	}
+
+	/**
+	 * 指定された入力元群を指定されたエグゼキュータで並行して処理し、呼出し元のスレッドで入力元群の順に処理結果を受取ります。<p>
+	 * 先読みして受取りを待つ入力元の数は {@code maxPending} 個までに制限します。
+	 *
+	 * @param sources 入力元群
+	 * @param task 入力元ごとにエグゼキュータで実行する処理
+	 * @param executor 処理を実行するエグゼキュータ
+	 * @param maxPending 先読みする入力元の最大数
+	 * @param sink 処理結果を受取る処理
+	 * @param errors 失敗した入力元と例外を追加するマップ。または {@code null}
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private static <S, R> void forEachOrdered(final Iterator<? extends S> sources, final SourceTask<S, R> task, final Executor executor, final int maxPending,
+			final ResultSink<R> sink, final Map<S, Exception> errors) throws IOException {
+
+		final Deque<S> pendingSources = new ArrayDeque<>();
+		final Deque<Future<R>> pending = new ArrayDeque<>();
+		try {
+			while (sources.hasNext() || !pending.isEmpty()) {
+				while (sources.hasNext() && pending.size() < maxPending) {
+					final S source = sources.next();
+					final FutureTask<R> future = new FutureTask<>(() -> task.run(source));
+					pendingSources.add(source);
+					pending.add(future);
+					executor.execute(future);
+				}
+				final S source = pendingSources.removeFirst();
+				try {
+					sink.accept(getQuietly(pending.removeFirst()));
+				} catch (final InterruptedIOException | CancellationException e) {
+					// 割込みや取消しは入力元の失敗ではないため、errors へ追加せずにスローします。
+					throw e;
+				} catch (final IOException | RuntimeException e) {
+					if (errors == null) {
+						throw e;
+					}
+					errors.put(source, e);
+				}
+			}
+		} finally {
+			// LhaFile の FileChannel は割込まれると閉じられるため、実行中の処理には割込みません。
+			for (final Future<R> future : pending) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * 指定された入力ストリームを読込み、ハンドラによって変換された区切り文字形式データを返します。<p>
+	 * 並べ替え、取得開始位置、取得最大件数は適用しません。入力ストリームは読込み後に閉じます。
+	 *
+	 * @param in 入力ストリーム
+	 * @param encoding エンコーディング。{@code null} の場合はプラットフォームのデフォルトエンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データ
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private static <T> List<T> loadIgnoreScalar(final InputStream in, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler) throws IOException {
+		try {
+			final Reader reader = encoding != null ? new InputStreamReader(in, encoding) : new InputStreamReader(in);
+			return handler.load(new CsvReader(reader, cfg), true);
+		} finally {
+			closeQuietly(in);
+		}
+	}
+
+	/**
+	 * 指定された処理の完了を待機して結果を返します。
+	 *
+	 * @param future 処理
+	 * @return 処理結果
+	 * @throws IOException 処理で入出力エラーが発生した場合。または待機中に割込まれた場合
+	 */
+	private static <R> R getQuietly(final Future<R> future) throws IOException {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
 	// ------------------------------------------------------------------------
 	// static load (compress support)
 
@@ -318,6 +611,40 @@ public abstract class Csv {
 		return load(lhaFile, cfg, handler, null);
 	}
 
+	/**
+	 * 指定された LHA ファイルから指定されたフィルタの基準を満たす LHA エントリを指定されたエグゼキュータで並行して解凍しながら読込み、
+	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。<p>
+	 * エントリの解凍とハンドラによる変換はエントリごとにエグゼキュータで行い、変換結果をエントリの順に連結するため、結果の順序は {@link #load(LhaFile, String, CsvConfig, CsvListHandler, LhaEntryFilter)} と同じです。
+	 * ハンドラは並行して使用できないため、エントリごとに {@code handlerFactory} から新しいハンドラを取得して変換します。
+	 * 並べ替え、取得開始位置、取得最大件数はすべてのエントリを変換した後に {@code handlerFactory} から取得したハンドラの {@link CsvListHandler#processScalar(List)} で適用するため、
+	 * {@code handlerFactory} は常に同じ設定のハンドラを返す必要があります。
+	 *
+	 * @param lhaFile LHA ファイル
+	 * @param encoding エンコーディング。{@code null} の場合はプラットフォームのデフォルトエンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handlerFactory 区切り文字形式データアクセスハンドラを生成する処理
+	 * @param filter LHA エントリフィルタ
+	 * @param executor 解凍と変換を実行するエグゼキュータ
+	 * @return ハンドラによって変換された区切り文字形式データのインスタンス
+	 * @throws IllegalArgumentException {@code executor} が {@code null} の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> List<T> load(final LhaFile lhaFile, final String encoding, final CsvConfig cfg, final Supplier<? extends CsvListHandler<T>> handlerFactory, final LhaEntryFilter filter, final Executor executor) throws IOException {
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor must not be null");
+		}
+		final List<LhaHeader> entries = new ArrayList<>();
+		for (final LhaHeader entry : lhaFile.getEntries()) {
+			if (filter == null || filter.accept(entry)) {
+				entries.add(entry);
+			}
+		}
+		final List<T> list = new ArrayList<>();
+		forEachOrdered(entries.iterator(), entry -> loadIgnoreScalar(lhaFile.getInputStream(entry), encoding, cfg, handlerFactory.get()), executor, DEFAULT_MAX_PENDING, list::addAll, null);
+		return handlerFactory.get().processScalar(list);
+	}
+
 	/**
 	 * 指定された ZIP 入力ストリームから指定されたフィルタの基準を満たす ZIP エントリを指定されたエンコーディングで読込み、
 	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。
@@ -494,6 +821,329 @@ public abstract class Csv {
 		return load(zipFile, cfg, handler, null);
 	}
 
+	/**
+	 * 指定された ZIP ファイルから指定されたフィルタの基準を満たす ZIP エントリを指定されたエグゼキュータで並行して解凍しながら読込み、
+	 * ハンドラによって変換された区切り文字形式データのインスタンスを返します。<p>
+	 * エントリの解凍とハンドラによる変換はエントリごとにエグゼキュータで行い、変換結果をエントリの順に連結するため、結果の順序は {@link #load(ZipFile, String, CsvConfig, CsvListHandler, ZipEntryFilter)} と同じです。
+	 * ハンドラは並行して使用できないため、エントリごとに {@code handlerFactory} から新しいハンドラを取得して変換します。
+	 * 並べ替え、取得開始位置、取得最大件数はすべてのエントリを変換した後に {@code handlerFactory} から取得したハンドラの {@link CsvListHandler#processScalar(List)} で適用するため、
+	 * {@code handlerFactory} は常に同じ設定のハンドラを返す必要があります。
+	 *
+	 * @param zipFile ZIP ファイル
+	 * @param encoding エンコーディング。{@code null} の場合はプラットフォームのデフォルトエンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handlerFactory 区切り文字形式データアクセスハンドラを生成する処理
+	 * @param filter ZIP エントリフィルタ
+	 * @param executor 解凍と変換を実行するエグゼキュータ
+	 * @return ハンドラによって変換された区切り文字形式データのインスタンス
+	 * @throws IllegalArgumentException {@code executor} が {@code null} の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> List<T> load(final ZipFile zipFile, final String encoding, final CsvConfig cfg, final Supplier<? extends CsvListHandler<T>> handlerFactory, final ZipEntryFilter filter, final Executor executor) throws IOException {
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor must not be null");
+		}
+		final List<ZipEntry> entries = new ArrayList<>();
+		final Enumeration<? extends ZipEntry> e = zipFile.entries();
+		while (e.hasMoreElements()) {
+			final ZipEntry entry = e.nextElement();
+			if (filter == null || filter.accept(entry)) {
+				entries.add(entry);
+			}
+		}
+		final List<T> list = new ArrayList<>();
+		forEachOrdered(entries.iterator(), entry -> loadIgnoreScalar(zipFile.getInputStream(entry), encoding, cfg, handlerFactory.get()), executor, DEFAULT_MAX_PENDING, list::addAll, null);
+		return handlerFactory.get().processScalar(list);
+	}
+
+	// ------------------------------------------------------------------------
+	// static stream
+
+	/**
+	 * 指定された区切り文字形式入力ストリームを逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * 返されたストリームを閉じると区切り文字形式入力ストリームも閉じられます。
+	 *
+	 * @param reader 区切り文字形式入力ストリーム
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see CsvListHandler#stream(CsvReader)
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final CsvReader reader, final CsvListHandler<T> handler) throws IOException {
+		return handler.stream(reader);
+	}
+
+	/**
+	 * 指定された文字入力ストリームを逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * 返されたストリームを閉じると文字入力ストリームも閉じられます。
+	 *
+	 * @param reader 文字入力ストリーム
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final Reader reader, final CsvConfig cfg, final CsvListHandler<T> handler) throws IOException {
+		return stream(new CsvReader(reader, cfg), handler);
+	}
+
+	/**
+	 * 指定された入力ストリームを指定されたエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * 返されたストリームを閉じると入力ストリームも閉じられます。
+	 *
+	 * @param in 入力ストリーム
+	 * @param encoding エンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final InputStream in, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler) throws IOException {
+		return stream(new InputStreamReader(in, encoding), cfg, handler);
+	}
+
+	/**
+	 * 指定された入力ストリームをプラットフォームのデフォルトエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * 返されたストリームを閉じると入力ストリームも閉じられます。
+	 *
+	 * @param in 入力ストリーム
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final InputStream in, final CsvConfig cfg, final CsvListHandler<T> handler) throws IOException {
+		return stream(new InputStreamReader(in), cfg, handler);
+	}
+
+	/**
+	 * 指定されたファイルを指定されたエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * ファイルは返されたストリームを閉じるまで開かれたままになります。
+	 *
+	 * @param file 入力ファイル
+	 * @param encoding エンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final File file, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler) throws IOException {
+		final InputStream in = new FileInputStream(file);
+		try {
+			return stream(in, encoding, cfg, handler);
+		} catch (final IOException | RuntimeException e) {
+			closeQuietly(in);
+			throw e;
+		}
+	}
+
+	/**
+	 * 指定されたファイルをプラットフォームのデフォルトエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * ファイルは返されたストリームを閉じるまで開かれたままになります。
+	 *
+	 * @param file 入力ファイル
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final File file, final CsvConfig cfg, final CsvListHandler<T> handler) throws IOException {
+		final InputStream in = new FileInputStream(file);
+		try {
+			return stream(in, cfg, handler);
+		} catch (final IOException | RuntimeException e) {
+			closeQuietly(in);
+			throw e;
+		}
+	}
+
+	/**
+	 * 指定された LHA ファイルから指定されたフィルタの基準を満たす LHA エントリを指定されたエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * 各エントリは要素が要求された時点で開かれ、読込み終えた時点で閉じられます。
+	 * {@link #load(LhaFile, String, CsvConfig, CsvListHandler, LhaEntryFilter)} と異なり、すべてのエントリのデータをリストへ連結しません。
+	 *
+	 * @param lhaFile LHA ファイル
+	 * @param encoding エンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @param filter LHA エントリフィルタ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final LhaFile lhaFile, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler, final LhaEntryFilter filter) {
+		final List<LhaHeader> entries = new ArrayList<>();
+		for (final LhaHeader entry : lhaFile.getEntries()) {
+			if (filter == null || filter.accept(entry)) {
+				entries.add(entry);
+			}
+		}
+		return stream(new EntryIterator<T, LhaHeader>(entries.iterator(), encoding, cfg, handler) {
+			@Override
+			protected InputStream open(final LhaHeader entry) throws IOException {
+				return lhaFile.getInputStream(entry);
+			}
+		}, handler);
+	}
+
+	/**
+	 * 指定された LHA ファイルから指定されたフィルタの基準を満たす LHA エントリをプラットフォームのデフォルトエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。
+	 *
+	 * @param lhaFile LHA ファイル
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @param filter LHA エントリフィルタ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @see #stream(LhaFile, String, CsvConfig, CsvListHandler, LhaEntryFilter)
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final LhaFile lhaFile, final CsvConfig cfg, final CsvListHandler<T> handler, final LhaEntryFilter filter) {
+		return stream(lhaFile, null, cfg, handler, filter);
+	}
+
+	/**
+	 * 指定された ZIP ファイルから指定されたフィルタの基準を満たす ZIP エントリを指定されたエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。<br>
+	 * 各エントリは要素が要求された時点で開かれ、読込み終えた時点で閉じられます。
+	 * {@link #load(ZipFile, String, CsvConfig, CsvListHandler, ZipEntryFilter)} と異なり、すべてのエントリのデータをリストへ連結しません。
+	 *
+	 * @param zipFile ZIP ファイル
+	 * @param encoding エンコーディング
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @param filter ZIP エントリフィルタ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final ZipFile zipFile, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler, final ZipEntryFilter filter) {
+		final List<ZipEntry> entries = new ArrayList<>();
+		final Enumeration<? extends ZipEntry> e = zipFile.entries();
+		while (e.hasMoreElements()) {
+			final ZipEntry entry = e.nextElement();
+			if (filter == null || filter.accept(entry)) {
+				entries.add(entry);
+			}
+		}
+		return stream(new EntryIterator<T, ZipEntry>(entries.iterator(), encoding, cfg, handler) {
+			@Override
+			protected InputStream open(final ZipEntry entry) throws IOException {
+				return zipFile.getInputStream(entry);
+			}
+		}, handler);
+	}
+
+	/**
+	 * 指定された ZIP ファイルから指定されたフィルタの基準を満たす ZIP エントリをプラットフォームのデフォルトエンコーディングで逐次読込み、
+	 * ハンドラによって変換された区切り文字形式データのストリームを返します。
+	 *
+	 * @param zipFile ZIP ファイル
+	 * @param cfg 区切り文字形式情報
+	 * @param handler 区切り文字形式データアクセスハンドラ
+	 * @param filter ZIP エントリフィルタ
+	 * @return ハンドラによって変換された区切り文字形式データのストリーム
+	 * @see #stream(ZipFile, String, CsvConfig, CsvListHandler, ZipEntryFilter)
+	 * @since 3.0
+	 */
+	public static <T> Stream<T> stream(final ZipFile zipFile, final CsvConfig cfg, final CsvListHandler<T> handler, final ZipEntryFilter filter) {
+		return stream(zipFile, null, cfg, handler, filter);
+	}
+
+	private static <T> Stream<T> stream(final EntryIterator<T, ?> iterator, final CsvListHandler<T> handler) {
+		return handler.processScalar(StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(iterator::close));
+	}
+
+	/**
+	 * 圧縮ファイルのエントリを 1 つずつ開いて、各エントリの区切り文字形式データを連結して反復する反復子です。
+	 *
+	 * @param <T> 区切り文字形式データの型
+	 * @param <E> エントリの型
+	 * @since 3.0
+	 */
+	private abstract static class EntryIterator<T, E> implements Iterator<T> {
+
+		private final Iterator<E> entries;
+		private final String encoding;
+		private final CsvConfig cfg;
+		private final CsvListHandler<T> handler;
+
+		/**
+		 * 読込み中のエントリの区切り文字形式データのストリームを保持します。
+		 */
+		private Stream<T> current;
+		private Iterator<T> iterator;
+
+		EntryIterator(final Iterator<E> entries, final String encoding, final CsvConfig cfg, final CsvListHandler<T> handler) {
+			this.entries = entries;
+			this.encoding = encoding;
+			this.cfg = cfg;
+			this.handler = handler;
+		}
+
+		/**
+		 * 指定されたエントリの入力ストリームを開きます。
+		 *
+		 * @param entry エントリ
+		 * @return 入力ストリーム
+		 * @throws IOException 入出力エラーが発生した場合
+		 */
+		protected abstract InputStream open(E entry) throws IOException;
+
+		@Override
+		public boolean hasNext() {
+			while (iterator == null || !iterator.hasNext()) {
+				close();
+				if (!entries.hasNext()) {
+					return false;
+				}
+				try {
+					final InputStream in = open(entries.next());
+					try {
+						current = handler.stream(new CsvReader(encoding == null ? new InputStreamReader(in) : new InputStreamReader(in, encoding), cfg), true);
+					} catch (final IOException | RuntimeException e) {
+						closeQuietly(in);
+						throw e;
+					}
+				} catch (final IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				iterator = current.iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return iterator.next();
+		}
+
+		void close() {
+			if (current != null) {
+				final Stream<T> stream = current;
+				current = null;
+				iterator = null;
+				stream.close();
+			}
+		}
+
+	}
+
 	// ------------------------------------------------------------------------
 	// static save
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+/**
+ * 入力バッファから区切り文字、囲み文字、エスケープ文字、CR、LF の出現位置を探す走査処理の基底クラスです。<p>
+ * {@link BlockCsvTokenizer} は特殊文字以外の文字の並びをこのクラスで読み飛ばします。
+ * 実装は走査結果を入力バッファの内容に基づいてキャッシュすることがあるため、入力バッファの内容を変更した場合は {@link #reset()} を呼出す必要があります。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+abstract class CsvCharScanner {
+
+	/**
+	 * Vector API のモジュール名です。
+	 */
+	static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/**
+	 * Vector API のモジュールが有効かどうかを保持します。
+	 */
+	private static final boolean VECTOR_SUPPORTED = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+	/**
+	 * 区切り文字です。
+	 */
+	protected final char sep;
+
+	/**
+	 * 囲み文字です。無効な場合は区切り文字です。
+	 */
+	protected final char quote;
+
+	/**
+	 * エスケープ文字です。無効な場合は区切り文字です。
+	 */
+	protected final char esc;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 */
+	protected CsvCharScanner(final CsvConfig cfg) {
+		this.sep = cfg.getSeparator();
+		this.quote = cfg.isQuoteDisabled() ? sep : cfg.getQuote();
+		this.esc = cfg.isEscapeDisabled() ? sep : cfg.getEscape();
+	}
+
+	/**
+	 * Vector API のモジュールが有効かどうかを返します。
+	 *
+	 * @return Vector API のモジュールが有効な場合は {@code true}
+	 */
+	static boolean isVectorSupported() {
+		return VECTOR_SUPPORTED;
+	}
+
+	/**
+	 * 指定された区切り文字形式情報の走査処理を構築して返します。<p>
+	 * {@code vector} が {@code true} で Vector API のモジュールが有効な場合は SIMD 命令で走査する実装を返し、それ以外の場合は 1 文字ずつ比較する実装を返します。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param vector Vector API を使用するかどうか
+	 * @return 走査処理
+	 */
+	static CsvCharScanner newInstance(final CsvConfig cfg, final boolean vector) {
+		if (vector && VECTOR_SUPPORTED) {
+			try {
+				return new VectorCsvCharScanner(cfg);
+			} catch (final LinkageError e) {
+				// Vector API を使用できない場合は 1 文字ずつ比較します。
+			}
+		}
+		return new ScalarCsvCharScanner(cfg);
+	}
+
+	/**
+	 * 指定された範囲で最初に出現する特殊文字の位置を返します。<p>
+	 * 囲み文字の外では区切り文字、囲み文字、エスケープ文字、CR、LF を特殊文字とし、囲み文字の中では区切り文字を特殊文字としません。
+	 *
+	 * @param buf 入力バッファ
+	 * @param from 開始位置
+	 * @param to 終了位置 (この位置の文字は含みません)
+	 * @param inQuote 囲み文字の中かどうか
+	 * @return 最初に出現する特殊文字の位置。特殊文字が出現しない場合は {@code to}
+	 */
+	abstract int skip(char[] buf, int from, int to, boolean inQuote);
+
+	/**
+	 * 指定された範囲で最初に出現する CR または LF の位置を返します。
+	 *
+	 * @param buf 入力バッファ
+	 * @param from 開始位置
+	 * @param to 終了位置 (この位置の文字は含みません)
+	 * @return 最初に出現する CR または LF の位置。出現しない場合は {@code to}
+	 */
+	abstract int skipLine(char[] buf, int from, int to);
+
+	/**
+	 * 入力バッファの内容が変更されたことを通知します。
+	 */
+	void reset() {}
+
+	/**
+	 * 1 文字ずつ比較して走査する実装です。
+	 */
+	static final class ScalarCsvCharScanner extends CsvCharScanner {
+
+		ScalarCsvCharScanner(final CsvConfig cfg) {
+			super(cfg);
+		}
+
+		@Override
+		int skip(final char[] buf, final int from, final int to, final boolean inQuote) {
+			int p = from;
+			if (!inQuote) {
+				while (p < to) {
+					final char c = buf[p];
+					if (c == sep || c == quote || c == esc || c <= CsvTokenizer.CR && (c == CsvTokenizer.CR || c == CsvTokenizer.LF)) {
+						break;
+					}
+					p++;
+				}
+			} else {
+				while (p < to) {
+					final char c = buf[p];
+					if (c == quote || c == esc || c <= CsvTokenizer.CR && (c == CsvTokenizer.CR || c == CsvTokenizer.LF)) {
+						break;
+					}
+					p++;
+				}
+			}
+			return p;
+		}
+
+		@Override
+		int skipLine(final char[] buf, final int from, final int to) {
+			int p = from;
+			while (p < to) {
+				final char c = buf[p];
+				if (c <= CsvTokenizer.CR && (c == CsvTokenizer.CR || c == CsvTokenizer.LF)) {
+					break;
+				}
+				p++;
+			}
+			return p;
+		}
+
+	}
+
+}
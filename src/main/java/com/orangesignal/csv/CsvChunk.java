@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ParallelCsvReader} がファイルの範囲ごとに読込んだ論理行のまとまりを提供します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ * @see ParallelCsvReader#forEachChunk(java.util.function.Consumer)
+ */
+public final class CsvChunk {
+
+	/**
+	 * ファイル内の範囲の番号を保持します。
+	 */
+	private final int index;
+
+	/**
+	 * 論理行の値のリストを保持します。
+	 */
+	private final List<List<String>> rows;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param index ファイル内の範囲の番号
+	 * @param rows 論理行の値のリスト
+	 */
+	CsvChunk(final int index, final List<List<String>> rows) {
+		this.index = index;
+		this.rows = Collections.unmodifiableList(rows);
+	}
+
+	/**
+	 * ファイル内の範囲の番号を返します。<p>
+	 * 番号はファイルの先頭の範囲を {@code 0} とする連番です。番号の順にまとまりを並べるとファイル内の論理行の順序になります。
+	 *
+	 * @return ファイル内の範囲の番号
+	 */
+	public int getIndex() { return index; }
+
+	/**
+	 * 論理行の値のリストを返します。
+	 *
+	 * @return 論理行の値のリスト
+	 */
+	public List<List<String>> getRows() { return rows; }
+
+}
@@ -56,6 +56,13 @@ public class CsvConfig implements Serializable, Cloneable {
 	 */
 	public static final QuotePolicy DEFAULT_QUOTE_POLICY = QuotePolicy.ALL;
 
+	/**
+	 * デフォルトの字句解析方法の種類 ({@link TokenizerPolicy#STREAM}) です。
+	 * 
+	 * @since 3.0
+	 */
+	public static final TokenizerPolicy DEFAULT_TOKENIZER_POLICY = TokenizerPolicy.STREAM;
+
 	// ------------------------------------------------------------------------
 
 	/**
@@ -145,6 +152,20 @@ public class CsvConfig implements Serializable, Cloneable {
 	 */
 	private String lineSeparator = System.lineSeparator();
 
+	/**
+	 * 字句解析方法の種類を保持します。
+	 * 
+	 * @since 3.0
+	 */
+	private TokenizerPolicy tokenizerPolicy = DEFAULT_TOKENIZER_POLICY;
+
+	/**
+	 * 入出力ストリームを単一のスレッドからのみ使用するかどうかを保持します。
+	 * 
+	 * @since 3.0
+	 */
+	private boolean threadConfined;
+
 	// ------------------------------------------------------------------------
 	// コンストラクタ
 
@@ -678,6 +699,76 @@ public class CsvConfig implements Serializable, Cloneable {
 		return this;
 	}
 
+	/**
+	 * 字句解析方法の種類を返します。
+	 * 
+	 * @return 字句解析方法の種類
+	 * @since 3.0
+	 */
+	public TokenizerPolicy getTokenizerPolicy() { return tokenizerPolicy; }
+
+	/**
+	 * 字句解析方法の種類を設定します。
+	 * 
+	 * @param tokenizerPolicy 字句解析方法の種類
+	 * @throws IllegalArgumentException {@code tokenizerPolicy} が {@code null} の場合
+	 * @since 3.0
+	 */
+	public void setTokenizerPolicy(final TokenizerPolicy tokenizerPolicy) {
+		if (tokenizerPolicy == null) {
+			throw new IllegalArgumentException("TokenizerPolicy must not be null");
+		}
+		this.tokenizerPolicy = tokenizerPolicy;
+	}
+
+	/**
+	 * 字句解析方法の種類を設定します。
+	 * 
+	 * @param tokenizerPolicy 字句解析方法の種類
+	 * @throws IllegalArgumentException {@code tokenizerPolicy} が {@code null} の場合
+	 * @since 3.0
+	 */
+	public CsvConfig withTokenizerPolicy(final TokenizerPolicy tokenizerPolicy) {
+		if (tokenizerPolicy == null) {
+			throw new IllegalArgumentException("TokenizerPolicy must not be null");
+		}
+		this.tokenizerPolicy = tokenizerPolicy;
+		return this;
+	}
+
+	/**
+	 * 区切り文字形式入出力ストリームを単一のスレッドからのみ使用するかどうかを返します。
+	 * 
+	 * @return 区切り文字形式入出力ストリームを単一のスレッドからのみ使用するかどうか
+	 * @since 3.0
+	 */
+	public boolean isThreadConfined() { return threadConfined; }
+
+	/**
+	 * 区切り文字形式入出力ストリームを単一のスレッドからのみ使用するかどうかを設定します。<p>
+	 * {@code true} を設定すると、この区切り文字形式情報で構築した {@link CsvReader} および {@link CsvWriter} は
+	 * 読込みや書込みの際に同期化を行わず、{@link TokenizerPolicy#STREAM} の字句解析処理は同期化されない入力バッファを使用します。
+	 * この場合、区切り文字形式入出力ストリームは構築したスレッドまたは所有権を明示的に受渡されたスレッドのみが使用しなければなりません。
+	 * 複数のスレッドから同時に使用した場合の動作は保証されません。
+	 * デフォルトは {@code false} (同期化する) です。
+	 * 
+	 * @param threadConfined 区切り文字形式入出力ストリームを単一のスレッドからのみ使用するかどうか
+	 * @since 3.0
+	 */
+	public void setThreadConfined(final boolean threadConfined) { this.threadConfined = threadConfined; }
+
+	/**
+	 * 区切り文字形式入出力ストリームを単一のスレッドからのみ使用するかどうかを設定します。
+	 * 
+	 * @param threadConfined 区切り文字形式入出力ストリームを単一のスレッドからのみ使用するかどうか
+	 * @see #setThreadConfined(boolean)
+	 * @since 3.0
+	 */
+	public CsvConfig withThreadConfined(final boolean threadConfined) {
+		this.threadConfined = threadConfined;
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * @since 1.1
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 無視する行パターン群をコンパイルした行フィルタです。<p>
+ * このクラスは {@link CsvConfig#getIgnoreLinePatterns()} の各パターンを解析し、
+ * {@code "^#.*$"} のような前方一致や {@code "^--$"} のような完全一致で表せるパターンは正規表現を使用せずに文字を直接比較します。
+ * それ以外のパターンはパターンごとに {@link Matcher} を再利用し、行バッファの範囲を {@link Matcher#region(int, int)} で指定して照合するため、
+ * 行ごとに部分文字列を生成しません。<p>
+ * {@link Matcher} を保持するため、このクラスはスレッドセーフではありません。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+final class CsvLineFilter {
+
+	/**
+	 * 正規表現のメタ文字です。
+	 */
+	private static final String METACHARS = "\\^$.|?*+()[]{}";
+
+	/**
+	 * コンパイル元の無視する行パターン群を保持します。
+	 */
+	private final Pattern[] patterns;
+
+	/**
+	 * パターンごとの比較文字列を保持します。正規表現で照合するパターンは {@code null} です。
+	 */
+	private final String[] literals;
+
+	/**
+	 * パターンごとに前方一致で比較するかどうかを保持します。
+	 */
+	private final boolean[] prefixes;
+
+	/**
+	 * パターンごとに再利用する照合器を保持します。
+	 */
+	private final Matcher[] matchers;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param patterns 無視する行パターン群
+	 */
+	CsvLineFilter(final Pattern[] patterns) {
+		this.patterns = patterns;
+		int count = 0;
+		for (final Pattern p : patterns) {
+			if (p != null) {
+				count++;
+			}
+		}
+		this.literals = new String[count];
+		this.prefixes = new boolean[count];
+		this.matchers = new Matcher[count];
+		int i = 0;
+		for (final Pattern p : patterns) {
+			if (p == null) {
+				continue;
+			}
+			if (p.flags() == 0) {
+				compileLiteral(p.pattern(), i);
+			}
+			if (literals[i] == null) {
+				matchers[i] = p.matcher("");
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * 指定された無視する行パターン群からコンパイルされた行フィルタかどうかを返します。
+	 *
+	 * @param patterns 無視する行パターン群
+	 * @return 同じパターン群からコンパイルされた場合は {@code true}
+	 */
+	boolean isCompiledFrom(final Pattern[] patterns) {
+		return this.patterns == patterns;
+	}
+
+	/**
+	 * 指定された文字シーケンスの範囲がいずれかの無視する行パターンに一致するかどうかを返します。
+	 *
+	 * @param line 文字シーケンス
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置の文字は含みません)
+	 * @return いずれかのパターンに一致する場合は {@code true}
+	 */
+	boolean matches(final CharSequence line, final int start, final int end) {
+		for (int i = 0; i < literals.length; i++) {
+			final String literal = literals[i];
+			if (literal != null) {
+				if (matchesLiteral(line, start, end, literal, prefixes[i])) {
+					return true;
+				}
+			} else if (matchers[i].reset(line).region(start, end).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean matchesLiteral(final CharSequence line, final int start, final int end, final String literal, final boolean prefix) {
+		final int len = literal.length();
+		if (prefix ? end - start < len : end - start != len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (line.charAt(start + i) != literal.charAt(i)) {
+				return false;
+			}
+		}
+		if (prefix) {
+			// フラグなしの . は行終端子に一致しません。
+			for (int i = start + len; i < end; i++) {
+				if (isLineTerminator(line.charAt(i))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isLineTerminator(final char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	/**
+	 * 指定された正規表現が {@code ^literal$} または {@code ^literal.*$} の形式の場合に比較文字列を設定します。
+	 * 先頭の {@code ^} と末尾の {@code $} は省略可能です。
+	 *
+	 * @param regex 正規表現
+	 * @param index パターンの位置
+	 */
+	private void compileLiteral(final String regex, final int index) {
+		int start = 0;
+		int end = regex.length();
+		if (start < end && regex.charAt(start) == '^') {
+			start++;
+		}
+		if (end > start && regex.charAt(end - 1) == '$' && !isEscaped(regex, end - 1)) {
+			end--;
+		}
+		boolean prefix = false;
+		if (end - start >= 2 && regex.charAt(end - 1) == '*' && regex.charAt(end - 2) == '.' && !isEscaped(regex, end - 2)) {
+			prefix = true;
+			end -= 2;
+		}
+		final StringBuilder sb = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				if (++i >= end) {
+					return;
+				}
+				c = regex.charAt(i);
+				// \d や \Q などの英数字によるエスケープは正規表現で照合します。
+				if (Character.isLetterOrDigit(c)) {
+					return;
+				}
+			} else if (METACHARS.indexOf(c) != -1) {
+				return;
+			}
+			sb.append(c);
+		}
+		literals[index] = sb.toString();
+		prefixes[index] = prefix;
+	}
+
+	private static boolean isEscaped(final String regex, final int index) {
+		int count = 0;
+		for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+			count++;
+		}
+		return (count & 1) == 1;
+	}
+
+}
@@ -17,7 +17,10 @@
 package com.orangesignal.csv;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 区切り文字形式データリストのデータアクセスインターフェースです。
@@ -96,6 +99,62 @@ public interface CsvListHandler<T> extends CsvHandler<List<T>> {
 	 */
 	List<T> processScalar(List<T> list);
 
+	/**
+	 * <p>区切り文字形式入力ストリームを逐次読込む区切り文字形式データのストリームを返します。</p>
+	 * このメソッドは利便性の為に提供しています。<br>
+	 * 実装は {@link #stream(CsvReader, boolean)} をスカラー副問い合わせを行うとして呼出すだけです。
+	 * 
+	 * @param reader 区切り文字形式入力ストリーム
+	 * @return 区切り文字形式データのストリーム
+	 * @throws IOException 入出力例外が発生した場合
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 * @see #stream(CsvReader, boolean)
+	 * @since 3.0
+	 */
+	default Stream<T> stream(final CsvReader reader) throws IOException {
+		return stream(reader, false);
+	}
+
+	/**
+	 * <p>区切り文字形式入力ストリームを逐次読込む区切り文字形式データのストリームを返します。</p>
+	 * <p>
+	 * 返されるストリームは要素が要求される度に区切り文字形式入力ストリームから 1 行ずつ読込み、
+	 * フィルタや取得データの開始位置、限度数もその場で適用するため、データ全体をリストへ保持しません。
+	 * ストリームを閉じると区切り文字形式入力ストリームも閉じられます。
+	 * 要素の取得時に発生した {@link IOException} は {@link UncheckedIOException} でラップしてスローされます。
+	 * </p>
+	 * このデフォルト実装は {@link #load(CsvReader, boolean)} の結果をストリームとして返すだけです。
+	 * 
+	 * @param reader 区切り文字形式入力ストリーム
+	 * @param ignoreScalar スカラー副問い合わせを行うかどうか
+	 * @return 区切り文字形式データのストリーム
+	 * @throws IOException 入出力例外が発生した場合
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 * @see #processScalar(Stream)
+	 * @since 3.0
+	 */
+	default Stream<T> stream(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		return load(reader, ignoreScalar).stream().onClose(() -> {
+			try {
+				reader.close();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * 指定された区切り文字形式データのストリームにスカラー副問い合わせを行った結果のストリームを返します。<br>
+	 * このデフォルト実装は要素をリストへ集めて {@link #processScalar(List)} を呼出します。
+	 * 
+	 * @param stream スカラー副問い合わせを行う区切り文字形式データのストリーム
+	 * @return スカラー副問い合わせされた区切り文字形式データのストリーム
+	 * @since 3.0
+	 */
+	default Stream<T> processScalar(final Stream<T> stream) {
+		return processScalar(stream.collect(Collectors.toList())).stream().onClose(stream::close);
+	}
+
 	/**
 	 * 指定された区切り文字形式データのリストを区切り文字形式出力ストリームへ書込みます。
 	 * 
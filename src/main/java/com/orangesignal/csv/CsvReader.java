@@ -16,18 +16,24 @@
 
 package com.orangesignal.csv;
 
-import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
- * 区切り文字形式入力ストリームを提供します。
+ * 区切り文字形式入力ストリームを提供します。<p>
+ * 字句解析方法は区切り文字形式情報の {@link CsvConfig#getTokenizerPolicy()} によって選択されます。<p>
+ * このクラスの読込み処理はデフォルトで同期化されます。
+ * 区切り文字形式情報の {@link CsvConfig#isThreadConfined()} が {@code true} の場合は同期化を行わないため、
+ * 構築したスレッドまたは所有権を明示的に受渡されたスレッドのみが使用しなければなりません。
  *
  * @author Koji Sugisawa
  * @see <a href="http://www.ietf.org/rfc/rfc4180.txt">RFC-4180 Common Format and MIME Type for Comma-Separated Values (CSV) Files</a>
@@ -35,160 +41,211 @@ import java.util.regex.Pattern;
 public class CsvReader implements Closeable {
 
 	/**
-	 * 文字入力ストリームを保持します。
+	 * 字句解析処理を保持します。
 	 */
-	private Reader in;
+	private final CsvTokenizer tokenizer;
 
 	/**
-	 * 区切り文字形式情報を保持します。
+	 * 単一のスレッドからのみ使用するかどうかを保持します。
 	 */
-	private CsvConfig cfg;
+	private final boolean threadConfined;
 
-	/**
-	 * 終端文字を含む行バッファを保持します。
-	 */
-	private final StringBuilder line = new StringBuilder();
-
-	/**
-	 * 次行の先頭文字を保持します。
-	 */
-	private int nextChar = -1;
-
-	/**
-	 * 行バッファの位置を保持します。
-	 */
-	private int pos;
-
-	/**
-	 * 行読込みのスキップを行ったかどうかを保持します。
-	 */
-	private boolean skiped;
-
-	/**
-	 * トークンの開始物理行番号の現在値を保持します。
-	 */
-	private int startTokenLineNumber = 0;
-
-	/**
-	 * トークンの終了物理行番号の現在値を保持します。
-	 */
-	private int endTokenLineNumber = 0;
-
-	/**
-	 * 開始物理行番号の現在値を保持します。
-	 */
-	private int startLineNumber = 0;
+	private static final int DEFAULT_CHAR_BUFFER_SIZE = 8192;
 
-	/**
-	 * 終了物理行番号の現在値を保持します。
-	 */
-	private int endLineNumber = 0;
+	private static final int DEFAULT_BYTE_BUFFER_SIZE = 8192;
 
-	/**
-	 * 論理行番号の現在値を保持します。
-	 */
-	private int lineNumber = 0;
+	// ------------------------------------------------------------------------
+	// コンストラクタ
 
 	/**
-	 * ファイルの終わりに達したかどうかを保持します。
+	 * 指定されたバッファーサイズと指定された区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param in 文字入力ストリーム
+	 * @param sz 入力バッファのサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合。または、{@code cfg} が {@code null} の場合。
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
 	 */
-	private boolean endOfFile;
+	public CsvReader(final Reader in, final int sz, final CsvConfig cfg) {
+		this(newTokenizer(in, sz, cfg));
+	}
 
 	/**
-	 * 論理行の終わりに達したかどうかを保持します。
+	 * デフォルトのバッファーサイズと指定された区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param in 文字入力ストリーム
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code cfg} が {@code null} の場合
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
 	 */
-	private boolean endOfLine;
+	public CsvReader(final Reader in, final CsvConfig cfg) {
+		this(in, DEFAULT_CHAR_BUFFER_SIZE, cfg);
+	}
 
 	/**
-	 * 直前の文字が復帰文字かどうかを保持します。
+	 * 指定されたバッファーサイズとデフォルトの区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param in 文字入力ストリーム
+	 * @param sz 入力バッファのサイズ
+	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合
 	 */
-	private boolean cr = false;
+	public CsvReader(final Reader in, final int sz) {
+		this(in, sz, new CsvConfig());
+	}
 
 	/**
-	 * BOM (Byte Order Mark) を除去するかどうかを保持します。
+	 * デフォルトのバッファーサイズとデフォルトの区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param in 文字入力ストリーム
 	 */
-	private final boolean utf8bom;
+	public CsvReader(final Reader in) {
+		this(in, DEFAULT_CHAR_BUFFER_SIZE, new CsvConfig());
+	}
 
 	/**
-	 * 項目数チェックの為に直前の行の項目数を保持します。
+	 * 指定されたバッファーサイズと指定された区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。<p>
+	 * 改行文字および区切り文字、囲み文字、エスケープ文字が指定された文字セットで 1 バイト文字として安全に判別できる場合は、
+	 * バイト入力ストリームを文字へ変換せずに字句解析し、CSV トークンの値の範囲だけを文字へ変換します。
+	 * それ以外の場合は {@link InputStreamReader} を使用して文字へ変換してから字句解析を行います。
+	 *
+	 * @param in バイト入力ストリーム
+	 * @param charset 文字セット
+	 * @param sz 入力バッファのサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code charset} が {@code null} の場合。
+	 * または、{@code sz} が {@code 0} 以下の場合。または、{@code cfg} が {@code null} の場合。
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
+	 * @since 3.0
 	 */
-	private int countNumberOfColumns = -1;
+	public CsvReader(final InputStream in, final Charset charset, final int sz, final CsvConfig cfg) {
+		this(newTokenizer(in, charset, sz, cfg));
+	}
 
 	/**
-	 * 復帰文字です。
+	 * デフォルトのバッファーサイズと指定された区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param in バイト入力ストリーム
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code charset} が {@code null} の場合。または、{@code cfg} が {@code null} の場合。
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
+	 * @see #CsvReader(InputStream, Charset, int, CsvConfig)
+	 * @since 3.0
 	 */
-	private static final char CR = '\r';
+	public CsvReader(final InputStream in, final Charset charset, final CsvConfig cfg) {
+		this(in, charset, DEFAULT_BYTE_BUFFER_SIZE, cfg);
+	}
 
 	/**
-	 * 改行文字です。
+	 * 指定された区切り文字形式情報を使用して、ファイルをメモリーへマップして読込むこのクラスを構築するコンストラクタです。<p>
+	 * 改行文字および区切り文字、囲み文字、エスケープ文字が指定された文字セットで 1 バイト文字として安全に判別できる場合は、
+	 * ファイルを読込み専用でメモリーへマップした領域を入力バッファへコピーせずに直接字句解析します。
+	 * この場合 {@link #readTokens()} は値が要求されるまで文字へ変換しない {@link MappedCsvToken} のリストを返します。
+	 * それ以外の場合は {@link InputStreamReader} を使用して文字へ変換してから字句解析を行います。<p>
+	 * このクラスを閉じるとファイルチャネルも閉じられますが、
+	 * メモリーへマップした領域は領域を参照する CSV トークンがガベージコレクションされるまで解放されません。
+	 *
+	 * @param channel ファイルチャネル
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code charset} が {@code null} の場合。または、{@code cfg} が {@code null} の場合。
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
+	 * @since 3.0
 	 */
-	private static final char LF = '\n';
+	public CsvReader(final FileChannel channel, final Charset charset, final CsvConfig cfg) {
+		this(newTokenizer(channel, charset, cfg));
+	}
 
 	/**
-	 * BOM (Byte Order Mark)
+	 * 指定された字句解析処理を使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param tokenizer 字句解析処理
+	 * @since 3.0
 	 */
-	private static final int BOM = 0xFEFF;
-
-	private static final int DEFAULT_CHAR_BUFFER_SIZE = 8192;
-
-	// ------------------------------------------------------------------------
-	// コンストラクタ
+	CsvReader(final CsvTokenizer tokenizer) {
+		this.tokenizer = tokenizer;
+		this.threadConfined = tokenizer.cfg.isThreadConfined();
+	}
 
 	/**
-	 * 指定されたバッファーサイズと指定された区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 * 文字入力ストリームを字句解析する字句解析処理を構築して返します。
 	 *
 	 * @param in 文字入力ストリーム
 	 * @param sz 入力バッファのサイズ
 	 * @param cfg 区切り文字形式情報
+	 * @return 字句解析処理
 	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合。または、{@code cfg} が {@code null} の場合。
 	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
 	 */
-	public CsvReader(final Reader in, final int sz, final CsvConfig cfg) {
+	private static CsvTokenizer newTokenizer(final Reader in, final int sz, final CsvConfig cfg) {
 		if (cfg == null) {
 			throw new IllegalArgumentException("CsvConfig must not be null");
 		}
 		cfg.validate();
-		this.in = new BufferedReader(in, sz);
-		this.cfg = cfg;
 		final String s;
 		if (in instanceof InputStreamReader) {
 			s = ((InputStreamReader) in).getEncoding();
 		} else {
 			s = Charset.defaultCharset().name();
 		}
-		this.utf8bom = s.toLowerCase().matches("^utf\\-{0,1}8$");
+		final boolean utf8bom = s.toLowerCase().matches("^utf\\-{0,1}8$");
+		switch (cfg.getTokenizerPolicy()) {
+			case BLOCK:
+			case VECTOR:
+				return new BlockCsvTokenizer(in, sz, cfg, utf8bom);
+			default:
+				return new StreamCsvTokenizer(in, sz, cfg, utf8bom);
+		}
 	}
 
 	/**
-	 * デフォルトのバッファーサイズと指定された区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 * バイト入力ストリームを字句解析する字句解析処理を構築して返します。
 	 *
-	 * @param in 文字入力ストリーム
+	 * @param in バイト入力ストリーム
+	 * @param charset 文字セット
+	 * @param sz 入力バッファのサイズ
 	 * @param cfg 区切り文字形式情報
-	 * @throws IllegalArgumentException {@code cfg} が {@code null} の場合
+	 * @return 字句解析処理
+	 * @throws IllegalArgumentException {@code charset} が {@code null} の場合。
+	 * または、{@code sz} が {@code 0} 以下の場合。または、{@code cfg} が {@code null} の場合。
 	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
 	 */
-	public CsvReader(final Reader in, final CsvConfig cfg) {
-		this(in, DEFAULT_CHAR_BUFFER_SIZE, cfg);
-	}
-
-	/**
-	 * 指定されたバッファーサイズとデフォルトの区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
-	 *
-	 * @param in 文字入力ストリーム
-	 * @param sz 入力バッファのサイズ
-	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合
-	 */
-	public CsvReader(final Reader in, final int sz) {
-		this(in, sz, new CsvConfig());
+	private static CsvTokenizer newTokenizer(final InputStream in, final Charset charset, final int sz, final CsvConfig cfg) {
+		if (charset == null) {
+			throw new IllegalArgumentException("Charset must not be null");
+		}
+		if (cfg == null) {
+			throw new IllegalArgumentException("CsvConfig must not be null");
+		}
+		cfg.validate();
+		if (ByteCsvTokenizer.isSupported(charset, cfg)) {
+			return new ByteCsvTokenizer(in, charset, sz, cfg);
+		}
+		return newTokenizer(new InputStreamReader(in, charset), sz, cfg);
 	}
 
 	/**
-	 * デフォルトのバッファーサイズとデフォルトの区切り文字形式情報を使用して、このクラスを構築するコンストラクタです。
+	 * ファイルチャネルを字句解析する字句解析処理を構築して返します。
 	 *
-	 * @param in 文字入力ストリーム
+	 * @param channel ファイルチャネル
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @return 字句解析処理
+	 * @throws IllegalArgumentException {@code charset} が {@code null} の場合。または、{@code cfg} が {@code null} の場合。
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
 	 */
-	public CsvReader(final Reader in) {
-		this(in, DEFAULT_CHAR_BUFFER_SIZE, new CsvConfig());
+	private static CsvTokenizer newTokenizer(final FileChannel channel, final Charset charset, final CsvConfig cfg) {
+		if (charset == null) {
+			throw new IllegalArgumentException("Charset must not be null");
+		}
+		if (cfg == null) {
+			throw new IllegalArgumentException("CsvConfig must not be null");
+		}
+		cfg.validate();
+		if (ByteCsvTokenizer.isSupported(charset, cfg)) {
+			return new ByteCsvTokenizer(channel, charset, ByteCsvTokenizer.DEFAULT_SEGMENT_SIZE, cfg);
+		}
+		return newTokenizer(new InputStreamReader(Channels.newInputStream(channel), charset), DEFAULT_CHAR_BUFFER_SIZE, cfg);
 	}
 
 	// ------------------------------------------------------------------------
@@ -198,21 +255,21 @@ public class CsvReader implements Closeable {
 	 *
 	 * @return 現在の開始物理行番号
 	 */
-	public int getStartLineNumber() { return startLineNumber; }
+	public int getStartLineNumber() { return tokenizer.getStartLineNumber(); }
 
 	/**
 	 * 終了物理行番号の現在値を取得します。
 	 *
 	 * @return 現在の終了物理行番号
 	 */
-	public int getEndLineNumber() { return endLineNumber; }
+	public int getEndLineNumber() { return tokenizer.getEndLineNumber(); }
 
 	/**
 	 * 論理行番号の現在値を取得します。
 	 *
 	 * @return 現在の論理行番号
 	 */
-	public int getLineNumber() { return lineNumber; }
+	public int getLineNumber() { return tokenizer.getLineNumber(); }
 
 	/**
 	 * ファイルの終わりに達したかどうかを取得します。
@@ -220,100 +277,47 @@ public class CsvReader implements Closeable {
 	 * @return ファイルの終わりに達したかどうか
 	 * @since 2.2.1
 	 */
-	public boolean isEndOfFile() { return endOfFile; }
+	public boolean isEndOfFile() { return tokenizer.isEndOfFile(); }
 
 	/**
 	 * Checks to make sure that the stream has not been closed
 	 */
 	private void ensureOpen() throws IOException {
-		if (in == null) {
+		if (tokenizer.isClosed()) {
 			throw new IOException("Reader closed");
 		}
 	}
 
 	/**
-	 * 物理行を読込んで行バッファへセットします。
-	 *
-	 * @return 行の終端文字を含まない行文字列
-	 * @throws IOException 入出力例外が発生した場合
-	 */
-	private int cacheLine() throws IOException {
-		// 行バッファを構築します。
-		line.setLength(0);
-		int c;
-		if (nextChar != -1) {
-			c = nextChar;
-			nextChar = -1;
-		} else {
-			c = in.read();
-			// BOM (Byte Order Mark) を除去する場合は BOM を読み飛ばします。
-			if (lineNumber == 0 /* && line == null */ && utf8bom && c == BOM) {
-				c = in.read();
-			}
-		}
-
-		int result = -1;	// CR または LF の出現位置
-		while (c != -1) {
-			line.append((char) c);
-			if (c == CR) {
-				result = line.length();
-				nextChar = in.read();
-				if (nextChar == LF) {
-					line.append((char) nextChar);
-					nextChar = -1;
-				}
-				break;
-			} else if (c == LF) {
-				result = line.length();
-				break;
-			}
-			c = in.read();
-		}
-		pos = 0;
-
-		return result;
-	}
-
-	/**
-	 * 単一の文字を読み込みます。
+	 * <p>論理行を読込み区切り文字形式データトークンの値をリストして返します。</p>
+	 * このメソッドは利便性のために提供しています。
 	 *
-	 * @return 読み込まれた文字。ストリームの終わりに達した場合は {@code -1}
+	 * @return 区切り文字形式データトークンの値をリスト。ストリームの終わりに達している場合は {@code null}
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
 	 * @throws IOException 入出力エラーが発生した場合
 	 */
-	private int read() throws IOException {
-		synchronized (this) {
-			ensureOpen();
-			if (endOfFile) {
-				return -1;
-			}
-			if (line.length() == 0 || line.length() <= pos) {
-				cacheLine();
-			}
-			if (line.length() == 0) {
-				return -1;
-			}
-			return line.charAt(pos++);
-		}
+	public List<String> readValues() throws IOException {
+		return readValues(null);
 	}
 
 	/**
-	 * <p>論理行を読込み区切り文字形式データトークンの値をリストして返します。</p>
-	 * このメソッドは利便性のために提供しています。
+	 * 論理行を読込み、指定された項目位置の区切り文字形式データトークンの値をリストして返します。<p>
+	 * 指定された項目位置に含まれない項目は囲み文字やエスケープ文字の字句解析だけを行い、値の文字列を構築せずに {@code null} とします。
+	 * 多数の項目のうち一部の項目だけを使用する場合に、使用しない項目の文字列の構築を省略できます。
+	 * 先頭の項目は空行や無視する行パターンの判定に使用するため、常に読込みます。
 	 *
+	 * @param columns 読込む項目位置の集合。すべての項目を読込む場合は {@code null}
 	 * @return 区切り文字形式データトークンの値をリスト。ストリームの終わりに達している場合は {@code null}
 	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
 	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
 	 */
-	public List<String> readValues() throws IOException {
-		final List<CsvToken> tokens = readTokens();
+	public List<String> readValues(final BitSet columns) throws IOException {
+		final List<CsvToken> tokens = readTokens(columns);
 		if (tokens == null) {
 			return null;
 		}
-		final List<String> results = new ArrayList<>(tokens.size());
-		for (final CsvToken token : tokens) {
-			results.add(token.getValue());
-		}
-		return results;
+		return toValues(tokens);
 	}
 
 	/**
@@ -324,378 +328,137 @@ public class CsvReader implements Closeable {
 	 * @throws IOException 入出力エラーが発生した場合
 	 */
 	public List<CsvToken> readTokens() throws IOException {
-		synchronized (this) {
-			ensureOpen();
-			if (endOfFile) {
-				return null;
-			}
-			if (!skiped) {
-				for (int i = 0; i < cfg.getSkipLines(); i++) {
-					cacheLine();
-					endTokenLineNumber++;
-					lineNumber++;
-				}
-				line.setLength(0);
-				skiped = true;
-			}
-			return readCsvTokens();
-		}
+		return readTokens(null);
 	}
 
-	private int arraySize = 3;
-
 	/**
-	 * 論理行を読込み、行カウンタを処理して CSV トークンのリストを返します。
+	 * 論理行を読込み、指定された項目位置の区切り文字形式データトークンをリストして返します。<p>
+	 * 指定された項目位置に含まれない項目は値の文字列を構築せずに読飛ばし、値が {@code null} の CSV トークンとします。
 	 *
-	 * @return CSV トークンのリスト
+	 * @param columns 読込む項目位置の集合。すべての項目を読込む場合は {@code null}
+	 * @return 区切り文字形式データトークンのリスト。ストリームの終わりに達している場合は {@code null}
 	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
 	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readValues(BitSet)
+	 * @since 3.0
 	 */
-	private List<CsvToken> readCsvTokens() throws IOException {
-		final List<CsvToken> results = new ArrayList<>(arraySize);
-		endTokenLineNumber++;
-		startLineNumber = endTokenLineNumber;
-		endOfLine = false;
-		do {
-			if (line.length() == 0 || line.length() <= pos) {
-				int breakLine = cacheLine();
-
-				// 空行を無視する場合の処理を行います。
-				if (cfg.isIgnoreEmptyLines()) {
-					boolean ignore = true;
-					while (ignore && line.length() > 0) {
-						ignore = false;
-						if (isWhitespaces(breakLine == -1 ? line : line.substring(0, breakLine - 1))) {
-							ignore = true;
-							endTokenLineNumber++;
-							startLineNumber = endTokenLineNumber;
-							lineNumber++;
-							breakLine = cacheLine();
-						}
-					}
-				}
-
-				// 無視する行パターンを処理します。
-				if (cfg.getIgnoreLinePatterns() != null) {
-					boolean ignore = true;
-					while (ignore && line.length() > 0) {
-						ignore = false;
-						for (final Pattern p : cfg.getIgnoreLinePatterns()) {
-							if (p != null && p.matcher(breakLine == -1 ? line : line.substring(0, breakLine - 1)).matches()) {
-								ignore = true;
-								endTokenLineNumber++;
-								startLineNumber = endTokenLineNumber;
-								lineNumber++;
-								breakLine = cacheLine();
-								break;
-							}
-						}
-					}
-				}
-			}
-			startTokenLineNumber = endTokenLineNumber;
-			results.add(readCsvToken());
-		} while (!endOfLine);
-		endLineNumber = endTokenLineNumber;
-		lineNumber++;
-
-		arraySize = results.size();
-
-		// XXX - 空行の場合に null を返すのではなく NullObject を返すべきなのでは？
-		if (arraySize == 1) {
-			if (endOfFile) {
-				final String value = results.get(0).getValue();
-				if (cfg.isIgnoreEmptyLines() && isWhitespaces(value)) {
-					return null;
-				}
-				if (cfg.getIgnoreLinePatterns() != null) {
-					for (final Pattern p : cfg.getIgnoreLinePatterns()) {
-						if (p != null && p.matcher(value).matches()) {
-							return null;
-						}
-					}
-				}
-			} else {
-				if (cfg.isIgnoreEmptyLines() && (line.length() == 0 || isWhitespaces(line))) {
-					return null;
-				}
-			}
+	public List<CsvToken> readTokens(final BitSet columns) throws IOException {
+		if (threadConfined) {
+			ensureOpen();
+			return tokenizer.readTokens(columns);
 		}
-		if (!cfg.isVariableColumns()) {
-			if (countNumberOfColumns >= 0 && countNumberOfColumns != arraySize) {
-				throw new CsvTokenException(String.format("Invalid column count in CSV input on line %d.", startLineNumber), results);
-			}
-			countNumberOfColumns = arraySize;
+		synchronized (this) {
+			ensureOpen();
+			return tokenizer.readTokens(columns);
 		}
-
-		return results;
 	}
 
-	private final StringBuilder buf = new StringBuilder();
-	private boolean inQuote = false;	// 囲み項目を処理中であるかどうか
-	private boolean enclosed = false;	// 囲み項目の可能性を示唆します。
-	private boolean escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の中)
-	private boolean _escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の外)
-
 	/**
-	 * CSV トークンを読込みます。
+	 * 論理行を読込み、指定された論理行の値を置換えます。<p>
+	 * このメソッドは論理行ごとにリストや CSV トークン、値の文字列を構築しないため、
+	 * 同じ {@link CsvRow} を繰返し指定することで論理行ごとのオブジェクトの生成を抑えることができます。
+	 * 字句解析方法が {@link TokenizerPolicy#BLOCK} または {@link TokenizerPolicy#VECTOR} の場合は入力バッファの範囲を論理行の文字配列へ直接コピーして処理します。
+	 * それ以外の場合は読込んだ CSV トークンの値を論理行へコピーします。<p>
+	 * このメソッドが {@code false} を返す条件は {@link #readTokens()} が {@code null} を返す条件と同じです。
 	 *
-	 * @return CSV トークン
+	 * @param row 論理行
+	 * @return 論理行を読込んだ場合は {@code true}。ストリームの終わりに達している場合などは {@code false}
+	 * @throws IllegalArgumentException {@code row} が {@code null} の場合
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
 	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
 	 */
-	private CsvToken readCsvToken() throws IOException {
-		buf.setLength(0);
-		// 囲み文字設定が有効な場合
-		inQuote = false;
-		enclosed = false;
-		escaped = false;
-		_escaped = false;
-
-		endTokenLineNumber = startTokenLineNumber;
-
-		while (true) {
-			final int c = read();
-			if (cr) {
-				cr = false;
-				escaped = false;
-				if (c == LF) {
-					if (inQuote) {
-						buf.append((char) c);
-					}
-					continue;
-				}
-			} else if (_escaped && c == cfg.getSeparator()) {
-				buf.append((char) c);
-				_escaped = false;
-				continue;
-			}
-			_escaped = false;
-			if (c == -1) {
-				endOfLine = true;
-//				if (!endOfFile) {
-//					endLineNumber++;
-//				}
-				endOfFile = true;
-				break;
-			}
-
-			// 囲み文字の外(外側)の場合
-			if (!inQuote) {
-				// 区切り文字
-				if (c == cfg.getSeparator()) {
-					break;
-				// CR
-				} else if (c == CR) {
-					endOfLine = true;
-					cr = true;
-					break;
-				// LF
-				} else if (c == LF) {
-					endOfLine = true;
-					break;
-				// 囲み文字
-				} else if (!cfg.isQuoteDisabled() && !enclosed && c == cfg.getQuote()) {
-					if (isWhitespaces(buf)) {
-						inQuote = true;
-					}
-				// エスケープ文字
-				} else if (cfg.isQuoteDisabled() && !cfg.isEscapeDisabled() && c == cfg.getEscape()) {
-					_escaped = true;
-				}
-			// 囲み文字の中(内側)の場合
-			} else {
-				// 囲み文字とエスケープ文字が同一の場合
-				if (!cfg.isEscapeDisabled() && cfg.getQuote() == cfg.getEscape()) {
-					// 直前の文字がエスケープ文字の場合
-					if (escaped) {
-						// エスケープ文字直後が区切り文字の場合
-						if (c == cfg.getSeparator()) {
-							break;
-						} else if (c == CR) {
-							endOfLine = true;
-							cr = true;
-							break;
-						} else if (c == LF) {
-							endOfLine = true;
-							break;
-						} else if (c == cfg.getEscape()) {
-							escaped = false;
-							buf.append((char) c);
-							continue;
-						}
-					// 直前の文字がない場合や直前の文字がエスケープ文字ではない場合に、現在の文字がエスケープ文字(囲み文字と同一)の場合
-					} else if (c == cfg.getEscape()) {
-						escaped = true;
-						buf.append((char) c);
-						continue;
-					}
-				}
-
-				// 囲み文字
-				if (c == cfg.getQuote()) {
-					if (escaped) {
-						// 直前がエスケープ文字の場合
-						escaped = false;
-					} else {
-						inQuote = false;
-						enclosed = true;
-					}
-				// CR
-				} else if (c == CR) {
-					cr = true;
-					endTokenLineNumber++;
-				// LF
-				} else if (c == LF) {
-					endTokenLineNumber++;
-				}
-
-				if (!cfg.isEscapeDisabled() && c == cfg.getEscape()) {
-					escaped = true;
-				} else {
-					escaped = false;
-				}
-			}
-
-			buf.append((char) c);
-		}
-
-		if (escaped) {
-			enclosed = true;
+	public boolean readInto(final CsvRow row) throws IOException {
+		if (row == null) {
+			throw new IllegalArgumentException("CsvRow must not be null");
 		}
-
-		String value = buf.toString();
-
-		// 囲み項目かどうかの判定
-		if (enclosed) {
-			// 最後の " 以降にホワイトスペース以外の文字がある場合は囲み項目ではない
-			final int i = value.lastIndexOf(cfg.getQuote()) + 1;
-			assert i > 0;
-			if (i < value.length() && !isWhitespaces(value.substring(i + 1))) {
-				enclosed = false;
-			}
-		}
-
-		if (cfg.isIgnoreLeadingWhitespaces() || enclosed) {
-			value = removeLeadingWhitespaces(value);
-		}
-		if (cfg.isIgnoreTrailingWhitespaces() || enclosed) {
-			value = removeTrailingWhitespaces(value);
+		if (threadConfined) {
+			ensureOpen();
+			return tokenizer.readRow(row);
 		}
-		if (enclosed) {
-			// 囲み文字を除去します。
-			value = value.substring(1, value.length() - 1);
-			// テキスト内の改行文字列を置換する必要がある場合は置換を行います。
-			if (cfg.getBreakString() != null) {
-				value = value.replaceAll("\r\n|\r|\n", cfg.getBreakString());
-			}
-			// エスケープ文字が有効な場合は非エスケープ化します。
-			if (!cfg.isEscapeDisabled()) {
-				value = unescapeQuote(value);
-			}
-		} else {
-			if (cfg.getNullString() != null) {
-				if (cfg.isIgnoreCaseNullString()) {
-					if (cfg.getNullString().equalsIgnoreCase(value)) {
-						value = null;
-					}
-				} else {
-					if (cfg.getNullString().equals(value)) {
-						value = null;
-					}
-				}
-			}
-			if (value != null && !cfg.isEscapeDisabled()) {
-				value = unescapeSeparator(value);
-			}
+		synchronized (this) {
+			ensureOpen();
+			return tokenizer.readRow(row);
 		}
-
-		return new SimpleCsvToken(value, startTokenLineNumber, endTokenLineNumber, enclosed);
 	}
 
 	/**
-	 * 指定された CSV トークンを非エスケープ化して返します。
+	 * 最大 {@code max} 件の論理行を読込み CSV トークンの値のリストとして指定されたリストへ追加します。<p>
+	 * このメソッドは 1 回の同期でまとめて読込むため、{@link #readValues()} を繰返し呼出すよりも論理行ごとのオーバーヘッドを抑えることができます。
+	 * 同じリストを繰返し指定する場合は、呼出し前にリストをクリアして下さい。<p>
+	 * このメソッドは {@link #readTokens()} が {@code null} を返す条件で読込みを終了します。
 	 *
-	 * @param value CSV トークン
-	 * @return 変換された CSV トークン
+	 * @param list CSV トークンの値のリストを追加するリスト
+	 * @param max 読込む論理行の最大数
+	 * @return 追加した件数。ストリームの終わりに達している場合は {@code 0}
+	 * @throws IllegalArgumentException {@code list} が {@code null} の場合。または {@code max} が {@code 0} 以下の場合
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
 	 */
-	private String unescapeQuote(final String value) {
-		return value.replace(
-				new StringBuilder(2).append(cfg.getEscape()).append(cfg.getQuote()),
-				new StringBuilder(1).append(cfg.getQuote())
-			);
-	}
-
-	private String unescapeSeparator(final String value) {
-		return value.replace(
-				new StringBuilder(2).append(cfg.getEscape()).append(cfg.getSeparator()),
-				new StringBuilder(1).append(cfg.getSeparator())
-			);
-	}
-
-	// ------------------------------------------------------------------------
-
-	@Override
-	public void close() throws IOException {
+	public int readBatch(final List<? super List<String>> list, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (max <= 0) {
+			throw new IllegalArgumentException("max <= 0");
+		}
+		if (threadConfined) {
+			ensureOpen();
+			return nextBatch(list, max);
+		}
 		synchronized (this) {
-			in.close();
-			in = null;
-			cfg = null;
-			line.setLength(0);
+			ensureOpen();
+			return nextBatch(list, max);
 		}
 	}
 
-	// ------------------------------------------------------------------------
-
 	/**
-	 * 指定された文字列がホワイトスペースのみで構成されているかどうかを返します。
+	 * 最大 {@code max} 件の論理行を読込み CSV トークンの値のリストのリストとして返します。
 	 *
-	 * @param value 文字列
-	 * @return 指定された文字列がホワイトスペースのみで構成されている場合は {@code true}。それ以外の場合は {@code false}
+	 * @param max 読込む論理行の最大数
+	 * @return CSV トークンの値のリストのリスト。ストリームの終わりに達している場合は空のリスト
+	 * @throws IllegalArgumentException {@code max} が {@code 0} 以下の場合
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readBatch(List, int)
+	 * @since 3.0
 	 */
-	private static boolean isWhitespaces(final CharSequence value) {
-		final int len = value.length();
-		for (int i = 0; i < len; i++) {
-			if (!Character.isWhitespace(value.charAt(i))) {
-				return false;
-			}
-		}
-		return true;
+	public List<List<String>> readBatch(final int max) throws IOException {
+		final List<List<String>> list = new ArrayList<>();
+		readBatch(list, max);
+		return list;
 	}
 
-	private static String removeLeadingWhitespaces(final String value) {
-		final int len = value.length();
-		int pos = -1;
-		for (int i = 0; i < len; i++) {
-			if (!Character.isWhitespace(value.charAt(i))) {
-				pos = i;
-				break;
-			}
-		}
-		if (pos == -1) {
-			return "";
+	private int nextBatch(final List<? super List<String>> list, final int max) throws IOException {
+		int count = 0;
+		List<CsvToken> tokens;
+		while (count < max && (tokens = tokenizer.readTokens()) != null) {
+			list.add(toValues(tokens));
+			count++;
 		}
-		if (pos > 0) {
-			return value.substring(pos);
-		}
-		return value;
+		return count;
 	}
 
-	private static String removeTrailingWhitespaces(final String value) {
-		final int start = value.length() - 1;
-		int pos = -1;
-		for (int i = start; i >= 0; i--) {
-			if (!Character.isWhitespace(value.charAt(i))) {
-				pos = i;
-				break;
-			}
+	private static List<String> toValues(final List<CsvToken> tokens) {
+		final List<String> results = new ArrayList<>(tokens.size());
+		for (final CsvToken token : tokens) {
+			results.add(token.getValue());
 		}
-		if (pos == -1) {
-			return "";
+		return results;
+	}
+
+	// ------------------------------------------------------------------------
+
+	@Override
+	public void close() throws IOException {
+		if (threadConfined) {
+			tokenizer.close();
+			return;
 		}
-		if (pos != start) {
-			return value.substring(0, pos + 1);
+		synchronized (this) {
+			tokenizer.close();
 		}
-		return value;
 	}
 
-}
\ No newline at end of file
+}
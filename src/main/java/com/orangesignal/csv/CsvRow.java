@@ -0,0 +1,512 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 論理行の値を再利用可能な文字配列上に保持する、変更可能な論理行を提供します。<p>
+ * このクラスは {@link CsvReader#readInto(CsvRow)} で繰返し使用することを想定しています。
+ * 論理行の各項目の値は内部の文字配列上の範囲として保持され、{@link #get(int)} が呼出された時点で初めて文字列を構築します。
+ * 内部の文字配列や範囲を保持する配列は論理行を読込むたびに再利用されるため、
+ * 文字列を構築せずに {@link #length(int)} や {@link #charAt(int, int)}、{@link #getChars(int, char[], int)}、
+ * {@link #contentEquals(int, CharSequence)} を使用して値を参照する場合は、論理行ごとのオブジェクトの生成を伴いません。<p>
+ * このクラスはスレッドセーフではありません。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ * @see CsvReader#readInto(CsvRow)
+ */
+public final class CsvRow {
+
+	/**
+	 * 値の文字配列を保持します。
+	 */
+	private char[] chars = new char[256];
+
+	/**
+	 * 文字配列内の有効な文字数を保持します。
+	 */
+	private int count;
+
+	/**
+	 * 項目数を保持します。
+	 */
+	private int size;
+
+	/**
+	 * 文字配列内の値の開始位置を保持します。
+	 */
+	private int[] offsets = new int[16];
+
+	/**
+	 * 値の文字数を保持します。値がない場合は {@code -1} です。
+	 */
+	private int[] lengths = new int[16];
+
+	/**
+	 * 項目が囲み文字で囲まれていたかどうかを保持します。
+	 */
+	private boolean[] enclosed = new boolean[16];
+
+	/**
+	 * 項目の開始物理行番号を保持します。
+	 */
+	private int[] startLineNumbers = new int[16];
+
+	/**
+	 * 項目の終了物理行番号を保持します。
+	 */
+	private int[] endLineNumbers = new int[16];
+
+	/**
+	 * 構築済みの値の文字列を保持します。
+	 */
+	private String[] values = new String[16];
+
+	/**
+	 * 論理行の開始物理行番号を保持します。
+	 */
+	private int startLineNumber;
+
+	/**
+	 * 論理行の終了物理行番号を保持します。
+	 */
+	private int endLineNumber;
+
+	/**
+	 * 改行文字列の置換に使用する作業用の文字配列を保持します。
+	 */
+	private char[] work;
+
+	/**
+	 * デフォルトコンストラクタです。
+	 */
+	public CsvRow() {}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 項目数を返します。
+	 *
+	 * @return 項目数
+	 */
+	public int size() { return size; }
+
+	/**
+	 * 指定された位置の項目の値を返します。<p>
+	 * 値の文字列は最初に呼出された時点で構築され、次の論理行を読込むまで同じ文字列を返します。
+	 *
+	 * @param index 項目の位置
+	 * @return 項目の値。値がない場合は {@code null}
+	 * @throws IndexOutOfBoundsException 項目の位置が範囲外の場合
+	 */
+	public String get(final int index) {
+		checkIndex(index);
+		if (values[index] == null && lengths[index] >= 0) {
+			values[index] = new String(chars, offsets[index], lengths[index]);
+		}
+		return values[index];
+	}
+
+	/**
+	 * 指定された位置の項目の値がないかどうかを返します。
+	 *
+	 * @param index 項目の位置
+	 * @return 値がない場合は {@code true}
+	 * @throws IndexOutOfBoundsException 項目の位置が範囲外の場合
+	 */
+	public boolean isNull(final int index) {
+		checkIndex(index);
+		return lengths[index] < 0;
+	}
+
+	/**
+	 * 指定された位置の項目が囲み文字で囲まれていたかどうかを返します。
+	 *
+	 * @param index 項目の位置
+	 * @return 囲み文字で囲まれていた場合は {@code true}
+	 * @throws IndexOutOfBoundsException 項目の位置が範囲外の場合
+	 */
+	public boolean isEnclosed(final int index) {
+		checkIndex(index);
+		return enclosed[index];
+	}
+
+	/**
+	 * 指定された位置の項目の値の文字数を返します。
+	 *
+	 * @param index 項目の位置
+	 * @return 値の文字数。値がない場合は {@code -1}
+	 * @throws IndexOutOfBoundsException 項目の位置が範囲外の場合
+	 */
+	public int length(final int index) {
+		checkIndex(index);
+		return lengths[index];
+	}
+
+	/**
+	 * 指定された位置の項目の値の指定された位置の文字を返します。
+	 *
+	 * @param index 項目の位置
+	 * @param i 値の中の文字の位置
+	 * @return 文字
+	 * @throws IndexOutOfBoundsException 項目の位置または値の中の文字の位置が範囲外の場合
+	 */
+	public char charAt(final int index, final int i) {
+		checkIndex(index);
+		if (i < 0 || i >= lengths[index]) {
+			throw new IndexOutOfBoundsException("Index: " + i + ", Length: " + lengths[index]);
+		}
+		return chars[offsets[index] + i];
+	}
+
+	/**
+	 * 指定された位置の項目の値を指定された文字配列へコピーします。
+	 *
+	 * @param index 項目の位置
+	 * @param dst コピー先の文字配列
+	 * @param dstBegin コピー先の文字配列の開始位置
+	 * @return コピーした文字数。値がない場合は {@code -1}
+	 * @throws IndexOutOfBoundsException 項目の位置が範囲外の場合。または、コピー先の文字配列の範囲が不足している場合
+	 */
+	public int getChars(final int index, final char[] dst, final int dstBegin) {
+		checkIndex(index);
+		final int len = lengths[index];
+		if (len > 0) {
+			System.arraycopy(chars, offsets[index], dst, dstBegin, len);
+		}
+		return len;
+	}
+
+	/**
+	 * 指定された位置の項目の値が指定された文字の並びと等しいかどうかを返します。
+	 *
+	 * @param index 項目の位置
+	 * @param cs 比較する文字の並び
+	 * @return 値が等しい場合は {@code true}。値がない場合は {@code cs} が {@code null} の場合のみ {@code true}
+	 * @throws IndexOutOfBoundsException 項目の位置が範囲外の場合
+	 */
+	public boolean contentEquals(final int index, final CharSequence cs) {
+		checkIndex(index);
+		final int len = lengths[index];
+		if (len < 0 || cs == null) {
+			return len < 0 && cs == null;
+		}
+		if (cs.length() != len) {
+			return false;
+		}
+		final int off = offsets[index];
+		for (int i = 0; i < len; i++) {
+			if (chars[off + i] != cs.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 論理行の開始物理行番号を返します。
+	 *
+	 * @return 開始物理行番号
+	 */
+	public int getStartLineNumber() { return startLineNumber; }
+
+	/**
+	 * 論理行の終了物理行番号を返します。
+	 *
+	 * @return 終了物理行番号
+	 */
+	public int getEndLineNumber() { return endLineNumber; }
+
+	/**
+	 * 論理行の値をリストへ変換して返します。
+	 *
+	 * @return 論理行の値のリスト
+	 */
+	public List<String> toList() {
+		final List<String> results = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			results.add(get(i));
+		}
+		return results;
+	}
+
+	@Override
+	public String toString() {
+		return toList().toString();
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// 字句解析処理から使用する操作
+
+	/**
+	 * 論理行の値をすべて除去します。
+	 */
+	void clear() {
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		count = 0;
+	}
+
+	/**
+	 * 論理行の物理行番号を設定します。
+	 *
+	 * @param start 開始物理行番号
+	 * @param end 終了物理行番号
+	 */
+	void setLineNumbers(final int start, final int end) {
+		this.startLineNumber = start;
+		this.endLineNumber = end;
+	}
+
+	/**
+	 * 論理行の値を CSV トークンのリストへ変換して返します。
+	 *
+	 * @return CSV トークンのリスト
+	 */
+	List<CsvToken> toTokens() {
+		final List<CsvToken> results = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			results.add(new SimpleCsvToken(get(i), startLineNumbers[i], endLineNumbers[i], enclosed[i]));
+		}
+		return results;
+	}
+
+	/**
+	 * 指定された CSV トークンの値を項目として追加します。
+	 *
+	 * @param token CSV トークン
+	 */
+	void add(final CsvToken token) {
+		final String value = token.getValue();
+		final int index = newField(token.isEnclosed(), token.getStartLineNumber(), token.getEndLineNumber());
+		if (value == null) {
+			lengths[index] = -1;
+		} else {
+			final int len = value.length();
+			ensureCapacity(count + len);
+			value.getChars(0, len, chars, count);
+			count += len;
+			lengths[index] = len;
+			values[index] = value;
+		}
+	}
+
+	/**
+	 * 指定された文字配列の範囲を、囲み文字やエスケープ文字を含む CSV トークンの値として処理して項目として追加します。<p>
+	 * 処理の内容は {@link CsvTokenizer#newCsvToken(CsvConfig, String, boolean, int, int)} と同じです。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param src 文字配列
+	 * @param off 文字配列内の CSV トークンの開始位置
+	 * @param len CSV トークンの文字数
+	 * @param finish 囲み文字やエスケープ文字、ホワイトスペースの処理が必要かどうか
+	 * @param maybeEnclosed 囲み項目の可能性があるかどうか
+	 * @param start トークンの開始物理行番号
+	 * @param end トークンの終了物理行番号
+	 */
+	void add(final CsvConfig cfg, final char[] src, final int off, final int len, final boolean finish, final boolean maybeEnclosed, final int start, final int end) {
+		final int index = newField(false, start, end);
+		ensureCapacity(count + len);
+		System.arraycopy(src, off, chars, count, len);
+		if (finish) {
+			finish(cfg, index, count, count + len, maybeEnclosed);
+		} else {
+			setValue(cfg, index, count, count + len);
+		}
+	}
+
+	/**
+	 * 項目を追加して項目の位置を返します。
+	 *
+	 * @param _enclosed 項目が囲み文字で囲まれていたかどうか
+	 * @param start トークンの開始物理行番号
+	 * @param end トークンの終了物理行番号
+	 * @return 項目の位置
+	 */
+	private int newField(final boolean _enclosed, final int start, final int end) {
+		if (size == offsets.length) {
+			final int capacity = size << 1;
+			offsets = Arrays.copyOf(offsets, capacity);
+			lengths = Arrays.copyOf(lengths, capacity);
+			enclosed = Arrays.copyOf(enclosed, capacity);
+			startLineNumbers = Arrays.copyOf(startLineNumbers, capacity);
+			endLineNumbers = Arrays.copyOf(endLineNumbers, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		final int index = size++;
+		offsets[index] = count;
+		lengths[index] = 0;
+		enclosed[index] = _enclosed;
+		startLineNumbers[index] = start;
+		endLineNumbers[index] = end;
+		return index;
+	}
+
+	private void ensureCapacity(final int capacity) {
+		if (capacity > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(capacity, chars.length << 1));
+		}
+	}
+
+	/**
+	 * 文字配列の指定された範囲を囲み文字で囲まれていない項目の値として設定します。
+	 * 値がないことを表す文字列と一致する場合は値なしとします。
+	 */
+	private void setValue(final CsvConfig cfg, final int index, final int start, final int end) {
+		offsets[index] = start;
+		if (isNullString(cfg, start, end)) {
+			lengths[index] = -1;
+			count = start;
+		} else {
+			lengths[index] = end - start;
+			count = end;
+		}
+	}
+
+	/**
+	 * 文字配列の指定された範囲の CSV トークンの値を、囲み文字およびエスケープ文字、ホワイトスペースを処理して項目の値とします。
+	 */
+	private void finish(final CsvConfig cfg, final int index, final int start, final int end, final boolean maybeEnclosed) {
+		final char quote = cfg.getQuote();
+		boolean _enclosed = maybeEnclosed;
+		int s = start;
+		int e = end;
+
+		// 囲み項目かどうかの判定
+		if (_enclosed) {
+			// 最後の " 以降にホワイトスペース以外の文字がある場合は囲み項目ではない
+			int i = e - 1;
+			while (i >= s && chars[i] != quote) {
+				i--;
+			}
+			i++;
+			assert i > s;
+			if (i < e && !CsvTokenizer.isWhitespaces(chars, i + 1, e)) {
+				_enclosed = false;
+			}
+		}
+
+		if (cfg.isIgnoreLeadingWhitespaces() || _enclosed) {
+			while (s < e && Character.isWhitespace(chars[s])) {
+				s++;
+			}
+		}
+		if (cfg.isIgnoreTrailingWhitespaces() || _enclosed) {
+			while (e > s && Character.isWhitespace(chars[e - 1])) {
+				e--;
+			}
+		}
+		if (!_enclosed) {
+			if (isNullString(cfg, s, e)) {
+				offsets[index] = s;
+				lengths[index] = -1;
+				count = start;
+				return;
+			}
+			if (!cfg.isEscapeDisabled()) {
+				e = unescape(cfg.getEscape(), cfg.getSeparator(), s, e);
+			}
+			offsets[index] = s;
+			lengths[index] = e - s;
+			count = e;
+			return;
+		}
+
+		// 囲み文字を除去します。
+		if (e - s < 2) {
+			throw new StringIndexOutOfBoundsException("begin 1, end " + (e - s - 1) + ", length " + (e - s));
+		}
+		s++;
+		e--;
+		// テキスト内の改行文字列を置換する必要がある場合は置換を行います。
+		if (cfg.getBreakString() != null) {
+			e = replaceLineBreaks(cfg.getBreakString(), s, e);
+		}
+		// エスケープ文字が有効な場合は非エスケープ化します。
+		if (!cfg.isEscapeDisabled()) {
+			e = unescape(cfg.getEscape(), quote, s, e);
+		}
+		enclosed[index] = true;
+		offsets[index] = s;
+		lengths[index] = e - s;
+		count = e;
+	}
+
+	/**
+	 * 文字配列の指定された範囲のエスケープ文字と指定された文字の並びを指定された文字へ置換します。
+	 *
+	 * @return 置換後の終了位置
+	 */
+	private int unescape(final char esc, final char c, final int start, final int end) {
+		int w = start;
+		for (int r = start; r < end; r++) {
+			if (chars[r] == esc && r + 1 < end && chars[r + 1] == c) {
+				r++;
+			}
+			chars[w++] = chars[r];
+		}
+		return w;
+	}
+
+	/**
+	 * 文字配列の指定された範囲の CRLF、CR、LF を指定された改行文字列へ置換します。
+	 *
+	 * @return 置換後の終了位置
+	 */
+	private int replaceLineBreaks(final String breakString, final int start, final int end) {
+		final int len = end - start;
+		if (work == null || work.length < len) {
+			work = new char[Math.max(len, 256)];
+		}
+		System.arraycopy(chars, start, work, 0, len);
+		final int n = breakString.length();
+		int w = start;
+		for (int r = 0; r < len; r++) {
+			final char c = work[r];
+			if (c == CsvTokenizer.CR || c == CsvTokenizer.LF) {
+				if (c == CsvTokenizer.CR && r + 1 < len && work[r + 1] == CsvTokenizer.LF) {
+					r++;
+				}
+				ensureCapacity(w + n);
+				breakString.getChars(0, n, chars, w);
+				w += n;
+			} else {
+				ensureCapacity(w + 1);
+				chars[w++] = c;
+			}
+		}
+		return w;
+	}
+
+	/**
+	 * 文字配列の指定された範囲が値がないことを表す文字列と一致するかどうかを返します。
+	 */
+	private boolean isNullString(final CsvConfig cfg, final int start, final int end) {
+		return CsvTokenizer.isNullString(cfg, chars, start, end);
+	}
+
+}
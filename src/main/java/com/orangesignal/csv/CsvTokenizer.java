@@ -0,0 +1,783 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CsvReader} の字句解析処理の基底クラスです。<p>
+ * このクラスは論理行の組立てや行番号の管理、空行や無視する行パターンの処理など字句解析方法に依存しない処理を実装します。
+ * 物理行の読込みと CSV トークンの切出しはサブクラスで実装します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+abstract class CsvTokenizer implements Closeable {
+
+	/**
+	 * 復帰文字です。
+	 */
+	static final char CR = '\r';
+
+	/**
+	 * 改行文字です。
+	 */
+	static final char LF = '\n';
+
+	/**
+	 * BOM (Byte Order Mark)
+	 */
+	static final int BOM = 0xFEFF;
+
+	/**
+	 * 区切り文字形式情報を保持します。
+	 */
+	protected CsvConfig cfg;
+
+	/**
+	 * 行読込みのスキップを行ったかどうかを保持します。
+	 */
+	private boolean skiped;
+
+	/**
+	 * トークンの開始物理行番号の現在値を保持します。
+	 */
+	protected int startTokenLineNumber = 0;
+
+	/**
+	 * トークンの終了物理行番号の現在値を保持します。
+	 */
+	protected int endTokenLineNumber = 0;
+
+	/**
+	 * 開始物理行番号の現在値を保持します。
+	 */
+	protected int startLineNumber = 0;
+
+	/**
+	 * 終了物理行番号の現在値を保持します。
+	 */
+	protected int endLineNumber = 0;
+
+	/**
+	 * 論理行番号の現在値を保持します。
+	 */
+	protected int lineNumber = 0;
+
+	/**
+	 * ファイルの終わりに達したかどうかを保持します。
+	 */
+	protected boolean endOfFile;
+
+	/**
+	 * 論理行の終わりに達したかどうかを保持します。
+	 */
+	protected boolean endOfLine;
+
+	/**
+	 * 項目数チェックの為に直前の行の項目数を保持します。
+	 */
+	private int countNumberOfColumns = -1;
+
+	private int arraySize = 3;
+
+	/**
+	 * 無視する行パターン群をコンパイルした行フィルタを保持します。
+	 */
+	private CsvLineFilter lineFilter;
+
+	/**
+	 * CSV トークンの値を処理する作業用バッファを保持します。
+	 */
+	private char[] work;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 */
+	protected CsvTokenizer(final CsvConfig cfg) {
+		this.cfg = cfg;
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 開始物理行番号の現在値を取得します。
+	 *
+	 * @return 現在の開始物理行番号
+	 */
+	public int getStartLineNumber() { return startLineNumber; }
+
+	/**
+	 * 終了物理行番号の現在値を取得します。
+	 *
+	 * @return 現在の終了物理行番号
+	 */
+	public int getEndLineNumber() { return endLineNumber; }
+
+	/**
+	 * 論理行番号の現在値を取得します。
+	 *
+	 * @return 現在の論理行番号
+	 */
+	public int getLineNumber() { return lineNumber; }
+
+	/**
+	 * ファイルの終わりに達したかどうかを取得します。
+	 *
+	 * @return ファイルの終わりに達したかどうか
+	 */
+	public boolean isEndOfFile() { return endOfFile; }
+
+	/**
+	 * 閉じられているかどうかを返します。
+	 *
+	 * @return 閉じられている場合は {@code true}
+	 */
+	public boolean isClosed() { return cfg == null; }
+
+	// ------------------------------------------------------------------------
+	// 物理行の操作
+
+	/**
+	 * 物理行を読込んで行バッファへセットします。
+	 *
+	 * @return 行バッファ内の CR または LF の出現位置。行の終端文字が存在しない場合は {@code -1}
+	 * @throws IOException 入出力例外が発生した場合
+	 */
+	protected abstract int cacheLine() throws IOException;
+
+	/**
+	 * 行バッファを空にします。
+	 */
+	protected abstract void clearLine();
+
+	/**
+	 * 行バッファが空かどうかを返します。
+	 *
+	 * @return 行バッファが空の場合は {@code true}
+	 */
+	protected abstract boolean isLineEmpty();
+
+	/**
+	 * 行バッファの文字をすべて読込んだかどうかを返します。
+	 *
+	 * @return 行バッファが空の場合や行バッファの文字をすべて読込んだ場合は {@code true}
+	 */
+	protected abstract boolean isLineConsumed();
+
+	/**
+	 * 行バッファの内容を返します。
+	 *
+	 * @param breakLine 行バッファ内の CR または LF の出現位置。行の終端文字を含める場合は {@code -1}
+	 * @return 行バッファの内容
+	 */
+	protected abstract CharSequence getLine(int breakLine);
+
+	/**
+	 * 行バッファの内容がホワイトスペースのみで構成されているかどうかを返します。
+	 *
+	 * @param breakLine 行バッファ内の CR または LF の出現位置。行の終端文字を含める場合は {@code -1}
+	 * @return 行バッファの内容がホワイトスペースのみで構成されている場合は {@code true}
+	 */
+	protected boolean isWhitespaceLine(final int breakLine) {
+		return isWhitespaces(getLine(breakLine));
+	}
+
+	/**
+	 * 行バッファの内容が行フィルタのいずれかの無視する行パターンに一致するかどうかを返します。<p>
+	 * この実装は {@link #getLine(int)} の結果を照合します。
+	 * サブクラスは行バッファを直接照合するようにオーバーライドすることで、行ごとの文字列の生成を避けることができます。
+	 *
+	 * @param filter 行フィルタ
+	 * @param breakLine 行バッファ内の CR または LF の出現位置。行の終端文字を含める場合は {@code -1}
+	 * @return いずれかの無視する行パターンに一致する場合は {@code true}
+	 */
+	protected boolean isFilteredLine(final CsvLineFilter filter, final int breakLine) {
+		final CharSequence line = getLine(breakLine);
+		return filter.matches(line, 0, line.length());
+	}
+
+	/**
+	 * 区切り文字形式情報の無視する行パターン群をコンパイルした行フィルタを返します。
+	 * 無視する行パターン群が変更された場合はコンパイルし直します。
+	 *
+	 * @return 行フィルタ。無視する行パターン群が設定されていない場合は {@code null}
+	 */
+	private CsvLineFilter getLineFilter() {
+		final Pattern[] patterns = cfg.getIgnoreLinePatterns();
+		if (patterns == null) {
+			return null;
+		}
+		if (lineFilter == null || !lineFilter.isCompiledFrom(patterns)) {
+			lineFilter = new CsvLineFilter(patterns);
+		}
+		return lineFilter;
+	}
+
+	/**
+	 * CSV トークンを読込みます。
+	 *
+	 * @return CSV トークン
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	protected abstract CsvToken readCsvToken() throws IOException;
+
+	/**
+	 * CSV トークンを読込み、指定された論理行へ項目として追加します。<p>
+	 * この実装は {@link #readCsvToken()} で読込んだ CSV トークンの値を論理行へコピーします。
+	 * CSV トークンの値を論理行の文字配列へ直接処理できるサブクラスはこのメソッドをオーバーライドします。
+	 *
+	 * @param row 論理行
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	protected void readCsvToken(final CsvRow row) throws IOException {
+		row.add(readCsvToken());
+	}
+
+	/**
+	 * CSV トークンを読飛ばします。<p>
+	 * この実装は {@link #readCsvToken()} で読込んだ CSV トークンを破棄します。
+	 * 囲み文字やエスケープ文字の字句解析だけを行い、値の文字列を構築せずに読飛ばせるサブクラスはこのメソッドをオーバーライドします。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	protected void skipCsvToken() throws IOException {
+		readCsvToken();
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 論理行を読込み区切り文字形式データトークンをリストして返します。
+	 *
+	 * @return 区切り文字形式データトークンのリスト。ストリームの終わりに達している場合は {@code null}
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	public List<CsvToken> readTokens() throws IOException {
+		return readTokens(null);
+	}
+
+	/**
+	 * 論理行を読込み、指定された項目位置の区切り文字形式データトークンをリストして返します。<p>
+	 * 指定された項目位置に含まれない項目は値の文字列を構築せずに読飛ばし、値が {@code null} の CSV トークンとします。
+	 * 先頭の項目は空行や無視する行パターンの判定に使用するため、常に読込みます。
+	 *
+	 * @param columns 読込む項目位置の集合。すべての項目を読込む場合は {@code null}
+	 * @return 区切り文字形式データトークンのリスト。ストリームの終わりに達している場合は {@code null}
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public List<CsvToken> readTokens(final BitSet columns) throws IOException {
+		if (endOfFile) {
+			return null;
+		}
+		skipLines();
+		return readCsvTokens(columns);
+	}
+
+	/**
+	 * 論理行を読込み、指定された論理行の値を置換えます。
+	 *
+	 * @param row 論理行
+	 * @return 論理行を読込んだ場合は {@code true}。ストリームの終わりに達している場合や {@link #readTokens()} が {@code null} を返す場合は {@code false}
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	public boolean readRow(final CsvRow row) throws IOException {
+		row.clear();
+		if (endOfFile) {
+			return false;
+		}
+		skipLines();
+		beginLine();
+		do {
+			cacheTokenLine();
+			readCsvToken(row);
+		} while (!endOfLine);
+		endLine(row.size());
+		row.setLineNumbers(startLineNumber, endLineNumber);
+
+		if (row.size() == 1 && isIgnoredLine(endOfFile ? row.get(0) : null)) {
+			row.clear();
+			return false;
+		}
+		if (!isValidColumnCount(row.size())) {
+			throw new CsvTokenException(String.format("Invalid column count in CSV input on line %d.", startLineNumber), row.toTokens());
+		}
+		return true;
+	}
+
+	/**
+	 * 読込みを開始する前に、区切り文字形式情報で指定された行数を読み飛ばします。既に読み飛ばしている場合は何も行いません。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	final void skipLines() throws IOException {
+		if (!skiped) {
+			for (int i = 0; i < cfg.getSkipLines(); i++) {
+				cacheLine();
+				endTokenLineNumber++;
+				lineNumber++;
+			}
+			clearLine();
+			skiped = true;
+		}
+	}
+
+	/**
+	 * 論理行を読込み、行カウンタを処理して CSV トークンのリストを返します。
+	 *
+	 * @param columns 読込む項目位置の集合。すべての項目を読込む場合は {@code null}
+	 * @return CSV トークンのリスト
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private List<CsvToken> readCsvTokens(final BitSet columns) throws IOException {
+		final List<CsvToken> results = new ArrayList<>(arraySize);
+		beginLine();
+		do {
+			cacheTokenLine();
+			if (columns == null || results.isEmpty() || columns.get(results.size())) {
+				results.add(readCsvToken());
+			} else {
+				skipCsvToken();
+				results.add(new SimpleCsvToken(null, startTokenLineNumber, endTokenLineNumber, false));
+			}
+		} while (!endOfLine);
+		endLine(results.size());
+
+		// XXX - 空行の場合に null を返すのではなく NullObject を返すべきなのでは？
+		if (arraySize == 1 && isIgnoredLine(endOfFile ? results.get(0).getValue() : null)) {
+			return null;
+		}
+		if (!isValidColumnCount(arraySize)) {
+			throw new CsvTokenException(String.format("Invalid column count in CSV input on line %d.", startLineNumber), results);
+		}
+
+		return results;
+	}
+
+	/**
+	 * 論理行の読込みを開始します。
+	 */
+	private void beginLine() {
+		endTokenLineNumber++;
+		startLineNumber = endTokenLineNumber;
+		endOfLine = false;
+	}
+
+	/**
+	 * 行バッファの文字をすべて読込んでいる場合は次の物理行を読込み、空行や無視する行パターンに一致する行を読み飛ばします。
+	 * また、CSV トークンの開始物理行番号を設定します。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private void cacheTokenLine() throws IOException {
+		if (isLineConsumed()) {
+			int breakLine = cacheLine();
+
+			// 空行を無視する場合の処理を行います。
+			if (cfg.isIgnoreEmptyLines()) {
+				boolean ignore = true;
+				while (ignore && !isLineEmpty()) {
+					ignore = false;
+					if (isWhitespaceLine(breakLine)) {
+						ignore = true;
+						endTokenLineNumber++;
+						startLineNumber = endTokenLineNumber;
+						lineNumber++;
+						breakLine = cacheLine();
+					}
+				}
+			}
+
+			// 無視する行パターンを処理します。
+			final CsvLineFilter filter = getLineFilter();
+			if (filter != null) {
+				while (!isLineEmpty() && isFilteredLine(filter, breakLine)) {
+					endTokenLineNumber++;
+					startLineNumber = endTokenLineNumber;
+					lineNumber++;
+					breakLine = cacheLine();
+				}
+			}
+		}
+		startTokenLineNumber = endTokenLineNumber;
+	}
+
+	/**
+	 * 論理行の読込みを終了し、行カウンタを処理します。
+	 *
+	 * @param size 論理行の項目数
+	 */
+	private void endLine(final int size) {
+		endLineNumber = endTokenLineNumber;
+		lineNumber++;
+		arraySize = size;
+	}
+
+	/**
+	 * 項目数が 1 の論理行が、空行または無視する行パターンに一致する行として無視されるかどうかを返します。
+	 *
+	 * @param value 論理行の唯一の項目の値。ファイルの終わりに達していない場合は使用しません
+	 * @return 無視される場合は {@code true}
+	 */
+	private boolean isIgnoredLine(final String value) {
+		if (endOfFile) {
+			if (cfg.isIgnoreEmptyLines() && isWhitespaces(value)) {
+				return true;
+			}
+			final CsvLineFilter filter = getLineFilter();
+			return filter != null && filter.matches(value, 0, value.length());
+		}
+		return cfg.isIgnoreEmptyLines() && (isLineEmpty() || isWhitespaceLine(-1));
+	}
+
+	/**
+	 * 可変項目数が禁止されている場合に、論理行の項目数が直前の論理行の項目数と一致するかどうかを検証します。
+	 *
+	 * @param size 論理行の項目数
+	 * @return 項目数が一致する場合や可変項目数が許可されている場合は {@code true}
+	 */
+	private boolean isValidColumnCount(final int size) {
+		if (!cfg.isVariableColumns()) {
+			if (countNumberOfColumns >= 0 && countNumberOfColumns != size) {
+				return false;
+			}
+			countNumberOfColumns = size;
+		}
+		return true;
+	}
+
+	/**
+	 * 指定された値が値がないことを表す文字列と一致する場合は {@code null} を返します。
+	 *
+	 * @param value 値
+	 * @return 値がないことを表す文字列と一致する場合は {@code null}。それ以外の場合は {@code value}
+	 */
+	protected String toNullIfNullString(final String value) {
+		return toNullIfNullString(cfg, value);
+	}
+
+	/**
+	 * 字句解析した CSV トークンの値を指定された区切り文字形式情報で処理して CSV トークンを構築します。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param value 囲み文字やエスケープ文字を含む CSV トークンの値
+	 * @param enclosed 囲み項目の可能性があるかどうか
+	 * @param start トークンの開始物理行番号
+	 * @param end トークンの終了物理行番号
+	 * @return CSV トークン
+	 */
+	static SimpleCsvToken newCsvToken(final CsvConfig cfg, final String value, final boolean enclosed, final int start, final int end) {
+		return newCsvToken(cfg, value.toCharArray(), 0, value.length(), enclosed, start, end, null);
+	}
+
+	/**
+	 * 字句解析した文字配列の範囲を指定された区切り文字形式情報で処理して CSV トークンを構築します。<p>
+	 * ホワイトスペースの除去範囲と囲み文字の除去位置を文字配列上で求め、改行文字列の置換と非エスケープ化は作業用バッファへのコピーと同時に行うため、
+	 * 項目の値として生成する文字列は 1 つだけです。
+	 *
+	 * @param src 囲み文字やエスケープ文字を含む CSV トークンの文字配列
+	 * @param off CSV トークンの開始位置
+	 * @param len CSV トークンの文字数
+	 * @param enclosed 囲み項目の可能性があるかどうか
+	 * @return CSV トークン
+	 * @since 3.0
+	 */
+	protected CsvToken newCsvToken(final char[] src, final int off, final int len, final boolean enclosed) {
+		final int capacity = finishedCapacity(cfg, len);
+		if (work == null || work.length < capacity) {
+			work = new char[Math.max(capacity, 256)];
+		}
+		return newCsvToken(cfg, src, off, len, enclosed, startTokenLineNumber, endTokenLineNumber, work);
+	}
+
+	/**
+	 * 字句解析した文字配列の範囲を指定された区切り文字形式情報で処理して CSV トークンを構築します。<p>
+	 * 処理の内容は {@link #newCsvToken(CsvConfig, String, boolean, int, int)} と同じです。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param src 囲み文字やエスケープ文字を含む CSV トークンの文字配列
+	 * @param off CSV トークンの開始位置
+	 * @param len CSV トークンの文字数
+	 * @param enclosed 囲み項目の可能性があるかどうか
+	 * @param start トークンの開始物理行番号
+	 * @param end トークンの終了物理行番号
+	 * @param work 作業用バッファ。容量が不足する場合や {@code null} の場合は必要に応じて生成します
+	 * @return CSV トークン
+	 * @since 3.0
+	 */
+	static SimpleCsvToken newCsvToken(final CsvConfig cfg, final char[] src, final int off, final int len, final boolean enclosed, final int start, final int end, final char[] work) {
+		boolean _enclosed = enclosed;
+		int s = off;
+		int e = off + len;
+
+		// 囲み項目かどうかの判定
+		if (_enclosed) {
+			// 最後の " 以降にホワイトスペース以外の文字がある場合は囲み項目ではない
+			final char quote = cfg.getQuote();
+			int i = e - 1;
+			while (i >= s && src[i] != quote) {
+				i--;
+			}
+			i++;
+			assert i > s;
+			if (i < e && !isWhitespaces(src, i + 1, e)) {
+				_enclosed = false;
+			}
+		}
+
+		if (cfg.isIgnoreLeadingWhitespaces() || _enclosed) {
+			while (s < e && Character.isWhitespace(src[s])) {
+				s++;
+			}
+		}
+		if (cfg.isIgnoreTrailingWhitespaces() || _enclosed) {
+			while (e > s && Character.isWhitespace(src[e - 1])) {
+				e--;
+			}
+		}
+
+		final String value;
+		if (_enclosed) {
+			// 囲み文字を除去します。
+			if (e - s < 2) {
+				throw new StringIndexOutOfBoundsException("begin 1, end " + (e - s - 1) + ", length " + (e - s));
+			}
+			value = finish(cfg, src, s + 1, e - 1, cfg.getBreakString(), cfg.getQuote(), work);
+		} else if (isNullString(cfg, src, s, e)) {
+			value = null;
+		} else {
+			value = finish(cfg, src, s, e, null, cfg.getSeparator(), work);
+		}
+		return new SimpleCsvToken(value, start, end, _enclosed);
+	}
+
+	/**
+	 * 文字配列の指定された範囲の CRLF、CR、LF を指定された改行文字列へ置換し、エスケープ文字と指定された文字の並びを非エスケープ化した文字列を返します。<p>
+	 * 置換と非エスケープ化は 1 回の走査で行いますが、結果は改行文字列の置換後に非エスケープ化した場合と同じです。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param src 文字配列
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置の文字は含みません)
+	 * @param breakString 改行文字列。置換しない場合は {@code null}
+	 * @param c エスケープされる文字
+	 * @param work 作業用バッファ
+	 * @return 処理した文字列
+	 */
+	private static String finish(final CsvConfig cfg, final char[] src, final int start, final int end, final String breakString, final char c, final char[] work) {
+		final boolean unescape = !cfg.isEscapeDisabled();
+		final char esc = cfg.getEscape();
+
+		// 置換や非エスケープ化の対象となる文字がない場合は文字配列から直接文字列を生成します。
+		int i = start;
+		while (i < end) {
+			final char ch = src[i];
+			if (breakString != null && (ch == CR || ch == LF) || unescape && ch == esc) {
+				break;
+			}
+			i++;
+		}
+		if (i == end) {
+			return new String(src, start, end - start);
+		}
+
+		final int capacity = finishedCapacity(cfg, end - start);
+		final char[] dst = work != null && work.length >= capacity ? work : new char[capacity];
+		final int n = breakString != null ? breakString.length() : 0;
+		int w = i - start;
+		System.arraycopy(src, start, dst, 0, w);
+		boolean pending = false;
+		for (; i < end; i++) {
+			final char ch = src[i];
+			if (breakString != null && (ch == CR || ch == LF)) {
+				if (ch == CR && i + 1 < end && src[i + 1] == LF) {
+					i++;
+				}
+				// 置換後の改行文字列も非エスケープ化の対象とします。
+				for (int j = 0; j < n; j++) {
+					final char b = breakString.charAt(j);
+					if (pending) {
+						pending = false;
+						if (b == c) {
+							dst[w++] = b;
+							continue;
+						}
+						dst[w++] = esc;
+					}
+					if (unescape && b == esc) {
+						pending = true;
+					} else {
+						dst[w++] = b;
+					}
+				}
+				continue;
+			}
+			if (pending) {
+				pending = false;
+				if (ch == c) {
+					dst[w++] = ch;
+					continue;
+				}
+				dst[w++] = esc;
+			}
+			if (unescape && ch == esc) {
+				pending = true;
+			} else {
+				dst[w++] = ch;
+			}
+		}
+		if (pending) {
+			dst[w++] = esc;
+		}
+		return new String(dst, 0, w);
+	}
+
+	/**
+	 * 指定された文字数の CSV トークンの処理に必要な作業用バッファの容量を返します。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param len CSV トークンの文字数
+	 * @return 作業用バッファの容量
+	 */
+	private static int finishedCapacity(final CsvConfig cfg, final int len) {
+		final String breakString = cfg.getBreakString();
+		return breakString != null && breakString.length() > 1 ? len * breakString.length() : len;
+	}
+
+	/**
+	 * 文字配列の指定された範囲が区切り文字形式情報の値がないことを表す文字列と一致するかどうかを返します。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param buf 文字配列
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置の文字は含みません)
+	 * @return 値がないことを表す文字列と一致する場合は {@code true}
+	 * @since 3.0
+	 */
+	static boolean isNullString(final CsvConfig cfg, final char[] buf, final int start, final int end) {
+		final String nullString = cfg.getNullString();
+		if (nullString == null || nullString.length() != end - start) {
+			return false;
+		}
+		final boolean ignoreCase = cfg.isIgnoreCaseNullString();
+		for (int i = start; i < end; i++) {
+			final char c1 = buf[i];
+			final char c2 = nullString.charAt(i - start);
+			if (c1 == c2) {
+				continue;
+			}
+			if (ignoreCase) {
+				final char u1 = Character.toUpperCase(c1);
+				final char u2 = Character.toUpperCase(c2);
+				if (u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2)) {
+					continue;
+				}
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 指定された値が指定された区切り文字形式情報の値がないことを表す文字列と一致する場合は {@code null} を返します。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 * @param value 値
+	 * @return 値がないことを表す文字列と一致する場合は {@code null}。それ以外の場合は {@code value}
+	 */
+	static String toNullIfNullString(final CsvConfig cfg, final String value) {
+		if (cfg.getNullString() != null) {
+			if (cfg.isIgnoreCaseNullString()) {
+				if (cfg.getNullString().equalsIgnoreCase(value)) {
+					return null;
+				}
+			} else {
+				if (cfg.getNullString().equals(value)) {
+					return null;
+				}
+			}
+		}
+		return value;
+	}
+
+	// ------------------------------------------------------------------------
+
+	@Override
+	public void close() throws IOException {
+		cfg = null;
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 指定された文字列がホワイトスペースのみで構成されているかどうかを返します。
+	 *
+	 * @param value 文字列
+	 * @return 指定された文字列がホワイトスペースのみで構成されている場合は {@code true}。それ以外の場合は {@code false}
+	 */
+	static boolean isWhitespaces(final CharSequence value) {
+		return isWhitespaces(value, 0, value.length());
+	}
+
+	/**
+	 * 指定された文字シーケンスの範囲がホワイトスペースのみで構成されているかどうかを返します。
+	 *
+	 * @param value 文字シーケンス
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置の文字は含みません)
+	 * @return 指定された範囲がホワイトスペースのみで構成されている場合は {@code true}。それ以外の場合は {@code false}
+	 */
+	static boolean isWhitespaces(final CharSequence value, final int start, final int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isWhitespace(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 指定された文字配列の範囲がホワイトスペースのみで構成されているかどうかを返します。
+	 *
+	 * @param buf 文字配列
+	 * @param start 開始位置
+	 * @param end 終了位置 (この位置の文字は含みません)
+	 * @return 指定された範囲がホワイトスペースのみで構成されている場合は {@code true}。それ以外の場合は {@code false}
+	 */
+	static boolean isWhitespaces(final char[] buf, final int start, final int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isWhitespace(buf[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
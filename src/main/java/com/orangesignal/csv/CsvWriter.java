@@ -27,7 +27,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * 区切り文字形式出力ストリームを提供します。
+ * 区切り文字形式出力ストリームを提供します。<p>
+ * このクラスの書込み処理はデフォルトで同期化されます。
+ * 区切り文字形式情報の {@link CsvConfig#isThreadConfined()} が {@code true} の場合は同期化を行わないため、
+ * 構築したスレッドまたは所有権を明示的に受渡されたスレッドのみが使用しなければなりません。
  *
  * @author Koji Sugisawa
  */
@@ -53,6 +56,11 @@ public class CsvWriter implements Closeable, Flushable {
 	 */
 	private int countNumberOfColumns = -1;
 
+	/**
+	 * 単一のスレッドからのみ使用するかどうかを保持します。
+	 */
+	private final boolean threadConfined;
+
 	private static final int DEFAULT_CHAR_BUFFER_SIZE = 8192;
 
 	// ------------------------------------------------------------------------
@@ -74,6 +82,7 @@ public class CsvWriter implements Closeable, Flushable {
 		cfg.validate();
 		this.out = new BufferedWriter(out, sz);
 		this.cfg = cfg;
+		this.threadConfined = cfg.isThreadConfined();
 
 		if (cfg.isUtf8bomPolicy()) {
 			final String s;
@@ -139,78 +148,93 @@ public class CsvWriter implements Closeable, Flushable {
 	 * @throws IOException 入出力エラーが発生した場合
 	 */
 	public void writeValues(final List<String> values) throws IOException {
+		if (threadConfined) {
+			write(values);
+			return;
+		}
 		synchronized (this) {
-			ensureOpen();
+			write(values);
+		}
+	}
 
-			if (utf8bom) {
-				out.write(BOM);
-				utf8bom = false;
-			}
+	/**
+	 * 指定された CSV トークンの値リストを同期化せずに書き込みます。
+	 *
+	 * @param values 書き込む CSV トークンの値リスト
+	 * @throws CsvValueException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private void write(final List<String> values) throws IOException {
+		ensureOpen();
+
+		if (utf8bom) {
+			out.write(BOM);
+			utf8bom = false;
+		}
+
+		final StringBuilder buf = new StringBuilder();
+		if (values != null) {
+			final int max = values.size();
+			for (int i = 0; i < max; i++) {
+				if (i > 0) {
+					buf.append(cfg.getSeparator());
+				}
 
-			final StringBuilder buf = new StringBuilder();
-			if (values != null) {
-				final int max = values.size();
-				for (int i = 0; i < max; i++) {
-					if (i > 0) {
-						buf.append(cfg.getSeparator());
+				String value = values.get(i);
+				boolean enclose = false;	// 項目を囲み文字で囲むかどうか
+				if (value == null) {
+					// 項目値が null の場合に NULL 文字列が有効であれば NULL 文字列へ置換えます。
+					if (cfg.getNullString() == null) { 
+						continue;
 					}
-	
-					String value = values.get(i);
-					boolean enclose = false;	// 項目を囲み文字で囲むかどうか
-					if (value == null) {
-						// 項目値が null の場合に NULL 文字列が有効であれば NULL 文字列へ置換えます。
-						if (cfg.getNullString() == null) { 
-							continue;
-						}
-						value = cfg.getNullString();
-					} else if (!cfg.isQuoteDisabled()) {
-						// 囲み文字が有効な場合は、囲み文字で囲むべきかどうか判断します。
-						switch (cfg.getQuotePolicy()) {
-							case ALL:
-								enclose = true;
-								break;
+					value = cfg.getNullString();
+				} else if (!cfg.isQuoteDisabled()) {
+					// 囲み文字が有効な場合は、囲み文字で囲むべきかどうか判断します。
+					switch (cfg.getQuotePolicy()) {
+						case ALL:
+							enclose = true;
+							break;
 
-							case MINIMAL:
-							default:
-								// 項目値に区切り文字、囲み文字、改行文字のいずれかを含む場合は囲み文字で囲むべきと判断します。
-								enclose = value.indexOf(cfg.getSeparator()) != -1
-										|| value.indexOf(cfg.getQuote()) != -1
-										|| value.indexOf('\r') != -1 || value.indexOf('\n') != -1;
-								break;
-						}
-					} else {
-						// 囲み文字が無効な場合に、項目値に区切り文字がある場合、エスケープします。
-						final String s = escapeSeparator(value);
-						if (!value.equals(s) && cfg.isEscapeDisabled()) {
-							throw new IOException();
-						}
-						value = s;
+						case MINIMAL:
+						default:
+							// 項目値に区切り文字、囲み文字、改行文字のいずれかを含む場合は囲み文字で囲むべきと判断します。
+							enclose = value.indexOf(cfg.getSeparator()) != -1
+									|| value.indexOf(cfg.getQuote()) != -1
+									|| value.indexOf('\r') != -1 || value.indexOf('\n') != -1;
+							break;
 					}
-	
-					if (enclose) {
-						buf.append(cfg.getQuote());
-						final String s = escapeQuote(value);
-						if (!value.equals(s) && cfg.isEscapeDisabled()) {
-							throw new IOException();
-						}
-						buf.append(s);
-						buf.append(cfg.getQuote());
-					} else {
-						buf.append(value);
+				} else {
+					// 囲み文字が無効な場合に、項目値に区切り文字がある場合、エスケープします。
+					final String s = escapeSeparator(value);
+					if (!value.equals(s) && cfg.isEscapeDisabled()) {
+						throw new IOException();
 					}
+					value = s;
 				}
-			}
-			if (values != null || !cfg.isIgnoreEmptyLines()) {
-				buf.append(cfg.getLineSeparator());
-				out.write(buf.toString());
-			}
-			if (!cfg.isVariableColumns() && values != null) {
-				if (countNumberOfColumns >= 0 && countNumberOfColumns != values.size()) {
-					throw new CsvValueException(String.format("Invalid column count."), values);
+
+				if (enclose) {
+					buf.append(cfg.getQuote());
+					final String s = escapeQuote(value);
+					if (!value.equals(s) && cfg.isEscapeDisabled()) {
+						throw new IOException();
+					}
+					buf.append(s);
+					buf.append(cfg.getQuote());
+				} else {
+					buf.append(value);
 				}
-				countNumberOfColumns = values.size();
 			}
 		}
+		if (values != null || !cfg.isIgnoreEmptyLines()) {
+			buf.append(cfg.getLineSeparator());
+			out.write(buf.toString());
+		}
+		if (!cfg.isVariableColumns() && values != null) {
+			if (countNumberOfColumns >= 0 && countNumberOfColumns != values.size()) {
+				throw new CsvValueException(String.format("Invalid column count."), values);
+			}
+			countNumberOfColumns = values.size();
+		}
 	}
 
 	/**
@@ -264,6 +288,11 @@ public class CsvWriter implements Closeable, Flushable {
 
 	@Override
 	public void flush() throws IOException {
+		if (threadConfined) {
+			ensureOpen();
+			out.flush();
+			return;
+		}
 		synchronized (this) {
 			ensureOpen();
 			out.flush();
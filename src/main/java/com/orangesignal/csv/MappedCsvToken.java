@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * メモリーへマップしたファイルの領域を参照する {@link CsvToken} の実装クラスです。<p>
+ * このクラスは CSV トークンのバイトの範囲だけを保持し、{@link #getValue()} や {@link #isEnclosed()} が最初に呼出された時点で値を文字へ変換します。
+ * 値を文字へ変換せずに参照する場合は {@link #getBytes()} を使用して下さい。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ * @see CsvReader#CsvReader(java.nio.channels.FileChannel, Charset, CsvConfig)
+ */
+public final class MappedCsvToken implements CsvToken {
+
+	/**
+	 * メモリーへマップした領域を保持します。
+	 */
+	private final ByteBuffer segment;
+
+	/**
+	 * 領域内のトークンの開始位置を保持します。
+	 */
+	private final int offset;
+
+	/**
+	 * トークンのバイト数を保持します。
+	 */
+	private final int length;
+
+	/**
+	 * 文字セットを保持します。
+	 */
+	private final Charset charset;
+
+	/**
+	 * 区切り文字形式情報を保持します。
+	 */
+	private final CsvConfig cfg;
+
+	/**
+	 * 囲み文字やエスケープ文字、ホワイトスペースの処理が必要かどうかを保持します。
+	 */
+	private final boolean finish;
+
+	/**
+	 * トークンの開始物理行番号を保持します。
+	 */
+	private final int startLineNumber;
+
+	/**
+	 * トークンの終了物理行番号を保持します。
+	 */
+	private final int endLineNumber;
+
+	/**
+	 * トークンが囲み文字で囲まれていたかどうか (値を文字へ変換する前は囲み項目の可能性があるかどうか) を保持します。
+	 */
+	private boolean enclosed;
+
+	/**
+	 * トークンの値を保持します。
+	 */
+	private String value;
+
+	/**
+	 * トークンの値を文字へ変換したかどうかを保持します。
+	 */
+	private boolean decoded;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param segment メモリーへマップした領域
+	 * @param offset 領域内のトークンの開始位置
+	 * @param length トークンのバイト数
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @param finish 囲み文字やエスケープ文字、ホワイトスペースの処理が必要かどうか
+	 * @param enclosed 囲み項目の可能性があるかどうか
+	 * @param start トークンの開始物理行番号
+	 * @param end トークンの終了物理行番号
+	 */
+	MappedCsvToken(final ByteBuffer segment, final int offset, final int length, final Charset charset, final CsvConfig cfg, final boolean finish, final boolean enclosed, final int start, final int end) {
+		this.segment = segment;
+		this.offset = offset;
+		this.length = length;
+		this.charset = charset;
+		this.cfg = cfg;
+		this.finish = finish;
+		this.enclosed = enclosed;
+		this.startLineNumber = start;
+		this.endLineNumber = end;
+	}
+
+	/**
+	 * トークンの値を文字へ変換します。
+	 */
+	private void decode() {
+		if (decoded) {
+			return;
+		}
+		// 文字列を経由せずに文字配列へ変換し、囲み文字やエスケープ文字の処理を文字配列上で行います。
+		final CharBuffer chars = charset.decode(segment.slice(offset, length));
+		if (finish) {
+			final SimpleCsvToken token = CsvTokenizer.newCsvToken(cfg, chars.array(), chars.arrayOffset() + chars.position(), chars.remaining(), enclosed, startLineNumber, endLineNumber, null);
+			value = token.getValue();
+			enclosed = token.isEnclosed();
+		} else {
+			value = CsvTokenizer.toNullIfNullString(cfg, chars.toString());
+		}
+		decoded = true;
+	}
+
+	/**
+	 * 囲み文字やエスケープ文字を含むトークンのバイトの並びを参照する読込み専用のバッファを返します。
+	 *
+	 * @return トークンのバイトの並び
+	 */
+	public ByteBuffer getBytes() {
+		return segment.slice(offset, length).asReadOnlyBuffer();
+	}
+
+	@Override
+	public String getValue() {
+		decode();
+		return value;
+	}
+
+	@Override public int getStartLineNumber() { return startLineNumber; }
+	@Override public int getEndLineNumber() { return endLineNumber; }
+
+	@Override
+	public boolean isEnclosed() {
+		if (!finish) {
+			return false;
+		}
+		decode();
+		return enclosed;
+	}
+
+}
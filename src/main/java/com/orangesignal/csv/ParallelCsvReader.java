@@ -0,0 +1,670 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 1 つのファイルを複数の範囲に分割し、範囲ごとに並列に字句解析を行う区切り文字形式入力を提供します。<p>
+ * ファイルは指定されたサイズの範囲に分割され、各範囲は {@link ForkJoinPool} のワーカーで範囲ごとの {@link CsvReader} を使用して読込まれます。
+ * 2 番目以降の範囲は範囲の開始位置以降の最初の行の先頭から読込みを開始し、範囲の終了位置を越えて開始する論理行の直前まで読込みます。
+ * 囲み文字で囲まれた項目が改行文字を含む場合など行の先頭が論理行の先頭ではなかった場合は、
+ * 直前の範囲の最後の論理行の終了位置と一致しないことで検出し、正しい位置から読込み直します。<p>
+ * 区切り文字形式情報の {@link CsvConfig#getSkipLines()} はファイルの先頭にのみ適用され、
+ * {@link CsvConfig#isIgnoreEmptyLines()} および {@link CsvConfig#getIgnoreLinePatterns()} は各範囲の読込みに適用されます。
+ * 可変項目数が禁止されている場合は範囲をまたいで項目数を検証し、項目数が一致しない論理行で {@link CsvTokenException} をスローします。<p>
+ * 改行文字および区切り文字、囲み文字、エスケープ文字が指定された文字セットで 1 バイト文字として安全に判別できない場合は、
+ * ファイル全体を 1 つの範囲として読込みます。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class ParallelCsvReader implements Closeable {
+
+	/**
+	 * 分割する範囲のデフォルトのサイズです。
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 25;
+
+	/**
+	 * 行の先頭を検索する際の読込みバッファのサイズです。
+	 */
+	private static final int SCAN_BUFFER_SIZE = 8192;
+
+	/**
+	 * ファイルチャネルを保持します。
+	 */
+	private FileChannel channel;
+
+	/**
+	 * 文字セットを保持します。
+	 */
+	private final Charset charset;
+
+	/**
+	 * 区切り文字形式情報を保持します。
+	 */
+	private final CsvConfig cfg;
+
+	/**
+	 * 範囲を読込む {@link ForkJoinPool} を保持します。
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * 分割する範囲のサイズを保持します。
+	 */
+	private final int chunkSize;
+
+	/**
+	 * ファイルを範囲に分割して読込めるかどうかを保持します。
+	 */
+	private final boolean splittable;
+
+	// ------------------------------------------------------------------------
+	// コンストラクタ
+
+	/**
+	 * 共通の {@link ForkJoinPool} とデフォルトの範囲のサイズを使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param channel ファイルチャネル
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @throws IllegalArgumentException {@code channel} または {@code charset}、{@code cfg} が {@code null} の場合。
+	 * または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
+	 */
+	public ParallelCsvReader(final FileChannel channel, final Charset charset, final CsvConfig cfg) {
+		this(channel, charset, cfg, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * 指定された {@link ForkJoinPool} と範囲のサイズを使用して、このクラスを構築するコンストラクタです。
+	 *
+	 * @param channel ファイルチャネル
+	 * @param charset 文字セット
+	 * @param cfg 区切り文字形式情報
+	 * @param pool 範囲を読込む {@link ForkJoinPool}
+	 * @param chunkSize 分割する範囲のサイズ
+	 * @throws IllegalArgumentException {@code channel} または {@code charset}、{@code cfg}、{@code pool} が {@code null} の場合。
+	 * または、{@code chunkSize} が {@code 0} 以下の場合。または、{@code cfg} の区切り文字および囲み文字、エスケープ文字の組合せが不正な場合
+	 */
+	public ParallelCsvReader(final FileChannel channel, final Charset charset, final CsvConfig cfg, final ForkJoinPool pool, final int chunkSize) {
+		if (channel == null) {
+			throw new IllegalArgumentException("FileChannel must not be null");
+		}
+		if (charset == null) {
+			throw new IllegalArgumentException("Charset must not be null");
+		}
+		if (cfg == null) {
+			throw new IllegalArgumentException("CsvConfig must not be null");
+		}
+		if (pool == null) {
+			throw new IllegalArgumentException("ForkJoinPool must not be null");
+		}
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size <= 0");
+		}
+		cfg.validate();
+		this.channel = channel;
+		this.charset = charset;
+		this.cfg = cfg;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+		this.splittable = ByteCsvTokenizer.isSupported(charset, cfg);
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * ファイル内の論理行の順序で論理行の値を返す {@link Stream} を返します。<p>
+	 * 範囲の読込みは {@link Stream} の要素の取得に先行して並列に行われます。
+	 * 読込み済みで未取得の範囲の数は {@link ForkJoinPool#getParallelism()} の 2 倍までに制限されます。
+	 * 入出力エラーが発生した場合や項目数が一致しない論理行があった場合は、
+	 * 要素の取得時に {@link IOException} または {@link CsvTokenException} を原因とする {@link UncheckedIOException} をスローします。
+	 *
+	 * @return 論理行の値の {@link Stream}
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	public Stream<List<String>> stream() throws IOException {
+		ensureOpen();
+		final RowIterator iterator = new RowIterator(split());
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(iterator::cancel);
+	}
+
+	/**
+	 * ファイルの範囲ごとに読込んだ論理行のまとまりを、読込みが完了した順に指定された処理へ渡します。<p>
+	 * 指定された処理は {@link ForkJoinPool} のワーカーから順不同かつ並行して呼出されます。
+	 * ファイル内の論理行の順序が必要な場合は {@link CsvChunk#getIndex()} を使用して並べ替えて下さい。
+	 * このメソッドはすべての範囲の処理が完了するまで復帰しません。
+	 * 処理中の範囲の数は {@link ForkJoinPool#getParallelism()} の 2 倍までに制限されます。<p>
+	 * 項目数が一致しない論理行を含む範囲とそれ以降の範囲は処理へ渡されません。
+	 *
+	 * @param action 論理行のまとまりを処理する処理
+	 * @throws CsvTokenException 可変項目数が禁止されている場合に項目数が一致しない場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	public void forEachChunk(final Consumer<? super CsvChunk> action) throws IOException {
+		ensureOpen();
+		final long[] bounds = split();
+		final Semaphore permits = new Semaphore(pool.getParallelism() << 1);
+		final List<CompletableFuture<Range>> speculations = new ArrayList<>(bounds.length - 1);
+		final List<CompletableFuture<Void>> results = new ArrayList<>(bounds.length - 1);
+		CompletableFuture<Range> previous = CompletableFuture.completedFuture(null);
+		try {
+			for (int i = 0; i < bounds.length - 1; i++) {
+				permits.acquire();
+				if (previous.isCompletedExceptionally()) {
+					permits.release();
+					break;
+				}
+				final int index = i;
+				final CompletableFuture<Range> speculation = CompletableFuture.supplyAsync(() -> speculate(index, bounds), pool);
+				speculations.add(speculation);
+				final CompletableFuture<Range> validated = speculation
+						.thenCombine(previous, (range, prev) -> {
+							final Range result = validate(range, prev, bounds);
+							if (result.error != null) {
+								throw new UncheckedIOException(result.error);
+							}
+							return result;
+						});
+				results.add(validated
+						.thenAcceptAsync(range -> action.accept(new CsvChunk(range.index, range.rows)), pool)
+						.whenComplete((v, t) -> permits.release()));
+				previous = validated;
+			}
+			CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[results.size()])).join();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (final CompletionException e) {
+			throw toIOException(e);
+		} finally {
+			// 失敗した範囲以降の先行した読込みがファイルチャネルを使用し終えるまで待機します。
+			CompletableFuture.allOf(speculations.toArray(new CompletableFuture<?>[speculations.size()])).join();
+		}
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * ファイルを範囲に分割します。
+	 *
+	 * @return 範囲の開始位置の配列。最後の要素は最後の範囲の終了位置を表す {@link Long#MAX_VALUE} です。
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private long[] split() throws IOException {
+		final long size = channel.size();
+		final int n = splittable ? (int) Math.max(1, (size + chunkSize - 1) / chunkSize) : 1;
+		final long[] bounds = new long[n + 1];
+		for (int i = 0; i < n; i++) {
+			bounds[i] = (long) i * chunkSize;
+		}
+		// 最後の範囲はファイルの終わりまで読込みます。
+		bounds[n] = Long.MAX_VALUE;
+		return bounds;
+	}
+
+	/**
+	 * 指定された範囲を、範囲の開始位置以降の最初の行の先頭から読込みます。<p>
+	 * 行の先頭が論理行の先頭でない場合は読込みに失敗する可能性があるため、読込みで発生した例外はスローせずに失敗した範囲として返します。
+	 * 失敗した範囲は検証時に読込み直されます。
+	 *
+	 * @param index 範囲の番号
+	 * @param bounds 範囲の開始位置の配列
+	 * @return 読込んだ範囲
+	 */
+	private Range speculate(final int index, final long[] bounds) {
+		try {
+			final long start = index == 0 ? 0 : findLineStart(bounds[index]);
+			return parse(index, start, bounds[index + 1]);
+		} catch (final IOException | RuntimeException e) {
+			final Range range = new Range(index, -1);
+			range.end = -1;
+			return range;
+		}
+	}
+
+	/**
+	 * 指定された位置以降の最初の行の先頭の位置を返します。
+	 *
+	 * @param offset 検索を開始する位置
+	 * @return 行の先頭の位置。行の先頭がない場合はファイルのサイズ
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private long findLineStart(final long offset) throws IOException {
+		final ByteBuffer buf = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		// 直前のバイトが改行文字の場合は指定された位置が行の先頭です。
+		long p = offset - 1;
+		boolean cr = false;
+		while (true) {
+			buf.clear();
+			final int n = channel.read(buf, p);
+			if (n < 0) {
+				return p;
+			}
+			for (int i = 0; i < n; i++) {
+				final byte b = buf.get(i);
+				if (cr) {
+					return b == CsvTokenizer.LF ? p + i + 1 : p + i;
+				}
+				if (b == CsvTokenizer.LF) {
+					return p + i + 1;
+				}
+				cr = b == CsvTokenizer.CR;
+			}
+			p += n;
+		}
+	}
+
+	/**
+	 * 指定された開始位置の直前の論理行が CR で終了している場合に、字句解析を再開する位置を返します。<p>
+	 * 直前の論理行が CRLF で終了している場合は LF の位置を返し、CR のみで終了している場合は開始位置を返します。
+	 *
+	 * @param start 開始位置
+	 * @return 字句解析を再開する位置。直前の論理行が CR で終了していない場合は {@code -1}
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private long getResumePosition(final long start) throws IOException {
+		if (start <= 0) {
+			return -1;
+		}
+		final long offset = Math.max(start - 2, 0);
+		final ByteBuffer buf = ByteBuffer.allocate((int) (start - offset));
+		while (buf.hasRemaining()) {
+			if (channel.read(buf, offset + buf.position()) < 0) {
+				return -1;
+			}
+		}
+		final int last = buf.limit() - 1;
+		if (buf.get(last) == CsvTokenizer.CR) {
+			return start;
+		}
+		if (last > 0 && buf.get(last) == CsvTokenizer.LF && buf.get(last - 1) == CsvTokenizer.CR) {
+			return start - 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * 指定された開始位置から、範囲の終了位置以降に開始する論理行の直前までを読込みます。
+	 *
+	 * @param index 範囲の番号
+	 * @param start 読込みを開始する位置
+	 * @param end 範囲の終了位置
+	 * @return 読込んだ範囲
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private Range parse(final int index, final long start, final long end) throws IOException {
+		final Range range = new Range(index, start);
+		if (start >= end) {
+			range.end = start;
+			return range;
+		}
+
+		// 項目数は範囲をまたいで検証するため、範囲の読込みでは検証しません。
+		final CsvConfig config = cfg.clone();
+		config.setVariableColumns(true);
+		final ByteCsvTokenizer tokenizer;
+		final CsvReader reader;
+		if (splittable) {
+			if (start > 0) {
+				config.setSkipLines(0);
+			}
+			// 直前の論理行が CR で終了した場合は、後続の LF を読込む前の状態から開始します。
+			final long resume = getResumePosition(start);
+			tokenizer = new ByteCsvTokenizer(channel, charset, resume >= 0 ? resume : start, ByteCsvTokenizer.DEFAULT_SEGMENT_SIZE, config);
+			if (resume >= 0) {
+				tokenizer.resumeAfterCr();
+			}
+			reader = new CsvReader(tokenizer);
+		} else {
+			tokenizer = null;
+			reader = new CsvReader(new InputStreamReader(Channels.newInputStream(channel.position(0)), charset), config);
+		}
+
+		// ファイルチャネルは共有しているため、範囲の読込みが終わっても閉じません。
+		int columns = -1;
+		while (!reader.isEndOfFile() && (tokenizer == null || tokenizer.getPosition() < end)) {
+			final List<CsvToken> tokens = reader.readTokens();
+			if (tokens == null) {
+				continue;
+			}
+			if (range.firstTokens == null) {
+				range.firstTokens = tokens;
+				range.firstLineNumber = reader.getStartLineNumber();
+			}
+			if (!cfg.isVariableColumns() && columns >= 0 && columns != tokens.size()) {
+				range.errorTokens = tokens;
+				range.errorLineNumber = reader.getStartLineNumber();
+				break;
+			}
+			columns = tokens.size();
+			final List<String> values = new ArrayList<>(tokens.size());
+			for (final CsvToken token : tokens) {
+				values.add(token.getValue());
+			}
+			range.rows.add(values);
+		}
+		range.end = tokenizer == null ? end : tokenizer.getPosition();
+		range.endOfFile = reader.isEndOfFile();
+		range.lines = reader.getEndLineNumber();
+		range.columns = columns;
+		return range;
+	}
+
+	/**
+	 * 指定された範囲の開始位置が直前の範囲の最後の論理行の終了位置と一致するかどうかを検証し、一致しない場合は読込み直します。<p>
+	 * また、範囲内の物理行番号をファイル内の物理行番号へ変換し、可変項目数が禁止されている場合は項目数を検証します。
+	 *
+	 * @param range 範囲
+	 * @param prev 直前の範囲。先頭の範囲の場合は {@code null}
+	 * @param bounds 範囲の開始位置の配列
+	 * @return 検証した範囲。項目数が一致しない場合は {@link Range#error} に例外を設定した範囲
+	 * @throws UncheckedIOException 入出力エラーが発生した場合
+	 */
+	private Range validate(final Range range, final Range prev, final long[] bounds) {
+		try {
+			final Range result;
+			final long start = prev == null ? 0 : prev.end;
+			if (prev != null && prev.endOfFile) {
+				// 直前の範囲の最後の論理行がファイルの終わりに達している場合は読込む論理行はありません。
+				result = new Range(range.index, start);
+				result.end = start;
+				result.endOfFile = true;
+			} else if (range.start == start && range.end >= start) {
+				result = range;
+			} else {
+				result = parse(range.index, start, bounds[range.index + 1]);
+			}
+			result.lineOffset = prev == null ? 0 : prev.lineOffset + prev.lines;
+
+			if (!cfg.isVariableColumns()) {
+				if (prev != null && prev.columns >= 0 && result.firstTokens != null && prev.columns != result.firstTokens.size()) {
+					result.rows.clear();
+					result.errorTokens = result.firstTokens;
+					result.errorLineNumber = result.firstLineNumber;
+				}
+				if (result.errorTokens != null) {
+					result.error = new CsvTokenException(String.format("Invalid column count in CSV input on line %d.", result.lineOffset + result.errorLineNumber), toFileTokens(result.errorTokens, result.lineOffset));
+				}
+				if (result.columns < 0 && prev != null) {
+					result.columns = prev.columns;
+				}
+			}
+			return result;
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 範囲内の物理行番号を持つ CSV トークンのリストをファイル内の物理行番号を持つ CSV トークンのリストへ変換します。
+	 *
+	 * @param tokens 範囲内の物理行番号を持つ CSV トークンのリスト
+	 * @param lineOffset 範囲の直前までの物理行数
+	 * @return ファイル内の物理行番号を持つ CSV トークンのリスト
+	 */
+	private static List<CsvToken> toFileTokens(final List<CsvToken> tokens, final int lineOffset) {
+		final List<CsvToken> results = new ArrayList<>(tokens.size());
+		for (final CsvToken token : tokens) {
+			results.add(new SimpleCsvToken(token.getValue(), token.getStartLineNumber() + lineOffset, token.getEndLineNumber() + lineOffset, token.isEnclosed()));
+		}
+		return results;
+	}
+
+	/**
+	 * 並列処理で発生した例外を {@link IOException} へ変換します。
+	 *
+	 * @param e 並列処理で発生した例外
+	 * @return {@link IOException}
+	 */
+	private static IOException toIOException(final RuntimeException e) {
+		Throwable t = e;
+		while (t instanceof CompletionException && t.getCause() != null) {
+			t = t.getCause();
+		}
+		if (t instanceof UncheckedIOException) {
+			return ((UncheckedIOException) t).getCause();
+		}
+		if (t instanceof RuntimeException) {
+			throw (RuntimeException) t;
+		}
+		if (t instanceof Error) {
+			throw (Error) t;
+		}
+		throw e;
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * Checks to make sure that the stream has not been closed
+	 */
+	private void ensureOpen() throws IOException {
+		if (channel == null) {
+			throw new IOException("Reader closed");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			ensureOpen();
+			channel.close();
+			channel = null;
+		}
+	}
+
+	// ------------------------------------------------------------------------
+
+	/**
+	 * ファイル内の範囲を読込んだ結果を保持します。
+	 */
+	private static final class Range {
+
+		/**
+		 * 範囲の番号です。
+		 */
+		final int index;
+
+		/**
+		 * 読込みを開始した位置です。
+		 */
+		final long start;
+
+		/**
+		 * 最後の論理行の終了位置です。
+		 */
+		long end;
+
+		/**
+		 * 論理行の値のリストです。
+		 */
+		final List<List<String>> rows = new ArrayList<>();
+
+		/**
+		 * 最後の論理行がファイルの終わりに達したかどうかです。
+		 */
+		boolean endOfFile;
+
+		/**
+		 * 範囲内の物理行数です。
+		 */
+		int lines;
+
+		/**
+		 * 範囲の直前までの物理行数です。
+		 */
+		int lineOffset;
+
+		/**
+		 * 最後の論理行の項目数です。論理行がない場合は {@code -1} です。
+		 */
+		int columns = -1;
+
+		/**
+		 * 最初の論理行の CSV トークンのリストです。
+		 */
+		List<CsvToken> firstTokens;
+
+		/**
+		 * 最初の論理行の範囲内の開始物理行番号です。
+		 */
+		int firstLineNumber;
+
+		/**
+		 * 項目数が一致しない論理行の CSV トークンのリストです。
+		 */
+		List<CsvToken> errorTokens;
+
+		/**
+		 * 項目数が一致しない論理行の範囲内の開始物理行番号です。
+		 */
+		int errorLineNumber;
+
+		/**
+		 * 項目数が一致しない論理行がある場合の例外です。
+		 */
+		CsvTokenException error;
+
+		Range(final int index, final long start) {
+			this.index = index;
+			this.start = start;
+		}
+
+	}
+
+	/**
+	 * 範囲を読込む {@link ForkJoinTask} です。
+	 */
+	private final class RangeTask extends RecursiveTask<Range> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int index;
+
+		private final long[] bounds;
+
+		RangeTask(final int index, final long[] bounds) {
+			this.index = index;
+			this.bounds = bounds;
+		}
+
+		@Override
+		protected Range compute() {
+			return speculate(index, bounds);
+		}
+
+	}
+
+	/**
+	 * 範囲を先行して並列に読込み、ファイル内の論理行の順序で論理行の値を返す {@link Iterator} です。
+	 */
+	private final class RowIterator implements Iterator<List<String>> {
+
+		private final long[] bounds;
+
+		private final ArrayDeque<ForkJoinTask<Range>> tasks = new ArrayDeque<>();
+
+		private int submitted;
+
+		private Range prev;
+
+		private Iterator<List<String>> rows;
+
+		RowIterator(final long[] bounds) {
+			this.bounds = bounds;
+		}
+
+		/**
+		 * 読込み済みで未取得の範囲の数が上限に達するまで範囲の読込みを開始します。
+		 */
+		private void submit() {
+			final int max = pool.getParallelism() << 1;
+			while (tasks.size() < max && submitted < bounds.length - 1) {
+				tasks.add(pool.submit(new RangeTask(submitted++, bounds)));
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (rows == null || !rows.hasNext()) {
+				if (prev != null && prev.error != null) {
+					final CsvTokenException e = prev.error;
+					cancel();
+					prev.error = null;
+					throw new UncheckedIOException(e);
+				}
+				submit();
+				final ForkJoinTask<Range> task = tasks.poll();
+				if (task == null) {
+					return false;
+				}
+				prev = validate(task.join(), prev, bounds);
+				rows = prev.rows.iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public List<String> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return rows.next();
+		}
+
+		/**
+		 * 未取得の範囲の読込みを取消します。
+		 */
+		void cancel() {
+			for (final ForkJoinTask<Range> task : tasks) {
+				task.cancel(false);
+			}
+			tasks.clear();
+			submitted = bounds.length - 1;
+		}
+
+	}
+
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 文字入力ストリームから 1 文字ずつ読込んで字句解析を行う {@link CsvTokenizer} の実装です。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ * @see TokenizerPolicy#STREAM
+ */
+class StreamCsvTokenizer extends CsvTokenizer {
+
+	/**
+	 * 文字入力ストリームを保持します。
+	 */
+	private Reader in;
+
+	/**
+	 * 同期化されない入力バッファを保持します。同期化される {@link BufferedReader} を使用する場合は {@code null} です。
+	 */
+	private final char[] chars;
+
+	/**
+	 * 入力バッファ内の有効な文字数を保持します。
+	 */
+	private int charLimit;
+
+	/**
+	 * 入力バッファの位置を保持します。
+	 */
+	private int charPos;
+
+	/**
+	 * 終端文字を含む行バッファを保持します。
+	 */
+	private final StringBuilder line = new StringBuilder();
+
+	/**
+	 * 次行の先頭文字を保持します。
+	 */
+	private int nextChar = -1;
+
+	/**
+	 * 行バッファの位置を保持します。
+	 */
+	private int pos;
+
+	/**
+	 * 直前の文字が復帰文字かどうかを保持します。
+	 */
+	private boolean cr = false;
+
+	/**
+	 * BOM (Byte Order Mark) を除去するかどうかを保持します。
+	 */
+	private final boolean utf8bom;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param in 文字入力ストリーム
+	 * @param sz 入力バッファのサイズ
+	 * @param cfg 区切り文字形式情報
+	 * @param utf8bom BOM (Byte Order Mark) を除去するかどうか
+	 * @throws IllegalArgumentException {@code sz} が {@code 0} 以下の場合
+	 */
+	StreamCsvTokenizer(final Reader in, final int sz, final CsvConfig cfg, final boolean utf8bom) {
+		super(cfg);
+		if (cfg.isThreadConfined()) {
+			// 単一のスレッドからのみ使用する場合は、文字ごとの同期化を避けるため入力バッファを直接扱います。
+			if (sz <= 0) {
+				throw new IllegalArgumentException("Buffer size <= 0");
+			}
+			this.in = in;
+			this.chars = new char[sz];
+		} else {
+			this.in = new BufferedReader(in, sz);
+			this.chars = null;
+		}
+		this.utf8bom = utf8bom;
+	}
+
+	/**
+	 * 文字入力ストリームから単一の文字を読込みます。
+	 *
+	 * @return 読込まれた文字。ストリームの終わりに達した場合は {@code -1}
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int readChar() throws IOException {
+		if (chars == null) {
+			return in.read();
+		}
+		if (charPos >= charLimit) {
+			int n;
+			do {
+				n = in.read(chars, 0, chars.length);
+			} while (n == 0);
+			if (n < 0) {
+				return -1;
+			}
+			charPos = 0;
+			charLimit = n;
+		}
+		return chars[charPos++];
+	}
+
+	// ------------------------------------------------------------------------
+
+	@Override
+	protected int cacheLine() throws IOException {
+		// 行バッファを構築します。
+		line.setLength(0);
+		int c;
+		if (nextChar != -1) {
+			c = nextChar;
+			nextChar = -1;
+		} else {
+			c = readChar();
+			// BOM (Byte Order Mark) を除去する場合は BOM を読み飛ばします。
+			if (lineNumber == 0 /* && line == null */ && utf8bom && c == BOM) {
+				c = readChar();
+			}
+		}
+
+		int result = -1;	// CR または LF の出現位置
+		while (c != -1) {
+			line.append((char) c);
+			if (c == CR) {
+				result = line.length();
+				nextChar = readChar();
+				if (nextChar == LF) {
+					line.append((char) nextChar);
+					nextChar = -1;
+				}
+				break;
+			} else if (c == LF) {
+				result = line.length();
+				break;
+			}
+			c = readChar();
+		}
+		pos = 0;
+
+		return result;
+	}
+
+	@Override
+	protected void clearLine() {
+		line.setLength(0);
+	}
+
+	@Override
+	protected boolean isLineEmpty() {
+		return line.length() == 0;
+	}
+
+	@Override
+	protected boolean isLineConsumed() {
+		return line.length() == 0 || line.length() <= pos;
+	}
+
+	@Override
+	protected CharSequence getLine(final int breakLine) {
+		return breakLine == -1 ? line : line.substring(0, breakLine - 1);
+	}
+
+	@Override
+	protected boolean isWhitespaceLine(final int breakLine) {
+		return isWhitespaces(line, 0, breakLine == -1 ? line.length() : breakLine - 1);
+	}
+
+	@Override
+	protected boolean isFilteredLine(final CsvLineFilter filter, final int breakLine) {
+		return filter.matches(line, 0, breakLine == -1 ? line.length() : breakLine - 1);
+	}
+
+	/**
+	 * 単一の文字を読み込みます。
+	 *
+	 * @return 読み込まれた文字。ストリームの終わりに達した場合は {@code -1}
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private int read() throws IOException {
+		if (endOfFile) {
+			return -1;
+		}
+		if (line.length() == 0 || line.length() <= pos) {
+			cacheLine();
+		}
+		if (line.length() == 0) {
+			return -1;
+		}
+		return line.charAt(pos++);
+	}
+
+	private final StringBuilder buf = new StringBuilder();
+	private char[] tokenChars = new char[256];	// 後処理のために CSV トークンをコピーする文字配列
+	private boolean inQuote = false;	// 囲み項目を処理中であるかどうか
+	private boolean enclosed = false;	// 囲み項目の可能性を示唆します。
+	private boolean escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の中)
+	private boolean _escaped = false;	// 直前の文字がエスケープ文字かどうか(囲み文字の外)
+
+	@Override
+	protected CsvToken readCsvToken() throws IOException {
+		scanCsvToken();
+
+		// CSV トークンを文字配列へコピーして後処理し、項目の値の文字列だけを生成します。
+		final int len = buf.length();
+		if (tokenChars.length < len) {
+			tokenChars = new char[Math.max(len, tokenChars.length << 1)];
+		}
+		buf.getChars(0, len, tokenChars, 0);
+		return newCsvToken(tokenChars, 0, len, enclosed);
+	}
+
+	@Override
+	protected void skipCsvToken() throws IOException {
+		scanCsvToken();
+	}
+
+	/**
+	 * CSV トークンを読込み、トークンバッファへ格納します。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private void scanCsvToken() throws IOException {
+		buf.setLength(0);
+		// 囲み文字設定が有効な場合
+		inQuote = false;
+		enclosed = false;
+		escaped = false;
+		_escaped = false;
+
+		endTokenLineNumber = startTokenLineNumber;
+
+		while (true) {
+			final int c = read();
+			if (cr) {
+				cr = false;
+				escaped = false;
+				if (c == LF) {
+					if (inQuote) {
+						buf.append((char) c);
+					}
+					continue;
+				}
+			} else if (_escaped && c == cfg.getSeparator()) {
+				buf.append((char) c);
+				_escaped = false;
+				continue;
+			}
+			_escaped = false;
+			if (c == -1) {
+				endOfLine = true;
+//				if (!endOfFile) {
+//					endLineNumber++;
+//				}
+				endOfFile = true;
+				break;
+			}
+
+			// 囲み文字の外(外側)の場合
+			if (!inQuote) {
+				// 区切り文字
+				if (c == cfg.getSeparator()) {
+					break;
+				// CR
+				} else if (c == CR) {
+					endOfLine = true;
+					cr = true;
+					break;
+				// LF
+				} else if (c == LF) {
+					endOfLine = true;
+					break;
+				// 囲み文字
+				} else if (!cfg.isQuoteDisabled() && !enclosed && c == cfg.getQuote()) {
+					if (isWhitespaces(buf)) {
+						inQuote = true;
+					}
+				// エスケープ文字
+				} else if (cfg.isQuoteDisabled() && !cfg.isEscapeDisabled() && c == cfg.getEscape()) {
+					_escaped = true;
+				}
+			// 囲み文字の中(内側)の場合
+			} else {
+				// 囲み文字とエスケープ文字が同一の場合
+				if (!cfg.isEscapeDisabled() && cfg.getQuote() == cfg.getEscape()) {
+					// 直前の文字がエスケープ文字の場合
+					if (escaped) {
+						// エスケープ文字直後が区切り文字の場合
+						if (c == cfg.getSeparator()) {
+							break;
+						} else if (c == CR) {
+							endOfLine = true;
+							cr = true;
+							break;
+						} else if (c == LF) {
+							endOfLine = true;
+							break;
+						} else if (c == cfg.getEscape()) {
+							escaped = false;
+							buf.append((char) c);
+							continue;
+						}
+					// 直前の文字がない場合や直前の文字がエスケープ文字ではない場合に、現在の文字がエスケープ文字(囲み文字と同一)の場合
+					} else if (c == cfg.getEscape()) {
+						escaped = true;
+						buf.append((char) c);
+						continue;
+					}
+				}
+
+				// 囲み文字
+				if (c == cfg.getQuote()) {
+					if (escaped) {
+						// 直前がエスケープ文字の場合
+						escaped = false;
+					} else {
+						inQuote = false;
+						enclosed = true;
+					}
+				// CR
+				} else if (c == CR) {
+					cr = true;
+					endTokenLineNumber++;
+				// LF
+				} else if (c == LF) {
+					endTokenLineNumber++;
+				}
+
+				if (!cfg.isEscapeDisabled() && c == cfg.getEscape()) {
+					escaped = true;
+				} else {
+					escaped = false;
+				}
+			}
+
+			buf.append((char) c);
+		}
+
+		if (escaped) {
+			enclosed = true;
+		}
+	}
+
+	// ------------------------------------------------------------------------
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+		in = null;
+		line.setLength(0);
+		super.close();
+	}
+
+}
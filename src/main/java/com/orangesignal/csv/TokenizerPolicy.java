@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+/**
+ * 区切り文字形式データの字句解析方法の種類を表す列挙型を提供します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public enum TokenizerPolicy {
+
+	/**
+	 * 文字入力ストリームから 1 文字ずつ読込んで字句解析を行います。
+	 */
+	STREAM,
+
+	/**
+	 * 文字入力ストリームからまとめて読込んだ文字配列を直接走査して字句解析を行います。
+	 */
+	BLOCK,
+
+	/**
+	 * {@link #BLOCK} と同様に文字配列を直接走査し、特殊文字の検索に Vector API の SIMD 命令を使用して字句解析を行います。<p>
+	 * 区切り文字、囲み文字、エスケープ文字、CR、LF の出現位置を 64 文字ごとにまとめて比較するため、項目数が多く囲み文字の少ないデータで有効です。
+	 * Vector API を使用するには {@code --add-modules jdk.incubator.vector} を指定して Java 仮想マシンを起動する必要があります。
+	 * モジュールが有効でない場合は {@link #BLOCK} と同じ方法で字句解析を行います。
+	 *
+	 * @since 3.0
+	 */
+	VECTOR;
+
+}
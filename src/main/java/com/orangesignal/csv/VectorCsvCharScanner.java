@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API の SIMD 命令で走査する実装です。<p>
+ * 入力バッファを 64 文字のブロック単位で特殊文字と比較し、特殊文字の出現位置をビットで表した構造ビットマップをブロックごとに構築します。
+ * 同じブロック内の後続の走査は構築済みのビットマップから次の出現位置を求めるため、項目数の多い行でも文字ごとの比較を繰返しません。<p>
+ * このクラスは {@code jdk.incubator.vector} モジュールが有効な場合にだけ使用されます。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ * @see TokenizerPolicy#VECTOR
+ */
+final class VectorCsvCharScanner extends CsvCharScanner {
+
+	/**
+	 * ブロックの文字数です。
+	 */
+	private static final int BLOCK_SIZE = Long.SIZE;
+
+	private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+	/**
+	 * ビットマップを構築した入力バッファを保持します。
+	 */
+	private char[] blockBuf;
+
+	/**
+	 * ブロックの開始位置を保持します。
+	 */
+	private int blockStart;
+
+	/**
+	 * ブロックの文字数を保持します。ビットマップが無効な場合は {@code 0} です。
+	 */
+	private int blockLength;
+
+	/**
+	 * 区切り文字の出現位置を表すビットマップを保持します。
+	 */
+	private long sepBits;
+
+	/**
+	 * 囲み文字およびエスケープ文字の出現位置を表すビットマップを保持します。
+	 */
+	private long quoteBits;
+
+	/**
+	 * CR および LF の出現位置を表すビットマップを保持します。
+	 */
+	private long breakBits;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param cfg 区切り文字形式情報
+	 */
+	VectorCsvCharScanner(final CsvConfig cfg) {
+		super(cfg);
+	}
+
+	@Override
+	int skip(final char[] buf, final int from, final int to, final boolean inQuote) {
+		int p = from;
+		while (p < to) {
+			if (buf != blockBuf || p < blockStart || p >= blockStart + blockLength) {
+				build(buf, p);
+			}
+			final long bits = inQuote ? quoteBits | breakBits : sepBits | quoteBits | breakBits;
+			final long mask = bits >>> (p - blockStart);
+			if (mask != 0) {
+				return Math.min(p + Long.numberOfTrailingZeros(mask), to);
+			}
+			p = blockStart + blockLength;
+		}
+		return to;
+	}
+
+	@Override
+	int skipLine(final char[] buf, final int from, final int to) {
+		int p = from;
+		while (p < to) {
+			if (buf != blockBuf || p < blockStart || p >= blockStart + blockLength) {
+				build(buf, p);
+			}
+			final long mask = breakBits >>> (p - blockStart);
+			if (mask != 0) {
+				return Math.min(p + Long.numberOfTrailingZeros(mask), to);
+			}
+			p = blockStart + blockLength;
+		}
+		return to;
+	}
+
+	@Override
+	void reset() {
+		blockBuf = null;
+		blockLength = 0;
+	}
+
+	/**
+	 * 指定された位置から始まるブロックのビットマップを構築します。
+	 *
+	 * @param buf 入力バッファ
+	 * @param start ブロックの開始位置
+	 */
+	private void build(final char[] buf, final int start) {
+		final int len = Math.min(BLOCK_SIZE, buf.length - start);
+		final short s = (short) sep;
+		final short q = (short) quote;
+		final short e = (short) esc;
+		long _sepBits = 0;
+		long _quoteBits = 0;
+		long _breakBits = 0;
+		int i = 0;
+		final int step = SPECIES.length();
+		if (step <= BLOCK_SIZE) {
+			for (; i + step <= len; i += step) {
+				final ShortVector v = ShortVector.fromCharArray(SPECIES, buf, start + i);
+				_sepBits |= v.eq(s).toLong() << i;
+				_quoteBits |= v.eq(q).or(v.eq(e)).toLong() << i;
+				_breakBits |= v.eq((short) CsvTokenizer.CR).or(v.eq((short) CsvTokenizer.LF)).toLong() << i;
+			}
+		}
+		for (; i < len; i++) {
+			final char c = buf[start + i];
+			final long bit = 1L << i;
+			if (c == sep) {
+				_sepBits |= bit;
+			}
+			if (c == quote || c == esc) {
+				_quoteBits |= bit;
+			}
+			if (c == CsvTokenizer.CR || c == CsvTokenizer.LF) {
+				_breakBits |= bit;
+			}
+		}
+		blockBuf = buf;
+		blockStart = start;
+		blockLength = len;
+		sepBits = _sepBits;
+		quoteBits = _quoteBits;
+		breakBits = _breakBits;
+	}
+
+}
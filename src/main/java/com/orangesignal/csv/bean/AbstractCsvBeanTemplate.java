@@ -136,6 +136,16 @@ public abstract class AbstractCsvBeanTemplate<T, O extends AbstractCsvBeanTempla
 		return (O) this;
 	}
 
+	/**
+	 * 区切り文字形式データの項目値コンバータを返します。
+	 * 
+	 * @return 区切り文字形式データの項目値コンバータ
+	 * @since 3.0
+	 */
+	public CsvValueConverter getValueConverter() {
+		return valueConverter;
+	}
+
 	/**
 	 * 区切り文字形式データの項目値コンバータを設定します。
 	 * 
@@ -19,6 +19,7 @@ package com.orangesignal.csv.bean;
 import java.lang.reflect.Field;
 import java.text.Format;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -134,6 +135,28 @@ public class CsvColumnNameMappingBeanTemplate<T> extends AbstractCsvBeanTemplate
 		return filter != null && !filter.accept(columnNames, values);
 	}
 
+	/**
+	 * 項目名とフィールド名のマップに含まれる項目の項目位置の集合を作成して返します。<p>
+	 * 区切り文字形式データフィルタは任意の項目を参照する可能性があるため、フィルタが設定されている場合は {@code null} を返します。
+	 * 
+	 * @param columnNames 区切り文字形式データの項目名リスト
+	 * @return 項目位置の集合。すべての項目を読込む必要がある場合は {@code null}
+	 * @since 3.0
+	 */
+	public BitSet createColumnPositions(final List<String> columnNames) {
+		if (filter != null) {
+			return null;
+		}
+		final BitSet positions = new BitSet();
+		for (final String column : columnMapping.keySet()) {
+			final int pos = columnNames.indexOf(column);
+			if (pos != -1) {
+				positions.set(pos);
+			}
+		}
+		return positions;
+	}
+
 	// 入力
 
 	public Map<String, Object[]> createFieldAndColumnsMap() {
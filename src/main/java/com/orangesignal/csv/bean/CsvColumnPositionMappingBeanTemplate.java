@@ -18,6 +18,7 @@ package com.orangesignal.csv.bean;
 
 import java.text.Format;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -157,6 +158,26 @@ public class CsvColumnPositionMappingBeanTemplate<T> extends AbstractCsvBeanTemp
 		return filter != null && !filter.accept(values);
 	}
 
+	/**
+	 * 項目位置とフィールド名のマップに含まれる項目位置の集合を作成して返します。<p>
+	 * 区切り文字形式データフィルタは任意の項目を参照する可能性があるため、フィルタが設定されている場合は {@code null} を返します。
+	 * 
+	 * @return 項目位置の集合。すべての項目を読込む必要がある場合は {@code null}
+	 * @since 3.0
+	 */
+	public BitSet createColumnPositions() {
+		if (filter != null) {
+			return null;
+		}
+		final BitSet positions = new BitSet();
+		for (final Integer pos : columnMapping.keySet()) {
+			if (pos >= 0) {
+				positions.set(pos);
+			}
+		}
+		return positions;
+	}
+
 	// 入力
 
 	public Map<String, Object[]> createFieldAndColumnsMap() {
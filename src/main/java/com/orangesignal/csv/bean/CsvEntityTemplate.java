@@ -23,6 +23,7 @@ import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Currency;
 import java.util.Date;
 import java.util.HashMap;
@@ -107,6 +108,53 @@ public class CsvEntityTemplate<T> extends AbstractCsvBeanTemplate<T, CsvEntityTe
 		return filter != null && !filter.accept(columnNames, values);
 	}
 
+	/**
+	 * 読込み可能な項目に対応付けられている項目位置の集合を作成して返します。<p>
+	 * 区切り文字形式データフィルタは任意の項目を参照する可能性があるため、フィルタが設定されている場合は {@code null} を返します。
+	 * 必須項目の検証に失敗した場合は {@link com.orangesignal.csv.annotation.CsvColumnException} に論理行のすべての値を保持するため、必須項目がある場合も {@code null} を返します。
+	 * 
+	 * @param names 項目名のリスト
+	 * @return 項目位置の集合。すべての項目を読込む必要がある場合は {@code null}
+	 * @since 3.0
+	 */
+	public BitSet createColumnPositions(final List<String> names) {
+		if (filter != null) {
+			return null;
+		}
+		final BitSet positions = new BitSet();
+		for (final Field f : getType().getDeclaredFields()) {
+			final CsvColumns columns = f.getAnnotation(CsvColumns.class);
+			if (columns != null) {
+				for (final CsvColumn column : columns.value()) {
+					if (column.access().isReadable()) {
+						if (column.required()) {
+							return null;
+						}
+						setPosition(positions, column, f, names);
+					}
+				}
+			}
+			final CsvColumn column = f.getAnnotation(CsvColumn.class);
+			if (column != null && column.access().isReadable()) {
+				if (column.required()) {
+					return null;
+				}
+				setPosition(positions, column, f, names);
+			}
+		}
+		return positions;
+	}
+
+	private static void setPosition(final BitSet positions, final CsvColumn column, final Field f, final List<String> names) {
+		int pos = column.position();
+		if (pos < 0 && names != null) {
+			pos = names.indexOf(defaultIfEmpty(column.name(), f.getName()));
+		}
+		if (pos >= 0) {
+			positions.set(pos);
+		}
+	}
+
 	/**
 	 * 項目名のリストを作成して返します。
 	 * 
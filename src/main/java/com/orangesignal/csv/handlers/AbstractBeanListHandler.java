@@ -16,11 +16,14 @@
 
 package com.orangesignal.csv.handlers;
 
+import java.io.IOException;
 import java.text.Format;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import com.orangesignal.csv.CsvReader;
 import com.orangesignal.csv.bean.AbstractCsvBeanTemplate;
 import com.orangesignal.csv.bean.CsvValueConverter;
 import com.orangesignal.csv.filters.BeanFilter;
@@ -76,6 +79,29 @@ public abstract class AbstractBeanListHandler<T, O extends AbstractCsvBeanTempla
 		return super.processScalar(beans);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * この実装は <code>orders</code> が指定されている場合、すべての要素を並び替えてから取得データの開始位置と限度数を適用します。
+	 */
+	@Override
+	public Stream<T> stream(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		if (!ignoreScalar && orders != null && !orders.isEmpty()) {
+			return processScalar(super.stream(reader, true));
+		}
+		return super.stream(reader, ignoreScalar);
+	}
+
+	/**
+	 * この実装は <code>orders</code> が指定されている場合、並び替えを行ってから {@link AbstractCsvListHandler#processScalar(Stream)} を呼出します。
+	 */
+	@Override
+	public Stream<T> processScalar(final Stream<T> beans) {
+		if (orders != null) {
+			return super.processScalar(beans.sorted(new BeanOrderComparator(orders)));
+		}
+		return super.processScalar(beans);
+	}
+
 	// ------------------------------------------------------------------------
 
 	/**
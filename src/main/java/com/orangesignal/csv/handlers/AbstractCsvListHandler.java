@@ -17,7 +17,13 @@
 package com.orangesignal.csv.handlers;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.orangesignal.csv.CsvListHandler;
 import com.orangesignal.csv.CsvReader;
@@ -76,6 +82,39 @@ public abstract class AbstractCsvListHandler<T, H extends AbstractCsvListHandler
 		return load(reader, false);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * この実装は {@link #iterator(CsvReader, boolean)} が返す反復子をストリームとして返します。
+	 */
+	@Override
+	public Stream<T> stream(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		if (reader == null) {
+			throw new IllegalArgumentException("CsvReader must not be null");
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(reader, ignoreScalar), Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> {
+					try {
+						reader.close();
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	/**
+	 * 区切り文字形式入力ストリームを逐次読込む区切り文字形式データの反復子を返します。<br>
+	 * この実装は {@link #load(CsvReader, boolean)} の結果の反復子を返すだけなので、サブクラスでオーバーライドして下さい。
+	 * 
+	 * @param reader 区切り文字形式入力ストリーム
+	 * @param ignoreScalar スカラー副問い合わせを行うかどうか
+	 * @return 区切り文字形式データの反復子
+	 * @throws IOException 入出力例外が発生した場合
+	 * @since 3.0
+	 */
+	protected Iterator<T> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		return load(reader, ignoreScalar).iterator();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * この実装は単に {@code offset} と {@code limit} を使用して処理します。
@@ -87,4 +126,14 @@ public abstract class AbstractCsvListHandler<T, H extends AbstractCsvListHandler
 		return list.subList(fromIndex, toIndex);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * この実装は単に {@code offset} と {@code limit} を使用して処理します。
+	 */
+	@Override
+	public Stream<T> processScalar(final Stream<T> stream) {
+		final Stream<T> skipped = this.offset > 0 ? stream.skip(this.offset) : stream;
+		return this.limit > 0 ? skipped.limit(this.limit) : skipped;
+	}
+
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package com.orangesignal.csv.handlers;
 import java.io.IOException;
 import java.text.Format;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import com.orangesignal.csv.CsvReader;
@@ -138,6 +139,30 @@ public class BeanListHandler<T> extends AbstractBeanListHandler<T, CsvBeanTempla
 		return processScalar(results);
 	}
 
+	@Override
+	protected Iterator<T> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		@SuppressWarnings("resource")
+		final CsvBeanReader<T> r = new CsvBeanReader<>(reader, template);
+		final boolean order = ignoreScalar || orders != null && !orders.isEmpty();
+		return new CsvListIterator<T>(order ? 0 : offset, order ? 0 : limit) {
+			@Override
+			protected T read() throws IOException {
+				List<String> values;
+				while ((values = r.readValues()) != null) {
+					if (beanFilter == null && skip()) {
+						continue;
+					}
+					final T bean = r.toBean(values);
+					if (beanFilter != null && (!beanFilter.accept(bean) || skip())) {
+						continue;
+					}
+					return bean;
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<T> list, final CsvWriter writer) throws IOException {
 		@SuppressWarnings("resource")
@@ -19,6 +19,7 @@ package com.orangesignal.csv.handlers;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -118,7 +119,7 @@ public class ColumnNameMapListHandler extends AbstractCsvListHandler<Map<String,
 		int offset = 0;
 
 		List<String> values;
-		while ((values = r.readValues()) != null && (ignoreScalar || limit <= 0 || results.size() < limit)) {
+		while ((values = r.readMappedValues()) != null && (ignoreScalar || limit <= 0 || results.size() < limit)) {
 			if (!ignoreScalar && offset < this.offset) {
 				offset++;
 				continue;
@@ -128,6 +129,26 @@ public class ColumnNameMapListHandler extends AbstractCsvListHandler<Map<String,
 		return results;
 	}
 
+	@Override
+	protected Iterator<Map<String, String>> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		@SuppressWarnings("resource")
+		final CsvColumnNameMapReader r = new CsvColumnNameMapReader(reader, columnNames);
+		r.setFilter(valueFilter);
+		return new CsvListIterator<Map<String, String>>(ignoreScalar ? 0 : offset, ignoreScalar ? 0 : limit) {
+			@Override
+			protected Map<String, String> read() throws IOException {
+				List<String> values;
+				while ((values = r.readMappedValues()) != null) {
+					if (skip()) {
+						continue;
+					}
+					return r.toMap(values);
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<Map<String, String>> list, final CsvWriter writer) throws IOException {
 		@SuppressWarnings("resource")
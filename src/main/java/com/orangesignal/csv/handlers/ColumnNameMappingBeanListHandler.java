@@ -19,6 +19,7 @@ package com.orangesignal.csv.handlers;
 import java.io.IOException;
 import java.text.Format;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -112,7 +113,7 @@ public class ColumnNameMappingBeanListHandler<T> extends AbstractBeanListHandler
 		int offset = 0;
 
 		List<String> values;
-		while ((values = r.readValues()) != null && (order || limit <= 0 || results.size() < limit)) {
+		while ((values = r.readMappedValues()) != null && (order || limit <= 0 || results.size() < limit)) {
 			if (beanFilter == null && !order && offset < this.offset) {
 				offset++;
 				continue;
@@ -136,6 +137,30 @@ public class ColumnNameMappingBeanListHandler<T> extends AbstractBeanListHandler
 		return processScalar(results);
 	}
 
+	@Override
+	protected Iterator<T> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		@SuppressWarnings("resource")
+		final CsvColumnNameMappingBeanReader<T> r = new CsvColumnNameMappingBeanReader<>(reader, template);
+		final boolean order = ignoreScalar || orders != null && !orders.isEmpty();
+		return new CsvListIterator<T>(order ? 0 : offset, order ? 0 : limit) {
+			@Override
+			protected T read() throws IOException {
+				List<String> values;
+				while ((values = r.readMappedValues()) != null) {
+					if (beanFilter == null && skip()) {
+						continue;
+					}
+					final T bean = r.toBean(values);
+					if (beanFilter != null && (!beanFilter.accept(bean) || skip())) {
+						continue;
+					}
+					return bean;
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<T> list, final CsvWriter writer) throws IOException {
 		@SuppressWarnings("resource")
@@ -18,6 +18,7 @@ package com.orangesignal.csv.handlers;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -78,6 +79,26 @@ public class ColumnPositionMapListHandler extends AbstractCsvListHandler<Map<Int
 		return results;
 	}
 
+	@Override
+	protected Iterator<Map<Integer, String>> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		@SuppressWarnings("resource")
+		final CsvColumnPositionMapReader r = new CsvColumnPositionMapReader(reader);
+		r.setFilter(valueFilter);
+		return new CsvListIterator<Map<Integer, String>>(ignoreScalar ? 0 : offset, ignoreScalar ? 0 : limit) {
+			@Override
+			protected Map<Integer, String> read() throws IOException {
+				List<String> values;
+				while ((values = r.readValues()) != null) {
+					if (skip()) {
+						continue;
+					}
+					return r.toMap(values);
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<Map<Integer, String>> list, final CsvWriter writer) throws IOException {
 		@SuppressWarnings("resource")
@@ -19,6 +19,7 @@ package com.orangesignal.csv.handlers;
 import java.io.IOException;
 import java.text.Format;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -166,7 +167,7 @@ public class ColumnPositionMappingBeanListHandler<T> extends AbstractBeanListHan
 		int offset = 0;
 
 		List<String> values;
-		while ((values = r.readValues()) != null && (order || limit <= 0 || results.size() < limit)) {
+		while ((values = r.readMappedValues()) != null && (order || limit <= 0 || results.size() < limit)) {
 			if (beanFilter == null && !order && offset < this.offset) {
 				offset++;
 				continue;
@@ -190,6 +191,30 @@ public class ColumnPositionMappingBeanListHandler<T> extends AbstractBeanListHan
 		return processScalar(results);
 	}
 
+	@Override
+	protected Iterator<T> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		@SuppressWarnings("resource")
+		final CsvColumnPositionMappingBeanReader<T> r = new CsvColumnPositionMappingBeanReader<>(reader, template);
+		final boolean order = ignoreScalar || orders != null && !orders.isEmpty();
+		return new CsvListIterator<T>(order ? 0 : offset, order ? 0 : limit) {
+			@Override
+			protected T read() throws IOException {
+				List<String> values;
+				while ((values = r.readMappedValues()) != null) {
+					if (beanFilter == null && skip()) {
+						continue;
+					}
+					final T bean = r.toBean(values);
+					if (beanFilter != null && (!beanFilter.accept(bean) || skip())) {
+						continue;
+					}
+					return bean;
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<T> list, final CsvWriter writer) throws IOException {
 		@SuppressWarnings("resource")
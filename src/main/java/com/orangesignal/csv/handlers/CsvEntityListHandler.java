@@ -18,7 +18,9 @@ package com.orangesignal.csv.handlers;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.orangesignal.csv.CsvReader;
 import com.orangesignal.csv.CsvWriter;
@@ -28,6 +30,7 @@ import com.orangesignal.csv.bean.CsvEntityTemplate;
 import com.orangesignal.csv.filters.CsvNamedValueFilter;
 import com.orangesignal.csv.io.CsvEntityReader;
 import com.orangesignal.csv.io.CsvEntityWriter;
+import com.orangesignal.csv.io.CsvPublisher;
 
 /**
  * 区切り文字形式データ注釈要素 {@link com.orangesignal.csv.annotation.CsvEntity} で注釈付けされた Java プログラム要素のリストで区切り文字形式データアクセスを行うハンドラを提供します。
@@ -47,6 +50,27 @@ public class CsvEntityListHandler<T> extends AbstractBeanListHandler<T, CsvEntit
 	 */
 	private boolean disableWriteHeader;
 
+	/**
+	 * 型変換とフィールドへの値の設定を実行するエグゼキュータを保持します。
+	 * 
+	 * @since 3.0
+	 */
+	private Executor executor;
+
+	/**
+	 * 1 回の変換処理で変換する論理行の最大数を保持します。
+	 * 
+	 * @since 3.0
+	 */
+	private int batchSize = CsvPublisher.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * 変換処理を並行して実行する場合に論理行の順序を保持するかどうかを保持します。
+	 * 
+	 * @since 3.0
+	 */
+	private boolean ordered = true;
+
 	/**
 	 * コンストラクタです。
 	 * 
@@ -85,18 +109,68 @@ public class CsvEntityListHandler<T> extends AbstractBeanListHandler<T, CsvEntit
 		return this;
 	}
 
+	/**
+	 * {@link #load(CsvReader, boolean)} で型変換とフィールドへの値の設定を指定されたエグゼキュータで並行して実行するように設定します。<p>
+	 * 論理行の順序は保持されます。
+	 * 
+	 * @param executor 型変換とフィールドへの値の設定を実行するエグゼキュータ。{@code null} の場合は呼出し元のスレッドで実行します
+	 * @return このオブジェクトへの参照
+	 * @see #parallel(Executor, int, boolean)
+	 * @since 3.0
+	 */
+	public CsvEntityListHandler<T> parallel(final Executor executor) {
+		return parallel(executor, CsvPublisher.DEFAULT_BATCH_SIZE, true);
+	}
+
+	/**
+	 * {@link #load(CsvReader, boolean)} で型変換とフィールドへの値の設定を指定されたエグゼキュータで並行して実行するように設定します。<p>
+	 * 呼出し元のスレッドが文字の復号と CSV トークンの解析を行い、{@code batchSize} 件ごとの値リストをエグゼキュータで Java プログラム要素へ変換します。
+	 * Java プログラム要素フィルタ、並び替え、取得開始位置、取得最大件数は変換後に呼出し元のスレッドで適用します。
+	 * ただし、並び替えを行わずに取得最大件数が指定されている場合は、取得開始位置と取得最大件数の分の論理行を読込んだ時点で読込みを終えます。
+	 * この場合に Java プログラム要素フィルタが設定されていると、必要な論理行の数が分からないため呼出し元のスレッドで逐次に読込みます。
+	 * 
+	 * @param executor 型変換とフィールドへの値の設定を実行するエグゼキュータ。{@code null} の場合は呼出し元のスレッドで実行します
+	 * @param batchSize 1 回の変換処理で変換する論理行の最大数
+	 * @param ordered 論理行の順序を保持するかどうか
+	 * @return このオブジェクトへの参照
+	 * @throws IllegalArgumentException {@code batchSize} が {@code 0} 以下の場合
+	 * @see CsvEntityReader#readParallel(List, Executor, int, boolean)
+	 * @since 3.0
+	 */
+	public CsvEntityListHandler<T> parallel(final Executor executor, final int batchSize, final boolean ordered) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize <= 0");
+		}
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.ordered = ordered;
+		return this;
+	}
+
 	@Override
 	public List<T> load(final CsvReader reader, final boolean ignoreScalar) throws IOException {
 		@SuppressWarnings("resource")
 		final CsvEntityReader<T> r = new CsvEntityReader<>(reader, template);
+		if (executor != null) {
+			return loadParallel(r, ignoreScalar);
+		}
 
 		// すべてのデータを読取って繰返し処理します。
 		final List<T> results = new ArrayList<>();
 		final boolean order = ignoreScalar || orders != null && !orders.isEmpty();
+		loadSequential(r, results, order);
+
+		if (ignoreScalar || !order) {
+			return results;
+		}
+		return processScalar(results);
+	}
+
+	private List<T> loadSequential(final CsvEntityReader<T> r, final List<T> results, final boolean order) throws IOException {
 		int offset = 0;
 
 		List<String> values;
-		while ((values = r.readValues()) != null && (order || limit <= 0 || results.size() < limit)) {
+		while ((values = r.readMappedValues()) != null && (order || limit <= 0 || results.size() < limit)) {
 			if (beanFilter == null && !order && offset < this.offset) {
 				offset++;
 				continue;
@@ -113,6 +187,39 @@ public class CsvEntityListHandler<T> extends AbstractBeanListHandler<T, CsvEntit
 			}
 			results.add(entity);
 		}
+		return results;
+	}
+
+	private List<T> loadParallel(final CsvEntityReader<T> r, final boolean ignoreScalar) throws IOException {
+		final List<T> results = new ArrayList<>();
+		final boolean order = ignoreScalar || orders != null && !orders.isEmpty();
+
+		// 並び替えを行わずに取得最大件数が指定されている場合は、必要な件数の論理行を読込んだ時点で読込みを終えます。
+		// Java プログラム要素フィルタが設定されている場合は必要な論理行の数が変換するまで分からないため、逐次に読込みます。
+		int max = 0;
+		if (!order && limit > 0) {
+			if (beanFilter != null) {
+				return loadSequential(r, results, order);
+			}
+			max = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(offset, 0) + limit);
+		}
+		final List<T> entities = new ArrayList<>();
+		r.readParallel(entities, executor, batchSize, ordered, max);
+		int offset = 0;
+
+		for (final T entity : entities) {
+			if (!order && limit > 0 && results.size() >= limit) {
+				break;
+			}
+			if (beanFilter != null && !beanFilter.accept(entity)) {
+				continue;
+			}
+			if (!order && offset < this.offset) {
+				offset++;
+				continue;
+			}
+			results.add(entity);
+		}
 
 		if (ignoreScalar || !order) {
 			return results;
@@ -120,6 +227,30 @@ public class CsvEntityListHandler<T> extends AbstractBeanListHandler<T, CsvEntit
 		return processScalar(results);
 	}
 
+	@Override
+	protected Iterator<T> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		@SuppressWarnings("resource")
+		final CsvEntityReader<T> r = new CsvEntityReader<>(reader, template);
+		final boolean order = ignoreScalar || orders != null && !orders.isEmpty();
+		return new CsvListIterator<T>(order ? 0 : offset, order ? 0 : limit) {
+			@Override
+			protected T read() throws IOException {
+				List<String> values;
+				while ((values = r.readMappedValues()) != null) {
+					if (beanFilter == null && skip()) {
+						continue;
+					}
+					final T entity = r.toEntity(values);
+					if (beanFilter != null && (!beanFilter.accept(entity) || skip())) {
+						continue;
+					}
+					return entity;
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<T> entities, final CsvWriter writer) throws IOException {
 		if (entities == null) {
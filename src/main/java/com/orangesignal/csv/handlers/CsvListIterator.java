@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv.handlers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 区切り文字形式データを 1 件ずつ読込みながら取得データの開始位置と限度数を適用する反復子の基底クラスです。
+ *
+ * @param <T> 区切り文字形式データの型
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+abstract class CsvListIterator<T> implements Iterator<T> {
+
+	/**
+	 * 取得データの開始位置を保持します。
+	 */
+	private final int offset;
+
+	/**
+	 * 取得データの限度数を保持します。
+	 */
+	private final int limit;
+
+	/**
+	 * 読飛ばしたデータ数を保持します。
+	 */
+	private int skipped;
+
+	/**
+	 * 返したデータ数を保持します。
+	 */
+	private int count;
+
+	/**
+	 * 先読みしたデータを保持します。
+	 */
+	private T next;
+
+	/**
+	 * 終端に達したかどうかを保持します。
+	 */
+	private boolean end;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param offset 取得データの開始位置
+	 * @param limit 取得データの限度数
+	 */
+	protected CsvListIterator(final int offset, final int limit) {
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	/**
+	 * フィルタの基準を満たす次のデータを読込んで返します。
+	 *
+	 * @return 次のデータ。終端に達した場合は {@code null}
+	 * @throws IOException 入出力例外が発生した場合
+	 */
+	protected abstract T read() throws IOException;
+
+	/**
+	 * 取得データの開始位置に達していない場合は読飛ばしたデータとして数えます。
+	 *
+	 * @return データを読飛ばす場合は {@code true}
+	 */
+	protected final boolean skip() {
+		if (skipped < offset) {
+			skipped++;
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next != null) {
+			return true;
+		}
+		if (end || limit > 0 && count >= limit) {
+			return false;
+		}
+		try {
+			next = read();
+		} catch (final IOException e) {
+			end = true;
+			throw new UncheckedIOException(e);
+		}
+		if (next == null) {
+			end = true;
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final T result = next;
+		next = null;
+		count++;
+		return result;
+	}
+
+}
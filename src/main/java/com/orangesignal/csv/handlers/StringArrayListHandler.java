@@ -19,6 +19,7 @@ package com.orangesignal.csv.handlers;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import com.orangesignal.csv.CsvReader;
@@ -73,6 +74,23 @@ public class StringArrayListHandler extends AbstractCsvListHandler<String[], Str
 		return results;
 	}
 
+	@Override
+	protected Iterator<String[]> iterator(final CsvReader reader, final boolean ignoreScalar) throws IOException {
+		return new CsvListIterator<String[]>(ignoreScalar ? 0 : offset, ignoreScalar ? 0 : limit) {
+			@Override
+			protected String[] read() throws IOException {
+				List<String> values;
+				while ((values = reader.readValues()) != null) {
+					if (valueFilter != null && !valueFilter.accept(values) || skip()) {
+						continue;
+					}
+					return values.toArray(new String[0]);
+				}
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void save(final List<String[]> list, final CsvWriter writer) throws IOException {
 		for (final String[] values : list) {
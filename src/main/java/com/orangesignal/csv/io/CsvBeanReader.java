@@ -19,6 +19,7 @@ package com.orangesignal.csv.io;
 import java.io.Closeable;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -185,6 +186,54 @@ public class CsvBeanReader<T> implements Closeable {
 		}
 	}
 
+	/**
+	 * 最大 {@code max} 件の論理行を読込みJava プログラム要素として指定されたリストへ追加します。<p>
+	 * このメソッドは 1 回の同期でまとめて読込むため、{@link #read()} を繰返し呼出すよりも論理行ごとのオーバーヘッドを抑えることができます。
+	 * 同じリストを繰返し指定する場合は、呼出し前にリストをクリアして下さい。
+	 *
+	 * @param list Java プログラム要素を追加するリスト
+	 * @param max 読込む論理行の最大数
+	 * @return 追加した件数。ストリームの終わりに達している場合は {@code 0}
+	 * @throws IllegalArgumentException {@code list} が {@code null} の場合。または {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public int readBatch(final List<? super T> list, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (max <= 0) {
+			throw new IllegalArgumentException("max <= 0");
+		}
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			int count = 0;
+			List<String> values;
+			while (count < max && (values = nextValues()) != null) {
+				list.add(convert(values));
+				count++;
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * 最大 {@code max} 件の論理行を読込みJava プログラム要素のリストとして返します。
+	 *
+	 * @param max 読込む論理行の最大数
+	 * @return Java プログラム要素のリスト。ストリームの終わりに達している場合は空のリスト
+	 * @throws IllegalArgumentException {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readBatch(List, int)
+	 * @since 3.0
+	 */
+	public List<T> readBatch(final int max) throws IOException {
+		final List<T> list = new ArrayList<>();
+		readBatch(list, max);
+		return list;
+	}
+
 	/**
 	 * 論理行を読込み CSV トークンの値をリストとして返します。
 	 * 
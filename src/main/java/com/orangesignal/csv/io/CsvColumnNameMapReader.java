@@ -18,6 +18,8 @@ package com.orangesignal.csv.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -54,6 +56,11 @@ public class CsvColumnNameMapReader implements Closeable {
 	 */
 	private Map<String, String> base;
 
+	/**
+	 * 読込む項目位置の集合を保持します。すべての項目を読込む場合は {@code null} です。
+	 */
+	private BitSet columnPositions;
+
 	/**
 	 * 区切り文字形式データフィルタを保持します。
 	 */
@@ -104,7 +111,9 @@ public class CsvColumnNameMapReader implements Closeable {
 
 	private void ensureHeader() throws IOException {
 		synchronized (this) {
+			boolean header = false;
 			if (columnNames == null) {
+				header = true;
 				columnNames = Collections.unmodifiableList(reader.readValues());
 				if (columnNames == null) {
 					// ヘッダがない場合は例外をスローします。
@@ -118,6 +127,11 @@ public class CsvColumnNameMapReader implements Closeable {
 				for (final String columnName : columnNames) {
 					base.put(columnName, null);
 				}
+				// 項目名のリストが指定された場合は項目名のない項目を読飛ばします。
+				if (!header) {
+					columnPositions = new BitSet(columnCount);
+					columnPositions.set(0, columnCount);
+				}
 			}
 		}
 	}
@@ -164,7 +178,7 @@ public class CsvColumnNameMapReader implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			final List<String> values = nextValues();
+			final List<String> values = nextValues(columnPositions);
 			if (values == null) {
 				return null;
 			}
@@ -172,6 +186,54 @@ public class CsvColumnNameMapReader implements Closeable {
 		}
 	}
 
+	/**
+	 * 最大 {@code max} 件の論理行を読込み項目名と項目値のマップとして指定されたリストへ追加します。<p>
+	 * このメソッドは 1 回の同期でまとめて読込むため、{@link #read()} を繰返し呼出すよりも論理行ごとのオーバーヘッドを抑えることができます。
+	 * 同じリストを繰返し指定する場合は、呼出し前にリストをクリアして下さい。
+	 *
+	 * @param list 項目名と項目値のマップを追加するリスト
+	 * @param max 読込む論理行の最大数
+	 * @return 追加した件数。ストリームの終わりに達している場合は {@code 0}
+	 * @throws IllegalArgumentException {@code list} が {@code null} の場合。または {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public int readBatch(final List<? super Map<String, String>> list, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (max <= 0) {
+			throw new IllegalArgumentException("max <= 0");
+		}
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			int count = 0;
+			List<String> values;
+			while (count < max && (values = nextValues(columnPositions)) != null) {
+				list.add(convert(values));
+				count++;
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * 最大 {@code max} 件の論理行を読込み項目名と項目値のマップのリストとして返します。
+	 *
+	 * @param max 読込む論理行の最大数
+	 * @return 項目名と項目値のマップのリスト。ストリームの終わりに達している場合は空のリスト
+	 * @throws IllegalArgumentException {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readBatch(List, int)
+	 * @since 3.0
+	 */
+	public List<Map<String, String>> readBatch(final int max) throws IOException {
+		final List<Map<String, String>> list = new ArrayList<>();
+		readBatch(list, max);
+		return list;
+	}
+
 	/**
 	 * 論理行を読込み CSV トークンの値をリストとして返します。
 	 * 
@@ -182,7 +244,25 @@ public class CsvColumnNameMapReader implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			return nextValues();
+			return nextValues(null);
+		}
+	}
+
+	/**
+	 * 論理行を読込み、{@link #toMap(List)} での変換に必要な CSV トークンの値をリストとして返します。<p>
+	 * 項目名のリストが指定された場合、項目名のない項目は値の文字列を構築せずに読飛ばすため、値は {@code null} になります。
+	 * 読込んだ値は {@link #toMap(List)} で変換する場合にのみ使用して下さい。
+	 * フィルタが設定されている場合は {@link #readValues()} と同じです。
+	 * 
+	 * @return CSV トークンの値をリスト。ストリームの終わりに達している場合は {@code null}
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public List<String> readMappedValues() throws IOException {
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			return nextValues(columnPositions);
 		}
 	}
 
@@ -201,9 +281,9 @@ public class CsvColumnNameMapReader implements Closeable {
 		}
 	}
 
-	private List<String> nextValues() throws IOException {
+	private List<String> nextValues(final BitSet positions) throws IOException {
 		List<String> values;
-		while ((values = reader.readValues()) != null) {
+		while ((values = reader.readValues(filter == null ? positions : null)) != null) {
 			if (filter != null && !filter.accept(columnNames, values)) {
 				continue;
 			}
@@ -19,6 +19,8 @@ package com.orangesignal.csv.io;
 import java.io.Closeable;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +55,11 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 	private Field[] fields;
 	private Map<String, Object[]> fieldColumnsMap;
 
+	/**
+	 * 読込む項目位置の集合を保持します。すべての項目を読込む場合は {@code null} です。
+	 */
+	private BitSet columnPositions;
+
 	// ------------------------------------------------------------------------
 	// 利便性のための静的メソッド
 
@@ -137,6 +144,8 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 				template.setupColumnMappingIfNeed();
 				fields = template.getType().getDeclaredFields();
 				fieldColumnsMap = template.createFieldAndColumnsMap();
+				// 項目に対応付けられていない項目は値の文字列を構築せずに読飛ばします。
+				columnPositions = template.createColumnPositions(columnNames);
 			}
 		}
 	}
@@ -153,6 +162,7 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 			columnNames = null;
 			fields = null;
 			fieldColumnsMap = null;
+			columnPositions = null;
 		}
 	}
 
@@ -183,7 +193,7 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			final List<String> values = nextValues();
+			final List<String> values = nextValues(columnPositions);
 			if (values == null) {
 				return null;
 			}
@@ -191,6 +201,54 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 		}
 	}
 
+	/**
+	 * 最大 {@code max} 件の論理行を読込みJava プログラム要素として指定されたリストへ追加します。<p>
+	 * このメソッドは 1 回の同期でまとめて読込むため、{@link #read()} を繰返し呼出すよりも論理行ごとのオーバーヘッドを抑えることができます。
+	 * 同じリストを繰返し指定する場合は、呼出し前にリストをクリアして下さい。
+	 *
+	 * @param list Java プログラム要素を追加するリスト
+	 * @param max 読込む論理行の最大数
+	 * @return 追加した件数。ストリームの終わりに達している場合は {@code 0}
+	 * @throws IllegalArgumentException {@code list} が {@code null} の場合。または {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public int readBatch(final List<? super T> list, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (max <= 0) {
+			throw new IllegalArgumentException("max <= 0");
+		}
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			int count = 0;
+			List<String> values;
+			while (count < max && (values = nextValues(columnPositions)) != null) {
+				list.add(convert(values));
+				count++;
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * 最大 {@code max} 件の論理行を読込みJava プログラム要素のリストとして返します。
+	 *
+	 * @param max 読込む論理行の最大数
+	 * @return Java プログラム要素のリスト。ストリームの終わりに達している場合は空のリスト
+	 * @throws IllegalArgumentException {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readBatch(List, int)
+	 * @since 3.0
+	 */
+	public List<T> readBatch(final int max) throws IOException {
+		final List<T> list = new ArrayList<>();
+		readBatch(list, max);
+		return list;
+	}
+
 	/**
 	 * 論理行を読込み CSV トークンの値をリストとして返します。
 	 * 
@@ -201,7 +259,25 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			return nextValues();
+			return nextValues(null);
+		}
+	}
+
+	/**
+	 * 論理行を読込み、{@link #toBean(List)} での変換に必要な CSV トークンの値をリストとして返します。<p>
+	 * 項目名とフィールド名のマップに含まれない項目は値の文字列を構築せずに読飛ばすため、値は {@code null} になります。
+	 * 読込んだ値は {@link #toBean(List)} で変換する場合にのみ使用して下さい。
+	 * フィルタが設定されている場合は {@link #readValues()} と同じです。
+	 * 
+	 * @return CSV トークンの値をリスト。ストリームの終わりに達している場合は {@code null}
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public List<String> readMappedValues() throws IOException {
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			return nextValues(columnPositions);
 		}
 	}
 
@@ -220,9 +296,9 @@ public class CsvColumnNameMappingBeanReader<T> implements Closeable {
 		}
 	}
 
-	private List<String> nextValues() throws IOException {
+	private List<String> nextValues(final BitSet positions) throws IOException {
 		List<String> values;
-		while ((values = reader.readValues()) != null) {
+		while ((values = reader.readValues(positions)) != null) {
 			if (template.isAccept(columnNames, values)) {
 				continue;
 			}
@@ -18,6 +18,7 @@ package com.orangesignal.csv.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -104,6 +105,53 @@ public class CsvColumnPositionMapReader implements Closeable {
 		}
 	}
 
+	/**
+	 * 最大 {@code max} 件の論理行を読込み項目位置と項目値のマップとして指定されたリストへ追加します。<p>
+	 * このメソッドは 1 回の同期でまとめて読込むため、{@link #read()} を繰返し呼出すよりも論理行ごとのオーバーヘッドを抑えることができます。
+	 * 同じリストを繰返し指定する場合は、呼出し前にリストをクリアして下さい。
+	 *
+	 * @param list 項目位置と項目値のマップを追加するリスト
+	 * @param max 読込む論理行の最大数
+	 * @return 追加した件数。ストリームの終わりに達している場合は {@code 0}
+	 * @throws IllegalArgumentException {@code list} が {@code null} の場合。または {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public int readBatch(final List<? super SortedMap<Integer, String>> list, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (max <= 0) {
+			throw new IllegalArgumentException("max <= 0");
+		}
+		synchronized (this) {
+			ensureOpen();
+			int count = 0;
+			List<String> values;
+			while (count < max && (values = nextValues()) != null) {
+				list.add(convert(values));
+				count++;
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * 最大 {@code max} 件の論理行を読込み項目位置と項目値のマップのリストとして返します。
+	 *
+	 * @param max 読込む論理行の最大数
+	 * @return 項目位置と項目値のマップのリスト。ストリームの終わりに達している場合は空のリスト
+	 * @throws IllegalArgumentException {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readBatch(List, int)
+	 * @since 3.0
+	 */
+	public List<SortedMap<Integer, String>> readBatch(final int max) throws IOException {
+		final List<SortedMap<Integer, String>> list = new ArrayList<>();
+		readBatch(list, max);
+		return list;
+	}
+
 	/**
 	 * 論理行を読込み CSV トークンの値をリストとして返します。
 	 * 
@@ -21,10 +21,23 @@ import static com.orangesignal.csv.bean.FieldUtils.setFieldValue;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.text.DateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import com.orangesignal.csv.CsvReader;
 import com.orangesignal.csv.annotation.CsvColumn;
@@ -32,6 +45,8 @@ import com.orangesignal.csv.annotation.CsvColumnException;
 import com.orangesignal.csv.annotation.CsvColumns;
 import com.orangesignal.csv.annotation.CsvEntity;
 import com.orangesignal.csv.bean.CsvEntityTemplate;
+import com.orangesignal.csv.bean.CsvValueConverter;
+import com.orangesignal.csv.bean.SimpleCsvValueConverter;
 
 /**
  * 区切り文字形式データ注釈要素 {@link CsvEntity} で注釈付けされた Java プログラム要素で区切り文字形式データアクセスを行う区切り文字形式入力ストリームを提供します。
@@ -58,6 +73,11 @@ public class CsvEntityReader<T> implements Closeable {
 
 	private Field[] fields;
 
+	/**
+	 * 読込む項目位置の集合を保持します。すべての項目を読込む場合は {@code null} です。
+	 */
+	private BitSet columnPositions;
+
 	// ------------------------------------------------------------------------
 	// 利便性のための静的メソッド
 
@@ -145,6 +165,8 @@ public class CsvEntityReader<T> implements Closeable {
 				fields = template.getType().getDeclaredFields();
 				template.prepare(names, fields);
 				columnNames = Collections.unmodifiableList(names);
+				// 項目に対応付けられていない項目は値の文字列を構築せずに読飛ばします。
+				columnPositions = template.createColumnPositions(names);
 			}
 		}
 	}
@@ -160,6 +182,7 @@ public class CsvEntityReader<T> implements Closeable {
 			reader = null;
 			columnNames = null;
 			fields = null;
+			columnPositions = null;
 		}
 	}
 
@@ -191,14 +214,247 @@ public class CsvEntityReader<T> implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			final List<String> values = nextValues();
+			final List<String> values = nextValues(columnPositions);
 			if (values == null) {
 				return null;
 			}
-			return convert(values);
+			return convert(values, template, reader.getStartLineNumber());
+		}
+	}
+
+	/**
+	 * 最大 {@code max} 件の論理行を読込みJava プログラム要素として指定されたリストへ追加します。<p>
+	 * このメソッドは 1 回の同期でまとめて読込むため、{@link #read()} を繰返し呼出すよりも論理行ごとのオーバーヘッドを抑えることができます。
+	 * 同じリストを繰返し指定する場合は、呼出し前にリストをクリアして下さい。
+	 *
+	 * @param list Java プログラム要素を追加するリスト
+	 * @param max 読込む論理行の最大数
+	 * @return 追加した件数。ストリームの終わりに達している場合は {@code 0}
+	 * @throws IllegalArgumentException {@code list} が {@code null} の場合。または {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public int readBatch(final List<? super T> list, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (max <= 0) {
+			throw new IllegalArgumentException("max <= 0");
+		}
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			int count = 0;
+			List<String> values;
+			while (count < max && (values = nextValues(columnPositions)) != null) {
+				list.add(convert(values, template, reader.getStartLineNumber()));
+				count++;
+			}
+			return count;
 		}
 	}
 
+	/**
+	 * 最大 {@code max} 件の論理行を読込みJava プログラム要素のリストとして返します。
+	 *
+	 * @param max 読込む論理行の最大数
+	 * @return Java プログラム要素のリスト。ストリームの終わりに達している場合は空のリスト
+	 * @throws IllegalArgumentException {@code max} が {@code 0} 以下の場合
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see #readBatch(List, int)
+	 * @since 3.0
+	 */
+	public List<T> readBatch(final int max) throws IOException {
+		final List<T> list = new ArrayList<>();
+		readBatch(list, max);
+		return list;
+	}
+
+	/**
+	 * 残りのすべての論理行を読込み、指定されたエグゼキュータで Java プログラム要素へ変換して指定されたリストへ追加します。<p>
+	 * このメソッドは呼出し元のスレッドで文字の復号と CSV トークンの解析を行い、{@code batchSize} 件ごとの値リストを変換処理としてエグゼキュータへ投入します。
+	 * 変換処理は型変換とフィールドへの値の設定を行い、その間に呼出し元のスレッドは次の論理行を読込みます。
+	 * 書式オブジェクトはスレッドセーフではないため、同時に実行される変換処理ごとに注釈から書式オブジェクトを構築し、このメソッドの呼出しの間再利用します。
+	 * 項目値コンバータは変換処理で共有するため、スレッドセーフな実装を使用して下さい。
+	 * ただし、{@link SimpleCsvValueConverter} に設定された日時書式は書式オブジェクトごとに複製します。<p>
+	 * {@code ordered} が {@code true} の場合は論理行の順に追加し、{@code false} の場合は変換を終えた順に追加します。
+	 *
+	 * @param list Java プログラム要素を追加するリスト
+	 * @param executor 変換処理を実行するエグゼキュータ
+	 * @param batchSize 1 回の変換処理で変換する論理行の最大数
+	 * @param ordered 論理行の順に追加するかどうか
+	 * @return 追加した件数
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 * @throws CsvColumnException 区切り文字形式のデータ項目の検証操作実行中にエラーが発生した場合
+	 * @throws IOException 入出力エラーが発生した場合。または変換処理の完了を待機中に割込まれた場合
+	 * @since 3.0
+	 */
+	public int readParallel(final List<? super T> list, final Executor executor, final int batchSize, final boolean ordered) throws IOException {
+		return readParallel(list, executor, batchSize, ordered, 0);
+	}
+
+	/**
+	 * 最大 {@code max} 件の論理行を読込み、指定されたエグゼキュータで Java プログラム要素へ変換して指定されたリストへ追加します。<p>
+	 * {@code max} 件の論理行を読込んだ時点で読込みを終え、それ以降の論理行の読込みと変換は行いません。
+	 * その他の動作は {@link #readParallel(List, Executor, int, boolean)} と同じです。
+	 *
+	 * @param list Java プログラム要素を追加するリスト
+	 * @param executor 変換処理を実行するエグゼキュータ
+	 * @param batchSize 1 回の変換処理で変換する論理行の最大数
+	 * @param ordered 論理行の順に追加するかどうか
+	 * @param max 読込む論理行の最大数。{@code 0} 以下の場合は残りのすべての論理行を読込みます
+	 * @return 追加した件数
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 * @throws CsvColumnException 区切り文字形式のデータ項目の検証操作実行中にエラーが発生した場合
+	 * @throws IOException 入出力エラーが発生した場合。または変換処理の完了を待機中に割込まれた場合
+	 * @since 3.0
+	 */
+	public int readParallel(final List<? super T> list, final Executor executor, final int batchSize, final boolean ordered, final int max) throws IOException {
+		if (list == null) {
+			throw new IllegalArgumentException("List must not be null");
+		}
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor must not be null");
+		}
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize <= 0");
+		}
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+
+			// 変換処理の結果を待たずに読込む論理行の数を抑えるため、投入済みの変換処理の数を制限します。
+			final int maxPending = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+			final Deque<Future<List<T>>> pending = new ArrayDeque<>();
+			final BlockingQueue<Future<List<T>>> completed = ordered ? null : new LinkedBlockingQueue<Future<List<T>>>();
+			// 書式オブジェクトは同時に実行される変換処理の数まで構築し、変換処理の間で再利用します。
+			final ConcurrentLinkedQueue<CsvEntityTemplate<T>> templates = new ConcurrentLinkedQueue<>();
+			int count = 0;
+			int read = 0;
+			try {
+				while (max <= 0 || read < max) {
+					while (pending.size() >= maxPending) {
+						count += drain(list, pending, completed);
+					}
+					final int size = max <= 0 ? batchSize : Math.min(batchSize, max - read);
+					final List<List<String>> batch = new ArrayList<>(size);
+					final int[] lineNumbers = new int[size];
+					List<String> values;
+					while (batch.size() < size && (values = nextValues(columnPositions)) != null) {
+						lineNumbers[batch.size()] = reader.getStartLineNumber();
+						batch.add(values);
+					}
+					if (batch.isEmpty()) {
+						break;
+					}
+					read += batch.size();
+					final FutureTask<List<T>> task = new FutureTask<List<T>>(() -> convert(batch, lineNumbers, templates)) {
+						@Override
+						protected void done() {
+							if (completed != null) {
+								completed.add(this);
+							}
+						}
+					};
+					pending.add(task);
+					executor.execute(task);
+					if (batch.size() < size) {
+						break;
+					}
+				}
+				while (!pending.isEmpty()) {
+					count += drain(list, pending, completed);
+				}
+				return count;
+			} finally {
+				for (final Future<List<T>> future : pending) {
+					future.cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 投入済みの変換処理を 1 つ待機して、変換された Java プログラム要素を指定されたリストへ追加します。
+	 *
+	 * @param list Java プログラム要素を追加するリスト
+	 * @param pending 投入済みの変換処理
+	 * @param completed 完了した変換処理。論理行の順に追加する場合は {@code null}
+	 * @return 追加した件数
+	 * @throws IOException 変換処理で例外が発生した場合。または待機中に割込まれた場合
+	 */
+	private int drain(final List<? super T> list, final Deque<Future<List<T>>> pending, final BlockingQueue<Future<List<T>>> completed) throws IOException {
+		try {
+			final Future<List<T>> future;
+			if (completed != null) {
+				future = completed.take();
+				pending.remove(future);
+			} else {
+				future = pending.removeFirst();
+			}
+			final List<T> entities = future.get();
+			list.addAll(entities);
+			return entities.size();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * 指定された値リストを、このリーダーのテンプレートとは独立した書式オブジェクトで Java プログラム要素へ変換して返します。<p>
+	 * 書式オブジェクトは {@code templates} から取出し、変換を終えたら戻します。空の場合は新たに構築します。
+	 *
+	 * @param batch 値リストのリスト
+	 * @param lineNumbers 値リストごとの論理行の開始行番号
+	 * @param templates 準備済みの書式オブジェクト
+	 * @return 変換された Java プログラム要素のリスト
+	 * @throws IOException 変換中にエラーが発生した場合
+	 */
+	private List<T> convert(final List<List<String>> batch, final int[] lineNumbers, final ConcurrentLinkedQueue<CsvEntityTemplate<T>> templates) throws IOException {
+		CsvEntityTemplate<T> worker = templates.poll();
+		if (worker == null) {
+			worker = newWorkerTemplate();
+		}
+		final List<T> results = new ArrayList<>(batch.size());
+		for (int i = 0; i < batch.size(); i++) {
+			results.add(convert(batch.get(i), worker, lineNumbers[i]));
+		}
+		templates.add(worker);
+		return results;
+	}
+
+	/**
+	 * このリーダーのテンプレートとは独立した書式オブジェクトを持つ、準備済みのテンプレートを構築して返します。
+	 *
+	 * @return 準備済みのテンプレート
+	 */
+	private CsvEntityTemplate<T> newWorkerTemplate() {
+		final CsvEntityTemplate<T> worker = new CsvEntityTemplate<>(template.getType());
+		CsvValueConverter valueConverter = template.getValueConverter();
+		if (valueConverter.getClass() == SimpleCsvValueConverter.class) {
+			final DateFormat dateFormat = ((SimpleCsvValueConverter) valueConverter).getDateFormat();
+			if (dateFormat != null) {
+				final SimpleCsvValueConverter copy = new SimpleCsvValueConverter();
+				copy.setDateFormat((DateFormat) dateFormat.clone());
+				valueConverter = copy;
+			}
+		}
+		worker.setValueConverter(valueConverter);
+		worker.prepare(columnNames, fields);
+		return worker;
+	}
+
 	/**
 	 * 論理行を読込み CSV トークンの値をリストとして返します。
 	 * 
@@ -209,7 +465,25 @@ public class CsvEntityReader<T> implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			return nextValues();
+			return nextValues(null);
+		}
+	}
+
+	/**
+	 * 論理行を読込み、{@link #toEntity(List)} での変換に必要な CSV トークンの値をリストとして返します。<p>
+	 * 項目に対応付けられていない項目は値の文字列を構築せずに読飛ばすため、値は {@code null} になります。
+	 * 読込んだ値は {@link #toEntity(List)} で変換する場合にのみ使用して下さい。
+	 * フィルタが設定されている場合は {@link #readValues()} と同じです。
+	 * 
+	 * @return CSV トークンの値をリスト。ストリームの終わりに達している場合は {@code null}
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @since 3.0
+	 */
+	public List<String> readMappedValues() throws IOException {
+		synchronized (this) {
+			ensureOpen();
+			ensureHeader();
+			return nextValues(columnPositions);
 		}
 	}
 
@@ -225,13 +499,13 @@ public class CsvEntityReader<T> implements Closeable {
 		synchronized (this) {
 			ensureOpen();
 			ensureHeader();
-			return convert(values);
+			return convert(values, template, reader.getStartLineNumber());
 		}
 	}
 
-	private List<String> nextValues() throws IOException {
+	private List<String> nextValues(final BitSet positions) throws IOException {
 		List<String> values;
-		while ((values = reader.readValues()) != null) {
+		while ((values = reader.readValues(positions)) != null) {
 			if (template.isAccept(columnNames, values)) {
 				continue;
 			}
@@ -240,7 +514,7 @@ public class CsvEntityReader<T> implements Closeable {
 		return null;
 	}
 
-	private T convert(final List<String> values) throws IOException {
+	private T convert(final List<String> values, final CsvEntityTemplate<T> template, final int lineNumber) throws IOException {
 		final T entity = template.createBean();
 		for (final Field field : fields) {
 			Object object = null;
@@ -266,7 +540,7 @@ public class CsvEntityReader<T> implements Closeable {
 						}
 						if (value == null && column.required()) {
 							// 必須項目の場合に、値がない場合は例外をスローします。
-							throw new CsvColumnException(String.format("[line: %d] %s must not be null", reader.getStartLineNumber(), columnNames.get(pos)), values);
+							throw new CsvColumnException(String.format("[line: %d] %s must not be null", lineNumber, columnNames.get(pos)), values);
 						}
 						Array.set(object, arrayIndex++, template.stringToObject(field, value));
 					}
@@ -286,7 +560,7 @@ public class CsvEntityReader<T> implements Closeable {
 								sb.append(column.defaultValue());
 							} else if (column.required()) {
 								// 必須項目の場合に、値がない場合は例外をスローします。
-								throw new CsvColumnException(String.format("[line: %d] %s must not be null", reader.getStartLineNumber(), columnNames.get(pos)), values);
+								throw new CsvColumnException(String.format("[line: %d] %s must not be null", lineNumber, columnNames.get(pos)), values);
 							}
 						}
 					}
@@ -304,7 +578,7 @@ public class CsvEntityReader<T> implements Closeable {
 					}
 					if (value == null && column.required()) {
 						// 必須項目の場合に、値がない場合は例外をスローします。
-						throw new CsvColumnException(String.format("[line: %d] %s must not be null", reader.getStartLineNumber(), columnNames.get(pos)), values);
+						throw new CsvColumnException(String.format("[line: %d] %s must not be null", lineNumber, columnNames.get(pos)), values);
 					}
 					object = template.stringToObject(field, value);
 				}
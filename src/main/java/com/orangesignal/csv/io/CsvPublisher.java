@@ -0,0 +1,408 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.orangesignal.csv.CsvReader;
+
+/**
+ * 区切り文字形式入力ストリームから読込んだデータを {@link Flow.Subscriber} へ発行する {@link Flow.Publisher} を提供します。<p>
+ * このクラスは購読者から {@link Flow.Subscription#request(long)} で要求された件数だけ論理行を読込みます。
+ * 読込みは指定されたエグゼキュータ上で最大 {@code batchSize} 件ずつ行われ、
+ * 要求が無くなると次の要求まで読込みを停止するので、遅い購読者に合わせて解析が抑制されます。<p>
+ * 区切り文字形式入力ストリームは終わりに達した場合、エラーが発生した場合、または購読が取消された場合に閉じられます。
+ * 1 つの区切り文字形式入力ストリームは 1 度しか読込めないため、購読できるのは最初の 1 つの購読者だけです。
+ *
+ * @param <T> 発行するデータの型
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class CsvPublisher<T> implements Flow.Publisher<T> {
+
+	/**
+	 * デフォルトのバッチサイズです。
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * 1 件のデータを読込む操作です。
+	 *
+	 * @param <T> データの型
+	 */
+	@FunctionalInterface
+	private interface CsvSource<T> {
+
+		/**
+		 * 1 件のデータを読込んで返します。
+		 *
+		 * @return データ。ストリームの終わりに達した場合は {@code null}
+		 * @throws IOException 入出力エラーが発生した場合
+		 */
+		T read() throws IOException;
+
+	}
+
+	/**
+	 * 読込み終えた時に閉じる入力ストリームを保持します。
+	 */
+	private final Closeable closeable;
+
+	/**
+	 * 1 件のデータを読込む操作を保持します。
+	 */
+	private final CsvSource<T> source;
+
+	/**
+	 * 読込みを実行するエグゼキュータを保持します。
+	 */
+	private final Executor executor;
+
+	/**
+	 * 1 回の実行で読込む最大件数を保持します。
+	 */
+	private final int batchSize;
+
+	/**
+	 * 購読されたかどうかを保持します。
+	 */
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	// ------------------------------------------------------------------------
+	// 利便性のための静的メソッド
+
+	/**
+	 * 区切り文字形式データの値リストを発行する新しい {@link CsvPublisher} のインスタンスを返します。
+	 *
+	 * @param reader 区切り文字形式入力ストリーム
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @return 新しい {@link CsvPublisher} のインスタンス
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	public static CsvPublisher<List<String>> newInstance(final CsvReader reader, final Executor executor) {
+		return newInstance(reader, executor, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * 区切り文字形式データの値リストを発行する新しい {@link CsvPublisher} のインスタンスを返します。
+	 *
+	 * @param reader 区切り文字形式入力ストリーム
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @param batchSize 1 回の実行で読込む最大件数
+	 * @return 新しい {@link CsvPublisher} のインスタンス
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	public static CsvPublisher<List<String>> newInstance(final CsvReader reader, final Executor executor, final int batchSize) {
+		if (reader == null) {
+			throw new IllegalArgumentException("CsvReader must not be null");
+		}
+		return new CsvPublisher<>(reader, reader::readValues, executor, batchSize);
+	}
+
+	/**
+	 * 項目名と項目値のマップを発行する新しい {@link CsvPublisher} のインスタンスを返します。
+	 *
+	 * @param reader 区切り文字形式データの項目名と項目値のマップで区切り文字形式データアクセスを行う区切り文字形式入力ストリーム
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @return 新しい {@link CsvPublisher} のインスタンス
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	public static CsvPublisher<Map<String, String>> newInstance(final CsvColumnNameMapReader reader, final Executor executor) {
+		return newInstance(reader, executor, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * 項目名と項目値のマップを発行する新しい {@link CsvPublisher} のインスタンスを返します。
+	 *
+	 * @param reader 区切り文字形式データの項目名と項目値のマップで区切り文字形式データアクセスを行う区切り文字形式入力ストリーム
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @param batchSize 1 回の実行で読込む最大件数
+	 * @return 新しい {@link CsvPublisher} のインスタンス
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	public static CsvPublisher<Map<String, String>> newInstance(final CsvColumnNameMapReader reader, final Executor executor, final int batchSize) {
+		if (reader == null) {
+			throw new IllegalArgumentException("CsvColumnNameMapReader must not be null");
+		}
+		return new CsvPublisher<>(reader, reader::read, executor, batchSize);
+	}
+
+	/**
+	 * 区切り文字形式データ注釈要素で注釈付けされた Java プログラム要素を発行する新しい {@link CsvPublisher} のインスタンスを返します。
+	 *
+	 * @param reader 区切り文字形式データ注釈要素で注釈付けされた Java プログラム要素で区切り文字形式データアクセスを行う区切り文字形式入力ストリーム
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @return 新しい {@link CsvPublisher} のインスタンス
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	public static <T> CsvPublisher<T> newInstance(final CsvEntityReader<T> reader, final Executor executor) {
+		return newInstance(reader, executor, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * 区切り文字形式データ注釈要素で注釈付けされた Java プログラム要素を発行する新しい {@link CsvPublisher} のインスタンスを返します。
+	 *
+	 * @param reader 区切り文字形式データ注釈要素で注釈付けされた Java プログラム要素で区切り文字形式データアクセスを行う区切り文字形式入力ストリーム
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @param batchSize 1 回の実行で読込む最大件数
+	 * @return 新しい {@link CsvPublisher} のインスタンス
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	public static <T> CsvPublisher<T> newInstance(final CsvEntityReader<T> reader, final Executor executor, final int batchSize) {
+		if (reader == null) {
+			throw new IllegalArgumentException("CsvEntityReader must not be null");
+		}
+		return new CsvPublisher<>(reader, reader::read, executor, batchSize);
+	}
+
+	// ------------------------------------------------------------------------
+	// コンストラクタ
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param closeable 読込み終えた時に閉じる入力ストリーム
+	 * @param source 1 件のデータを読込む操作
+	 * @param executor 読込みを実行するエグゼキュータ
+	 * @param batchSize 1 回の実行で読込む最大件数
+	 * @throws IllegalArgumentException パラメータが不正な場合
+	 */
+	private CsvPublisher(final Closeable closeable, final CsvSource<T> source, final Executor executor, final int batchSize) {
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor must not be null");
+		}
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size <= 0");
+		}
+		this.closeable = closeable;
+		this.source = source;
+		this.executor = executor;
+		this.batchSize = batchSize;
+	}
+
+	// ------------------------------------------------------------------------
+	// オーバーライド メソッド
+
+	@Override
+	public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must not be null");
+		}
+		if (!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override public void request(final long n) {}
+				@Override public void cancel() {}
+			});
+			subscriber.onError(new IllegalStateException("CsvPublisher already subscribed"));
+			return;
+		}
+		final CsvSubscription subscription = new CsvSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	// ------------------------------------------------------------------------
+	// アクセサ
+
+	/**
+	 * 1 回の実行で読込む最大件数を返します。
+	 *
+	 * @return 1 回の実行で読込む最大件数
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	// ------------------------------------------------------------------------
+	// 内部クラス
+
+	/**
+	 * 購読者の要求に応じて読込みを行う購読です。<p>
+	 * 読込みと購読者への通知は同時に 1 つのタスクだけが行い、
+	 * 購読者の要求や取消は未処理の通知数を増やしてタスクを起動するだけです。
+	 */
+	private final class CsvSubscription implements Flow.Subscription, Runnable {
+
+		/**
+		 * 購読者を保持します。
+		 */
+		private final Flow.Subscriber<? super T> subscriber;
+
+		/**
+		 * 未発行の要求件数を保持します。
+		 */
+		private final AtomicLong demand = new AtomicLong();
+
+		/**
+		 * 未処理の通知数を保持します。{@code 0} でない間はタスクが実行中または実行待ちです。
+		 */
+		private final AtomicInteger wip = new AtomicInteger();
+
+		/**
+		 * 購読が取消されたかどうかを保持します。
+		 */
+		private volatile boolean cancelled;
+
+		/**
+		 * 購読者へ通知する不正な要求の例外を保持します。
+		 */
+		private volatile Throwable error;
+
+		/**
+		 * 購読が終了したかどうかを保持します。このフィールドはタスクからのみ参照されます。
+		 */
+		private boolean done;
+
+		CsvSubscription(final Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("Non-positive request: " + n);
+			} else {
+				long current;
+				long next;
+				do {
+					current = demand.get();
+					next = current + n;
+					if (next < 0) {
+						next = Long.MAX_VALUE;
+					}
+				} while (!demand.compareAndSet(current, next));
+			}
+			signal();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			signal();
+		}
+
+		private void signal() {
+			if (wip.getAndIncrement() == 0) {
+				try {
+					executor.execute(this);
+				} catch (final RuntimeException e) {
+					done = true;
+					close();
+					subscriber.onError(e);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			if (done) {
+				return;
+			}
+			int emitted = 0;
+			for (;;) {
+				final int missed = wip.get();
+				long requested = demand.get();
+				while (requested > 0 && emitted < batchSize) {
+					if (terminated()) {
+						return;
+					}
+					final T item;
+					try {
+						item = source.read();
+					} catch (final IOException | RuntimeException e) {
+						finish(e);
+						return;
+					}
+					if (item == null) {
+						finish(null);
+						return;
+					}
+					subscriber.onNext(item);
+					emitted++;
+					requested = requested == Long.MAX_VALUE ? requested : demand.decrementAndGet();
+				}
+				if (terminated()) {
+					return;
+				}
+				if (requested > 0) {
+					// バッチサイズ分を読込んだのでエグゼキュータへ制御を返して続きを実行します。
+					try {
+						executor.execute(this);
+					} catch (final RuntimeException e) {
+						finish(e);
+					}
+					return;
+				}
+				if (wip.addAndGet(-missed) == 0) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * 購読が取消されたか不正な要求を受けた場合に購読を終了します。
+		 *
+		 * @return 購読を終了した場合は {@code true}
+		 */
+		private boolean terminated() {
+			if (cancelled) {
+				done = true;
+				close();
+				return true;
+			}
+			final Throwable e = error;
+			if (e != null) {
+				finish(e);
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * 入力ストリームを閉じて購読者へ完了またはエラーを通知します。
+		 *
+		 * @param e エラー。正常に完了した場合は {@code null}
+		 */
+		private void finish(final Throwable e) {
+			done = true;
+			cancelled = true;
+			close();
+			if (e == null) {
+				subscriber.onComplete();
+			} else {
+				subscriber.onError(e);
+			}
+		}
+
+		private void close() {
+			try {
+				closeable.close();
+			} catch (final IOException e) {
+				// 無視する
+			}
+		}
+
+	}
+
+}
@@ -20,12 +20,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import com.orangesignal.csv.Csv;
 import com.orangesignal.csv.CsvConfig;
+import com.orangesignal.csv.CsvListHandler;
 import com.orangesignal.csv.LhaEntryFilter;
 import com.orangesignal.csv.ZipEntryFilter;
 import com.orangesignal.csv.bean.AbstractCsvBeanTemplate;
@@ -132,6 +137,26 @@ public abstract class AbstractCsvLoader<T, O extends AbstractCsvBeanTemplate<T,
 		return Csv.load(file, cfg, getCsvListHandler());
 	}
 
+	@Override
+	public List<T> from(final Collection<Path> paths) throws IOException {
+		return Csv.load(paths, cfg, getCsvListHandler(), Csv.DEFAULT_CONCURRENCY, null);
+	}
+
+	@Override
+	public List<T> from(final Collection<Path> paths, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		return Csv.load(paths, cfg, getCsvListHandler(), concurrency, errors);
+	}
+
+	@Override
+	public List<T> from(final Collection<Path> paths, final String encoding, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		return Csv.load(paths, encoding, cfg, getCsvListHandler(), concurrency, errors);
+	}
+
+	@Override
+	public List<T> from(final Collection<Path> paths, final String encoding, final Supplier<? extends CsvListHandler<T>> handlerFactory, final int concurrency, final Map<Path, Exception> errors) throws IOException {
+		return Csv.load(paths, encoding, cfg, handlerFactory, concurrency, errors);
+	}
+
 	@Override
 	public List<T> from(final LhaInputStream in, final String encoding, final LhaEntryFilter filter) throws IOException {
 		return Csv.load(in, encoding, cfg, getCsvListHandler(), filter);
@@ -16,6 +16,8 @@
 
 package com.orangesignal.csv.manager;
 
+import java.util.concurrent.Executor;
+
 import com.orangesignal.csv.CsvConfig;
 import com.orangesignal.csv.bean.CsvEntityOperation;
 import com.orangesignal.csv.bean.CsvEntityTemplate;
@@ -46,4 +48,34 @@ public class CsvEntityLoader<T> extends AbstractCsvLoader<T, CsvEntityTemplate<T
 		return this;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * {@code from} で型変換とフィールドへの値の設定を指定されたエグゼキュータで並行して実行するように設定します。<p>
+	 * 論理行の順序は保持されます。
+	 *
+	 * @param executor 型変換とフィールドへの値の設定を実行するエグゼキュータ。{@code null} の場合は呼出し元のスレッドで実行します
+	 * @return このオブジェクトへの参照
+	 * @see CsvEntityListHandler#parallel(Executor)
+	 * @since 3.0
+	 */
+	public CsvEntityLoader<T> parallel(final Executor executor) {
+		getCsvListHandler().parallel(executor);
+		return this;
+	}
+
+	/**
+	 * {@code from} で型変換とフィールドへの値の設定を指定されたエグゼキュータで並行して実行するように設定します。
+	 *
+	 * @param executor 型変換とフィールドへの値の設定を実行するエグゼキュータ。{@code null} の場合は呼出し元のスレッドで実行します
+	 * @param batchSize 1 回の変換処理で変換する論理行の最大数
+	 * @param ordered 論理行の順序を保持するかどうか
+	 * @return このオブジェクトへの参照
+	 * @throws IllegalArgumentException {@code batchSize} が {@code 0} 以下の場合
+	 * @see CsvEntityListHandler#parallel(Executor, int, boolean)
+	 * @since 3.0
+	 */
+	public CsvEntityLoader<T> parallel(final Executor executor, final int batchSize, final boolean ordered) {
+		getCsvListHandler().parallel(executor, batchSize, ordered);
+		return this;
+	}
+
+}
@@ -20,10 +20,15 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
+import com.orangesignal.csv.CsvListHandler;
 import com.orangesignal.csv.LhaEntryFilter;
 import com.orangesignal.csv.ZipEntryFilter;
 import com.orangesignal.csv.filters.BeanFilter;
@@ -127,6 +132,68 @@ public interface CsvLoader<T> {
 	 */
 	List<T> from(File file) throws IOException;
 
+	/**
+	 * 指定されたファイル群をプラットフォームのデフォルトエンコーディングで最大 {@link com.orangesignal.csv.Csv#DEFAULT_CONCURRENCY} 個ずつ並行して読込み、
+	 * 変換された区切り文字形式データのインスタンスを返します。
+	 *
+	 * @param paths 入力ファイル群
+	 * @return 変換された区切り文字形式データのインスタンス
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see com.orangesignal.csv.Csv#load(Collection, com.orangesignal.csv.CsvConfig, com.orangesignal.csv.CsvListHandler, int, Map)
+	 * @since 3.0
+	 */
+	List<T> from(Collection<Path> paths) throws IOException;
+
+	/**
+	 * 指定されたファイル群をプラットフォームのデフォルトエンコーディングで並行して読込み、
+	 * 変換された区切り文字形式データのインスタンスを返します。
+	 * {@code errors} が {@code null} でない場合、失敗したファイルと例外を {@code errors} へ追加して残りのファイルの処理を続けます。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return 変換された区切り文字形式データのインスタンス
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see com.orangesignal.csv.Csv#load(Collection, com.orangesignal.csv.CsvConfig, com.orangesignal.csv.CsvListHandler, int, Map)
+	 * @since 3.0
+	 */
+	List<T> from(Collection<Path> paths, int concurrency, Map<Path, Exception> errors) throws IOException;
+
+	/**
+	 * 指定されたファイル群を指定されたエンコーディングで並行して読込み、
+	 * 変換された区切り文字形式データのインスタンスを返します。
+	 * {@code errors} が {@code null} でない場合、失敗したファイルと例外を {@code errors} へ追加して残りのファイルの処理を続けます。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param encoding エンコーディング
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return 変換された区切り文字形式データのインスタンス
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see com.orangesignal.csv.Csv#load(Collection, String, com.orangesignal.csv.CsvConfig, com.orangesignal.csv.CsvListHandler, int, Map)
+	 * @since 3.0
+	 */
+	List<T> from(Collection<Path> paths, String encoding, int concurrency, Map<Path, Exception> errors) throws IOException;
+
+	/**
+	 * 指定されたファイル群を指定されたエンコーディングで並行して読込み、
+	 * {@code handlerFactory} から取得したハンドラによって変換された区切り文字形式データのインスタンスを返します。<p>
+	 * ファイルの読込みと変換はファイルごとに並行して行います。ファイルの内容はメモリへ一括して読込みません。
+	 * ハンドラは並行して使用できないため、このローダーのハンドラの代わりにファイルごとに {@code handlerFactory} から取得したハンドラで変換します。
+	 * {@code errors} が {@code null} でない場合、失敗したファイルと例外を {@code errors} へ追加して残りのファイルの処理を続けます。
+	 *
+	 * @param paths 入力ファイル群
+	 * @param encoding エンコーディング。{@code null} の場合はプラットフォームのデフォルトエンコーディング
+	 * @param handlerFactory 区切り文字形式データアクセスハンドラを生成する処理
+	 * @param concurrency 並行して読込むファイルの最大数
+	 * @param errors 失敗したファイルと例外を追加するマップ。または {@code null}
+	 * @return 変換された区切り文字形式データのインスタンス
+	 * @throws IOException 入出力エラーが発生した場合
+	 * @see com.orangesignal.csv.Csv#load(Collection, String, com.orangesignal.csv.CsvConfig, Supplier, int, Map)
+	 * @since 3.0
+	 */
+	List<T> from(Collection<Path> paths, String encoding, Supplier<? extends CsvListHandler<T>> handlerFactory, int concurrency, Map<Path, Exception> errors) throws IOException;
+
 	// ------------------------------------------------------------------------
 	// static load (compress support)
 
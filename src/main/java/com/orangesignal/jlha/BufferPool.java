@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 符号器と復号器が使用する配列をスレッドごとに再利用するためのプールです。<p>
+ * 符号器と復号器は構築時に {@link #takeBytes(int)} や {@link #takeInts(int)} で配列を借り、{@code close()} で返却します。
+ * 小さなエントリを多数含む書庫を扱う場合でも、エントリごとに大きな配列を確保せずに済みます。
+ * 返却された配列は返却したスレッドのプールに、長さごとに {@value #MAX_POOLED} 個まで、合計で {@value #MAX_POOLED_BYTES} バイトまで保持されます。
+ * 上限を超えて返却された配列は保持せずに破棄します。
+ * 返却した配列は以降使用してはいけません。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+final class BufferPool {
+
+	/**
+	 * 長さごとに保持する配列の最大数です。
+	 */
+	static final int MAX_POOLED = 4;
+
+	/**
+	 * スレッドごとに保持する配列の合計バイト数の上限です。
+	 */
+	static final long MAX_POOLED_BYTES = 4L << 20;
+
+	/**
+	 * スレッドごとのプールです。
+	 */
+	private static final ThreadLocal<BufferPool> POOLS = ThreadLocal.withInitial(BufferPool::new);
+
+	/**
+	 * 長さごとの返却された byte 配列です。
+	 */
+	private final Map<Integer, Deque<byte[]>> bytes = new HashMap<>();
+
+	/**
+	 * 長さごとの返却された int 配列です。
+	 */
+	private final Map<Integer, Deque<int[]>> ints = new HashMap<>();
+
+	/**
+	 * 保持している配列の合計バイト数です。
+	 */
+	private long pooledBytes;
+
+	/**
+	 * インスタンス化できない事を強制します。
+	 */
+	private BufferPool() {}
+
+	/**
+	 * 全ての要素が 0 の byte 配列を借ります。<p>
+	 * このスレッドのプールに同じ長さの配列があればそれを、なければ新しい配列を返します。
+	 *
+	 * @param length 配列の長さ
+	 * @return 全ての要素が 0 の byte 配列
+	 */
+	static byte[] takeBytes(final int length) {
+		final BufferPool pool = POOLS.get();
+		final Deque<byte[]> free = pool.bytes.get(length);
+		final byte[] buffer = free != null ? free.poll() : null;
+		if (buffer == null) {
+			return new byte[length];
+		}
+		pool.pooledBytes -= length;
+		Arrays.fill(buffer, (byte) 0);
+		return buffer;
+	}
+
+	/**
+	 * 借りた byte 配列を返却します。
+	 *
+	 * @param buffer 返却する配列。{@code null} の場合は何もしません
+	 */
+	static void giveBytes(final byte[] buffer) {
+		if (buffer != null) {
+			final BufferPool pool = POOLS.get();
+			final long size = buffer.length;
+			if (pool.pooledBytes + size > MAX_POOLED_BYTES) {
+				return;
+			}
+			final Deque<byte[]> free = pool.bytes.computeIfAbsent(buffer.length, length -> new ArrayDeque<>());
+			if (free.size() < MAX_POOLED) {
+				free.push(buffer);
+				pool.pooledBytes += size;
+			}
+		}
+	}
+
+	/**
+	 * 全ての要素が 0 の int 配列を借ります。<p>
+	 * このスレッドのプールに同じ長さの配列があればそれを、なければ新しい配列を返します。
+	 *
+	 * @param length 配列の長さ
+	 * @return 全ての要素が 0 の int 配列
+	 */
+	static int[] takeInts(final int length) {
+		final BufferPool pool = POOLS.get();
+		final Deque<int[]> free = pool.ints.get(length);
+		final int[] buffer = free != null ? free.poll() : null;
+		if (buffer == null) {
+			return new int[length];
+		}
+		pool.pooledBytes -= (long) length * Integer.BYTES;
+		Arrays.fill(buffer, 0);
+		return buffer;
+	}
+
+	/**
+	 * 借りた int 配列を返却します。
+	 *
+	 * @param buffer 返却する配列。{@code null} の場合は何もしません
+	 */
+	static void giveInts(final int[] buffer) {
+		if (buffer != null) {
+			final BufferPool pool = POOLS.get();
+			final long size = (long) buffer.length * Integer.BYTES;
+			if (pool.pooledBytes + size > MAX_POOLED_BYTES) {
+				return;
+			}
+			final Deque<int[]> free = pool.ints.computeIfAbsent(buffer.length, length -> new ArrayDeque<>());
+			if (free.size() < MAX_POOLED) {
+				free.push(buffer);
+				pool.pooledBytes += size;
+			}
+		}
+	}
+
+	/**
+	 * このスレッドのプールが保持している配列をすべて破棄します。
+	 */
+	static void clear() {
+		POOLS.remove();
+	}
+
+	/**
+	 * このスレッドのプールが保持している配列の合計バイト数を返します。
+	 *
+	 * @return 保持している配列の合計バイト数
+	 */
+	static long pooledBytes() {
+		return POOLS.get().pooledBytes;
+	}
+
+}
@@ -99,12 +99,28 @@ public class CRC16 implements Checksum {
 	private int init;
 
 	/**
-	 * CRC16値の更新用テーブル
+	 * CRC16値の更新用テーブル。<br>
+	 * 要素 [ k * 256 + i ] は データ i の後に k バイトの 0 が続く場合の CRC値の変化量であり、 k が 0 の部分は 1 バイトずつ更新する通常の表と同じである。
 	 */
 	private int[] crcTable;
 
+	/**
+	 * 一度に更新するバイト数。
+	 */
+	private static final int SLICES = 8;
+
+	/**
+	 * 1 バイトのデータが取り得る値の数。
+	 */
+	private static final int BYTE_PATTERNS = 256;
+
 	private static final int BYTE_BITS = 8;
 
+	/**
+	 * デフォルトの多項式の CRC16値の更新用テーブル。 全ての CRC16 で共有する。
+	 */
+	private static final int[] DEFAULT_TABLE = makeSliceTable(makeCrcTable(DEFAULT_POLY));
+
 	// ------------------------------------------------------------------
 	// Constructor
 
@@ -131,7 +147,10 @@ public class CRC16 implements Checksum {
 	 * @param init crc の初期値
 	 */
 	public CRC16(final int poly, final int init) {
-		this(makeCrcTable(poly), init);
+		this.crcTable = poly == DEFAULT_POLY ? DEFAULT_TABLE : makeSliceTable(makeCrcTable(poly));
+		this.init = init;
+
+		reset();
 	}
 
 	/**
@@ -141,10 +160,8 @@ public class CRC16 implements Checksum {
 	 * @param init crc の初期値
 	 */
 	public CRC16(final int[] crcTable, final int init) {
-		final int BYTE_PATTERNS = 256;
-
 		if (crcTable.length == BYTE_PATTERNS) {
-			this.crcTable = crcTable;
+			this.crcTable = makeSliceTable(crcTable);
 			this.init = init;
 
 			reset();
@@ -159,7 +176,6 @@ public class CRC16 implements Checksum {
 	 * @param poly CRC算出用の多項式
 	 */
 	private static int[] makeCrcTable(final int poly) {
-		final int BYTE_PATTERNS = 256;
 		final int[] crcTable = new int[BYTE_PATTERNS];
 
 		for (int i = 0; i < BYTE_PATTERNS; i++) {
@@ -177,6 +193,30 @@ public class CRC16 implements Checksum {
 		return crcTable;
 	}
 
+	/**
+	 * 1 バイトずつ更新する CRC 値算出用の表から、 SLICES バイトずつ更新するための表を作成する。<br>
+	 * 表の要素が 16ビットに収まらない場合は 1 バイトずつ更新する表と同じ結果を得られないため、 先頭の 256 要素のみの表を返す。
+	 * 
+	 * @param crcTable 1 バイトずつ更新する CRC 値算出用の表
+	 * @return SLICES バイトずつ更新するための表
+	 */
+	private static int[] makeSliceTable(final int[] crcTable) {
+		for (final int value : crcTable) {
+			if ((value & ~0xFFFF) != 0) {
+				return crcTable.clone();
+			}
+		}
+
+		final int[] sliceTable = new int[SLICES * BYTE_PATTERNS];
+		System.arraycopy(crcTable, 0, sliceTable, 0, BYTE_PATTERNS);
+		for (int i = BYTE_PATTERNS; i < sliceTable.length; i++) {
+			final int prev = sliceTable[i - BYTE_PATTERNS];
+			sliceTable[i] = prev >> BYTE_BITS ^ crcTable[prev & 0xFF];
+		}
+
+		return sliceTable;
+	}
+
 	// ------------------------------------------------------------------
 	// method of java.util.zip.Checksum
 
@@ -200,7 +240,8 @@ public class CRC16 implements Checksum {
 	}
 
 	/**
-	 * buffer で指定したバイト配列で crc の値を更新する。
+	 * buffer で指定したバイト配列で crc の値を更新する。<br>
+	 * 8 バイトずつ 8つの表を引いて更新するため、 update( int ) を繰り返すより高速である。
 	 * 
 	 * @param buffer crcを更新する データを持つバイト配列
 	 * @param index データの開始位置
@@ -208,26 +249,36 @@ public class CRC16 implements Checksum {
 	 */
 	@Override
 	public void update(final byte[] buffer, int index, int length) {
-		while (0 < (index & 0x03) && 0 < length--) {
-			crc = crc >> BYTE_BITS ^ crcTable[(crc ^ buffer[index++]) & 0xFF];
+		final int[] table = crcTable;
+		int crc = this.crc;
+
+		// crc が 16ビットに収まらない間は 1 バイトずつ更新する
+		while ((crc & ~0xFFFF) != 0 && 0 < length--) {
+			crc = crc >> BYTE_BITS ^ table[(crc ^ buffer[index++]) & 0xFF];
 		}
 
-		while (4 <= length) {
-			int data = buffer[index++] & 0xFF | (buffer[index++] & 0xFF) << 8 | (buffer[index++] & 0xFF) << 16 | buffer[index++] << 24;
-
-			crc = crc >> BYTE_BITS ^ crcTable[(crc ^ data) & 0xFF];
-			data >>>= BYTE_BITS;
-			crc = crc >> BYTE_BITS ^ crcTable[(crc ^ data) & 0xFF];
-			data >>>= BYTE_BITS;
-			crc = crc >> BYTE_BITS ^ crcTable[(crc ^ data) & 0xFF];
-			data >>>= BYTE_BITS;
-			crc = crc >> BYTE_BITS ^ crcTable[(crc ^ data) & 0xFF];
-			length -= 4;
+		if (table.length == SLICES * BYTE_PATTERNS) {
+			while (SLICES <= length) {
+				final int low = crc ^ (buffer[index] & 0xFF | (buffer[index + 1] & 0xFF) << 8);
+
+				crc = table[0x700 | low & 0xFF]
+						^ table[0x600 | low >> 8]
+						^ table[0x500 | buffer[index + 2] & 0xFF]
+						^ table[0x400 | buffer[index + 3] & 0xFF]
+						^ table[0x300 | buffer[index + 4] & 0xFF]
+						^ table[0x200 | buffer[index + 5] & 0xFF]
+						^ table[0x100 | buffer[index + 6] & 0xFF]
+						^ table[buffer[index + 7] & 0xFF];
+				index += SLICES;
+				length -= SLICES;
+			}
 		}
 
 		while (0 < length--) {
-			crc = crc >> BYTE_BITS ^ crcTable[(crc ^ buffer[index++]) & 0xFF];
+			crc = crc >> BYTE_BITS ^ table[(crc ^ buffer[index++]) & 0xFF];
 		}
+
+		this.crc = crc;
 	}
 
 	/**
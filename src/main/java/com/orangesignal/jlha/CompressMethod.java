@@ -28,8 +28,12 @@ package com.orangesignal.jlha;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 
 /**
  * LHAの各種定数を定義する。
@@ -119,6 +123,80 @@ final class CompressMethod {
 	 */
 	public static final String LZ5 = "-lz5-";
 
+	/**
+	 * 圧縮レベルを示す文字列。 DEFAULT_LEVEL は LhaProperty のデフォルトの生成式どおりに圧縮することを示す "default" である。
+	 * 
+	 * @since 3.0
+	 */
+	public static final String DEFAULT_LEVEL = "default";
+
+	/**
+	 * 圧縮レベルを示す文字列。 FASTEST_LEVEL は 生成式がデフォルトのものと同等である場合に、 SingleProbeHashSearch と LzssOutputStream.GREEDY で 圧縮率より圧縮速度を優先して圧縮することを示す "fastest" である。
+	 * 
+	 * @since 3.0
+	 */
+	public static final String FASTEST_LEVEL = "fastest";
+
+	/**
+	 * 符号器を生成するインターフェイス。
+	 * 
+	 * @since 3.0
+	 */
+	interface EncoderFactory {
+
+		/**
+		 * データを圧縮し、outに出力するストリームを生成する。
+		 * 
+		 * @param out 圧縮データ出力先のストリーム
+		 * @return データを圧縮し、outに出力するストリーム
+		 */
+		OutputStream newEncoder(OutputStream out);
+
+	}
+
+	/**
+	 * 復号器を生成するインターフェイス。
+	 * 
+	 * @since 3.0
+	 */
+	interface DecoderFactory {
+
+		/**
+		 * in から圧縮されたデータを解凍し 供給する入力ストリームを生成する。
+		 * 
+		 * @param in 圧縮データを供給するストリーム
+		 * @param length 解凍後のデータの長さ
+		 * @return in から圧縮されたデータを解凍し 供給する入力ストリーム
+		 */
+		InputStream newDecoder(InputStream in, long length);
+
+	}
+
+	/**
+	 * デフォルトの生成式の HashAndChainedListSearch を生成するファクトリ。
+	 */
+	static final LzssSearchMethodFactory SEARCH = (dictionarySize, maxMatch, threshold, textBuffer) -> new HashAndChainedListSearch(dictionarySize, maxMatch, threshold, textBuffer, new HashDefault(textBuffer), 256);
+
+	/**
+	 * 圧縮レベル FASTEST_LEVEL で使用する SingleProbeHashSearch を生成するファクトリ。
+	 */
+	static final LzssSearchMethodFactory FASTEST_SEARCH = SingleProbeHashSearch::new;
+
+	/**
+	 * デフォルトの生成式と同じ符号器を リフレクションを使用せずに生成するファクトリ。 キーは LhaProperty のキー lha.???.encoder
+	 */
+	private static final Map<String, EncoderFactory> ENCODERS = createEncoders(SEARCH, (dictionarySize, maxMatch, threshold, textBuffer) -> new HashAndChainedListSearch(dictionarySize, maxMatch, threshold, textBuffer, new HashShort(textBuffer), 256), LzssOutputStream.LAZY);
+
+	/**
+	 * 圧縮レベル FASTEST_LEVEL で 生成式がデフォルトのものと同等である場合に使用する符号器を生成するファクトリ。 キーは LhaProperty のキー lha.???.encoder
+	 */
+	private static final Map<String, EncoderFactory> FASTEST_ENCODERS = createEncoders(FASTEST_SEARCH, FASTEST_SEARCH, LzssOutputStream.GREEDY);
+
+	/**
+	 * デフォルトの生成式と同じ復号器を リフレクションを使用せずに生成するファクトリ。 キーは LhaProperty のキー lha.???.decoder
+	 */
+	private static final Map<String, DecoderFactory> DECODERS = createDecoders();
+
 	/**
 	 * デフォルトコンストラクタ使用不可
 	 */
@@ -245,14 +323,18 @@ final class CompressMethod {
 	// shared method
 
 	/**
-	 * property に設定された生成式を利用して method の圧縮法でデータを圧縮し、outに出力するストリームを構築する。
+	 * property に設定された生成式を利用して method の圧縮法でデータを圧縮し、outに出力するストリームを構築する。<br>
+	 * 生成式がデフォルトのものと同等である場合は 生成式を解析せずに、 予め用意されたファクトリで構築する。
+	 * この場合、 property の lha.level が FASTEST_LEVEL であれば 圧縮速度を優先する符号器を構築する。
 	 * 
 	 * @param out 圧縮データ出力先のストリーム
 	 * @param method 圧縮法識別子
 	 * @param property 各圧縮形式に対応した符号器の生成式等が含まれるプロパティ
 	 * @return method の圧縮法でデータを圧縮し、outに出力するストリーム
+	 * @exception IllegalArgumentException lha.level が DEFAULT_LEVEL、 FASTEST_LEVEL のいずれでもない場合
 	 */
 	public static OutputStream connectEncoder(final OutputStream out, final String method, final Properties property) {
+		final boolean fastest = isFastest(property);
 		final String key = "lha." + getCore(method) + ".encoder";
 
 		String generator = property.getProperty(key);
@@ -265,6 +347,11 @@ final class CompressMethod {
 			packages = LhaProperty.getProperty("lha.packages");
 		}
 
+		final EncoderFactory factory = (fastest ? FASTEST_ENCODERS : ENCODERS).get(key);
+		if (factory != null && LhaProperty.isDefaultGenerator(key, generator, packages)) {
+			return factory.newEncoder(out);
+		}
+
 		final Hashtable<String, Object> substitute = new Hashtable<>();
 		substitute.put("out", out);
 
@@ -272,7 +359,47 @@ final class CompressMethod {
 	}
 
 	/**
-	 * property に設定された生成式を利用して in から method の圧縮法で圧縮されたデータを解凍し 供給する入力ストリームを構築する。
+	 * property に設定された生成式を利用して method の圧縮法でデータを圧縮し、outに出力するストリームを構築する。<br>
+	 * executor が null でなく、method が -lh4-, -lh5-, -lh6-, -lh7- のいずれかで 生成式がデフォルトのものと同等である場合は、
+	 * 入力をチャンクに分割して executor で並列に圧縮するストリームを構築する。 それ以外の場合は connectEncoder( out, method, property ) と同じストリームを構築する。<br>
+	 * property の lha.level は 各チャンクの圧縮にも適用される。
+	 * 
+	 * @param out 圧縮データ出力先のストリーム
+	 * @param method 圧縮法識別子
+	 * @param property 各圧縮形式に対応した符号器の生成式等が含まれるプロパティ
+	 * @param executor チャンクを並列に圧縮するエグゼキュータ。または null
+	 * @return method の圧縮法でデータを圧縮し、outに出力するストリーム
+	 * @exception IllegalArgumentException lha.level が DEFAULT_LEVEL、 FASTEST_LEVEL のいずれでもない場合
+	 * @since 3.0
+	 */
+	public static OutputStream connectEncoder(final OutputStream out, final String method, final Properties property, final Executor executor) {
+		if (executor != null && ParallelLh5OutputStream.isSupported(method)) {
+			final boolean fastest = isFastest(property);
+			final String key = "lha." + getCore(method) + ".encoder";
+
+			String generator = property.getProperty(key);
+			if (generator == null) {
+				generator = LhaProperty.getProperty(key);
+			}
+
+			String packages = property.getProperty("lha.packages");
+			if (packages == null) {
+				packages = LhaProperty.getProperty("lha.packages");
+			}
+
+			if (LhaProperty.isDefaultGenerator(key, generator, packages)) {
+				if (fastest) {
+					return new ParallelLh5OutputStream(out, method, executor, FASTEST_SEARCH, LzssOutputStream.GREEDY);
+				}
+				return new ParallelLh5OutputStream(out, method, executor);
+			}
+		}
+		return connectEncoder(out, method, property);
+	}
+
+	/**
+	 * property に設定された生成式を利用して in から method の圧縮法で圧縮されたデータを解凍し 供給する入力ストリームを構築する。<br>
+	 * 生成式がデフォルトのものと同等である場合は 生成式を解析せずに、 予め用意されたファクトリで構築する。
 	 * 
 	 * @param in 圧縮データを供給するストリーム
 	 * @param method 圧縮法識別子
@@ -292,6 +419,11 @@ final class CompressMethod {
 			packages = LhaProperty.getProperty("lha.packages");
 		}
 
+		final DecoderFactory factory = DECODERS.get(key);
+		if (factory != null && LhaProperty.isDefaultGenerator(key, generator, packages)) {
+			return factory.newDecoder(in, length);
+		}
+
 		final Hashtable<String, Object> substitute = new Hashtable<>();
 		substitute.put("in", in);
 		substitute.put("length", length);
@@ -301,6 +433,76 @@ final class CompressMethod {
 
 	// ------------------------------------------------------------------
 	// local method
+
+	/**
+	 * LhaProperty のデフォルトの生成式 lha.???.encoder と同じ後段の符号器を使用して 符号器を生成するファクトリの Map を構築する。
+	 * 
+	 * @param search LZSS 圧縮に使用する LzssSearchMethod を生成するファクトリ
+	 * @param shortSearch -lzs- 形式の LZSS 圧縮に使用する LzssSearchMethod を生成するファクトリ
+	 * @param parse LzssOutputStream の解析方法を示す文字列
+	 * @return 符号器を生成するファクトリの Map
+	 */
+	private static Map<String, EncoderFactory> createEncoders(final LzssSearchMethodFactory search, final LzssSearchMethodFactory shortSearch, final String parse) {
+		final Map<String, EncoderFactory> encoders = new HashMap<>();
+		encoders.put("lha.lzs.encoder", out -> new LzssOutputStream(new PostLzsEncoder(out), shortSearch, parse));
+		encoders.put("lha.lz4.encoder", out -> out);
+		encoders.put("lha.lz5.encoder", out -> new LzssOutputStream(new PostLz5Encoder(out), search, parse));
+		encoders.put("lha.lhd.encoder", out -> out);
+		encoders.put("lha.lh0.encoder", out -> out);
+		encoders.put("lha.lh1.encoder", out -> new LzssOutputStream(new PostLh1Encoder(out), search, parse));
+		encoders.put("lha.lh2.encoder", out -> new LzssOutputStream(new PostLh2Encoder(out), search, parse));
+		encoders.put("lha.lh3.encoder", out -> new LzssOutputStream(new PostLh3Encoder(out), search, parse));
+		encoders.put("lha.lh4.encoder", out -> new LzssOutputStream(new PostLh5Encoder(out, LH4), search, parse));
+		encoders.put("lha.lh5.encoder", out -> new LzssOutputStream(new PostLh5Encoder(out, LH5), search, parse));
+		encoders.put("lha.lh6.encoder", out -> new LzssOutputStream(new PostLh5Encoder(out, LH6), search, parse));
+		encoders.put("lha.lh7.encoder", out -> new LzssOutputStream(new PostLh5Encoder(out, LH7), search, parse));
+		return Collections.unmodifiableMap(encoders);
+	}
+
+	/**
+	 * LhaProperty のデフォルトの生成式 lha.???.decoder と同じ復号器を生成するファクトリの Map を構築する。
+	 * 
+	 * @return 復号器を生成するファクトリの Map
+	 */
+	private static Map<String, DecoderFactory> createDecoders() {
+		final Map<String, DecoderFactory> decoders = new HashMap<>();
+		decoders.put("lha.lzs.decoder", (in, length) -> new LzssInputStream(new PreLzsDecoder(in), length));
+		decoders.put("lha.lz4.decoder", (in, length) -> in);
+		decoders.put("lha.lz5.decoder", (in, length) -> new LzssInputStream(new PreLz5Decoder(in), length));
+		decoders.put("lha.lhd.decoder", (in, length) -> in);
+		decoders.put("lha.lh0.decoder", (in, length) -> in);
+		decoders.put("lha.lh1.decoder", (in, length) -> new LzssInputStream(new PreLh1Decoder(in), length));
+		decoders.put("lha.lh2.decoder", (in, length) -> new LzssInputStream(new PreLh2Decoder(in), length));
+		decoders.put("lha.lh3.decoder", (in, length) -> new LzssInputStream(new PreLh3Decoder(in), length));
+		decoders.put("lha.lh4.decoder", (in, length) -> new LzssInputStream(new PreLh5Decoder(in, LH4), length));
+		decoders.put("lha.lh5.decoder", (in, length) -> new LzssInputStream(new PreLh5Decoder(in, LH5), length));
+		decoders.put("lha.lh6.decoder", (in, length) -> new LzssInputStream(new PreLh5Decoder(in, LH6), length));
+		decoders.put("lha.lh7.decoder", (in, length) -> new LzssInputStream(new PreLh5Decoder(in, LH7), length));
+		return Collections.unmodifiableMap(decoders);
+	}
+
+	/**
+	 * property に設定された圧縮レベル lha.level が FASTEST_LEVEL かを返す。
+	 * 
+	 * @param property 圧縮レベル等が含まれるプロパティ
+	 * @return 圧縮レベルが FASTEST_LEVEL であれば true、 DEFAULT_LEVEL であれば false
+	 * @exception IllegalArgumentException 圧縮レベルが DEFAULT_LEVEL、 FASTEST_LEVEL のいずれでもない場合
+	 */
+	private static boolean isFastest(final Properties property) {
+		String level = property.getProperty("lha.level");
+		if (level == null) {
+			level = LhaProperty.getProperty("lha.level");
+		}
+
+		if (FASTEST_LEVEL.equalsIgnoreCase(level)) {
+			return true;
+		} else if (level == null || DEFAULT_LEVEL.equalsIgnoreCase(level)) {
+			return false;
+		} else {
+			throw new IllegalArgumentException("Unknown compress level. " + level);
+		}
+	}
+
 	/**
 	 * 圧縮法識別子 の前後の '-' を取り去って LhaProperty のキー lha.???.encoder / lha.???.decoder の ??? に入る文字列を生成する。
 	 * 
@@ -171,6 +171,24 @@ public class HashAndChainedListSearch implements LzssSearchMethod {
 	 * @exception NoSuchMethodError HashMethodClassName で与えられたクラスが コンストラクタ HashMethod( byte[] )を持たない場合
 	 */
 	public HashAndChainedListSearch(final int dictionarySize, final int maxMatch, final int threshold, final byte[] textBuffer, final String HashMethodClassName, final int SearchLimitCount) {
+		this(dictionarySize, maxMatch, threshold, textBuffer, createHashMethod(HashMethodClassName, textBuffer), SearchLimitCount);
+	}
+
+	/**
+	 * ハッシュと連結リストを使用した LzssSearchMethod を構築する。<br>
+	 * ハッシュ関数には hashMethod を使用するため、 リフレクションを使用しない。
+	 * 
+	 * @param dictionarySize 辞書サイズ
+	 * @param maxMatch 最長一致長
+	 * @param threshold 圧縮、非圧縮の閾値
+	 * @param textBuffer LZSS圧縮を施すためのバッファ
+	 * @param hashMethod textBuffer のハッシュ関数
+	 * @param SearchLimitCount 探索試行回数の上限
+	 * 
+	 * @exception IllegalArgumentException SearchLimitCount が0以下の場合
+	 * @since 3.0
+	 */
+	public HashAndChainedListSearch(final int dictionarySize, final int maxMatch, final int threshold, final byte[] textBuffer, final HashMethod hashMethod, final int SearchLimitCount) {
 		if (0 < SearchLimitCount) {
 
 			this.dictionarySize = dictionarySize;
@@ -179,27 +197,16 @@ public class HashAndChainedListSearch implements LzssSearchMethod {
 			this.textBuffer = textBuffer;
 			dictionaryLimit = this.dictionarySize;
 			this.searchLimitCount = SearchLimitCount;
-
-			try {
-				hashMethod = (HashMethod) Factory.createInstance(HashMethodClassName, new Object[] { textBuffer });
-			} catch (final ClassNotFoundException exception) {
-				throw new NoClassDefFoundError(exception.getMessage());
-			} catch (final InvocationTargetException exception) {
-				throw new Error(exception.getTargetException().getMessage());
-			} catch (final NoSuchMethodException exception) {
-				throw new NoSuchMethodError(exception.getMessage());
-			} catch (final InstantiationException exception) {
-				throw new InstantiationError(exception.getMessage());
-			}
+			this.hashMethod = hashMethod;
 
 			// ハッシュテーブル初期化
-			hashTable = new int[hashMethod.tableSize()];
+			hashTable = BufferPool.takeInts(hashMethod.tableSize());
 			for (int i = 0; i < hashTable.length; i++) {
 				hashTable[i] = -1;
 			}
 
 			// 連結リスト初期化
-			prev = new int[this.dictionarySize];
+			prev = BufferPool.takeInts(this.dictionarySize);
 			for (int i = 0; i < prev.length; i++) {
 				prev[i] = -1;
 			}
@@ -461,6 +468,19 @@ public class HashAndChainedListSearch implements LzssSearchMethod {
 		return hashMethod.hashRequires();
 	}
 
+	/**
+	 * ハッシュテーブルと連結リストを BufferPool に返却する。
+	 * 
+	 * @since 3.0
+	 */
+	@Override
+	public void close() {
+		BufferPool.giveInts(hashTable);
+		BufferPool.giveInts(prev);
+		hashTable = null;
+		prev = null;
+	}
+
 	// ------------------------------------------------------------------
 	// method of ImprovedLzssSearchMethod
 
@@ -529,6 +549,27 @@ public class HashAndChainedListSearch implements LzssSearchMethod {
 	// ------------------------------------------------------------------
 	// local methods
 
+	/**
+	 * HashMethodClassName で与えられたクラスの HashMethod を リフレクションで生成する。
+	 * 
+	 * @param HashMethodClassName Hash関数を提供するクラス名
+	 * @param textBuffer LZSS圧縮を施すためのバッファ
+	 * @return 生成された HashMethod
+	 */
+	private static HashMethod createHashMethod(final String HashMethodClassName, final byte[] textBuffer) {
+		try {
+			return (HashMethod) Factory.createInstance(HashMethodClassName, new Object[] { textBuffer });
+		} catch (final ClassNotFoundException exception) {
+			throw new NoClassDefFoundError(exception.getMessage());
+		} catch (final InvocationTargetException exception) {
+			throw new Error(exception.getTargetException().getMessage());
+		} catch (final NoSuchMethodException exception) {
+			throw new NoSuchMethodError(exception.getMessage());
+		} catch (final InstantiationException exception) {
+			throw new InstantiationError(exception.getMessage());
+		}
+	}
+
 	/**
 	 * hash の連結リストが閾値を超えているかを得る。
 	 * 
@@ -30,8 +30,13 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.NoSuchElementException;
@@ -47,15 +52,44 @@ import java.util.Vector;
  */
 public class LhaFile {
 
+	/**
+	 * 書庫ファイルを FileChannel から 位置を指定して読み込むモード。
+	 * 
+	 * @since 3.0
+	 */
+	public static final int OPEN_READ = 0x1;
+
+	/**
+	 * 書庫ファイルを FileChannel.map() でメモリにマップして読み込むモード。<br>
+	 * ヘッダの検索と エントリデータの読み込みは マップされた ByteBuffer から行うため、 システムコールと バッファ間のコピーが発生しない。<br>
+	 * Integer.MAX_VALUE バイトを超える書庫ファイルは マップできないため OPEN_READ で読み込む。
+	 * 
+	 * @since 3.0
+	 */
+	public static final int OPEN_MAPPED = 0x2;
+
 	/**
 	 * LHA書庫形式のデータを持つ RandomAccessFileのインスタンス
 	 */
 	private RandomAccessFile archive;
 
 	/**
-	 * 最後に archive にアクセスしたオブジェクト
+	 * archive を開き直すための 書庫ファイル。 RandomAccessFile から構築した場合は null。
+	 */
+	private File file;
+
+	/**
+	 * archive の FileChannel。 エントリデータは 位置を指定して読み込むため、 複数のスレッドから同時に読み込むことができる。<br>
+	 * FileChannel は 読み込み中のスレッドに割り込みが発生すると閉じられるため、 file から構築した場合は 開き直して他のスレッドの読み込みを続ける。
+	 * RandomAccessFile から構築した場合は 開き直せないため、以後 このLhaFileからは読み込めなくなることに注意。
+	 */
+	private volatile FileChannel channel;
+
+	/**
+	 * OPEN_MAPPED で開いた場合に archive 全体をマップした 読み込み専用の ByteBuffer。 それ以外の場合は null。<br>
+	 * エントリデータを読みこむ入力ストリームは この ByteBuffer の区間を共有し、 読み込み位置はストリーム毎に持つ。
 	 */
-	private Object lastAccessObject;
+	private ByteBuffer mapped;
 
 	/**
 	 * 各エントリのヘッダを持つ LhaHeader の Vector headers.elementAt( index ) のヘッダを持つエントリは entryPoint.elementAt( index ) の位置から始まる。
@@ -96,6 +130,7 @@ public class LhaFile {
 		final Properties property = LhaProperty.getProperties();
 		final RandomAccessFile file = new RandomAccessFile(filename, "r");          // throws FileNotFoundException SecurityException
 		constructerHelper(file, property, false);                        // After Java 1.1 throws UnsupportedEncodingException
+		this.file = new File(filename);
 	}
 
 	/**
@@ -112,6 +147,7 @@ public class LhaFile {
 	public LhaFile(final String filename, final Properties property) throws IOException {
 		final RandomAccessFile file = new RandomAccessFile(filename, "r");          // throws FileNotFoundException SecurityException
 		constructerHelper(file, property, false);                        // After Java 1.1 throws UnsupportedEncodingException
+		this.file = new File(filename);
 	}
 
 	/**
@@ -129,6 +165,7 @@ public class LhaFile {
 		final RandomAccessFile file = new RandomAccessFile(filename, "r");          // throws FileNotFoundException SecurityException
 
 		constructerHelper(file, property, false);                        // After Java 1.1 throws UnsupportedEncodingException
+		this.file = filename;
 	}
 
 	/**
@@ -145,6 +182,52 @@ public class LhaFile {
 	public LhaFile(final File filename, final Properties property) throws IOException {
 		final RandomAccessFile file = new RandomAccessFile(filename, "r");          // throws FileNotFoundException SecurityException
 		constructerHelper(file, property, false);                        // After Java 1.1 throws UnsupportedEncodingException
+		this.file = filename;
+	}
+
+	/**
+	 * filename で指定されたファイルから mode で指定されたモードで書庫データを読みこむ LhaFile を構築する。<br>
+	 * 各圧縮形式に対応した復号器の生成式等を持つプロパティには LhaProperty.getProperties() で得られたプロパティが使用される。<br>
+	 * 
+	 * @param filename LHA書庫ファイル
+	 * @param mode 読み込みモード OPEN_READ か OPEN_MAPPED
+	 * @exception IOException 入出力エラーが発生した場合
+	 * @exception FileNotFoundException ファイルが見つからない場合
+	 * @exception SecurityException セキュリティマネージャがファイルの読み込みを許さない場合
+	 * @exception IllegalArgumentException mode が OPEN_READ でも OPEN_MAPPED でもない場合
+	 * @see LhaProperty#getProperties()
+	 * @since 3.0
+	 */
+	public LhaFile(final File filename, final int mode) throws IOException {
+		this(filename, LhaProperty.getProperties(), mode);
+	}
+
+	/**
+	 * filename で指定されたファイルから mode で指定されたモードで書庫データを読みこむ LhaFile を構築する。<br>
+	 * 
+	 * @param filename LHA書庫ファイル
+	 * @param property 各圧縮形式に対応した復号器の生成式等が含まれるプロパティ
+	 * @param mode 読み込みモード OPEN_READ か OPEN_MAPPED
+	 * @exception IOException 入出力エラーが発生した場合
+	 * @exception FileNotFoundException ファイルが見つからない場合
+	 * @exception UnsupportedEncodingException property.getProperty( "lha.encoding" ) で得られた エンコーディング名がサポートされない場合
+	 * @exception SecurityException セキュリティマネージャがファイルの読み込みを許さない場合
+	 * @exception IllegalArgumentException mode が OPEN_READ でも OPEN_MAPPED でもない場合
+	 * @see LhaProperty
+	 * @since 3.0
+	 */
+	public LhaFile(final File filename, final Properties property, final int mode) throws IOException {
+		if (mode != OPEN_READ && mode != OPEN_MAPPED) {
+			throw new IllegalArgumentException("Illegal mode: 0x" + Integer.toHexString(mode));
+		}
+		final RandomAccessFile file = new RandomAccessFile(filename, "r");          // throws FileNotFoundException SecurityException
+		try {
+			constructerHelper(file, property, false, mode == OPEN_MAPPED);
+		} catch (final IOException | RuntimeException e) {
+			file.close();
+			throw e;
+		}
+		this.file = filename;
 	}
 
 	/**
@@ -217,11 +300,35 @@ public class LhaFile {
 	 * @exception UnsupportedEncodingException encodeがサポートされない場合
 	 */
 	private void constructerHelper(final RandomAccessFile file, final Properties property, final boolean rescueMode) throws IOException {
+		constructerHelper(file, property, rescueMode, false);
+	}
+
+	/**
+	 * file を走査してエントリ情報を構築する。<br>
+	 * map が true で file が Integer.MAX_VALUE バイト以下の場合は file をメモリにマップし、 マップした ByteBuffer を走査する。
+	 * 
+	 * @param file LHA書庫ファイル
+	 * @param propety 各圧縮形式に対応した復号器の生成式等が含まれるプロパティ
+	 * @param rescueMode true にすると壊れた書庫のデータを 復旧するための復旧モードでエントリを検索する。
+	 * @param map true にすると書庫ファイルをメモリにマップする。
+	 * @exception IOException 入出力エラーが発生した場合
+	 * @exception UnsupportedEncodingException encodeがサポートされない場合
+	 */
+	private void constructerHelper(final RandomAccessFile file, final Properties property, final boolean rescueMode, final boolean map) throws IOException {
 		headers = new Vector<>();
 		entryPoint = new Vector<>();
 
-		file.seek(0);
-		final CachedRandomAccessFileInputStream archive = new CachedRandomAccessFileInputStream(file);
+		final FileChannel channel = file.getChannel();
+		final long length = channel.size();
+		final ByteBuffer mapped = map && length <= Integer.MAX_VALUE ? channel.map(FileChannel.MapMode.READ_ONLY, 0, length) : null;
+
+		final PositionInputStream archive;
+		if (mapped != null) {
+			archive = new ByteBufferInputStream(null, mapped, 0, mapped.limit());
+		} else {
+			file.seek(0);
+			archive = new CachedRandomAccessFileInputStream(file);
+		}
 
 		byte[] HeaderData = LhaHeader.getFirstHeaderData(archive);
 		while (null != HeaderData) {
@@ -250,6 +357,8 @@ public class LhaFile {
 		}
 
 		this.archive = file;
+		this.channel = channel;
+		this.mapped = mapped;
 		this.property = (Properties) property.clone();
 	}
 
@@ -267,7 +376,7 @@ public class LhaFile {
 		if (0 <= index) {
 			final long start = entryPoint.elementAt(index);
 			final long len = header.getCompressedSize();
-			final InputStream in = new RandomAccessFileInputStream(start, len);
+			final InputStream in = newEntryInputStream(start, len);
 			return CompressMethod.connectDecoder(in, header.getCompressMethod(), property, header.getOriginalSize());
 		}
 		return null;
@@ -286,7 +395,7 @@ public class LhaFile {
 			final LhaHeader header = headers.elementAt(index);
 			final long start = entryPoint.elementAt(index);
 			final long len = header.getCompressedSize();
-			final InputStream in = new RandomAccessFileInputStream(start, len);
+			final InputStream in = newEntryInputStream(start, len);
 			return CompressMethod.connectDecoder(in, header.getCompressMethod(), property, header.getOriginalSize());
 		}
 		return null;
@@ -304,7 +413,7 @@ public class LhaFile {
 		if (0 <= index) {
 			final long start = entryPoint.elementAt(index);
 			final long len = header.getCompressedSize();
-			return new RandomAccessFileInputStream(start, len);
+			return newEntryInputStream(start, len);
 		}
 		return null;
 	}
@@ -322,7 +431,7 @@ public class LhaFile {
 			final LhaHeader header = headers.elementAt(index);
 			final long start = entryPoint.elementAt(index);
 			final long len = header.getCompressedSize();
-			return new RandomAccessFileInputStream(start, len);
+			return newEntryInputStream(start, len);
 		}
 		return null;
 	}
@@ -366,14 +475,18 @@ public class LhaFile {
 	}
 
 	/**
-	 * この LHA書庫ファイルを閉じる。 その際、このLhaFileが発行した全ての InputStreamは強制的に閉じられる。
+	 * この LHA書庫ファイルを閉じる。 その際、このLhaFileが発行した全ての InputStreamは強制的に閉じられ、
+	 * 以後の読み込みは OPEN_MAPPED で開いた場合も含めて IOException を投げる。<br>
+	 * ただし OPEN_MAPPED で開いた場合、 マップされた領域は ガベージコレクタに回収されるまで解放されない。
 	 * 
 	 * @exception IOException 入出力エラーが発生した場合
 	 */
-	public void close() throws IOException {
+	public synchronized void close() throws IOException {
 		archive.close();
 		archive = null;
-		lastAccessObject = null;
+		file = null;
+		channel = null;
+		mapped = null;
 		headers = null;
 		entryPoint = null;
 		hash = null;
@@ -384,6 +497,52 @@ public class LhaFile {
 	// ------------------------------------------------------------------
 	// local method
 
+	/**
+	 * archive の start から始まる size バイトの区間を読み込む入力ストリームを得る。<br>
+	 * archive がマップされている場合は マップされた ByteBuffer の区間を読み込む。
+	 * 
+	 * @param start 読みこみ開始位置
+	 * @param size データのサイズ
+	 * @return archive の区間を読み込む入力ストリーム
+	 */
+	private InputStream newEntryInputStream(final long start, final long size) {
+		if (mapped != null) {
+			final int limit = mapped.limit();
+			final int from = (int) Math.min(start, limit);
+			return new ByteBufferInputStream(this, mapped, from, (int) Math.min(size, limit - from));
+		}
+		return new FileChannelInputStream(start, size);
+	}
+
+	/**
+	 * 読み込み中のスレッドへの割り込みによって閉じられた closed に代わる FileChannel を得る。<br>
+	 * 他のスレッドが既に開き直していれば その FileChannel を返し、 そうでなければ file から archive を開き直す。
+	 * 
+	 * @param closed 閉じられた FileChannel
+	 * @return 開き直した FileChannel。<br>
+	 *         この LhaFile が閉じられている場合は null。 RandomAccessFile から構築したため開き直せない場合は closed。
+	 * @exception IOException 入出力エラーが発生した場合
+	 */
+	private synchronized FileChannel reopenChannel(final FileChannel closed) throws IOException {
+		if (channel == closed && channel != null && file != null) {
+			archive = new RandomAccessFile(file, "r");
+			channel = archive.getChannel();
+		}
+		return channel;
+	}
+
+	/**
+	 * この LhaFile が閉じられていないか調べる。<br>
+	 * このLhaFileが発行した InputStream は 読み込みの前にこのメソッドを呼び、 閉じられた後の読み込みを失敗させる。
+	 * 
+	 * @exception ClosedChannelException この LhaFile が close() で閉じられている場合
+	 */
+	private void ensureOpen() throws ClosedChannelException {
+		if (channel == null) {
+			throw new ClosedChannelException();
+		}
+	}
+
 	/**
 	 * headers における target の index を得る。
 	 * 
@@ -428,14 +587,26 @@ public class LhaFile {
 	// inner classes
 
 	/**
-	 * LhaFileのarchiveの ある区間内のデータを得る InputStream。 複数エントリを同時に処理するための 同期処理を含む。
+	 * LhaFileのarchiveの ある区間内のデータを得る InputStream。<br>
+	 * archive の FileChannel に対して 位置を指定した読み込みを行い、ストリーム毎のバッファにデータを溜めるため、
+	 * 複数エントリを同時に処理する場合でも archive の読み込み位置を共有せず、同期処理を必要としない。
 	 */
-	private class RandomAccessFileInputStream extends InputStream {
+	private class FileChannelInputStream extends InputStream {
 
 		/**
-		 * archive内の現在処理位置
+		 * バッファのデフォルトサイズ
 		 */
-		private long position;
+		private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+		/**
+		 * archive の FileChannel。 他のスレッドへの割り込みで閉じられた場合は 開き直した FileChannel に置き換える。
+		 */
+		private FileChannel channel;
+
+		/**
+		 * archive内のバッファの開始位置
+		 */
+		private long bufferStart;
 
 		/**
 		 * archive内のこのInputStreamの読み取り限界
@@ -447,6 +618,11 @@ public class LhaFile {
 		 */
 		private long markPosition;
 
+		/**
+		 * 読み込んだデータを保持するバッファ
+		 */
+		private ByteBuffer buffer;
+
 		// ------------------------------------------------------------------
 		// Constructor
 
@@ -456,10 +632,13 @@ public class LhaFile {
 		 * @param start 読みこみ開始位置
 		 * @param size データのサイズ
 		 */
-		public RandomAccessFileInputStream(final long start, final long size) {
-			position = start;
+		public FileChannelInputStream(final long start, final long size) {
+			channel = LhaFile.this.channel;
+			bufferStart = start;
 			end = start + size;
 			markPosition = -1;
+			buffer = ByteBuffer.allocate((int) Math.max(1, Math.min(DEFAULT_BUFFER_SIZE, size)));
+			buffer.limit(0);
 		}
 
 		// ------------------------------------------------------------------
@@ -473,27 +652,18 @@ public class LhaFile {
 		 */
 		@Override
 		public int read() throws IOException {
-			synchronized (archive) {
-				if (position < end) {
-					if (lastAccessObject != this) {
-						archive.seek(position);
-					}
-
-					final int data = archive.read();
-					if (0 <= data) {
-						position++;
-					}
-					return data;
-				}
+			ensureOpen();
+			if (!buffer.hasRemaining() && !fill()) {
 				return -1;
 			}
+			return buffer.get() & 0xFF;
 		}
 
 		/**
 		 * archiveの現在処理位置から bufferを満たすようにデータを読み込む。
 		 * 
-		 * @param buffer 読みこまれたデータを格納するバッファ
-		 * @return 読みこまれたバイト数<br>既に読みこみ限界に達していた場合は-1
+		 * @param buffer データを読み込むバッファ
+		 * @return 読みこまれたデータ量<br>既に読みこみ限界に達した場合は -1
 		 * @exception IOException 入出力エラーが発生した場合
 		 */
 		@Override
@@ -502,32 +672,42 @@ public class LhaFile {
 		}
 
 		/**
-		 * archiveの現在処理位置から bufferのindexから始まる領域へ lengthバイトのデータを読み込む。
+		 * archiveの現在処理位置から bufferのindexから始まる領域へlengthバイトのデータを読み込む。<br>
+		 * バッファが空で length がバッファのサイズ以上の場合は バッファを介さずに直接読み込む。
 		 * 
-		 * @param buffer 読みこまれたデータを格納するバッファ
-		 * @param index buffer内の読みこみ開始位置
-		 * @param length 読みこむバイト数。
-		 * @return 読みこまれたバイト数<br>既に読みこみ限界に達していた場合は-1
+		 * @param buffer データを読み込むバッファ
+		 * @param index buffer内のデータ読みこみ開始位置
+		 * @param length 読み込むデータ量
+		 * @return 読みこまれたデータ量<br>既に読みこみ限界に達した場合は -1
 		 * @exception IOException 入出力エラーが発生した場合
 		 */
 		@Override
-		public int read(final byte[] buffer, final int index, int length) throws IOException {
-			synchronized (archive) {
-				if (position < end) {
-					if (lastAccessObject != this) {
-						archive.seek(position);
-						lastAccessObject = this;
-					}
-
-					length = (int) Math.min(end - position, length);
-					length = archive.read(buffer, index, length);
-					if (0 <= length) {
-						position += length;
+		public int read(final byte[] buffer, final int index, final int length) throws IOException {
+			ensureOpen();
+			if (length == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				final long position = position();
+				if (end <= position) {
+					return -1;
+				}
+				if (this.buffer.capacity() <= length) {
+					final int read = read(ByteBuffer.wrap(buffer, index, (int) Math.min(end - position, length)), position);
+					if (read < 0) {
+						return -1;
 					}
-					return length;
+					bufferStart = position + read;
+					this.buffer.clear().limit(0);
+					return read;
+				}
+				if (!fill()) {
+					return -1;
 				}
-				return -1;
 			}
+			final int copylen = Math.min(length, this.buffer.remaining());
+			this.buffer.get(buffer, index, copylen);
+			return copylen;
 		}
 
 		/**
@@ -535,19 +715,18 @@ public class LhaFile {
 		 * 
 		 * @param length 読み飛ばしたいバイト数
 		 * @return 実際に読み飛ばされたバイト数
+		 * @exception IOException この LhaFile が閉じられている場合
 		 */
 		@Override
-		public long skip(final long length) {
-			synchronized (archive) {
-				final long skiplen = Math.min(end - position, length);
-				position += skiplen;
-
-				if (lastAccessObject == this) {
-					lastAccessObject = null;
-				}
-
-				return skiplen;
+		public long skip(final long length) throws IOException {
+			ensureOpen();
+			if (length <= 0) {
+				return 0;
 			}
+			final long position = position();
+			final long skiplen = Math.min(end - position, length);
+			seek(position + skiplen);
+			return skiplen;
 		}
 
 		// ------------------------------------------------------------------
@@ -564,44 +743,40 @@ public class LhaFile {
 		}
 
 		/**
-		 * 現在処理位置にマークを施し次のresetで 現在の処理位置に戻れるようにする。
+		 * 現在処理位置にマークを施し次のresetで 現在の処理位置に戻るようにする。<br>
 		 * 
-		 * @param readLimit マークの有効限界。 このオブジェクトでは意味を持たない。
+		 * @param readLimit マークの有効限界。 このクラスでは意味を持たない。
 		 */
 		@Override
 		public void mark(final int readLimit) {
-			markPosition = position;
+			markPosition = position();
 		}
 
 		/**
-		 * 最後にマークされた処理位置に戻す。
+		 * 最後にマークされた処理位置に戻す。<br>
 		 * 
-		 * @exception IOException mark()されていない場合
+		 * @exception IOException mark()されていない場合。 または この LhaFile が閉じられている場合
 		 */
 		@Override
 		public void reset() throws IOException {
-			synchronized (archive) {
-				if (0 <= markPosition) {
-					position = markPosition;
-				} else {
-					throw new IOException("not marked");
-				}
-
-				if (lastAccessObject == this) {
-					lastAccessObject = null;
-				}
+			ensureOpen();
+			if (0 <= markPosition) {
+				seek(markPosition);
+			} else {
+				throw new IOException("not marked");
 			}
 		}
 
 		/**
 		 * 接続された入力ストリームからブロックしないで 読み込むことのできるバイト数を得る。<br>
-		 * RandomAccessFileInputStream では 読み込みは常に RandomAccessFile に対する アクセスを伴うため、このメソッドは常に 0 を返す。
 		 * 
-		 * @return 常に 0<br>
+		 * @return バッファに残っているバイト数
+		 * @exception IOException この LhaFile が閉じられている場合
 		 */
 		@Override
-		public int available() {
-			return 0;
+		public int available() throws IOException {
+			ensureOpen();
+			return buffer.remaining();
 		}
 
 		/**
@@ -612,13 +787,310 @@ public class LhaFile {
 		public void close() {
 		}
 
+		// ------------------------------------------------------------------
+		// local method
+
+		/**
+		 * archive内の現在処理位置を得る。
+		 * 
+		 * @return archive内の現在処理位置
+		 */
+		private long position() {
+			return bufferStart + buffer.position();
+		}
+
+		/**
+		 * archive内の現在処理位置を position に移動する。<br>
+		 * position がバッファの範囲内であれば バッファを再利用する。
+		 * 
+		 * @param position 移動先の archive内の位置
+		 */
+		private void seek(final long position) {
+			if (bufferStart <= position && position <= bufferStart + buffer.limit()) {
+				buffer.position((int) (position - bufferStart));
+			} else {
+				bufferStart = position;
+				buffer.clear().limit(0);
+			}
+		}
+
+		/**
+		 * 現在処理位置から バッファにデータを読み込む。
+		 * 
+		 * @return データを読み込んだ場合は true<br>既に読みこみ限界に達した場合は false
+		 * @exception IOException 入出力エラーが発生した場合
+		 */
+		private boolean fill() throws IOException {
+			final long position = position();
+			if (end <= position) {
+				return false;
+			}
+			buffer.clear();
+			buffer.limit((int) Math.min(buffer.capacity(), end - position));
+			bufferStart = position;
+			int read = 0;
+			while (buffer.hasRemaining() && 0 <= read) {
+				read = read(buffer, position + buffer.position());
+			}
+			buffer.flip();
+			return buffer.hasRemaining();
+		}
+
+		/**
+		 * archive の position から dst にデータを読み込む。<br>
+		 * このスレッドへの割り込みで FileChannel が閉じられた場合は 他のスレッドが読み込みを続けられるよう開き直してから
+		 * InterruptedIOException を投げる。 他のスレッドへの割り込みで閉じられた場合は 開き直した FileChannel から読み込みなおす。
+		 * 
+		 * @param dst データを読み込むバッファ
+		 * @param position 読みこみ開始位置
+		 * @return 読みこまれたデータ量<br>既に読みこみ限界に達した場合は -1
+		 * @exception InterruptedIOException このスレッドが割り込まれた場合
+		 * @exception IOException 入出力エラーが発生した場合
+		 */
+		private int read(final ByteBuffer dst, final long position) throws IOException {
+			while (true) {
+				final FileChannel current = channel;
+				try {
+					return current.read(dst, position);
+				} catch (final ClosedByInterruptException exception) {
+					channel = reopenChannel(current);
+					Thread.currentThread().interrupt();
+					final InterruptedIOException interrupted = new InterruptedIOException(exception.getMessage());
+					interrupted.initCause(exception);
+					throw interrupted;
+				} catch (final ClosedChannelException exception) {
+					final FileChannel reopened = reopenChannel(current);
+					if (reopened == null || reopened == current) {
+						throw exception;
+					}
+					channel = reopened;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * ヘッダ検索用の ファイル先頭を始点とする現在の読み込み位置を得られる InputStream。
+	 */
+	private static abstract class PositionInputStream extends InputStream {
+
+		/**
+		 * ファイル先頭を始点とする現在の読み込み位置を得る。
+		 * 
+		 * @return 現在の読み込み位置。
+		 * @exception IOException 入出力エラーが発生した場合
+		 */
+		public abstract long position() throws IOException;
+
+	}
+
+	/**
+	 * マップされた archive の ある区間内のデータを得る InputStream。<br>
+	 * マップされた ByteBuffer の区間を複製して 読み込み位置をストリーム毎に持つため、 同期処理を必要としない。
+	 * ヘッダ検索と エントリデータの読み込みの両方に用いる。
+	 */
+	private static class ByteBufferInputStream extends PositionInputStream {
+
+		/**
+		 * archive の区間を複製した ByteBuffer。 position が現在処理位置、 limit が読み取り限界となる。
+		 */
+		private final ByteBuffer buffer;
+
+		/**
+		 * archive内の区間の開始位置
+		 */
+		private final int offset;
+
+		/**
+		 * このストリームを発行した LhaFile。 ヘッダ検索に用いる場合は null。
+		 */
+		private final LhaFile owner;
+
+		/**
+		 * 区間内のマーク位置
+		 */
+		private int markPosition;
+
+		// ------------------------------------------------------------------
+		// Constructor
+
+		/**
+		 * コンストラクタ。
+		 * 
+		 * @param owner このストリームを発行した LhaFile。 ヘッダ検索に用いる場合は null
+		 * @param mapped マップされた archive
+		 * @param start 読みこみ開始位置
+		 * @param size データのサイズ
+		 */
+		public ByteBufferInputStream(final LhaFile owner, final ByteBuffer mapped, final int start, final int size) {
+			buffer = mapped.slice(start, size);
+			offset = start;
+			this.owner = owner;
+			markPosition = -1;
+		}
+
+		// ------------------------------------------------------------------
+		// method of java.io.InputStream
+
+		/**
+		 * 現在処理位置から 1byteのデータを読み込む。
+		 * 
+		 * @return 読みこまれた1byteのデータ<br>既に読みこみ限界に達した場合は -1
+		 * @exception IOException この LhaFile が閉じられている場合
+		 */
+		@Override
+		public int read() throws IOException {
+			ensureOpen();
+			if (buffer.hasRemaining()) {
+				return buffer.get() & 0xFF;
+			}
+			return -1;
+		}
+
+		/**
+		 * 現在処理位置から bufferを満たすようにデータを読み込む。
+		 * 
+		 * @param buffer データを読み込むバッファ
+		 * @return 読みこまれたデータ量<br>既に読みこみ限界に達した場合は -1
+		 * @exception IOException この LhaFile が閉じられている場合
+		 */
+		@Override
+		public int read(final byte[] buffer) throws IOException {
+			return this.read(buffer, 0, buffer.length);
+		}
+
+		/**
+		 * 現在処理位置から bufferのindexから始まる領域へlengthバイトのデータを読み込む。
+		 * 
+		 * @param buffer データを読み込むバッファ
+		 * @param index buffer内のデータ読みこみ開始位置
+		 * @param length 読み込むデータ量
+		 * @return 読みこまれたデータ量<br>既に読みこみ限界に達した場合は -1
+		 * @exception IOException この LhaFile が閉じられている場合
+		 */
+		@Override
+		public int read(final byte[] buffer, final int index, final int length) throws IOException {
+			ensureOpen();
+			if (length == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			final int copylen = Math.min(length, this.buffer.remaining());
+			this.buffer.get(buffer, index, copylen);
+			return copylen;
+		}
+
+		/**
+		 * lengthバイトのデータを読み飛ばす。
+		 * 
+		 * @param length 読み飛ばしたいバイト数
+		 * @return 実際に読み飛ばされたバイト数
+		 * @exception IOException この LhaFile が閉じられている場合
+		 */
+		@Override
+		public long skip(final long length) throws IOException {
+			ensureOpen();
+			if (length <= 0) {
+				return 0;
+			}
+			final int skiplen = (int) Math.min(buffer.remaining(), length);
+			buffer.position(buffer.position() + skiplen);
+			return skiplen;
+		}
+
+		/**
+		 * このオブジェクトがmark/resetをサポートするかを返す。
+		 * 
+		 * @return このオブジェクトはmark/resetをサポートする。<br>常にtrue。
+		 */
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		/**
+		 * 現在処理位置にマークを施し次のresetで 現在の処理位置に戻るようにする。<br>
+		 * 
+		 * @param readLimit マークの有効限界。 このクラスでは意味を持たない。
+		 */
+		@Override
+		public void mark(final int readLimit) {
+			markPosition = buffer.position();
+		}
+
+		/**
+		 * 最後にマークされた処理位置に戻す。<br>
+		 * 
+		 * @exception IOException mark()されていない場合。 または この LhaFile が閉じられている場合
+		 */
+		@Override
+		public void reset() throws IOException {
+			ensureOpen();
+			if (0 <= markPosition) {
+				buffer.position(markPosition);
+			} else {
+				throw new IOException("not marked");
+			}
+		}
+
+		/**
+		 * ブロックしないで 読み込むことのできるバイト数を得る。<br>
+		 * 
+		 * @return 区間に残っているバイト数
+		 * @exception IOException この LhaFile が閉じられている場合
+		 */
+		@Override
+		public int available() throws IOException {
+			ensureOpen();
+			return buffer.remaining();
+		}
+
+		/**
+		 * この入力ストリームを閉じる。<br>
+		 * このメソッドは何も行わない。
+		 */
+		@Override
+		public void close() {
+		}
+
+		// ------------------------------------------------------------------
+		// local method
+
+		/**
+		 * このストリームを発行した LhaFile が閉じられていないか調べる。<br>
+		 * マップされた区間は LhaFile を閉じても読み込めてしまうため、 読み込み毎に調べる。
+		 * 
+		 * @exception ClosedChannelException このストリームを発行した LhaFile が閉じられている場合
+		 */
+		private void ensureOpen() throws ClosedChannelException {
+			if (owner != null) {
+				owner.ensureOpen();
+			}
+		}
+
+		// ------------------------------------------------------------------
+		// original method
+
+		/**
+		 * ファイル先頭を始点とする現在の読み込み位置を得る。
+		 * 
+		 * @return 現在の読み込み位置。
+		 */
+		@Override
+		public long position() {
+			return offset + buffer.position();
+		}
+
 	}
 
 	/**
 	 * ヘッダ検索用 の RandomAccessFileInputStream。<br>
 	 * バッファリングと同期処理を行わない事によって高速化してある。
 	 */
-	private static class CachedRandomAccessFileInputStream extends InputStream {
+	private static class CachedRandomAccessFileInputStream extends PositionInputStream {
 
 		/**
 		 * データを供給する RandomAccessFile
@@ -862,6 +1334,7 @@ public class LhaFile {
 		 * 
 		 * @return 現在の読み込み位置。
 		 */
+		@Override
 		public long position() throws IOException {
 			long position = archive.getFilePointer();
 			position -= cacheLimit - cachePosition;
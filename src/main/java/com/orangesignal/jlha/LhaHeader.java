@@ -2204,6 +2204,7 @@ public class LhaHeader implements Cloneable {
 
 	/**
 	 * property の キー"lha.header" に結び付けられた生成式を使用して HeaderData から LhaHeader のインスタンスを生成する。<br>
+	 * 生成式がデフォルトのものと同等である場合は 生成式を解析せずに LhaHeader を直接生成する。<br>
 	 * 
 	 * @param headerData ヘッダのデータを持つバイト配列
 	 * @param property LhaProperty.parse() で LhaHeader のインスタンスが生成できるような 生成式を キー"lha.header" の値として持つプロパティ
@@ -2225,6 +2226,14 @@ public class LhaHeader implements Cloneable {
 			generator = LhaProperty.getProperty("lha.header");
 		}
 
+		if (LhaProperty.isDefaultGenerator("lha.header", generator, packages)) {
+			try {
+				return new LhaHeader(headerData, encoding);
+			} catch (final UnsupportedEncodingException exception) {
+				throw new Error(exception.getMessage());
+			}
+		}
+
 		final Hashtable<String, Object> substitute = new Hashtable<>();
 		substitute.put("data", headerData);
 		substitute.put("encoding", encoding);
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 
 /**
  * 接続されたRandomAccessFileに 圧縮データを出力するためのユーティリティクラス。<br>
@@ -135,6 +136,11 @@ public class LhaImmediateOutputStream extends OutputStream {
 	 */
 	private Properties property;
 
+	/**
+	 * -lh4-, -lh5-, -lh6-, -lh7- の圧縮を並列に行うエグゼキュータ。 逐次に圧縮する場合は null
+	 */
+	private Executor executor;
+
 	// ------------------------------------------------------------------
 	// Constructor
 
@@ -260,6 +266,35 @@ public class LhaImmediateOutputStream extends OutputStream {
 		}
 	}
 
+	/**
+	 * fileに 圧縮データを出力するOutputStreamを構築する。<br>
+	 * -lh4-, -lh5-, -lh6-, -lh7- のエントリは、符号器の生成式がデフォルトのものと同等であれば 入力をチャンクに分割して executor で並列に圧縮する。 この場合の圧縮データはチャンクの境界をまたぐ一致を分割するため、 逐次に圧縮した場合とは異なる。<br>
+	 * 
+	 * @param file RandomAccessFile のインスタンス。<br>
+	 * <ul>
+	 * <li>既に close() されていない事。
+	 * <li>コンストラクタの mode には "rw" オプションを使用して、 読みこみと書きこみが出来るように生成されたインスタンスであること。
+	 * </ul>
+	 * の条件を満たすもの。
+	 * @param property 各圧縮形式に対応した符号器の生成式等が含まれるプロパティ
+	 * @param executor 圧縮を並列に行うエグゼキュータ
+	 * 
+	 * @see LhaProperty
+	 * @since 3.0
+	 */
+	public LhaImmediateOutputStream(final RandomAccessFile file, final Properties property, final Executor executor) {
+		if (file != null && property != null && executor != null) {
+			constructerHelper(file, property);                           // throws UnsupportedEncodingException
+			this.executor = executor;
+		} else if (file == null) {
+			throw new NullPointerException("file");
+		} else if (property == null) {
+			throw new NullPointerException("property");
+		} else {
+			throw new NullPointerException("executor");
+		}
+	}
+
 	/**
 	 * コンストラクタの初期化処理を担当するメソッド。
 	 * 
@@ -473,7 +508,7 @@ public class LhaImmediateOutputStream extends OutputStream {
 				out = new RandomAccessFileOutputStream(archive,
 						header.getOriginalSize());
 				out = CompressMethod.connectEncoder(out,
-						header.getCompressMethod(), property);
+						header.getCompressMethod(), property, executor);
 
 			} else {
 				throw new IllegalArgumentException("OriginalSize must not \"LhaHeader.UNKNOWN\".");
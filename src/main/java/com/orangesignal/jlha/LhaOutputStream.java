@@ -32,6 +32,7 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 
 /**
  * 接続されたストリームに 圧縮データを出力するためのユーティリティクラス。<br>
@@ -106,6 +107,11 @@ public class LhaOutputStream extends OutputStream {
 	 */
 	private Properties property;
 
+	/**
+	 * -lh4-, -lh5-, -lh6-, -lh7- の圧縮を並列に行うエグゼキュータ
+	 */
+	private Executor executor;
+
 	// ------------------------------------------------------------------
 	// Constructor
 
@@ -144,6 +150,32 @@ public class LhaOutputStream extends OutputStream {
 		}
 	}
 
+	/**
+	 * out に 圧縮データを出力するOutputStreamを構築する。<br>
+	 * 一時退避機構はメモリを使用する。このため、 圧縮時データ量がメモリ量を超えるようなファイルは圧縮できない。<br>
+	 * -lh4-, -lh5-, -lh6-, -lh7- のエントリは、符号器の生成式がデフォルトのものと同等であれば 入力をチャンクに分割して executor で並列に圧縮する。 この場合の圧縮データはチャンクの境界をまたぐ一致を分割するため、 逐次に圧縮した場合とは異なる。<br>
+	 * メモリ量を超えるデータを並列に圧縮する場合は 一時退避機構にファイルを使用する LhaOutputStream(OutputStream, RandomAccessFile, Properties, Executor) を使用すること。<br>
+	 * 
+	 * @param out 圧縮データを出力するストリーム
+	 * @param property 各圧縮形式に対応した符号器の生成式等が含まれるプロパティ
+	 * @param executor 圧縮を並列に行うエグゼキュータ
+	 * @see LhaProperty
+	 * @see #LhaOutputStream(OutputStream, RandomAccessFile, Properties, Executor)
+	 * @since 3.0
+	 */
+	public LhaOutputStream(final OutputStream out, final Properties property, final Executor executor) {
+		if (out != null && property != null && executor != null) {
+			constructerHelper(out, new TemporaryBuffer(), property);         // throws UnsupportedEncodingException
+			this.executor = executor;
+		} else if (out == null) {
+			throw new NullPointerException("out");
+		} else if (property == null) {
+			throw new NullPointerException("property");
+		} else {
+			throw new NullPointerException("executor");
+		}
+	}
+
 	/**
 	 * out に 圧縮データを出力するOutputStreamを構築する。<br>
 	 * 各圧縮形式に対応した符号器の生成式等を持つプロパティには LhaProperty.getProperties() で得られたプロパティが使用される。<br>
@@ -195,6 +227,38 @@ public class LhaOutputStream extends OutputStream {
 		}
 	}
 
+	/**
+	 * out に 圧縮データを出力するOutputStreamを構築する。<br>
+	 * 一時退避機構に file を使用するため、 メモリ量を超えるようなファイルも並列に圧縮できる。<br>
+	 * -lh4-, -lh5-, -lh6-, -lh7- のエントリは、符号器の生成式がデフォルトのものと同等であれば 入力をチャンクに分割して executor で並列に圧縮する。 この場合の圧縮データはチャンクの境界をまたぐ一致を分割するため、 逐次に圧縮した場合とは異なる。<br>
+	 *
+	 * @param out 圧縮データを出力するストリーム
+	 * @param file RandomAccessFile のインスタンス。<br>
+	 * <ul>
+	 * <li>既に close() されていない事。
+	 * <li>コンストラクタの mode には "rw" オプションを使用して、 読みこみと書きこみが出来るように生成されたインスタンスであること。
+	 * </ul>
+	 * の条件を満たすもの。
+	 * @param property 各圧縮形式に対応した符号器の生成式等が含まれるプロパティ
+	 * @param executor 圧縮を並列に行うエグゼキュータ
+	 * @see LhaProperty
+	 * @since 3.0
+	 */
+	public LhaOutputStream(final OutputStream out, final RandomAccessFile file, final Properties property, final Executor executor) {
+		if (out != null && file != null && property != null && executor != null) {
+			constructerHelper(out, new TemporaryFile(file), property);     // throws UnsupportedEncodingException
+			this.executor = executor;
+		} else if (out == null) {
+			throw new NullPointerException("out");
+		} else if (file == null) {
+			throw new NullPointerException("file");
+		} else if (property == null) {
+			throw new NullPointerException("property");
+		} else {
+			throw new NullPointerException("executor");
+		}
+	}
+
 	/**
 	 * コンストラクタの初期化処理を担当するメソッド。
 	 * 
@@ -307,6 +371,7 @@ public class LhaOutputStream extends OutputStream {
 		temp = null;
 
 		property = null;
+		executor = null;
 		crc = null;
 		header = null;
 	}
@@ -395,7 +460,7 @@ public class LhaOutputStream extends OutputStream {
 		crc.reset();
 		length = 0;
 		this.header = (LhaHeader) header.clone();
-		tempOut = CompressMethod.connectEncoder(temp.getOutputStream(), header.getCompressMethod(), property);
+		tempOut = CompressMethod.connectEncoder(temp.getOutputStream(), header.getCompressMethod(), property, executor);
 	}
 
 	/**
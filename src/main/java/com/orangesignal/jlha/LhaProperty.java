@@ -62,6 +62,10 @@ import java.util.StringTokenizer;
  * <td nowrap>生成式内で使われるクラスのパッケージ名の列挙(カンマ区切り)</td>
  * </tr>
  * <tr>
+ * <td nowrap>lha.level</td>
+ * <td nowrap>符号器の生成式がデフォルトの場合の圧縮レベル(default または fastest)</td>
+ * </tr>
+ * <tr>
  * <td nowrap>lha.lzs.encoder</td>
  * <td nowrap>-lzs- 形式への符号化を行うオブジェクトの生成式</td>
  * </tr>
@@ -248,9 +252,21 @@ final class LhaProperty {
 	 */
 	private static final Properties properties;
 
+	/**
+	 * LHA Library for Java のデフォルトの生成式から 空白を取り除いたものを保持するプロパティ
+	 */
+	private static final Properties generators;
+
 	static {
 		properties = createLhaProperty();
 		ENCODING = properties.getProperty("lha.encoding");
+
+		generators = createDefaultProperty();
+		final Enumeration<?> enumkey = generators.propertyNames();
+		while (enumkey.hasMoreElements()) {
+			final String key = (String) enumkey.nextElement();
+			generators.put(key, removeWhitespace(generators.getProperty(key)));
+		}
 	}
 
 	// ------------------------------------------------------------------
@@ -331,6 +347,24 @@ final class LhaProperty {
 	// ------------------------------------------------------------------
 	// parse
 
+	/**
+	 * 生成式 generator と パッケージ名の列挙 packages が key に対応する デフォルトの生成式と同等かを返す。<br>
+	 * 同等である場合 生成式を parse() で解析しなくても、 デフォルトの生成式と同じ Object を直接生成してよい。<br>
+	 * 生成式の比較では空白を無視する。
+	 * 
+	 * @param key プロパティのキー
+	 * @param generator 生成式
+	 * @param packages カンマで区切られたパッケージ名の列挙
+	 * @return generator と packages がデフォルトと同等であれば true 違えば false
+	 * @since 3.0
+	 */
+	static boolean isDefaultGenerator(final String key, final String generator, final String packages) {
+		final String def = generators.getProperty(key);
+		return def != null && generator != null && packages != null
+				&& def.equals(removeWhitespace(generator))
+				&& LhaProperty.class.getPackage().getName().equals(packages.trim());
+	}
+
 	/**
 	 * LHA Library for Java のプロパティ用の 生成式 source を解析して 新しい Object を生成する。
 	 * 
@@ -532,6 +566,23 @@ final class LhaProperty {
 	// ------------------------------------------------------------------
 	// local method
 
+	/**
+	 * str から空白を取り除いた文字列を得る。
+	 * 
+	 * @param str 文字列
+	 * @return str から空白を取り除いた文字列
+	 */
+	private static String removeWhitespace(final String str) {
+		final StringBuilder buffer = new StringBuilder(str.length());
+		for (int i = 0; i < str.length(); i++) {
+			final char c = str.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				buffer.append(c);
+			}
+		}
+		return buffer.toString();
+	}
+
 	/**
 	 * LHA Library for Java のプロパティを生成する。
 	 * 
@@ -581,6 +632,10 @@ final class LhaProperty {
 		// package names
 		results.put("lha.packages", LhaProperty.class.getPackage().getName());
 
+		// ------------------------------------------------------------------
+		// compress level
+		results.put("lha.level", CompressMethod.DEFAULT_LEVEL);
+
 		// ------------------------------------------------------------------
 		// encoders
 		results.put("lha.lzs.encoder", "LzssOutputStream( PostLzsEncoder( out ), HashAndChainedListSearch, [ HashShort ] )");
@@ -43,6 +43,11 @@ public class LzssInputStream extends InputStream {
 	 */
 	private PreLzssDecoder decoder;
 
+	/**
+	 * decoder が PreLh5Decoder の場合に TextBuffer を一度に満たすための decoder。 それ以外の場合は null。
+	 */
+	private PreLh5Decoder bulkDecoder;
+
 	/**
 	 * LZSS圧縮に使用される閾値。 一致長が この値以上であれば、圧縮コードを出力する。
 	 */
@@ -103,13 +108,16 @@ public class LzssInputStream extends InputStream {
 		this.length = length;
 
 		this.decoder = decoder;
-		textBuffer = new byte[decoder.getDictionarySize()];
+		textBuffer = BufferPool.takeBytes(decoder.getDictionarySize());
 		textPosition = 0;
 		textDecoded = 0;
 
 		if (this.decoder instanceof PreLz5Decoder) {
 			initLz5TextBuffer();
 		}
+		if (this.decoder instanceof PreLh5Decoder) {
+			bulkDecoder = (PreLh5Decoder) this.decoder;
+		}
 	}
 
 	// ------------------------------------------------------------------
@@ -279,6 +287,8 @@ public class LzssInputStream extends InputStream {
 	public void close() throws IOException {
 		decoder.close();
 		decoder = null;
+		bulkDecoder = null;
+		BufferPool.giveBytes(textBuffer);
 		textBuffer = null;
 		markTextBuffer = null;
 	}
@@ -298,6 +308,13 @@ public class LzssInputStream extends InputStream {
 			final int TextStart = (int) textDecoded & TextMask;
 			int TextPos = TextStart;
 			final int TextLimit = (int) (Math.min(textPosition + textBuffer.length - maxMatch, length) - textDecoded) + TextStart;
+			if (bulkDecoder != null) {
+				if (TextPos < TextLimit) {
+					TextPos = bulkDecoder.decode(textBuffer, TextPos, TextLimit);  // throws EOFException IOException
+				}
+				textDecoded += TextPos - TextStart;
+				return;
+			}
 			try {
 				while (TextPos < TextLimit) {
 					final int Code = decoder.readCode();                             // throws EOFException IOException
@@ -29,6 +29,7 @@ package com.orangesignal.jlha;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 
 /**
  * データを LZSS圧縮しながら 指定された PostLzssEncoder に出力する圧縮用出力ストリーム。<br>
@@ -48,6 +49,37 @@ public class LzssOutputStream extends OutputStream {
 	 */
 	public static final int NOMATCH = -1;
 
+	/**
+	 * 解析方法を示す文字列。 GREEDY は 見つかった一致を先読みせずに そのまま出力する "greedy" である。 最も速いが圧縮率は低い。
+	 * 
+	 * @since 3.0
+	 */
+	public static final String GREEDY = "greedy";
+
+	/**
+	 * 解析方法を示す文字列。 LAZY は 次の位置の一致を先読みし、 より長い一致があれば 現在の位置を未圧縮で出力する "lazy" である。 デフォルトの解析方法である。
+	 * 
+	 * @since 3.0
+	 */
+	public static final String LAZY = "lazy";
+
+	/**
+	 * 解析方法を示す文字列。 OPTIMAL は 全ての位置の一致を検索し、 ハフマン符号長の推定値による出力ビット数が最小になる 一致と未圧縮データの組み合わせを選ぶ "optimal" である。 最も遅いが圧縮率は高い。
+	 * 
+	 * @since 3.0
+	 */
+	public static final String OPTIMAL = "optimal";
+
+	/**
+	 * OPTIMAL で出力ビット数を推定する際の 符号長の初期値。
+	 */
+	private static final int INITIAL_CODE_LEN = 9;
+
+	/**
+	 * OPTIMAL で出力ビット数を推定する際の 一致位置の上位ビット長の符号長の初期値。
+	 */
+	private static final int INITIAL_OFFLEN_LEN = 4;
+
 	/**
 	 * LZSS圧縮コードを排出する先の出力ストリーム
 	 */
@@ -105,6 +137,61 @@ public class LzssOutputStream extends OutputStream {
 	 */
 	private LzssSearchMethod method;
 
+	/**
+	 * 解析方法。 GREEDY、 LAZY、 OPTIMAL のいずれか。
+	 */
+	private String parse;
+
+	/**
+	 * OPTIMAL で 各位置の検索結果を格納する配列
+	 */
+	private int[] searchResults;
+
+	/**
+	 * OPTIMAL で 各位置までの推定ビット数、 解析後は各位置から出力する長さを格納する配列
+	 */
+	private int[] costs;
+
+	/**
+	 * OPTIMAL で 各位置に到達する直前の 一致長もしくは 1 (未圧縮) を格納する配列
+	 */
+	private int[] lengths;
+
+	/**
+	 * OPTIMAL で 各位置に到達する直前の一致の一致位置を格納する配列
+	 */
+	private int[] offsets;
+
+	/**
+	 * OPTIMAL で使用する 未圧縮データと一致長の符号長の推定値
+	 */
+	private int[] codeLen;
+
+	/**
+	 * OPTIMAL で使用する 一致位置の上位ビット長の符号長の推定値
+	 */
+	private int[] offLenLen;
+
+	/**
+	 * OPTIMAL で 出力した未圧縮データと一致長の頻度表
+	 */
+	private int[] codeFreq;
+
+	/**
+	 * OPTIMAL で 出力した一致位置の上位ビット長の頻度表
+	 */
+	private int[] offLenFreq;
+
+	/**
+	 * OPTIMAL で codeLen を求め直す際に作業領域を再利用する builder
+	 */
+	private StaticHuffman.LenListBuilder codeLenBuilder;
+
+	/**
+	 * OPTIMAL で offLenLen を求め直す際に作業領域を再利用する builder
+	 */
+	private StaticHuffman.LenListBuilder offLenLenBuilder;
+
 	/**
 	 * write() によって書きこまれたデータを LZSSで圧縮し、圧縮したデータを encoderに出力する 出力ストリームを構築する。
 	 * 
@@ -137,37 +224,94 @@ public class LzssOutputStream extends OutputStream {
 	 * @exception NoSuchMethodError LzssSearchMethodClassName で与えられたクラスが コンストラクタ LzssSearchMethod( int, int, int, byte[] ) を持たない場合
 	 */
 	public LzssOutputStream(final PostLzssEncoder encoder, final String LzssSearchMethodClassName, final Object[] LzssSearchMethodExtraArguments) {
+		this(encoder, (dictionarySize, maxMatch, threshold, textBuffer) -> createSearchMethod(LzssSearchMethodClassName, LzssSearchMethodExtraArguments, dictionarySize, maxMatch, threshold, textBuffer));
+	}
+
+	/**
+	 * write() によって書きこまれたデータを LZSSで圧縮し、圧縮したデータを encoderに出力する 出力ストリームを構築する。<br>
+	 * LzssSearchMethod は factory で生成するため、 リフレクションを使用しない。
+	 * 
+	 * @param encoder LZSS圧縮データ出力ストリーム
+	 * @param factory LzssSearchMethod を生成するファクトリ
+	 * @since 3.0
+	 */
+	public LzssOutputStream(final PostLzssEncoder encoder, final LzssSearchMethodFactory factory) {
+		this(encoder, factory, LAZY);
+	}
+
+	/**
+	 * write() によって書きこまれたデータを LZSSで圧縮し、圧縮したデータを encoderに出力する 出力ストリームを構築する。<br>
+	 * LHA Library for Java のプロパティの生成式から 解析方法を指定するためのコンストラクタ。
+	 * 
+	 * @param encoder LZSS圧縮データ出力ストリーム
+	 * @param LzssSearchMethodClassName LzssSearchMethod の実装を示すパッケージ名も含めたクラス名
+	 * @param LzssSearchMethodExtraArguments 追加の引数
+	 * @param parse 解析方法を示す文字列<br>
+	 *            &emsp;&emsp; LzssOutputStream.GREEDY <br>
+	 *            &emsp;&emsp; LzssOutputStream.LAZY <br>
+	 *            &emsp;&emsp; LzssOutputStream.OPTIMAL <br>
+	 *            &emsp;&emsp; の何れかを指定する。
+	 * @exception IllegalArgumentException parse が上記以外の場合
+	 * @since 3.0
+	 */
+	public LzssOutputStream(final PostLzssEncoder encoder, final String LzssSearchMethodClassName, final Object[] LzssSearchMethodExtraArguments, final String parse) {
+		this(encoder, (dictionarySize, maxMatch, threshold, textBuffer) -> createSearchMethod(LzssSearchMethodClassName, LzssSearchMethodExtraArguments, dictionarySize, maxMatch, threshold, textBuffer), parse);
+	}
+
+	/**
+	 * write() によって書きこまれたデータを LZSSで圧縮し、圧縮したデータを encoderに出力する 出力ストリームを構築する。<br>
+	 * 
+	 * @param encoder LZSS圧縮データ出力ストリーム
+	 * @param factory LzssSearchMethod を生成するファクトリ
+	 * @param parse 解析方法を示す文字列<br>
+	 *            &emsp;&emsp; LzssOutputStream.GREEDY <br>
+	 *            &emsp;&emsp; LzssOutputStream.LAZY <br>
+	 *            &emsp;&emsp; LzssOutputStream.OPTIMAL <br>
+	 *            &emsp;&emsp; の何れかを指定する。
+	 * @exception IllegalArgumentException parse が上記以外の場合
+	 * @since 3.0
+	 */
+	public LzssOutputStream(final PostLzssEncoder encoder, final LzssSearchMethodFactory factory, final String parse) {
+		if (GREEDY.equalsIgnoreCase(parse)) {
+			this.parse = GREEDY;
+		} else if (LAZY.equalsIgnoreCase(parse)) {
+			this.parse = LAZY;
+		} else if (OPTIMAL.equalsIgnoreCase(parse)) {
+			this.parse = OPTIMAL;
+		} else if (parse == null) {
+			throw new NullPointerException("parse");
+		} else {
+			throw new IllegalArgumentException("Unknown parse method. " + parse);
+		}
+
 		dictionarySize = encoder.getDictionarySize();
 		maxMatch = encoder.getMaxMatch();
 		threshold = encoder.getThreshold();
 
 		this.encoder = encoder;
-		textBuffer = new byte[dictionarySize * 2 + maxMatch];
+		textBuffer = BufferPool.takeBytes(dictionarySize * 2 + maxMatch);
 		writtenPos = dictionarySize;
 		putPos = dictionarySize;
 		searchPos = dictionarySize;
 		dictionaryLimit = dictionarySize;
 		lastsearchret = NEEDSEARCH;
 
-		final Object[] arguments = new Object[LzssSearchMethodExtraArguments.length + 4];
-		arguments[0] = dictionarySize;
-		arguments[1] = maxMatch;
-		arguments[2] = threshold;
-		arguments[3] = textBuffer;
-		for (int i = 0; i < LzssSearchMethodExtraArguments.length; i++) {
-			arguments[4 + i] = LzssSearchMethodExtraArguments[i];
-		}
-
-		try {
-			method = (LzssSearchMethod) Factory.createInstance(LzssSearchMethodClassName, arguments);                                        // throw ClasNotfoundException, InvocationTargetException, NoSuchMethodException, InstantiationException
-		} catch (final ClassNotFoundException exception) {
-			throw new NoClassDefFoundError(exception.getMessage());
-		} catch (final InvocationTargetException exception) {
-			throw new Error(exception.getTargetException().getMessage());
-		} catch (final NoSuchMethodException exception) {
-			throw new NoSuchMethodError(exception.getMessage());
-		} catch (final InstantiationException exception) {
-			throw new InstantiationError(exception.getMessage());
+		method = factory.newSearchMethod(dictionarySize, maxMatch, threshold, textBuffer);
+
+		if (this.parse == OPTIMAL) {
+			// OPTIMAL でのみ使用する大きな表は BufferPool に保持させずに、ストリームごとに確保します。
+			searchResults = new int[textBuffer.length + 1];
+			costs = new int[textBuffer.length + 1];
+			lengths = new int[textBuffer.length + 1];
+			offsets = new int[textBuffer.length + 1];
+			codeLen = new int[256 + maxMatch - threshold + 1];
+			offLenLen = new int[Bits.len(dictionarySize) + 1];
+			codeFreq = new int[codeLen.length];
+			offLenFreq = new int[offLenLen.length];
+			codeLenBuilder = new StaticHuffman.LenListBuilder(codeLen.length);
+			offLenLenBuilder = new StaticHuffman.LenListBuilder(offLenLen.length);
+			Arrays.fill(codeLen, INITIAL_CODE_LEN);
+			Arrays.fill(offLenLen, INITIAL_OFFLEN_LEN);
 		}
 	}
 
@@ -282,13 +426,53 @@ public class LzssOutputStream extends OutputStream {
 		encoder.close();                                                   // throw IOException
 		encoder = null;
 
-		textBuffer = null;
+		method.close();
 		method = null;
+		BufferPool.giveBytes(textBuffer);
+		textBuffer = null;
+		searchResults = null;
+		costs = null;
+		lengths = null;
+		offsets = null;
 	}
 
 	// ------------------------------------------------------------------
 	// local method
 
+	/**
+	 * LzssSearchMethodClassName で与えられたクラスの LzssSearchMethod を リフレクションで生成する。
+	 * 
+	 * @param LzssSearchMethodClassName LzssSearchMethod の実装を示すパッケージ名も含めたクラス名
+	 * @param LzssSearchMethodExtraArguments 追加の引数
+	 * @param dictionarySize 辞書サイズ
+	 * @param maxMatch 最長一致長
+	 * @param threshold 圧縮、非圧縮の閾値
+	 * @param textBuffer LZSS圧縮を施すためのバッファ
+	 * @return 生成された LzssSearchMethod
+	 */
+	private static LzssSearchMethod createSearchMethod(final String LzssSearchMethodClassName, final Object[] LzssSearchMethodExtraArguments, final int dictionarySize, final int maxMatch, final int threshold, final byte[] textBuffer) {
+		final Object[] arguments = new Object[LzssSearchMethodExtraArguments.length + 4];
+		arguments[0] = dictionarySize;
+		arguments[1] = maxMatch;
+		arguments[2] = threshold;
+		arguments[3] = textBuffer;
+		for (int i = 0; i < LzssSearchMethodExtraArguments.length; i++) {
+			arguments[4 + i] = LzssSearchMethodExtraArguments[i];
+		}
+
+		try {
+			return (LzssSearchMethod) Factory.createInstance(LzssSearchMethodClassName, arguments);                                        // throw ClasNotfoundException, InvocationTargetException, NoSuchMethodException, InstantiationException
+		} catch (final ClassNotFoundException exception) {
+			throw new NoClassDefFoundError(exception.getMessage());
+		} catch (final InvocationTargetException exception) {
+			throw new Error(exception.getTargetException().getMessage());
+		} catch (final NoSuchMethodException exception) {
+			throw new NoSuchMethodError(exception.getMessage());
+		} catch (final InstantiationException exception) {
+			throw new InstantiationError(exception.getMessage());
+		}
+	}
+
 	/**
 	 * TextBuffer に貯えられたデータを圧縮しながら private変数 this.encoder に出力する。
 	 * 
@@ -319,69 +503,13 @@ public class LzssOutputStream extends OutputStream {
 				lastsearchret = method.searchAndPut(searchPos);
 			}
 
-			int searchret = lastsearchret;
-			int matchlen = getMatchLen(searchret);
-			int matchpos = getMatchPos(searchret);
-			if (writtenPos - searchPos < matchlen) {
-				matchlen = writtenPos - searchPos;
+			if (parse == GREEDY) {
+				encodeGreedy(end);                                       // throws IOException
+			} else if (parse == OPTIMAL) {
+				encodeOptimal(end);                                      // throws IOException
+			} else {
+				encodeLazy(end);                                         // throws IOException
 			}
-
-			// ------------------------------------------------------------------
-			// メインループ
-			while (true) {
-				int lastmatchlen = matchlen;
-				final int lastmatchoff = searchPos - matchpos - 1;
-
-				searchret = method.searchAndPut(++searchPos);
-				matchlen = getMatchLen(searchret);
-				matchpos = getMatchPos(searchret);
-				if (writtenPos - searchPos < matchlen) {
-					matchlen = writtenPos - searchPos;
-				}
-
-				if (lastmatchlen < matchlen || lastmatchlen < threshold) {
-					encoder.writeCode(0xFF & textBuffer[searchPos - 1]); // throws IOException
-					if (end <= searchPos) {
-						putPos = searchPos;
-						lastsearchret = searchret;
-						break;
-					}
-				} else {
-					encoder.writeCode(256 + lastmatchlen - threshold);// throws IOException
-					encoder.writeOffset(lastmatchoff);                   // throws IOException
-
-					lastmatchlen--;
-					if (searchPos + lastmatchlen < end) {
-						while (0 < --lastmatchlen) {
-							method.put(++searchPos);
-						}
-
-						searchret = method.searchAndPut(++searchPos);
-						matchlen = getMatchLen(searchret);
-						matchpos = getMatchPos(searchret);
-						if (writtenPos - searchPos < matchlen) {
-							matchlen = writtenPos - searchPos;
-						}
-					} else if (end < searchPos + lastmatchlen) {
-						putPos = searchPos;
-						while (putPos < end) {
-							method.put(++putPos);
-						}
-						searchPos += lastmatchlen;
-						lastsearchret = NEEDSEARCH;
-						break;
-					} else {
-						putPos = searchPos;
-						while (putPos < end - 1) {
-							method.put(++putPos);
-						}
-						putPos++;
-						searchPos += lastmatchlen;
-						lastsearchret = method.searchAndPut(searchPos);
-						break;
-					}
-				}// if( lastmatchlen < matchlen || lastmatchlen < this.Threshold )
-			}// while( true )
 		}// if( this.searchPos < end )
 
 		// ------------------------------------------------------------------
@@ -429,6 +557,234 @@ public class LzssOutputStream extends OutputStream {
 		}
 	}
 
+	/**
+	 * searchPos から end までのデータを 次の位置の一致を先読みしながら圧縮して this.encoder に出力する。<br>
+	 * searchPos の検索結果は lastsearchret に格納されていること。
+	 * 
+	 * @param end 圧縮を終える位置
+	 * @exception IOException 入出力エラーが発生した場合
+	 */
+	private void encodeLazy(final int end) throws IOException {
+		int searchret = lastsearchret;
+		int matchlen = getMatchLen(searchret);
+		int matchpos = getMatchPos(searchret);
+		if (writtenPos - searchPos < matchlen) {
+			matchlen = writtenPos - searchPos;
+		}
+
+		// ------------------------------------------------------------------
+		// メインループ
+		while (true) {
+			int lastmatchlen = matchlen;
+			final int lastmatchoff = searchPos - matchpos - 1;
+
+			searchret = method.searchAndPut(++searchPos);
+			matchlen = getMatchLen(searchret);
+			matchpos = getMatchPos(searchret);
+			if (writtenPos - searchPos < matchlen) {
+				matchlen = writtenPos - searchPos;
+			}
+
+			if (lastmatchlen < matchlen || lastmatchlen < threshold) {
+				encoder.writeCode(0xFF & textBuffer[searchPos - 1]); // throws IOException
+				if (end <= searchPos) {
+					putPos = searchPos;
+					lastsearchret = searchret;
+					return;
+				}
+			} else {
+				encoder.writeCode(256 + lastmatchlen - threshold);// throws IOException
+				encoder.writeOffset(lastmatchoff);                   // throws IOException
+
+				lastmatchlen--;
+				if (searchPos + lastmatchlen < end) {
+					while (0 < --lastmatchlen) {
+						method.put(++searchPos);
+					}
+
+					searchret = method.searchAndPut(++searchPos);
+					matchlen = getMatchLen(searchret);
+					matchpos = getMatchPos(searchret);
+					if (writtenPos - searchPos < matchlen) {
+						matchlen = writtenPos - searchPos;
+					}
+				} else if (end < searchPos + lastmatchlen) {
+					putPos = searchPos;
+					while (putPos < end) {
+						method.put(++putPos);
+					}
+					searchPos += lastmatchlen;
+					lastsearchret = NEEDSEARCH;
+					return;
+				} else {
+					putPos = searchPos;
+					while (putPos < end - 1) {
+						method.put(++putPos);
+					}
+					putPos++;
+					searchPos += lastmatchlen;
+					lastsearchret = method.searchAndPut(searchPos);
+					return;
+				}
+			}// if( lastmatchlen < matchlen || lastmatchlen < this.Threshold )
+		}// while( true )
+	}
+
+	/**
+	 * searchPos から end までのデータを 見つかった一致を先読みせずに圧縮して this.encoder に出力する。<br>
+	 * searchPos の検索結果は lastsearchret に格納されていること。
+	 * 
+	 * @param end 圧縮を終える位置
+	 * @exception IOException 入出力エラーが発生した場合
+	 */
+	private void encodeGreedy(final int end) throws IOException {
+		int searchret = lastsearchret;
+		while (true) {
+			int matchlen = getMatchLen(searchret);
+			if (writtenPos - searchPos < matchlen) {
+				matchlen = writtenPos - searchPos;
+			}
+
+			if (matchlen < threshold) {
+				encoder.writeCode(0xFF & textBuffer[searchPos++]);      // throws IOException
+			} else {
+				encoder.writeCode(256 + matchlen - threshold);          // throws IOException
+				encoder.writeOffset(searchPos - getMatchPos(searchret) - 1);// throws IOException
+
+				if (end < searchPos + matchlen) {
+					putPos = searchPos;
+					while (putPos < end) {
+						method.put(++putPos);
+					}
+					searchPos += matchlen;
+					lastsearchret = NEEDSEARCH;
+					return;
+				}
+				while (0 < --matchlen) {
+					method.put(++searchPos);
+				}
+				searchPos++;
+			}
+
+			searchret = method.searchAndPut(searchPos);
+			if (end <= searchPos) {
+				putPos = searchPos;
+				lastsearchret = searchret;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * searchPos から end までのデータを 出力ビット数の推定値が最小になるように圧縮して this.encoder に出力する。<br>
+	 * searchPos の検索結果は lastsearchret に格納されていること。<br>
+	 * LzssSearchMethod は各位置で最長の一致のみを返すため、 各位置では最長の一致と その一致を短くした一致を候補とする。 出力ビット数は これまでに出力したデータの頻度表から求めたハフマン符号長で推定する。
+	 * 
+	 * @param end 圧縮を終える位置
+	 * @exception IOException 入出力エラーが発生した場合
+	 */
+	private void encodeOptimal(final int end) throws IOException {
+		final int start = searchPos;
+
+		// ------------------------------------------------------------------
+		// 全ての位置で検索する
+		searchResults[start] = lastsearchret;
+		for (int position = start + 1; position <= end; position++) {
+			searchResults[position] = method.searchAndPut(position);
+		}
+
+		// ------------------------------------------------------------------
+		// 各位置までの推定ビット数の最小値を求める
+		costs[start] = 0;
+		for (int position = start + 1; position <= end; position++) {
+			costs[position] = Integer.MAX_VALUE;
+		}
+		for (int position = start; position < end; position++) {
+			final int cost = costs[position];
+
+			final int literal = cost + codeLen[0xFF & textBuffer[position]];
+			if (literal < costs[position + 1]) {
+				costs[position + 1] = literal;
+				lengths[position + 1] = 1;
+			}
+
+			final int searchret = searchResults[position];
+			final int matchlen = Math.min(getMatchLen(searchret), end - position);
+			if (threshold <= matchlen) {
+				final int offset = position - getMatchPos(searchret) - 1;
+				final int offLen = Bits.len(offset);
+				final int base = cost + offLenLen[offLen] + Math.max(0, offLen - 1);
+				for (int len = threshold; len <= matchlen; len++) {
+					final int match = base + codeLen[256 + len - threshold];
+					if (match < costs[position + len]) {
+						costs[position + len] = match;
+						lengths[position + len] = len;
+						offsets[position + len] = offset;
+					}
+				}
+			}
+		}
+
+		// ------------------------------------------------------------------
+		// 終端から辿って 各位置から出力する長さを costs に格納する
+		for (int position = end; start < position;) {
+			final int len = lengths[position];
+			position -= len;
+			costs[position] = len;
+		}
+
+		// ------------------------------------------------------------------
+		// 出力
+		for (int position = start; position < end;) {
+			final int len = costs[position];
+			if (len == 1) {
+				final int code = 0xFF & textBuffer[position];
+				encoder.writeCode(code);                                 // throws IOException
+				codeFreq[code]++;
+			} else {
+				final int code = 256 + len - threshold;
+				final int offset = offsets[position + len];
+				encoder.writeCode(code);                                 // throws IOException
+				encoder.writeOffset(offset);                             // throws IOException
+				codeFreq[code]++;
+				offLenFreq[Bits.len(offset)]++;
+			}
+			position += len;
+		}
+
+		searchPos = end;
+		putPos = end;
+		lastsearchret = searchResults[end];
+		updateCodeLen();
+	}
+
+	/**
+	 * OPTIMAL で使用する符号長の推定値を 出力した頻度表から求め直す。<br>
+	 * 頻度表は 新しいデータの影響が大きくなるように半減させる。
+	 */
+	private void updateCodeLen() {
+		updateLenList(codeFreq, codeLen, codeLenBuilder);
+		updateLenList(offLenFreq, offLenLen, offLenLenBuilder);
+	}
+
+	/**
+	 * 全ての要素に 1 を加えた頻度表 freq から符号長の推定値を求めて lenList に格納し、 freq を半減させる。<br>
+	 * 符号長の推定値は ウィンドウ毎に求め直すため、 配列を確保せずに builder の作業領域と lenList を再利用する。
+	 * 
+	 * @param freq 頻度表
+	 * @param lenList 符号長の推定値を格納する配列
+	 * @param builder 符号長の表を作成する builder
+	 */
+	private static void updateLenList(final int[] freq, final int[] lenList, final StaticHuffman.LenListBuilder builder) {
+		for (int i = 0; i < freq.length; i++) {
+			freq[i]++;
+		}
+		builder.build(freq, lenList);
+		for (int i = 0; i < freq.length; i++) {
+			freq[i] = freq[i] - 1 >> 1;
+		}
+	}
+
 	/**
 	 * TextBuffer内のpositionまでのデータを 前方へ移動する
 	 * 
@@ -128,4 +128,12 @@ public interface LzssSearchMethod {
 	 */
 	int putRequires();
 
+	/**
+	 * LzssOutputStream が close() される際に、 この検索機構が使用していた資源を解放する。<br>
+	 * デフォルトの実装は何もしない。
+	 * 
+	 * @since 3.0
+	 */
+	default void close() {}
+
 }
\ No newline at end of file
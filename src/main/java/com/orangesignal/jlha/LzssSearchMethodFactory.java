@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+/**
+ * {@link LzssOutputStream} で使用する {@link LzssSearchMethod} を生成するインタフェースです。<p>
+ * クラス名からリフレクションでインスタンスを生成する代わりに使用します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public interface LzssSearchMethodFactory {
+
+	/**
+	 * 新しい {@link LzssSearchMethod} を生成して返します。
+	 *
+	 * @param dictionarySize 辞書サイズ
+	 * @param maxMatch 最長一致長
+	 * @param threshold 圧縮、非圧縮の閾値
+	 * @param textBuffer LZSS圧縮を施すためのバッファ
+	 * @return 新しい {@link LzssSearchMethod}
+	 */
+	LzssSearchMethod newSearchMethod(int dictionarySize, int maxMatch, int threshold, byte[] textBuffer);
+
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * -lh4-, -lh5-, -lh6-, -lh7- 形式の圧縮を、入力を分割したチャンク単位で並列に行う出力ストリームです。<p>
+ * 各チャンクは直前のチャンクの末尾を辞書として読込ませた {@link LzssOutputStream} と {@link PostLh5Encoder} でハフマンブロックまで符号化され、
+ * 呼出し元のスレッドでチャンクの順にビット単位で連結されます。
+ * 連結された出力は 1 つの連続した -lh?- 形式の圧縮データとして解凍できますが、チャンクの境界をまたぐ一致を分割するため、逐次の圧縮と同じデータにはなりません。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+final class ParallelLh5OutputStream extends OutputStream {
+
+	/**
+	 * デフォルトのチャンクのバイト数です。
+	 */
+	static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+	/**
+	 * デフォルトの連結待ちチャンクの最大数です。
+	 */
+	static final int DEFAULT_MAX_PENDING = 8;
+
+	/**
+	 * 連結した圧縮データの出力先です。
+	 */
+	private BitOutputStream out;
+
+	/**
+	 * 圧縮法識別子です。
+	 */
+	private final String method;
+
+	/**
+	 * LZSS の辞書サイズです。
+	 */
+	private final int dictionarySize;
+
+	/**
+	 * 各チャンクの LZSS 圧縮に使用する LzssSearchMethod を生成するファクトリです。
+	 */
+	private final LzssSearchMethodFactory search;
+
+	/**
+	 * 各チャンクの LZSS 圧縮の解析方法です。
+	 */
+	private final String parse;
+
+	/**
+	 * チャンクを符号化するエグゼキュータです。
+	 */
+	private final Executor executor;
+
+	/**
+	 * 連結待ちチャンクの最大数です。
+	 */
+	private final int maxPending;
+
+	/**
+	 * 連結待ちのチャンクの符号化処理です。
+	 */
+	private final Deque<Future<EncodedChunk>> pending = new ArrayDeque<>();
+
+	/**
+	 * 直前に符号化を依頼したチャンクです。
+	 */
+	private byte[] previous;
+
+	/**
+	 * 入力中のチャンクです。
+	 */
+	private byte[] chunk;
+
+	/**
+	 * 入力中のチャンク内の位置です。
+	 */
+	private int position;
+
+	/**
+	 * コンストラクタです。<p>
+	 * チャンクのバイト数と連結待ちチャンクの最大数にはデフォルト値が使用されます。
+	 *
+	 * @param out 圧縮データの出力先
+	 * @param method 圧縮法識別子
+	 * @param executor チャンクを符号化するエグゼキュータ
+	 */
+	ParallelLh5OutputStream(final OutputStream out, final String method, final Executor executor) {
+		this(out, method, executor, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_PENDING);
+	}
+
+	/**
+	 * コンストラクタです。<p>
+	 * チャンクのバイト数と連結待ちチャンクの最大数にはデフォルト値が使用されます。
+	 *
+	 * @param out 圧縮データの出力先
+	 * @param method 圧縮法識別子
+	 * @param executor チャンクを符号化するエグゼキュータ
+	 * @param search 各チャンクの LZSS 圧縮に使用する LzssSearchMethod を生成するファクトリ
+	 * @param parse 各チャンクの LZSS 圧縮の解析方法を示す文字列
+	 * @throws IllegalArgumentException {@code method} が -lh4-, -lh5-, -lh6-, -lh7- のいずれでもない場合。
+	 * または {@code parse} が {@link LzssOutputStream} の解析方法を示す文字列でない場合
+	 */
+	ParallelLh5OutputStream(final OutputStream out, final String method, final Executor executor, final LzssSearchMethodFactory search, final String parse) {
+		this(out, method, executor, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_PENDING, search, parse);
+	}
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param out 圧縮データの出力先
+	 * @param method 圧縮法識別子
+	 * @param executor チャンクを符号化するエグゼキュータ
+	 * @param chunkSize チャンクのバイト数
+	 * @param maxPending 連結待ちチャンクの最大数
+	 * @throws IllegalArgumentException {@code method} が -lh4-, -lh5-, -lh6-, -lh7- のいずれでもない場合。
+	 * または {@code chunkSize} が辞書サイズ未満の場合。または {@code maxPending} が 1 未満の場合
+	 */
+	ParallelLh5OutputStream(final OutputStream out, final String method, final Executor executor, final int chunkSize, final int maxPending) {
+		this(out, method, executor, chunkSize, maxPending, CompressMethod.SEARCH, LzssOutputStream.LAZY);
+	}
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param out 圧縮データの出力先
+	 * @param method 圧縮法識別子
+	 * @param executor チャンクを符号化するエグゼキュータ
+	 * @param chunkSize チャンクのバイト数
+	 * @param maxPending 連結待ちチャンクの最大数
+	 * @param search 各チャンクの LZSS 圧縮に使用する LzssSearchMethod を生成するファクトリ
+	 * @param parse 各チャンクの LZSS 圧縮の解析方法を示す文字列
+	 * @throws IllegalArgumentException {@code method} が -lh4-, -lh5-, -lh6-, -lh7- のいずれでもない場合。
+	 * または {@code chunkSize} が辞書サイズ未満の場合。または {@code maxPending} が 1 未満の場合。
+	 * または {@code parse} が {@link LzssOutputStream} の解析方法を示す文字列でない場合
+	 */
+	ParallelLh5OutputStream(final OutputStream out, final String method, final Executor executor, final int chunkSize, final int maxPending, final LzssSearchMethodFactory search, final String parse) {
+		if (out == null) {
+			throw new NullPointerException("out");
+		}
+		if (executor == null) {
+			throw new NullPointerException("executor");
+		}
+		if (!isSupported(method)) {
+			throw new IllegalArgumentException("Unsupported compress method. " + method);
+		}
+		this.dictionarySize = CompressMethod.toDictionarySize(method);
+		if (chunkSize < dictionarySize) {
+			throw new IllegalArgumentException("chunkSize must be " + dictionarySize + " or more.");
+		}
+		if (maxPending < 1) {
+			throw new IllegalArgumentException("maxPending must be 1 or more.");
+		}
+		if (search == null) {
+			throw new NullPointerException("search");
+		}
+		if (parse == null) {
+			throw new NullPointerException("parse");
+		}
+		if (!LzssOutputStream.GREEDY.equalsIgnoreCase(parse) && !LzssOutputStream.LAZY.equalsIgnoreCase(parse) && !LzssOutputStream.OPTIMAL.equalsIgnoreCase(parse)) {
+			throw new IllegalArgumentException("Unknown parse method. " + parse);
+		}
+		this.search = search;
+		this.parse = parse;
+		this.out = new BitOutputStream(out);
+		this.method = method;
+		this.executor = executor;
+		this.maxPending = maxPending;
+		this.chunk = new byte[chunkSize];
+	}
+
+	/**
+	 * 指定された圧縮法をこのストリームで圧縮できるかどうかを返します。
+	 *
+	 * @param method 圧縮法識別子
+	 * @return -lh4-, -lh5-, -lh6-, -lh7- のいずれかの場合は {@code true}
+	 */
+	static boolean isSupported(final String method) {
+		return CompressMethod.LH4.equalsIgnoreCase(method)
+				|| CompressMethod.LH5.equalsIgnoreCase(method)
+				|| CompressMethod.LH6.equalsIgnoreCase(method)
+				|| CompressMethod.LH7.equalsIgnoreCase(method);
+	}
+
+	// ------------------------------------------------------------------
+	// method of java.io.OutputStream
+
+	@Override
+	public void write(final int data) throws IOException {
+		chunk[position++] = (byte) data;
+		if (position == chunk.length) {
+			submit();
+		}
+	}
+
+	@Override
+	public void write(final byte[] buffer, int index, int length) throws IOException {
+		while (0 < length) {
+			final int copy = Math.min(length, chunk.length - position);
+			System.arraycopy(buffer, index, chunk, position, copy);
+			position += copy;
+			index += copy;
+			length -= copy;
+			if (position == chunk.length) {
+				submit();
+			}
+		}
+	}
+
+	/**
+	 * 符号化が完了しているチャンクを全て出力先に出力し、出力先を flush します。<p>
+	 * 入力中のチャンクと 8ビットに満たないデータは出力しません。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	@Override
+	public void flush() throws IOException {
+		while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+			writeOut(pending.removeFirst());
+		}
+		out.flush();
+	}
+
+	/**
+	 * 入力中のチャンクを符号化して全てのチャンクを出力先に出力し、このストリームを閉じます。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (0 < position) {
+				submit();
+			}
+			while (!pending.isEmpty()) {
+				writeOut(pending.removeFirst());
+			}
+			out.close();
+		} finally {
+			for (final Future<EncodedChunk> future : pending) {
+				future.cancel(false);
+			}
+			pending.clear();
+			out = null;
+			previous = null;
+			chunk = null;
+		}
+	}
+
+	// ------------------------------------------------------------------
+	// local method
+
+	/**
+	 * 入力中のチャンクの符号化をエグゼキュータに依頼します。<p>
+	 * 連結待ちのチャンクが最大数に達している場合は先頭のチャンクを出力してから依頼します。
+	 *
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private void submit() throws IOException {
+		while (maxPending <= pending.size()) {
+			writeOut(pending.removeFirst());
+		}
+		final byte[] window = previous;
+		final byte[] data = chunk;
+		final int length = position;
+		final FutureTask<EncodedChunk> task = new FutureTask<>(() -> encode(method, search, parse, window, data, length));
+		pending.addLast(task);
+		executor.execute(task);
+
+		previous = data;
+		chunk = new byte[data.length];
+		position = 0;
+	}
+
+	/**
+	 * 符号化されたチャンクをビット単位で出力先に連結します。
+	 *
+	 * @param future チャンクの符号化処理
+	 * @throws IOException 入出力エラーが発生した場合。または待機中に割込まれた場合
+	 */
+	private void writeOut(final Future<EncodedChunk> future) throws IOException {
+		final EncodedChunk encoded;
+		try {
+			encoded = future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+
+		final int bytes = (int) (encoded.bitLength >>> 3);
+		final int bits = (int) (encoded.bitLength & 0x07);
+		out.write(encoded.data, 0, bytes);
+		if (0 < bits) {
+			out.writeBits(bits, (encoded.data[bytes] & 0xFF) >> 8 - bits);
+		}
+	}
+
+	/**
+	 * 1 つのチャンクを符号化します。<p>
+	 * window の末尾の辞書サイズ分のデータを辞書として読込ませてから data を圧縮します。
+	 *
+	 * @param method 圧縮法識別子
+	 * @param search LZSS 圧縮に使用する LzssSearchMethod を生成するファクトリ
+	 * @param parse LZSS 圧縮の解析方法を示す文字列
+	 * @param window 直前のチャンク。先頭のチャンクの場合は {@code null}
+	 * @param data チャンクのデータ
+	 * @param length チャンクのバイト数
+	 * @return 符号化されたチャンク
+	 * @throws IOException 入出力エラーが発生した場合
+	 */
+	private static EncodedChunk encode(final String method, final LzssSearchMethodFactory search, final String parse, final byte[] window, final byte[] data, final int length) throws IOException {
+		final int primeLength = window != null ? Math.min(window.length, CompressMethod.toDictionarySize(method)) : 0;
+
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream(length / 2 + 64);
+		final BitCountingOutputStream bitOut = new BitCountingOutputStream(buffer);
+		final PrimedEncoder encoder = new PrimedEncoder(new PostLh5Encoder(bitOut, method), data, primeLength);
+		final LzssOutputStream lzss = new LzssOutputStream(encoder, search, parse);
+		if (0 < primeLength) {
+			lzss.write(window, window.length - primeLength, primeLength);
+		}
+		lzss.write(data, 0, length);
+		lzss.close();
+
+		return new EncodedChunk(buffer.toByteArray(), bitOut.bitLength);
+	}
+
+	// ------------------------------------------------------------------
+	// inner class
+
+	/**
+	 * 符号化されたチャンクです。
+	 */
+	private static final class EncodedChunk {
+
+		/**
+		 * 末尾をバイト境界まで 0 で埋めた圧縮データです。
+		 */
+		final byte[] data;
+
+		/**
+		 * 圧縮データの有効ビット数です。
+		 */
+		final long bitLength;
+
+		EncodedChunk(final byte[] data, final long bitLength) {
+			this.data = data;
+			this.bitLength = bitLength;
+		}
+
+	}
+
+	/**
+	 * 出力したビット数を数えるビット出力ストリームです。<p>
+	 * {@link PostLh5Encoder} はビット単位の出力のみを使用します。
+	 */
+	private static final class BitCountingOutputStream extends BitOutputStream {
+
+		/**
+		 * 出力したビット数です。
+		 */
+		long bitLength;
+
+		BitCountingOutputStream(final OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void writeBit(final int data) throws IOException {
+			super.writeBit(data);
+			bitLength++;
+		}
+
+		@Override
+		public void writeBoolean(final boolean bool) throws IOException {
+			super.writeBoolean(bool);
+			bitLength++;
+		}
+
+		@Override
+		public void writeBits(final int count, final int data) throws IOException {
+			super.writeBits(count, data);
+			bitLength += count;
+		}
+
+	}
+
+	/**
+	 * 辞書として読込ませたデータの符号を捨てる PostLzssEncoder です。<p>
+	 * 辞書として読込ませたデータとチャンクの境界をまたぐ一致は、チャンク側の部分だけを同じ一致位置の一致、 または閾値に満たない場合は未圧縮のデータとして出力します。
+	 */
+	private static final class PrimedEncoder implements PostLzssEncoder {
+
+		/**
+		 * 符号を出力する PostLzssEncoder です。
+		 */
+		private final PostLzssEncoder encoder;
+
+		/**
+		 * チャンクのデータです。
+		 */
+		private final byte[] data;
+
+		/**
+		 * 捨てるデータの残りのバイト数です。
+		 */
+		private int remaining;
+
+		/**
+		 * 次の一致位置を捨てるかどうかです。
+		 */
+		private boolean discardOffset;
+
+		/**
+		 * 境界をまたぐ一致のチャンク側のバイト数です。
+		 */
+		private int crossingLength;
+
+		PrimedEncoder(final PostLzssEncoder encoder, final byte[] data, final int primeLength) {
+			this.encoder = encoder;
+			this.data = data;
+			this.remaining = primeLength;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			encoder.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			encoder.close();
+		}
+
+		@Override
+		public void writeCode(final int code) throws IOException {
+			if (remaining == 0) {
+				encoder.writeCode(code);
+			} else if (code < 0x100) {
+				remaining--;
+			} else {
+				final int length = code - 0x100 + encoder.getThreshold();
+				if (length <= remaining) {
+					remaining -= length;
+					discardOffset = true;
+				} else {
+					crossingLength = length - remaining;
+					remaining = 0;
+				}
+			}
+		}
+
+		@Override
+		public void writeOffset(final int offset) throws IOException {
+			if (0 < crossingLength) {
+				final int threshold = encoder.getThreshold();
+				if (threshold <= crossingLength) {
+					encoder.writeCode(0x100 + crossingLength - threshold);
+					encoder.writeOffset(offset);
+				} else {
+					for (int i = 0; i < crossingLength; i++) {
+						encoder.writeCode(data[i] & 0xFF);
+					}
+				}
+				crossingLength = 0;
+			} else if (discardOffset) {
+				discardOffset = false;
+			} else {
+				encoder.writeOffset(offset);
+			}
+		}
+
+		@Override
+		public int getDictionarySize() {
+			return encoder.getDictionarySize();
+		}
+
+		@Override
+		public int getMaxMatch() {
+			return encoder.getMaxMatch();
+		}
+
+		@Override
+		public int getThreshold() {
+			return encoder.getThreshold();
+		}
+
+	}
+
+}
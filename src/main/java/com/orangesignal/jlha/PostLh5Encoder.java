@@ -245,9 +245,9 @@ public class PostLh5Encoder implements PostLzssEncoder {
 				final int codeFreqSize = 256 + maxMatch - threshold + 1;
 				final int offLenFreqSize = Bits.len(dictionarySize);
 				for (int i = 0; i < BlockNum; i++) {
-					block[i] = new byte[BlockSize];
-					blockCodeFreq[i] = new int[codeFreqSize];
-					blockOffLenFreq[i] = new int[offLenFreqSize];
+					block[i] = BufferPool.takeBytes(BlockSize);
+					blockCodeFreq[i] = BufferPool.takeInts(codeFreqSize);
+					blockOffLenFreq[i] = BufferPool.takeInts(offLenFreqSize);
 				}
 
 				group = createGroup(BlockNum, DivideNum);
@@ -361,6 +361,11 @@ public class PostLh5Encoder implements PostLzssEncoder {
 		out.close();                                                       // throws IOException
 
 		out = null;
+		for (int i = 0; i < block.length; i++) {
+			BufferPool.giveBytes(block[i]);
+			BufferPool.giveInts(blockCodeFreq[i]);
+			BufferPool.giveInts(blockOffLenFreq[i]);
+		}
 		block = null;
 		blockCodeFreq = null;
 		blockOffLenFreq = null;
@@ -93,6 +93,18 @@ public class PreLh5Decoder implements PreLzssDecoder {
 	 */
 	private short[][] codeTree;
 
+	/**
+	 * codeTable と同じビット列で引く 2つの未圧縮データを一度に復号するためのテーブル。<br>
+	 * 先頭の符号と それに続く符号が共に未圧縮データで、 符号長の和が codeTableBits 以下かつ 16 以下の場合は
+	 * 下位 8bit に 1つ目のデータ、 次の 8bit に 2つ目のデータ、 上位 16bit に符号長の和を持つ。 それ以外の場合は -1。
+	 */
+	private int[] pairTable;
+
+	/**
+	 * pairTable の生成元の codeTable。 codeTable がブロックの切り替えや reset() で変更された場合に pairTable を再生成するために使用する。
+	 */
+	private short[] pairTableSource;
+
 	/**
 	 * offLen 部のハフマン符号長の表
 	 */
@@ -214,7 +226,7 @@ public class PreLh5Decoder implements PreLzssDecoder {
 
 			if (in != null && 0 < CodeTableBits && 0 < OffLenTableBits) {
 				this.in = in;
-				cache = new byte[1024];
+				cache = BufferPool.takeBytes(1024);
 				cacheLimit = 0;
 				cachePosition = 0;
 				bitBuffer = 0;
@@ -341,6 +353,76 @@ public class PreLh5Decoder implements PreLzssDecoder {
 		return 0;
 	}
 
+	// ------------------------------------------------------------------
+	// original method
+
+	/**
+	 * LZSS圧縮コードを復号しながら textBuffer の position から limit の手前までを 解凍されたデータで満たす。<br>
+	 * readCode() と readOffset() を 1符号ずつ呼び出す場合と同じ結果を得るが、 ビットバッファに十分なデータがある間は
+	 * 2つの未圧縮データを 1回のテーブル参照で復号し、 重複しない一致は System.arraycopy で複写する。<br>
+	 * position と limit は textBuffer の長さ - 1 との論理積をとって textBuffer の位置とする。
+	 * 最後の一致は limit を超えて書き込まれる可能性があるため、 textBuffer には limit から MaxMatch バイトの余裕が必要である。
+	 * 
+	 * @param textBuffer 解凍されたデータを書き込むバッファ 長さは 2の累乗であること。
+	 * @param position 書き込み開始位置
+	 * @param limit 書き込み限界位置
+	 * @return 書き込みを終えた位置
+	 * @exception IOException 入出力エラーが発生した場合
+	 * @exception EOFException 1つのデータも解凍しないうちに EndOfStreamに達した場合
+	 * @exception BadHuffmanTableException ハフマン木を構成するための ハフマン符号長の表が不正である場合
+	 * @since 3.0
+	 */
+	int decode(final byte[] textBuffer, int position, final int limit) throws IOException {
+		final int start = position;
+		final int textMask = textBuffer.length - 1;
+		try {
+			while (position < limit) {
+				if (0 < blockSize && (16 <= bitCount || 2 <= cacheLimit - cachePosition)) {
+					if (bitCount < 16) {
+						bitBuffer |= (cache[cachePosition++] & 0xFF) << 24 - bitCount | (cache[cachePosition++] & 0xFF) << 16 - bitCount;
+						bitCount += 16;
+					}
+					if (pairTableSource != codeTable) {
+						createPairTable();
+					}
+
+					final int pair = pairTable[bitBuffer >>> 32 - codeTableBits];
+					if (0 <= pair && 2 <= blockSize && position + 1 < limit) {
+						textBuffer[textMask & position++] = (byte) pair;
+						textBuffer[textMask & position++] = (byte) (pair >>> 8);
+						final int len = pair >>> 16;
+						bitBuffer <<= len;
+						bitCount -= len;
+						blockSize -= 2;
+						continue;
+					}
+
+					blockSize--;
+					int node = codeTable[bitBuffer >>> 32 - codeTableBits];
+					if (0 <= node) {
+						int bits = bitBuffer << codeTableBits;
+						do {
+							node = codeTree[bits >>> 31][node];
+							bits <<= 1;
+						} while (0 <= node);
+					}
+					final int len = codeLen[~node];
+					bitBuffer <<= len;
+					bitCount -= len;
+					position = expand(textBuffer, position, ~node);
+				} else {
+					// ブロックの先頭や キャッシュの終端付近では 1符号ずつ復号する。
+					position = expand(textBuffer, position, readCode());
+				}
+			}
+		} catch (final EOFException exception) {
+			if (position == start) {
+				throw exception;
+			}
+		}
+		return position;
+	}
+
 	// ------------------------------------------------------------------
 	// method of jp.gr.java_conf.dangan.util.lha.PreLzssDecoder
 
@@ -480,6 +562,7 @@ public class PreLh5Decoder implements PreLzssDecoder {
 		in.close();                                                        // throws IOException
 		in = null;
 
+		BufferPool.giveBytes(cache);
 		cache = null;
 		cacheLimit = 0;
 		cachePosition = 0;
@@ -543,6 +626,65 @@ public class PreLh5Decoder implements PreLzssDecoder {
 	// ------------------------------------------------------------------
 	// local method
 
+	/**
+	 * 復号された code を textBuffer の position に展開する。<br>
+	 * code が一致長の場合は 一致位置を読み込み、 一致が書き込み位置と重ならず textBuffer の終端を跨がない場合は System.arraycopy で複写する。
+	 * 
+	 * @param textBuffer 解凍されたデータを書き込むバッファ
+	 * @param position 書き込み位置
+	 * @param code 未圧縮のデータ、 もしくは一致長
+	 * @return 書き込みを終えた位置
+	 * @exception IOException 入出力エラーが発生した場合
+	 */
+	private int expand(final byte[] textBuffer, int position, final int code) throws IOException {
+		final int textMask = textBuffer.length - 1;
+		if (code < 0x100) {
+			textBuffer[textMask & position++] = (byte) code;
+			return position;
+		}
+
+		int matchLength = (code & 0xFF) + threshold;
+		final int offset = readOffset();                                 // throws IOException
+		final int from = textMask & position - offset - 1;
+		final int to = textMask & position;
+		if (matchLength <= offset + 1 && from + matchLength <= textBuffer.length && to + matchLength <= textBuffer.length) {
+			System.arraycopy(textBuffer, from, textBuffer, to, matchLength);
+			return position + matchLength;
+		}
+
+		int matchPosition = position - offset - 1;
+		while (0 < matchLength--) {
+			textBuffer[textMask & position++] = textBuffer[textMask & matchPosition++];
+		}
+		return position;
+	}
+
+	/**
+	 * 現在の codeTable から pairTable を生成する。
+	 */
+	private void createPairTable() {
+		if (pairTable == null || pairTable.length != codeTable.length) {
+			pairTable = new int[codeTable.length];
+		}
+		final int tableMask = codeTable.length - 1;
+		final int maxLen = Math.min(codeTableBits, 16);
+		for (int i = 0; i < codeTable.length; i++) {
+			pairTable[i] = -1;
+			final int node1 = codeTable[i];
+			if (node1 < 0 && ~node1 < 0x100) {
+				final int len1 = codeLen[~node1];
+				final int node2 = codeTable[i << len1 & tableMask];
+				if (node2 < 0 && ~node2 < 0x100) {
+					final int len = len1 + codeLen[~node2];
+					if (len <= maxLen) {
+						pairTable[i] = ~node1 | ~node2 << 8 | len << 16;
+					}
+				}
+			}
+		}
+		pairTableSource = codeTable;
+	}
+
 	/**
 	 * ハフマンブロックの先頭にある ブロックサイズやハフマン符号長のリストを読み込む。
 	 * 
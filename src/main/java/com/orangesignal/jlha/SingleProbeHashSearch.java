@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+/**
+ * ハッシュテーブルを 1 回だけ参照する {@link LzssSearchMethod} です。<p>
+ * ハッシュ値ごとに最後に登録した位置のみを保持し、連結リストを辿らずにその位置との一致だけを調べます。
+ * 最長一致を見つけられないことが多いため圧縮率は低くなりますが、検索の時間はデータの内容によらずほぼ一定です。
+ * 圧縮率より圧縮速度を優先する場合に {@link LzssOutputStream#GREEDY} と組合せて使用します。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class SingleProbeHashSearch implements LzssSearchMethod {
+
+	/**
+	 * ハッシュ値のビット数です。
+	 */
+	private static final int HASH_BITS = 15;
+
+	/**
+	 * ハッシュ値を生成するために使用するバイト数です。
+	 */
+	private static final int HASH_REQUIRES = 3;
+
+	/**
+	 * 一致の内部で登録する位置の数です。<p>
+	 * 一致の先頭からこの数を超える位置は登録せずに読み飛ばします。
+	 */
+	private static final int PUT_LIMIT = 32;
+
+	/**
+	 * LZSS 辞書サイズです。
+	 */
+	private final int dictionarySize;
+
+	/**
+	 * 最大一致長です。
+	 */
+	private final int maxMatch;
+
+	/**
+	 * 圧縮、非圧縮の閾値です。
+	 */
+	private final int threshold;
+
+	/**
+	 * LZSS 圧縮を施すためのバッファです。
+	 */
+	private final byte[] textBuffer;
+
+	/**
+	 * 辞書の限界位置です。
+	 */
+	private int dictionaryLimit;
+
+	/**
+	 * ハッシュテーブルです。添字はハッシュ値、内容は最後に登録した textBuffer 内の位置です。
+	 */
+	private int[] hashTable;
+
+	/**
+	 * 登録を省略する範囲の開始位置です。
+	 */
+	private int skipFrom;
+
+	/**
+	 * 登録を省略する範囲の終了位置です。
+	 */
+	private int skipTo;
+
+	/**
+	 * コンストラクタです。
+	 *
+	 * @param dictionarySize 辞書サイズ
+	 * @param maxMatch 最長一致長
+	 * @param threshold 圧縮、非圧縮の閾値
+	 * @param textBuffer LZSS圧縮を施すためのバッファ
+	 */
+	public SingleProbeHashSearch(final int dictionarySize, final int maxMatch, final int threshold, final byte[] textBuffer) {
+		this.dictionarySize = dictionarySize;
+		this.maxMatch = maxMatch;
+		this.threshold = threshold;
+		this.textBuffer = textBuffer;
+		this.dictionaryLimit = dictionarySize;
+		this.hashTable = BufferPool.takeInts(1 << HASH_BITS);
+		for (int i = 0; i < hashTable.length; i++) {
+			hashTable[i] = -1;
+		}
+	}
+
+	/**
+	 * position から始まるデータパタンをハッシュテーブルに登録します。<p>
+	 * 直前の searchAndPut で見つかった一致の内部は、先頭から {@value #PUT_LIMIT} 個の位置のみを登録します。
+	 *
+	 * @param position TextBuffer内のデータパタンの開始位置
+	 */
+	@Override
+	public void put(final int position) {
+		if (position < skipFrom || skipTo <= position) {
+			hashTable[hash(position)] = position;
+		}
+	}
+
+	@Override
+	public int searchAndPut(final int position) {
+		final int hash = hash(position);
+		final int scanpos = hashTable[hash];
+		hashTable[hash] = position;
+		final int searchret = match(position, scanpos, position + maxMatch);
+		if (searchret != LzssOutputStream.NOMATCH) {
+			skipFrom = position + PUT_LIMIT;
+			skipTo = position + LzssOutputStream.getMatchLen(searchret);
+		}
+		return searchret;
+	}
+
+	/**
+	 * ハッシュテーブルに登録された位置との一致を調べます。<p>
+	 * lastPutPos より後の位置は登録されていないため検索しません。
+	 *
+	 * @param position TextBuffer内のデータパタンの開始位置
+	 * @param lastPutPos 最後に登録したデータパタンの開始位置
+	 * @return 一致が見つかった場合は LzssOutputStream.createSearchReturn によって生成された一致位置と一致長の情報を持つ値、 一致が見つからなかった場合は LzssOutputStream.NOMATCH
+	 */
+	@Override
+	public int search(final int position, final int lastPutPos) {
+		if (textBuffer.length - position < HASH_REQUIRES) {
+			return LzssOutputStream.NOMATCH;
+		}
+		return match(position, hashTable[hash(position)], Math.min(textBuffer.length, position + maxMatch));
+	}
+
+	@Override
+	public void slide() {
+		dictionaryLimit = Math.max(0, dictionaryLimit - dictionarySize);
+		skipFrom -= dictionarySize;
+		skipTo -= dictionarySize;
+		for (int i = 0; i < hashTable.length; i++) {
+			final int pos = hashTable[i] - dictionarySize;
+			hashTable[i] = 0 <= pos ? pos : -1;
+		}
+	}
+
+	/**
+	 * ハッシュ値を生成するために使用するバイト数を返します。
+	 *
+	 * @return 常に 3
+	 */
+	@Override
+	public int putRequires() {
+		return HASH_REQUIRES;
+	}
+
+	/**
+	 * ハッシュテーブルを {@link BufferPool} に返却します。
+	 */
+	@Override
+	public void close() {
+		BufferPool.giveInts(hashTable);
+		hashTable = null;
+	}
+
+	// ------------------------------------------------------------------
+	// local method
+
+	/**
+	 * position から始まる 3 バイトのハッシュ値を返します。
+	 *
+	 * @param position データパタンの開始位置
+	 * @return ハッシュ値
+	 */
+	private int hash(final int position) {
+		final byte[] buf = textBuffer;
+		final int key = (buf[position] & 0xFF) << 16 | (buf[position + 1] & 0xFF) << 8 | buf[position + 2] & 0xFF;
+		return key * 0x9E3779B1 >>> 32 - HASH_BITS;
+	}
+
+	/**
+	 * position と scanpos から始まるデータパタンの一致長を調べます。<p>
+	 * 一致長が max に達した時点で比較を打切ります。
+	 *
+	 * @param position データパタンの開始位置
+	 * @param scanpos 比較するデータパタンの開始位置
+	 * @param max 比較を打切る位置
+	 * @return 一致が見つかった場合は LzssOutputStream.createSearchReturn によって生成された一致位置と一致長の情報を持つ値、 一致が見つからなかった場合は LzssOutputStream.NOMATCH
+	 */
+	private int match(final int position, final int scanpos, final int max) {
+		if (scanpos < Math.max(dictionaryLimit, position - dictionarySize)) {
+			return LzssOutputStream.NOMATCH;
+		}
+		final byte[] buf = textBuffer;
+		int s = scanpos;
+		int p = position;
+		while (p < max && buf[s] == buf[p]) {
+			s++;
+			p++;
+		}
+		final int matchlen = p - position;
+		if (threshold <= matchlen) {
+			return LzssOutputStream.createSearchReturn(matchlen, scanpos);
+		}
+		return LzssOutputStream.NOMATCH;
+	}
+
+}
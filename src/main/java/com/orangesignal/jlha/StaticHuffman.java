@@ -26,6 +26,8 @@
 
 package com.orangesignal.jlha;
 
+import java.util.Arrays;
+
 /**
  * 静的ハフマン用ユーティリティ関数群を保持する。<br>
  * ハフマン符号は最大16ビットに制限される。<br>
@@ -58,97 +60,9 @@ final class StaticHuffman {
 	 * @return ハフマン符号のビット長の表
 	 */
 	public static int[] FreqListToLenList(final int[] FreqList) {
-		/**
-		 * ハフマン木を構成する配列群 ハフマン木は 0～FreqList.length までは全てが葉であり、 そのノード番号は符号である。木がいったん完成した後は TreeCount-1がルートノードとなる。 NodeWeight:: そのノードの重みを持つ SmallNode:: 小さな子ノードのノード番号を持つ LargeNode:: 大きな子ノードのノード番号を持つ TreeCount:: 有効なノードの個数を持つ
-		 */
-		final int[] NodeWeight = new int[FreqList.length * 2 - 1];
-		final int[] SmallNode = new int[FreqList.length * 2 - 1];
-		final int[] LargeNode = new int[FreqList.length * 2 - 1];
-		int TreeCount = FreqList.length;
-
-		/**
-		 * ハフマン木の葉のノード番号を小さな順に格納したリスト。 Leafs:: リスト本体 LeafCount:: 葉の個数
-		 */
-		final int[] Leafs = new int[FreqList.length];
-		int LeafCount = 0;
-
-		/**
-		 * ハフマン木の葉でないノードのノード番号を 小さな順に格納したリストを格納する。 Nodes:: リスト本体 NodeCount:: 葉でないノードの個数
-		 */
-		final int[] Nodes = new int[FreqList.length - 1];
-		int NodeCount = 0;
-
-		// 木に葉をセットし、
-		// Leafsに頻度1以上の葉のみセットする。
-		for (int i = 0; i < FreqList.length; i++) {
-			NodeWeight[i] = FreqList[i];
-
-			if (0 < FreqList[i]) {
-				Leafs[LeafCount++] = i;
-			}
-		}
-
-		if (2 <= LeafCount) {
-			// =================================
-			// ハフマン木を作成する
-			// =================================
-
-			// ハフマン木の葉となるべき要素を整列させる。
-			mergeSort(Leafs, 0, LeafCount - 1, FreqList, new int[LeafCount / 2 + 1]);
-
-			// 葉か、ノードの最小のもの2つを新しいノードに
-			// 結びつける事を繰り返し、ルートノードまで作成する。
-			// この処理によってハフマン木が完成する。
-			int LeafIndex = 0;
-			int NodeIndex = 0;
-			do {
-				int small;
-				if (NodeCount <= NodeIndex) {
-					small = Leafs[LeafIndex++];
-				} else if (LeafCount <= LeafIndex) {
-					small = Nodes[NodeIndex++];
-				} else if (NodeWeight[Leafs[LeafIndex]] <= NodeWeight[Nodes[NodeIndex]]) {
-					small = Leafs[LeafIndex++];
-				} else {
-					small = Nodes[NodeIndex++];
-				}
-
-				int large;
-				if (NodeCount <= NodeIndex) {
-					large = Leafs[LeafIndex++];
-				} else if (LeafCount <= LeafIndex) {
-					large = Nodes[NodeIndex++];
-				} else if (NodeWeight[Leafs[LeafIndex]] <= NodeWeight[Nodes[NodeIndex]]) {
-					large = Leafs[LeafIndex++];
-				} else {
-					large = Nodes[NodeIndex++];
-				}
-
-				final int newNode = TreeCount++;
-				NodeWeight[newNode] = NodeWeight[small] + NodeWeight[large];
-				SmallNode[newNode] = small;
-				LargeNode[newNode] = large;
-				Nodes[NodeCount++] = newNode;
-			} while (NodeIndex + LeafIndex < NodeCount + LeafCount - 1);
-
-			// ============================================
-			// ハフマン木からハフマン符号長の表を作成する。
-			// ============================================
-			// ハフマン木からハフマン符号長の頻度表を作成する。
-			final int[] LenFreq = huffmanTreeToLenFreq(SmallNode, LargeNode, TreeCount - 1);
-
-			// ハフマン符号長の頻度長から符号長の表を作成する。
-			final int[] LenList = new int[FreqList.length];
-			LeafIndex = 0;
-			for (int len = LIMIT_LEN; 0 < len; len--) {
-				while (0 < LenFreq[len]--) {
-					LenList[Leafs[LeafIndex++]] = len;
-				}
-			}
-
-			return LenList;
-		}
-		return new int[FreqList.length];
+		final int[] LenList = new int[FreqList.length];
+		new LenListBuilder(FreqList.length).build(FreqList, LenList);
+		return LenList;
 	}
 
 	/**
@@ -489,6 +403,20 @@ final class StaticHuffman {
 	 */
 	private static int[] huffmanTreeToLenFreq(final int[] SmallNode, final int[] LargeNode, final int root) {
 		final int[] LenFreq = new int[LIMIT_LEN + 1];
+		huffmanTreeToLenFreq(SmallNode, LargeNode, root, LenFreq);
+		return LenFreq;
+	}
+
+	/**
+	 * ハフマン木から ハフマン符号長の頻度表を作成し、 LenFreq に格納する。<br>
+	 * 
+	 * @param SmallNode 小さい子ノードのノード番号の表
+	 * @param LargeNode 大きい子ノードのノード番号の表
+	 * @param root ハフマン木のルートノード
+	 * @param LenFreq ハフマン符号長を最大16ビットに制限した ハフマン符号長表を格納する LIMIT_LEN + 1 の長さの配列
+	 */
+	private static void huffmanTreeToLenFreq(final int[] SmallNode, final int[] LargeNode, final int root, final int[] LenFreq) {
+		Arrays.fill(LenFreq, 0);
 
 		// ハフマン木から頻度表作成
 		internalHuffmanTreeToLenFreq(SmallNode, LargeNode, root, 0, LenFreq);
@@ -517,8 +445,6 @@ final class StaticHuffman {
 
 			weight--;
 		}
-
-		return LenFreq;
 	}
 
 	/**
@@ -542,4 +468,136 @@ final class StaticHuffman {
 		}
 	}
 
+	/**
+	 * 同じ長さの頻度表から ハフマン符号のビット長の表を繰り返し作成する場合に 作業領域を再利用するためのクラス。<br>
+	 * 
+	 * @since 3.0
+	 */
+	static final class LenListBuilder {
+
+		/**
+		 * ハフマン木を構成する配列群 ハフマン木は 0～size までは全てが葉であり、 そのノード番号は符号である。木がいったん完成した後は TreeCount-1がルートノードとなる。 NodeWeight:: そのノードの重みを持つ SmallNode:: 小さな子ノードのノード番号を持つ LargeNode:: 大きな子ノードのノード番号を持つ
+		 */
+		private final int[] NodeWeight;
+		private final int[] SmallNode;
+		private final int[] LargeNode;
+
+		/**
+		 * ハフマン木の葉のノード番号を小さな順に格納したリスト。
+		 */
+		private final int[] Leafs;
+
+		/**
+		 * ハフマン木の葉でないノードのノード番号を 小さな順に格納したリスト。
+		 */
+		private final int[] Nodes;
+
+		/**
+		 * マージソート用作業領域
+		 */
+		private final int[] MergeWork;
+
+		/**
+		 * ハフマン符号長の頻度表
+		 */
+		private final int[] LenFreq;
+
+		/**
+		 * size の長さの頻度表を扱う LenListBuilder を構築する。
+		 * 
+		 * @param size 頻度表の長さ
+		 */
+		LenListBuilder(final int size) {
+			NodeWeight = new int[size * 2 - 1];
+			SmallNode = new int[size * 2 - 1];
+			LargeNode = new int[size * 2 - 1];
+			Leafs = new int[size];
+			Nodes = new int[size - 1];
+			MergeWork = new int[size / 2 + 1];
+			LenFreq = new int[LIMIT_LEN + 1];
+		}
+
+		/**
+		 * 頻度表から ハフマン符号のビット長の表を作成し、 LenList に格納する。
+		 * 
+		 * @param FreqList 頻度表
+		 * @param LenList ハフマン符号のビット長の表を格納する 頻度表と同じ長さの配列
+		 */
+		void build(final int[] FreqList, final int[] LenList) {
+			int TreeCount = FreqList.length;
+			int LeafCount = 0;
+			int NodeCount = 0;
+			Arrays.fill(LenList, 0);
+
+			// 木に葉をセットし、
+			// Leafsに頻度1以上の葉のみセットする。
+			for (int i = 0; i < FreqList.length; i++) {
+				NodeWeight[i] = FreqList[i];
+
+				if (0 < FreqList[i]) {
+					Leafs[LeafCount++] = i;
+				}
+			}
+
+			if (2 <= LeafCount) {
+				// =================================
+				// ハフマン木を作成する
+				// =================================
+
+				// ハフマン木の葉となるべき要素を整列させる。
+				mergeSort(Leafs, 0, LeafCount - 1, FreqList, MergeWork);
+
+				// 葉か、ノードの最小のもの2つを新しいノードに
+				// 結びつける事を繰り返し、ルートノードまで作成する。
+				// この処理によってハフマン木が完成する。
+				int LeafIndex = 0;
+				int NodeIndex = 0;
+				do {
+					int small;
+					if (NodeCount <= NodeIndex) {
+						small = Leafs[LeafIndex++];
+					} else if (LeafCount <= LeafIndex) {
+						small = Nodes[NodeIndex++];
+					} else if (NodeWeight[Leafs[LeafIndex]] <= NodeWeight[Nodes[NodeIndex]]) {
+						small = Leafs[LeafIndex++];
+					} else {
+						small = Nodes[NodeIndex++];
+					}
+
+					int large;
+					if (NodeCount <= NodeIndex) {
+						large = Leafs[LeafIndex++];
+					} else if (LeafCount <= LeafIndex) {
+						large = Nodes[NodeIndex++];
+					} else if (NodeWeight[Leafs[LeafIndex]] <= NodeWeight[Nodes[NodeIndex]]) {
+						large = Leafs[LeafIndex++];
+					} else {
+						large = Nodes[NodeIndex++];
+					}
+
+					final int newNode = TreeCount++;
+					NodeWeight[newNode] = NodeWeight[small] + NodeWeight[large];
+					SmallNode[newNode] = small;
+					LargeNode[newNode] = large;
+					Nodes[NodeCount++] = newNode;
+				} while (NodeIndex + LeafIndex < NodeCount + LeafCount - 1);
+
+				// ============================================
+				// ハフマン木からハフマン符号長の表を作成する。
+				// ============================================
+				// ハフマン木からハフマン符号長の頻度表を作成する。
+				huffmanTreeToLenFreq(SmallNode, LargeNode, TreeCount - 1, LenFreq);
+
+				// ハフマン符号長の頻度長から符号長の表を作成する。
+				LeafIndex = 0;
+				for (int len = LIMIT_LEN; 0 < len; len--) {
+					while (0 < LenFreq[len]--) {
+						LenList[Leafs[LeafIndex++]] = len;
+					}
+				}
+			}
+		}
+
+	}
+
 }
\ No newline at end of file
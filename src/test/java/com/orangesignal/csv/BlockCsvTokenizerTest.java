@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * {@link BlockCsvTokenizer} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class BlockCsvTokenizerTest {
+
+	private static final char[] CHARS = { 'a', 'b', ' ', '\t', ',', ';', '"', '\'', '\\', '\r', '\n', '#', '\u3000', '\uFEFF', 'N' };
+
+	@Test
+	public void testReadTokens() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setNullString("NULL");
+		cfg.setBreakString("\n");
+		cfg.setIgnoreTrailingWhitespaces(true);
+		cfg.setIgnoreLeadingWhitespaces(true);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setIgnoreLinePatterns(Pattern.compile("^#.*$"));
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+
+		try (CsvReader reader = new CsvReader(new StringReader("# text/tab-separated-values   \r\n aaa , \"b\r\nb\\\\b\" , \"c\\\"cc\" \r\n zzz , yyy , NULL \r\n# Copyright 2009 OrangeSignal.   "), 4, cfg)) {
+			final List<CsvToken> tokens1 = reader.readTokens();
+			assertThat(reader.getLineNumber(), is(2));
+			assertThat(reader.getStartLineNumber(), is(2));
+			assertThat(reader.getEndLineNumber(), is(3));
+			assertThat(tokens1.size(), is(3));
+			assertThat(tokens1.get(0).getValue(), is("aaa"));
+			assertThat(tokens1.get(1).getValue(), is("b\nb\\\\b"));
+			assertThat(tokens1.get(1).getStartLineNumber(), is(2));
+			assertThat(tokens1.get(1).getEndLineNumber(), is(3));
+			assertThat(tokens1.get(1).isEnclosed(), is(true));
+			assertThat(tokens1.get(2).getValue(), is("c\"cc"));
+
+			final List<String> values2 = reader.readValues();
+			assertThat(values2.size(), is(3));
+			assertThat(values2.get(0), is("zzz"));
+			assertThat(values2.get(1), is("yyy"));
+			assertNull(values2.get(2));
+
+			assertNull(reader.readTokens());
+			assertThat(reader.isEndOfFile(), is(true));
+		}
+	}
+
+	@Test
+	public void testReadTokensCompatibility() throws IOException {
+		final Random random = new Random(20141016L);
+		for (int i = 0; i < 3000; i++) {
+			final CsvConfig cfg = randomConfig(random);
+			final String text = randomText(random);
+			assertSameTokens(cfg, text, 1 + random.nextInt(16));
+		}
+	}
+
+	/**
+	 * 指定された区切り文字形式情報と文字列を {@link TokenizerPolicy#STREAM} と {@link TokenizerPolicy#BLOCK}、{@link TokenizerPolicy#VECTOR} で読込んだ結果が一致することを検証します。
+	 */
+	static void assertSameTokens(final CsvConfig cfg, final String text, final int sz) throws IOException {
+		final List<String> expected = readAll(cfg.clone().withTokenizerPolicy(TokenizerPolicy.STREAM), text, sz);
+		final List<String> actual = readAll(cfg.clone().withTokenizerPolicy(TokenizerPolicy.BLOCK), text, sz);
+		assertThat(escape(text), actual, is(expected));
+		final List<String> vector = readAll(cfg.clone().withTokenizerPolicy(TokenizerPolicy.VECTOR), text, sz);
+		assertThat(escape(text), vector, is(expected));
+	}
+
+	static CsvConfig randomConfig(final Random random) {
+		final CsvConfig cfg = new CsvConfig(random.nextBoolean() ? ',' : ';', random.nextBoolean() ? '"' : '\'', random.nextBoolean() ? '\\' : '"');
+		if (cfg.getQuote() == cfg.getEscape() && random.nextBoolean()) {
+			cfg.setEscape('\'');
+		}
+		cfg.setQuoteDisabled(random.nextInt(3) == 0);
+		cfg.setEscapeDisabled(random.nextInt(3) == 0);
+		cfg.setIgnoreLeadingWhitespaces(random.nextBoolean());
+		cfg.setIgnoreTrailingWhitespaces(random.nextBoolean());
+		cfg.setIgnoreEmptyLines(random.nextBoolean());
+		cfg.setSkipLines(random.nextInt(3) == 0 ? 1 : 0);
+		cfg.setVariableColumns(random.nextInt(4) != 0);
+		if (random.nextBoolean()) {
+			cfg.setIgnoreLinePatterns(Pattern.compile("^#.*$"));
+		}
+		if (random.nextBoolean()) {
+			cfg.setBreakString("<br>");
+		}
+		if (random.nextBoolean()) {
+			cfg.setNullString("N", random.nextBoolean());
+		}
+		return cfg;
+	}
+
+	static String randomText(final Random random) {
+		final int len = random.nextInt(64);
+		final StringBuilder sb = new StringBuilder(len);
+		for (int i = 0; i < len; i++) {
+			sb.append(CHARS[random.nextInt(CHARS.length)]);
+		}
+		return sb.toString();
+	}
+
+	private static List<String> readAll(final CsvConfig cfg, final String text, final int sz) throws IOException {
+		final List<String> results = new ArrayList<String>();
+		try (CsvReader reader = new CsvReader(new StringReader(text), sz, cfg)) {
+			for (int n = 0; n < 100; n++) {
+				final List<CsvToken> tokens;
+				try {
+					tokens = reader.readTokens();
+				} catch (final CsvTokenException e) {
+					results.add(e.getMessage());
+					continue;
+				} catch (final RuntimeException e) {
+					results.add(e.getClass().getName());
+					break;
+				}
+				results.add(String.format("%d:%d-%d:%b", reader.getLineNumber(), reader.getStartLineNumber(), reader.getEndLineNumber(), reader.isEndOfFile()));
+				if (tokens == null) {
+					if (reader.isEndOfFile()) {
+						break;
+					}
+					continue;
+				}
+				for (final CsvToken token : tokens) {
+					results.add(String.format("[%s]%d-%d:%b", token.getValue(), token.getStartLineNumber(), token.getEndLineNumber(), token.isEnclosed()));
+				}
+			}
+		}
+		return results;
+	}
+
+	private static String escape(final String text) {
+		return text.replace("\r", "\\r").replace("\n", "\\n");
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.orangesignal.jlha.LhaFile;
+import com.orangesignal.jlha.LhaHeader;
+
+/**
+ * {@link ByteCsvTokenizer} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class ByteCsvTokenizerTest {
+
+	private static final Charset WINDOWS_31J = Charset.forName("Windows-31J");
+
+	private static final char[] CHARS = { 'a', 'b', ' ', '\t', ',', ';', '"', '\'', '\\', '\r', '\n', '#', '　', '﻿', 'N', 'ソ', '表', 'é' };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testIsSupported() {
+		assertThat(ByteCsvTokenizer.isSupported(StandardCharsets.UTF_8, new CsvConfig(',', '"', '\\')), is(true));
+		assertThat(ByteCsvTokenizer.isSupported(StandardCharsets.ISO_8859_1, new CsvConfig(',', '"', '\\')), is(true));
+		assertThat(ByteCsvTokenizer.isSupported(Charset.forName("EUC-JP"), new CsvConfig(',', '"', '\\')), is(true));
+		assertThat(ByteCsvTokenizer.isSupported(WINDOWS_31J, new CsvConfig(',', '"', '"')), is(true));
+		assertThat(ByteCsvTokenizer.isSupported(WINDOWS_31J, new CsvConfig('\t', '"', '"')), is(true));
+		assertThat(ByteCsvTokenizer.isSupported(WINDOWS_31J, new CsvConfig(',', '"', '\\')), is(false));
+		assertThat(ByteCsvTokenizer.isSupported(WINDOWS_31J, new CsvConfig(',', '"', '\\').withEscapeDisabled(true)), is(true));
+		assertThat(ByteCsvTokenizer.isSupported(WINDOWS_31J, new CsvConfig('|')), is(false));
+		assertThat(ByteCsvTokenizer.isSupported(StandardCharsets.UTF_16, new CsvConfig()), is(false));
+	}
+
+	@Test
+	public void testReadValues() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '"');
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setIgnoreLinePatterns(Pattern.compile("^#.*$"));
+
+		final byte[] bytes = "# コメント\r\n\"ソ表\",\"a\"\"b\"\r\n\r\n　ソ,表\r\n".getBytes(WINDOWS_31J);
+		try (CsvReader reader = new CsvReader(new ByteArrayInputStream(bytes), WINDOWS_31J, 4, cfg)) {
+			final List<String> values1 = reader.readValues();
+			assertThat(values1.size(), is(2));
+			assertThat(values1.get(0), is("ソ表"));
+			assertThat(values1.get(1), is("a\"b"));
+			assertThat(reader.getStartLineNumber(), is(2));
+
+			assertNull(reader.readValues());
+
+			final List<String> values2 = reader.readValues();
+			assertThat(values2.size(), is(2));
+			assertThat(values2.get(0), is("　ソ"));
+			assertThat(values2.get(1), is("表"));
+			assertThat(reader.getStartLineNumber(), is(4));
+
+			assertNull(reader.readValues());
+			assertThat(reader.isEndOfFile(), is(true));
+		}
+	}
+
+	@Test
+	public void testReadValuesReuseBuffer() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '"');
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 300; i++) {
+			sb.append("ソ表");
+		}
+		final String longValue = sb.toString();
+		final byte[] bytes = ("\"a\"\"b\",\"" + longValue + "\"\r\n\"c\"\"\",\"d\"").getBytes(StandardCharsets.UTF_8);
+		try (CsvReader reader = new CsvReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, 4, cfg)) {
+			assertThat(reader.readValues(), is(Arrays.asList("a\"b", longValue)));
+			// 作業用バッファを拡張した後も、前の CSV トークンの文字は残りません。
+			assertThat(reader.readValues(), is(Arrays.asList("c\"", "d")));
+			assertNull(reader.readValues());
+		}
+	}
+
+	@Test
+	public void testReadValuesUnsupportedCharset() throws IOException {
+		final byte[] bytes = "a,b\r\nc,d".getBytes(StandardCharsets.UTF_16);
+		try (CsvReader reader = new CsvReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_16, new CsvConfig())) {
+			assertThat(reader.readValues().get(1), is("b"));
+			assertThat(reader.readValues().get(1), is("d"));
+			assertNull(reader.readValues());
+		}
+	}
+
+	@Test
+	public void testReadValuesLhaFile() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			for (final LhaHeader entry : lhaFile.getEntries()) {
+				try (CsvReader expected = new CsvReader(new InputStreamReader(lhaFile.getInputStream(entry), WINDOWS_31J), cfg);
+						CsvReader actual = new CsvReader(lhaFile.getInputStream(entry), WINDOWS_31J, cfg)) {
+					List<String> values;
+					do {
+						values = expected.readValues();
+						assertThat(actual.readValues(), is(values));
+						assertThat(actual.getLineNumber(), is(expected.getLineNumber()));
+					} while (values != null);
+				}
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testReadValuesFileChannel() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '"');
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setIgnoreLinePatterns(Pattern.compile("^#.*$"));
+
+		final File file = folder.newFile();
+		Files.write(file.toPath(), "# コメント\r\n\"ソ表\",\"a\"\"b\"\r\n\r\n　ソ,表\r\n".getBytes(WINDOWS_31J));
+		try (CsvReader reader = new CsvReader(new ByteCsvTokenizer(FileChannel.open(file.toPath(), StandardOpenOption.READ), WINDOWS_31J, 4, cfg))) {
+			final List<String> values1 = reader.readValues();
+			assertThat(values1.size(), is(2));
+			assertThat(values1.get(0), is("ソ表"));
+			assertThat(values1.get(1), is("a\"b"));
+			assertThat(reader.getStartLineNumber(), is(2));
+
+			assertNull(reader.readValues());
+
+			final List<String> values2 = reader.readValues();
+			assertThat(values2.size(), is(2));
+			assertThat(values2.get(0), is("　ソ"));
+			assertThat(values2.get(1), is("表"));
+			assertThat(reader.getStartLineNumber(), is(4));
+
+			assertNull(reader.readValues());
+			assertThat(reader.isEndOfFile(), is(true));
+		}
+	}
+
+	@Test
+	public void testReadTokensCompatibility() throws IOException {
+		final Random random = new Random(20141016L);
+		for (int i = 0; i < 3000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			final Charset charset = random.nextBoolean() ? StandardCharsets.UTF_8 : WINDOWS_31J;
+			final byte[] bytes = randomBytes(random, cfg, charset);
+			assertSameTokens(cfg, bytes, charset, 1 + random.nextInt(16));
+		}
+	}
+
+	@Test
+	public void testReadTokensCompatibilityFileChannel() throws IOException {
+		final Random random = new Random(20141017L);
+		final File file = folder.newFile();
+		for (int i = 0; i < 1000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			final Charset charset = random.nextBoolean() ? StandardCharsets.UTF_8 : WINDOWS_31J;
+			final byte[] bytes = randomBytes(random, cfg, charset);
+			final List<String> expected;
+			try (CsvReader reader = new CsvReader(new InputStreamReader(new ByteArrayInputStream(bytes), charset), cfg)) {
+				expected = readAll(reader);
+			}
+			Files.write(file.toPath(), bytes);
+			final List<String> actual;
+			try (CsvReader reader = new CsvReader(new ByteCsvTokenizer(FileChannel.open(file.toPath(), StandardOpenOption.READ), charset, 1 + random.nextInt(16), cfg))) {
+				actual = readAll(reader);
+			}
+			assertThat(new String(bytes, charset), actual, is(expected));
+		}
+	}
+
+	private static byte[] randomBytes(final Random random, final CsvConfig cfg, final Charset charset) {
+		final StringBuilder sb = new StringBuilder();
+		final int len = random.nextInt(64);
+		for (int j = 0; j < len; j++) {
+			sb.append(CHARS[random.nextInt(CHARS.length)]);
+		}
+		if (!ByteCsvTokenizer.isSupported(charset, cfg)) {
+			cfg.setEscapeDisabled(true);
+		}
+		final byte[] bytes = sb.toString().getBytes(charset);
+		// 不正なバイトの並びも検証します。
+		if (random.nextInt(4) == 0 && bytes.length > 0) {
+			bytes[random.nextInt(bytes.length)] = (byte) (0x80 | random.nextInt(0x80));
+		}
+		return bytes;
+	}
+
+	private static void assertSameTokens(final CsvConfig cfg, final byte[] bytes, final Charset charset, final int sz) throws IOException {
+		final List<String> expected;
+		try (CsvReader reader = new CsvReader(new InputStreamReader(new ByteArrayInputStream(bytes), charset), sz, cfg)) {
+			expected = readAll(reader);
+		}
+		final List<String> actual;
+		try (CsvReader reader = new CsvReader(new ByteArrayInputStream(bytes), charset, sz, cfg)) {
+			actual = readAll(reader);
+		}
+		assertThat(new String(bytes, charset), actual, is(expected));
+	}
+
+	private static List<String> readAll(final CsvReader reader) throws IOException {
+		final List<String> results = new ArrayList<String>();
+		for (int n = 0; n < 100; n++) {
+			final List<CsvToken> tokens;
+			try {
+				tokens = reader.readTokens();
+			} catch (final CsvTokenException e) {
+				results.add(e.getMessage());
+				continue;
+			} catch (final RuntimeException e) {
+				results.add(e.getClass().getName());
+				break;
+			}
+			results.add(String.format("%d:%d-%d:%b", reader.getLineNumber(), reader.getStartLineNumber(), reader.getEndLineNumber(), reader.isEndOfFile()));
+			if (tokens == null) {
+				if (reader.isEndOfFile()) {
+					break;
+				}
+				continue;
+			}
+			for (final CsvToken token : tokens) {
+				results.add(String.format("[%s]%d-%d:%b", token.getValue(), token.getStartLineNumber(), token.getEndLineNumber(), token.isEnclosed()));
+			}
+		}
+		return results;
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * {@link CsvCharScanner} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class CsvCharScannerTest {
+
+	private static final char[] CHARS = { 'a', 'b', '0', '1', ',', ';', '"', '\'', '\\', '\r', '\n' };
+
+	@Test
+	public void testNewInstance() {
+		final CsvConfig cfg = new CsvConfig();
+		assertThat(CsvCharScanner.newInstance(cfg, false), instanceOf(CsvCharScanner.ScalarCsvCharScanner.class));
+		if (CsvCharScanner.isVectorSupported()) {
+			assertThat(CsvCharScanner.newInstance(cfg, true), instanceOf(VectorCsvCharScanner.class));
+		} else {
+			assertThat(CsvCharScanner.newInstance(cfg, true), instanceOf(CsvCharScanner.ScalarCsvCharScanner.class));
+		}
+	}
+
+	@Test
+	public void testSkip() {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		final CsvCharScanner scanner = CsvCharScanner.newInstance(cfg, true);
+		final char[] buf = "abc,de\"f\\g,h\r\n".toCharArray();
+		assertThat(scanner.skip(buf, 0, buf.length, false), is(3));
+		assertThat(scanner.skip(buf, 4, buf.length, false), is(6));
+		assertThat(scanner.skip(buf, 7, buf.length, true), is(8));
+		assertThat(scanner.skip(buf, 9, buf.length, true), is(12));
+		assertThat(scanner.skip(buf, 9, 11, true), is(11));
+		assertThat(scanner.skipLine(buf, 0, buf.length), is(12));
+		assertThat(scanner.skipLine(buf, 13, buf.length), is(13));
+	}
+
+	@Test
+	public void testSkipCompatibility() {
+		assumeTrue(CsvCharScanner.isVectorSupported());
+		final Random random = new Random(20141016L);
+		for (int n = 0; n < 2000; n++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			final CsvCharScanner expected = CsvCharScanner.newInstance(cfg, false);
+			final CsvCharScanner actual = CsvCharScanner.newInstance(cfg, true);
+			final char[] buf = new char[1 + random.nextInt(300)];
+			for (int i = 0; i < buf.length; i++) {
+				buf[i] = random.nextInt(4) == 0 ? CHARS[random.nextInt(CHARS.length)] : 'x';
+			}
+			for (int k = 0; k < 20; k++) {
+				final int from = random.nextInt(buf.length);
+				final int to = from + random.nextInt(buf.length - from + 1);
+				final boolean inQuote = random.nextBoolean();
+				assertThat(actual.skip(buf, from, to, inQuote), is(expected.skip(buf, from, to, inQuote)));
+				assertThat(actual.skipLine(buf, from, to), is(expected.skipLine(buf, from, to)));
+			}
+			// 入力バッファの内容を変更した場合
+			buf[random.nextInt(buf.length)] = ',';
+			actual.reset();
+			assertThat(actual.skip(buf, 0, buf.length, false), is(expected.skip(buf, 0, buf.length, false)));
+		}
+	}
+
+}
@@ -456,6 +456,51 @@ public final class CsvConfigTest {
 		assertThat(cfg.isVariableColumns(), is(false));
 	}
 
+	@Test
+	public void testGetTokenizerPolicy() {
+		assertThat(new CsvConfig().getTokenizerPolicy(), is(TokenizerPolicy.STREAM));
+	}
+
+	@Test
+	public void testSetTokenizerPolicy() {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+		assertThat(cfg.getTokenizerPolicy(), is(TokenizerPolicy.BLOCK));
+	}
+
+	@Test
+	public void testWithTokenizerPolicy() {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.withTokenizerPolicy(TokenizerPolicy.BLOCK);
+		assertThat(cfg.getTokenizerPolicy(), is(TokenizerPolicy.BLOCK));
+	}
+
+	@Test
+	public void testSetTokenizerPolicyIllegalArgumentException() {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("TokenizerPolicy must not be null");
+		new CsvConfig().setTokenizerPolicy(null);
+	}
+
+	@Test
+	public void testIsThreadConfined() {
+		assertThat(new CsvConfig().isThreadConfined(), is(false));
+	}
+
+	@Test
+	public void testSetThreadConfined() {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setThreadConfined(true);
+		assertThat(cfg.isThreadConfined(), is(true));
+	}
+
+	@Test
+	public void testWithThreadConfined() {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.withThreadConfined(true);
+		assertThat(cfg.isThreadConfined(), is(true));
+	}
+
 	@Test
 	public void testWithAllMethods() {
 		final Pattern pattern = Pattern.compile("^#[ ]*$");
@@ -475,7 +520,9 @@ public final class CsvConfigTest {
 			.withLineSeparator("\n")
 			.withQuotePolicy(QuotePolicy.MINIMAL)
 			.withUtf8bomPolicy(true)
-			.withVariableColumns(false);
+			.withVariableColumns(false)
+			.withTokenizerPolicy(TokenizerPolicy.BLOCK)
+			.withThreadConfined(true);
 		assertThat(cfg.getSeparator(), is('\t'));
 		assertThat(cfg.getQuote(), is('\u0000'));
 		assertThat(cfg.getEscape(), is('"'));
@@ -494,6 +541,8 @@ public final class CsvConfigTest {
 		assertThat(cfg.getQuotePolicy(), is(QuotePolicy.MINIMAL));
 		assertThat(cfg.isUtf8bomPolicy(), is(true));
 		assertThat(cfg.isVariableColumns(), is(false));
+		assertThat(cfg.getTokenizerPolicy(), is(TokenizerPolicy.BLOCK));
+		assertThat(cfg.isThreadConfined(), is(true));
 	}
 
 	@Test
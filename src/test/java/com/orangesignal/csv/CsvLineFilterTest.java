@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * {@link CsvLineFilter} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class CsvLineFilterTest {
+
+	private static final String[] REGEXES = {
+		"^#.*$", "#.*", "^--$", "--", "^$", "", ".*", "^\\#\\.\\*.*$", "^\\\\.*$",
+		"^#.*\\$", "^\\s*#.*$", "^[#;].*$", "^a|b$", "^a+.*$", "^\\Q#\\E.*$", "^.*#$", "^#.*$$"
+	};
+
+	private static final String[] LINES = {
+		"", "#", "# comment", "# x", "#\r", "--", "--x", "x#", "#.*abc", "#.*", "\\abc", "#$", " #", "a", "b", ";x", "aaa", "#x$"
+	};
+
+	@Test
+	public void testMatchesCompatibility() {
+		for (final String regex : REGEXES) {
+			final Pattern pattern = Pattern.compile(regex);
+			final CsvLineFilter filter = new CsvLineFilter(new Pattern[]{ pattern });
+			for (final String line : LINES) {
+				final String text = "xx" + line + "\r\nyy";
+				final boolean expected = pattern.matcher(line).matches();
+				assertThat(regex + " / " + line, filter.matches(line, 0, line.length()), is(expected));
+				assertThat(regex + " / " + line, filter.matches(text, 2, 2 + line.length()), is(expected));
+				assertThat(regex + " / " + line, filter.matches(new StringBuilder(text), 2, 2 + line.length()), is(expected));
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesFlags() {
+		final CsvLineFilter filter = new CsvLineFilter(new Pattern[]{ Pattern.compile("^rem.*$", Pattern.CASE_INSENSITIVE) });
+		assertTrue(filter.matches("REM comment", 0, 11));
+		assertFalse(filter.matches("# comment", 0, 9));
+	}
+
+	@Test
+	public void testMatchesAny() {
+		final CsvLineFilter filter = new CsvLineFilter(new Pattern[]{ null, Pattern.compile("^#.*$"), Pattern.compile("^\\s*;.*$") });
+		assertTrue(filter.matches("# comment", 0, 9));
+		assertTrue(filter.matches("  ; comment", 0, 11));
+		assertFalse(filter.matches("a,b,c", 0, 5));
+	}
+
+	@Test
+	public void testIsCompiledFrom() {
+		final Pattern[] patterns = { Pattern.compile("^#.*$") };
+		final CsvLineFilter filter = new CsvLineFilter(patterns);
+		assertTrue(filter.isCompiledFrom(patterns));
+		assertFalse(filter.isCompiledFrom(new Pattern[]{ Pattern.compile("^#.*$") }));
+	}
+
+}
@@ -17,10 +17,17 @@
 package com.orangesignal.csv;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.supercsv.io.CsvListReader;
 import org.supercsv.prefs.CsvPreference;
@@ -37,6 +44,20 @@ import com.orangesignal.jlha.LhaHeader;
  */
 public class CsvReaderBenchmarks extends AbstractBenchmark {
 
+	private static File csvFile;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		csvFile = File.createTempFile("ken_all", ".csv");
+		csvFile.deleteOnExit();
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			Files.copy(lhaFile.getInputStream(lhaFile.getEntries()[0]), csvFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			lhaFile.close();
+		}
+	}
+
 	@Test
 	public void testOrangeSignalCSV() throws IOException {
 		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
@@ -60,6 +81,170 @@ public class CsvReaderBenchmarks extends AbstractBenchmark {
 		}
 	}
 
+	@Test
+	public void testOrangeSignalCSVThreadConfined() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+		cfg.setThreadConfined(true);
+
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			final LhaHeader[] entries = lhaFile.getEntries();
+			for (final LhaHeader entry : entries) {
+				try (CsvReader reader = new CsvReader(new InputStreamReader(lhaFile.getInputStream(entry), "Windows-31J"), cfg)) {
+					List<String> values;
+					while ((values = reader.readValues()) != null) {
+						continue;
+					}
+				}
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVBlockTokenizer() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			final LhaHeader[] entries = lhaFile.getEntries();
+			for (final LhaHeader entry : entries) {
+				try (CsvReader reader = new CsvReader(new InputStreamReader(lhaFile.getInputStream(entry), "Windows-31J"), cfg)) {
+					List<String> values;
+					while ((values = reader.readValues()) != null) {
+						continue;
+					}
+				}
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVVectorTokenizer() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+		cfg.setTokenizerPolicy(TokenizerPolicy.VECTOR);
+
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			final LhaHeader[] entries = lhaFile.getEntries();
+			for (final LhaHeader entry : entries) {
+				try (CsvReader reader = new CsvReader(new InputStreamReader(lhaFile.getInputStream(entry), "Windows-31J"), cfg)) {
+					List<String> values;
+					while ((values = reader.readValues()) != null) {
+						continue;
+					}
+				}
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVReadInto() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+
+		final CsvRow row = new CsvRow();
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			final LhaHeader[] entries = lhaFile.getEntries();
+			for (final LhaHeader entry : entries) {
+				try (CsvReader reader = new CsvReader(new InputStreamReader(lhaFile.getInputStream(entry), "Windows-31J"), cfg)) {
+					while (!reader.isEndOfFile()) {
+						reader.readInto(row);
+					}
+				}
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVByteTokenizer() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			final LhaHeader[] entries = lhaFile.getEntries();
+			for (final LhaHeader entry : entries) {
+				try (CsvReader reader = new CsvReader(lhaFile.getInputStream(entry), Charset.forName("Windows-31J"), cfg)) {
+					List<String> values;
+					while ((values = reader.readValues()) != null) {
+						continue;
+					}
+				}
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVFileInputStream() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+
+		try (CsvReader reader = new CsvReader(new FileInputStream(csvFile), Charset.forName("Windows-31J"), cfg)) {
+			List<String> values;
+			while ((values = reader.readValues()) != null) {
+				continue;
+			}
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVFileChannel() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+
+		try (CsvReader reader = new CsvReader(FileChannel.open(csvFile.toPath(), StandardOpenOption.READ), Charset.forName("Windows-31J"), cfg)) {
+			List<String> values;
+			while ((values = reader.readValues()) != null) {
+				continue;
+			}
+		}
+	}
+
+	@Test
+	public void testOrangeSignalCSVFileChannelTokens() throws IOException {
+		final CsvConfig cfg = new CsvConfig(CsvConfig.DEFAULT_SEPARATOR);
+		cfg.setQuoteDisabled(false);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+
+		try (CsvReader reader = new CsvReader(FileChannel.open(csvFile.toPath(), StandardOpenOption.READ), Charset.forName("Windows-31J"), cfg)) {
+			List<CsvToken> tokens;
+			while ((tokens = reader.readTokens()) != null) {
+				continue;
+			}
+		}
+	}
+
 	@Test
 	public void testOpenCSV() throws IOException {
 		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
@@ -22,19 +22,29 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Random;
 import java.util.regex.Pattern;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.orangesignal.csv.handlers.StringArrayListHandler;
+
 /**
  * {@link CsvReader} クラスの単体テストです。
  *
@@ -140,6 +150,8 @@ public final class CsvReaderTest {
 	@Test
 	public void testReadTokens() throws IOException {
 		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setQuoteDisabled(false);
+		cfg.setEscapeDisabled(false);
 		cfg.setNullString("NULL");
 		cfg.setBreakString("\n");
 		cfg.setIgnoreTrailingWhitespaces(true);
@@ -293,6 +305,8 @@ public final class CsvReaderTest {
 	@Test
 	public void testReadValues() throws IOException {
 		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setQuoteDisabled(false);
+		cfg.setEscapeDisabled(false);
 		cfg.setNullString("NULL");
 		cfg.setBreakString("\n");
 		cfg.setIgnoreTrailingWhitespaces(true);
@@ -618,6 +632,48 @@ public final class CsvReaderTest {
 		}
 	}
 
+	@Test
+	public void testReadUtf8bomFromFileChannel() throws IOException {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setSkipLines(1);
+		try (CsvReader reader = new CsvReader(FileChannel.open(new File("src/test/resources/utf8bom.csv").toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, cfg)) {
+			final List<CsvToken> tokens = reader.readTokens();
+			assertThat(tokens.get(0) instanceof MappedCsvToken, is(true));
+		}
+		try (CsvReader expected = new CsvReader(new InputStreamReader(new FileInputStream("src/test/resources/utf8bom.csv"), StandardCharsets.UTF_8), cfg);
+				CsvReader actual = new CsvReader(FileChannel.open(new File("src/test/resources/utf8bom.csv").toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, cfg)) {
+			List<String> values;
+			do {
+				values = expected.readValues();
+				assertThat(actual.readValues(), is(values));
+			} while (values != null);
+		}
+	}
+
+	@Test
+	public void testLoadFromFileChannel() throws IOException {
+		final Charset charset = Charset.forName("Windows-31J");
+		final CsvConfig cfg = new CsvConfig(',');
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setSkipLines(1);
+		final File file = new File("src/test/resources/", "n225.csv");
+
+		final List<String[]> expected = Csv.load(file, charset.name(), cfg, new StringArrayListHandler());
+		final List<String[]> actual = Csv.load(new CsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), charset, cfg), new StringArrayListHandler());
+		assertThat(actual.size(), is(expected.size()));
+		for (int i = 0; i < expected.size(); i++) {
+			assertThat(actual.get(i), is(expected.get(i)));
+		}
+	}
+
+	@Test
+	public void testCsvReaderFileChannelUnsupportedCharset() throws IOException {
+		final File file = new File("src/test/resources/", "n225.csv");
+		try (CsvReader reader = new CsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_16, new CsvConfig())) {
+			assertThat(reader.readTokens().get(0) instanceof MappedCsvToken, is(false));
+		}
+	}
+
 	@Test
 	public void testReadTokensCsvTokenException() throws IOException {
 		final CsvConfig cfg = new CsvConfig();
@@ -666,6 +722,288 @@ public final class CsvReaderTest {
 		}
 	}
 
+	@Test
+	public void testReadTokensThreadConfined() throws IOException {
+		final Random random = new Random(20141019L);
+		for (int i = 0; i < 1000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			cfg.setTokenizerPolicy(random.nextBoolean() ? TokenizerPolicy.BLOCK : TokenizerPolicy.STREAM);
+			final String text = BlockCsvTokenizerTest.randomText(random);
+			final int sz = 1 + random.nextInt(16);
+			final List<String> expected = readAllTokens(cfg, text, sz);
+			assertThat(text, readAllTokens(cfg.clone().withThreadConfined(true), text, sz), is(expected));
+		}
+	}
+
+	@Test
+	public void testCsvReaderThreadConfinedIllegalArgumentException() {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Buffer size <= 0");
+		new CsvReader(new StringReader(""), 0, new CsvConfig().withThreadConfined(true));
+	}
+
+	@Test
+	public void testReadBatch() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',');
+		try (CsvReader reader = new CsvReader(new StringReader("a,1\r\nb,2\r\nc,3\r\nd,4\r\ne,5"), cfg)) {
+			final List<List<String>> batch = reader.readBatch(2);
+			assertThat(batch.size(), is(2));
+			assertThat(batch.get(0), is(Arrays.asList("a", "1")));
+			assertThat(batch.get(1), is(Arrays.asList("b", "2")));
+
+			final List<List<String>> list = new ArrayList<>();
+			assertThat(reader.readBatch(list, 10), is(3));
+			assertThat(list.size(), is(3));
+			assertThat(list.get(2), is(Arrays.asList("e", "5")));
+
+			assertThat(reader.readBatch(list, 10), is(0));
+			assertThat(reader.readBatch(10).size(), is(0));
+		}
+	}
+
+	@Test
+	public void testReadBatchThreadConfined() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',').withThreadConfined(true);
+		try (CsvReader reader = new CsvReader(new StringReader("a,1\r\nb,2\r\nc,3"), cfg)) {
+			assertThat(reader.readBatch(2).size(), is(2));
+			assertThat(reader.readBatch(2).size(), is(1));
+			assertThat(reader.readBatch(2).size(), is(0));
+		}
+	}
+
+	@Test
+	public void testReadValuesProjection() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setNullString("NULL");
+		final BitSet columns = new BitSet();
+		columns.set(2);
+		for (final TokenizerPolicy policy : TokenizerPolicy.values()) {
+			cfg.setTokenizerPolicy(policy);
+			try (CsvReader reader = new CsvReader(new StringReader("a,\"b,\r\nb\",c,d\r\ne,f,\"g\",NULL"), cfg)) {
+				assertThat(reader.readValues(columns), is(Arrays.asList("a", null, "c", null)));
+				assertThat(reader.readValues(columns), is(Arrays.asList("e", null, "g", null)));
+				assertNull(reader.readValues(columns));
+			}
+		}
+		try (CsvReader reader = new CsvReader(new ByteArrayInputStream("a,\"b,\r\nb\",c,d".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, cfg)) {
+			assertThat(reader.readValues(columns), is(Arrays.asList("a", null, "c", null)));
+		}
+	}
+
+	@Test
+	public void testReadValuesProjectionCompatibility() throws IOException {
+		final Random random = new Random(20141016L);
+		for (int i = 0; i < 1000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			cfg.setTokenizerPolicy(TokenizerPolicy.values()[random.nextInt(TokenizerPolicy.values().length)]);
+			final String text = BlockCsvTokenizerTest.randomText(random);
+			final BitSet columns = new BitSet();
+			for (int n = 0; n < 8; n++) {
+				if (random.nextBoolean()) {
+					columns.set(n);
+				}
+			}
+			final List<Object> expected = new ArrayList<>();
+			final List<Object> actual = new ArrayList<>();
+			try (CsvReader r1 = new CsvReader(new StringReader(text), 1 + random.nextInt(16), cfg); CsvReader r2 = new CsvReader(new StringReader(text), 1 + random.nextInt(16), cfg)) {
+				for (int n = 0; n < 100; n++) {
+					final List<String> values = readValues(r1, null, expected);
+					if (values != null) {
+						for (int k = 1; k < values.size(); k++) {
+							if (!columns.get(k)) {
+								values.set(k, null);
+							}
+						}
+					}
+					readValues(r2, columns, actual);
+					if (values == null) {
+						break;
+					}
+				}
+			}
+			assertThat(text, actual, is(expected));
+		}
+	}
+
+	private static List<String> readValues(final CsvReader reader, final BitSet columns, final List<Object> results) throws IOException {
+		try {
+			final List<String> values = reader.readValues(columns);
+			results.add(values);
+			return values;
+		} catch (final CsvTokenException e) {
+			results.add(e.getMessage());
+			return new ArrayList<>();
+		} catch (final RuntimeException e) {
+			results.add(e.getClass().getName());
+			return null;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadBatchIllegalArgumentException1() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader("a,1"), new CsvConfig(','))) {
+			reader.readBatch(0);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadBatchIllegalArgumentException2() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader("a,1"), new CsvConfig(','))) {
+			reader.readBatch(null, 1);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadBatchClosed() throws IOException {
+		final CsvReader reader = new CsvReader(new StringReader("a,1"), new CsvConfig(','));
+		reader.close();
+		reader.readBatch(1);
+	}
+
+	@Test
+	public void testReadInto() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setQuoteDisabled(false);
+		cfg.setEscapeDisabled(false);
+		cfg.setNullString("NULL");
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+
+		try (CsvReader reader = new CsvReader(new StringReader("a,\"b\\\"\r\nc\",NULL\r\n\r\nd"), cfg)) {
+			final CsvRow row = new CsvRow();
+			assertThat(reader.readInto(row), is(true));
+			assertThat(row.size(), is(3));
+			assertThat(row.get(0), is("a"));
+			assertThat(row.get(1), is("b\"\r\nc"));
+			assertThat(row.isEnclosed(1), is(true));
+			assertNull(row.get(2));
+			assertThat(row.getStartLineNumber(), is(1));
+			assertThat(row.getEndLineNumber(), is(2));
+
+			// 無視する空行は readTokens() と同様に false を返します。
+			assertThat(reader.readInto(row), is(false));
+			assertThat(reader.isEndOfFile(), is(false));
+
+			assertThat(reader.readInto(row), is(true));
+			assertThat(row.size(), is(1));
+			assertThat(row.get(0), is("d"));
+			assertThat(row.getStartLineNumber(), is(4));
+
+			assertThat(reader.readInto(row), is(false));
+			assertThat(row.size(), is(0));
+		}
+	}
+
+	@Test
+	public void testReadIntoCsvTokenException() throws IOException {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setVariableColumns(false);
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+
+		try (CsvReader reader = new CsvReader(new StringReader("a,b,c\r\nx,y"), cfg)) {
+			final CsvRow row = new CsvRow();
+			assertThat(reader.readInto(row), is(true));
+			assertThat(row.size(), is(3));
+
+			// Act
+			reader.readInto(row);
+		} catch (final CsvTokenException e) {
+			// Assert
+			assertThat(e.getMessage(), is("Invalid column count in CSV input on line 2."));
+			final List<CsvToken> tokens = e.getTokens();
+			assertThat(tokens.size(), is(2));
+			assertThat(tokens.get(0).getValue(), is("x"));
+			assertThat(tokens.get(1).getValue(), is("y"));
+			assertThat(tokens.get(1).getStartLineNumber(), is(2));
+		}
+	}
+
+	@Test
+	public void testReadIntoIllegalArgumentException() throws IOException {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("CsvRow must not be null");
+		try (CsvReader reader = new CsvReader(new StringReader(""), new CsvConfig())) {
+			reader.readInto(null);
+		}
+	}
+
+	@Test
+	public void testReadIntoCompatibility() throws IOException {
+		final Random random = new Random(20141018L);
+		for (int i = 0; i < 3000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			cfg.setTokenizerPolicy(random.nextBoolean() ? TokenizerPolicy.BLOCK : TokenizerPolicy.STREAM);
+			final String text = BlockCsvTokenizerTest.randomText(random);
+			final int sz = 1 + random.nextInt(16);
+			assertThat(text, readAllInto(cfg, text, sz), is(readAllTokens(cfg, text, sz)));
+		}
+	}
+
+	/**
+	 * {@link CsvReader#readTokens()} で読込んだ結果を文字列のリストとして返します。
+	 */
+	private static List<String> readAllTokens(final CsvConfig cfg, final String text, final int sz) throws IOException {
+		final List<String> results = new ArrayList<>();
+		try (CsvReader reader = new CsvReader(new StringReader(text), sz, cfg)) {
+			for (int n = 0; n < 100; n++) {
+				final List<CsvToken> tokens;
+				try {
+					tokens = reader.readTokens();
+				} catch (final CsvTokenException e) {
+					results.add(e.getMessage() + e.getTokens().size());
+					continue;
+				} catch (final RuntimeException e) {
+					results.add(e.getClass().getName());
+					break;
+				}
+				results.add(String.format("%d:%d-%d:%b", reader.getLineNumber(), reader.getStartLineNumber(), reader.getEndLineNumber(), reader.isEndOfFile()));
+				if (tokens == null) {
+					if (reader.isEndOfFile()) {
+						break;
+					}
+					continue;
+				}
+				for (final CsvToken token : tokens) {
+					results.add(String.format("[%s]:%b", token.getValue(), token.isEnclosed()));
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * {@link CsvReader#readInto(CsvRow)} で読込んだ結果を文字列のリストとして返します。
+	 */
+	private static List<String> readAllInto(final CsvConfig cfg, final String text, final int sz) throws IOException {
+		final List<String> results = new ArrayList<>();
+		final CsvRow row = new CsvRow();
+		try (CsvReader reader = new CsvReader(new StringReader(text), sz, cfg)) {
+			for (int n = 0; n < 100; n++) {
+				final boolean read;
+				try {
+					read = reader.readInto(row);
+				} catch (final CsvTokenException e) {
+					results.add(e.getMessage() + e.getTokens().size());
+					continue;
+				} catch (final RuntimeException e) {
+					results.add(e.getClass().getName());
+					break;
+				}
+				results.add(String.format("%d:%d-%d:%b", reader.getLineNumber(), reader.getStartLineNumber(), reader.getEndLineNumber(), reader.isEndOfFile()));
+				if (!read) {
+					if (reader.isEndOfFile()) {
+						break;
+					}
+					continue;
+				}
+				for (int j = 0; j < row.size(); j++) {
+					results.add(String.format("[%s]:%b", row.get(j), row.isEnclosed(j)));
+				}
+			}
+		}
+		return results;
+	}
+
 	@Test
 	public void testClosed() throws IOException {
 		// Arrange
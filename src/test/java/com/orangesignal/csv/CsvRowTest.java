@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link CsvRow} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class CsvRowTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private static CsvRow read(final CsvConfig cfg, final String text) throws IOException {
+		cfg.setTokenizerPolicy(TokenizerPolicy.BLOCK);
+		final CsvRow row = new CsvRow();
+		try (CsvReader reader = new CsvReader(new StringReader(text), cfg)) {
+			reader.readInto(row);
+		}
+		return row;
+	}
+
+	@Test
+	public void testGet() throws IOException {
+		final CsvRow row = read(new CsvConfig(), "abc,,xyz");
+		assertThat(row.size(), is(3));
+		assertThat(row.get(0), is("abc"));
+		assertThat(row.get(1), is(""));
+		assertThat(row.get(2), is("xyz"));
+		assertThat(row.get(0), sameInstance(row.get(0)));
+		assertThat(row.toList(), is(Arrays.asList("abc", "", "xyz")));
+		assertThat(row.toString(), is("[abc, , xyz]"));
+	}
+
+	@Test
+	public void testCharAccess() throws IOException {
+		final CsvRow row = read(new CsvConfig(), "abc,xyz");
+		assertThat(row.length(1), is(3));
+		assertThat(row.charAt(1, 2), is('z'));
+		final char[] dst = new char[5];
+		assertThat(row.getChars(0, dst, 1), is(3));
+		assertThat(new String(dst, 1, 3), is("abc"));
+		assertThat(row.contentEquals(0, "abc"), is(true));
+		assertThat(row.contentEquals(0, "abd"), is(false));
+		assertThat(row.contentEquals(0, null), is(false));
+	}
+
+	@Test
+	public void testNullString() throws IOException {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setNullString("NULL", true);
+		cfg.setIgnoreTrailingWhitespaces(true);
+		final CsvRow row = read(cfg, "null ,NULLS,x");
+		assertThat(row.isNull(0), is(true));
+		assertNull(row.get(0));
+		assertThat(row.length(0), is(-1));
+		assertThat(row.contentEquals(0, null), is(true));
+		assertThat(row.isNull(1), is(false));
+		assertThat(row.get(1), is("NULLS"));
+	}
+
+	@Test
+	public void testEnclosed() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setBreakString("<br>");
+		final CsvRow row = read(cfg, " \"a\\\"b\r\nc\" ,\"x\" y,\"\\\"\"");
+		assertThat(row.get(0), is("a\"b<br>c"));
+		assertThat(row.isEnclosed(0), is(true));
+		assertThat(row.get(1), is("\"x\" y"));
+		assertThat(row.isEnclosed(1), is(false));
+		assertThat(row.get(2), is("\""));
+		assertThat(row.isEnclosed(2), is(true));
+	}
+
+	@Test
+	public void testUnescapeSeparator() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setQuoteDisabled(true);
+		cfg.setEscapeDisabled(false);
+		final CsvRow row = read(cfg, "a\\,b,c");
+		assertThat(row.size(), is(2));
+		assertThat(row.get(0), is("a,b"));
+		assertThat(row.get(1), is("c"));
+	}
+
+	@Test
+	public void testGrow() throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(i).append("0123456789");
+		}
+		final CsvRow row = read(new CsvConfig(), sb.toString());
+		assertThat(row.size(), is(100));
+		assertThat(row.get(99), is("990123456789"));
+	}
+
+	@Test
+	public void testIndexOutOfBoundsException() throws IOException {
+		exception.expect(IndexOutOfBoundsException.class);
+		exception.expectMessage("Index: 1, Size: 1");
+		read(new CsvConfig(), "a").get(1);
+	}
+
+}
@@ -17,7 +17,10 @@
 package com.orangesignal.csv;
 
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -25,11 +28,24 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -47,6 +63,7 @@ import com.orangesignal.csv.handlers.CsvEntityListHandler;
 import com.orangesignal.csv.handlers.StringArrayListHandler;
 import com.orangesignal.csv.model.Sample;
 import com.orangesignal.jlha.LhaFile;
+import com.orangesignal.jlha.LhaHeader;
 import com.orangesignal.jlha.LhaInputStream;
 import com.orangesignal.jlha.LhaOutputStream;
 
@@ -134,6 +151,135 @@ public class CsvTest {
 		assertThat(list.size(), is(2694));
 	}
 
+	private List<Path> createFiles(final int count) throws IOException {
+		final List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			final Path file = tempFolder.newFile("multi" + i + ".csv").toPath();
+			Files.write(file, ("header\r\n" + i + ",a\r\n" + i + ",b\r\n").getBytes(encoding));
+			paths.add(file);
+		}
+		return paths;
+	}
+
+	@Test
+	public void testLoadCollectionStringCsvConfigCsvListHandlerOfT() throws IOException {
+		final List<Path> paths = createFiles(20);
+		final List<String[]> list = Csv.load(paths, encoding, cfg, new StringArrayListHandler(), 3, null);
+		assertThat(list.size(), is(40));
+		for (int i = 0; i < 20; i++) {
+			assertThat(list.get(i * 2), is(new String[]{ String.valueOf(i), "a" }));
+			assertThat(list.get(i * 2 + 1), is(new String[]{ String.valueOf(i), "b" }));
+		}
+	}
+
+	@Test
+	public void testLoadCollectionCsvConfigCsvListHandlerOfTScalar() throws IOException {
+		final List<Path> paths = createFiles(5);
+		final List<String[]> list = Csv.load(paths, cfg, new StringArrayListHandler().offset(3).limit(4), 2, null);
+		assertThat(list.size(), is(4));
+		assertThat(list.get(0), is(new String[]{ "1", "b" }));
+		assertThat(list.get(3), is(new String[]{ "3", "a" }));
+	}
+
+	@Test
+	public void testLoadCollectionErrors() throws IOException {
+		final List<Path> paths = createFiles(3);
+		final Path missing = tempFolder.getRoot().toPath().resolve("missing.csv");
+		paths.add(1, missing);
+		final Map<Path, Exception> errors = new LinkedHashMap<>();
+		final List<String[]> list = Csv.load(paths, encoding, cfg, new StringArrayListHandler(), 2, errors);
+		assertThat(list.size(), is(6));
+		assertThat(errors.size(), is(1));
+		assertThat(errors.get(missing), instanceOf(NoSuchFileException.class));
+	}
+
+	@Test
+	public void testLoadCollectionMaxConcurrency() throws IOException {
+		final List<Path> paths = createFiles(3);
+		final List<String[]> list = Csv.load(paths, encoding, cfg, new StringArrayListHandler(), Integer.MAX_VALUE, null);
+		assertThat(list.size(), is(6));
+		assertThat(list.get(5), is(new String[]{ "2", "b" }));
+	}
+
+	@Test
+	public void testLoadCollectionInterrupted() throws Exception {
+		// 名前付きパイプは書込み側が開くまで読込み側のオープンが完了しないため、先頭のファイルの読込みを確実に待機させられます。
+		final Path fifo = tempFolder.getRoot().toPath().resolve("fifo.csv");
+		boolean created;
+		try {
+			created = new ProcessBuilder("mkfifo", fifo.toString()).start().waitFor() == 0;
+		} catch (final IOException e) {
+			created = false;
+		}
+		assumeTrue(created);
+
+		final List<Path> paths = createFiles(3);
+		paths.add(0, fifo);
+		final Map<Path, Exception> errors = new LinkedHashMap<>();
+		Thread.currentThread().interrupt();
+		try {
+			Csv.load(paths, encoding, cfg, new StringArrayListHandler(), 2, errors);
+			fail();
+		} catch (final InterruptedIOException e) {
+			assertThat(Thread.interrupted(), is(true));
+			assertThat(errors.size(), is(0));
+		} finally {
+			Thread.interrupted();
+			Files.write(fifo, new byte[0]);
+		}
+	}
+
+	@Test(expected = NoSuchFileException.class)
+	public void testLoadCollectionNoSuchFileException() throws IOException {
+		final List<Path> paths = createFiles(3);
+		paths.add(1, tempFolder.getRoot().toPath().resolve("missing.csv"));
+		Csv.load(paths, encoding, cfg, new StringArrayListHandler(), 2, null);
+	}
+
+	@Test
+	public void testLoadCollectionStringCsvConfigSupplier() throws IOException {
+		final List<Path> paths = createFiles(20);
+		final AtomicInteger handlers = new AtomicInteger();
+		final List<String[]> list = Csv.load(paths, encoding, cfg, () -> {
+			handlers.incrementAndGet();
+			return new StringArrayListHandler();
+		}, 3, null);
+		assertThat(list.size(), is(40));
+		for (int i = 0; i < 20; i++) {
+			assertThat(list.get(i * 2), is(new String[]{ String.valueOf(i), "a" }));
+			assertThat(list.get(i * 2 + 1), is(new String[]{ String.valueOf(i), "b" }));
+		}
+		// ファイルごとのハンドラと processScalar 用のハンドラを取得します。
+		assertThat(handlers.get(), is(21));
+	}
+
+	@Test
+	public void testLoadCollectionCsvConfigSupplierScalar() throws IOException {
+		final List<Path> paths = createFiles(5);
+		final List<String[]> list = Csv.load(paths, cfg, () -> new StringArrayListHandler().offset(3).limit(4), 2, null);
+		assertThat(list.size(), is(4));
+		assertThat(list.get(0), is(new String[]{ "1", "b" }));
+		assertThat(list.get(3), is(new String[]{ "3", "a" }));
+	}
+
+	@Test
+	public void testLoadCollectionSupplierErrors() throws IOException {
+		final List<Path> paths = createFiles(3);
+		final Path missing = tempFolder.getRoot().toPath().resolve("missing.csv");
+		paths.add(1, missing);
+		final Map<Path, Exception> errors = new LinkedHashMap<>();
+		final List<String[]> list = Csv.load(paths, encoding, cfg, StringArrayListHandler::new, 2, errors);
+		assertThat(list.size(), is(6));
+		assertThat(list.get(2), is(new String[]{ "1", "a" }));
+		assertThat(errors.size(), is(1));
+		assertThat(errors.get(missing), instanceOf(NoSuchFileException.class));
+	}
+
+	@Test
+	public void testLoadCollectionEmpty() throws IOException {
+		assertThat(Csv.load(new ArrayList<Path>(), cfg, new StringArrayListHandler(), 2, null).size(), is(0));
+	}
+
 	@Test
 	public void testLoadLhaInputStreamStringCsvConfigCsvListHandlerOfTLhaEntryFilter() throws IOException {
 		final LhaInputStream lha = new LhaInputStream(new FileInputStream(new File(path, "n225.lzh")));
@@ -189,6 +335,22 @@ public class CsvTest {
 		}
 	}
 
+	@Test
+	public void testLoadLhaFileMapped() throws IOException {
+		final LhaFile lha = new LhaFile(new File(path, "n225.lzh"), LhaFile.OPEN_MAPPED);
+		try {
+			final List<String[]> list = Csv.load(lha, encoding, cfg, new StringArrayListHandler(), new RegexEntryNameFilter("^.+\\.csv$"));
+			assertThat(list.size(), is(2694));
+		} finally {
+			lha.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLoadLhaFileIllegalMode() throws IOException {
+		new LhaFile(new File(path, "n225.lzh"), 0);
+	}
+
 	@Test
 	public void testLoadLhaFileStringCsvConfigCsvListHandlerOfT() throws IOException {
 		final LhaFile lha = new LhaFile(new File(path, "n225.lzh"));
@@ -310,6 +472,147 @@ public class CsvTest {
 		}
 	}
 
+	private static byte[] entryData(final int i) throws IOException {
+		return ("header\r\n" + i + ",a\r\n" + i + ",b\r\n").getBytes(encoding);
+	}
+
+	private static void assertEntryData(final List<String[]> list, final int count) {
+		assertThat(list.size(), is(count * 2));
+		for (int i = 0; i < count; i++) {
+			assertThat(list.get(i * 2), is(new String[]{ String.valueOf(i), "a" }));
+			assertThat(list.get(i * 2 + 1), is(new String[]{ String.valueOf(i), "b" }));
+		}
+	}
+
+	@Test
+	public void testLoadZipFileStringCsvConfigCsvListHandlerOfTZipEntryFilterExecutor() throws IOException {
+		final File file = tempFolder.newFile("parallel.zip");
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+			for (int i = 0; i < 30; i++) {
+				out.putNextEntry(new ZipEntry("entry" + i + ".csv"));
+				out.write(entryData(i));
+				out.closeEntry();
+			}
+			out.putNextEntry(new ZipEntry("readme.txt"));
+			out.write("x".getBytes(encoding));
+			out.closeEntry();
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (ZipFile zip = new ZipFile(file)) {
+			final List<String[]> list = Csv.load(zip, encoding, cfg, StringArrayListHandler::new, new RegexEntryNameFilter("^.+\\.csv$"), executor);
+			assertEntryData(list, 30);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoadZipFileExecutorScalar() throws IOException {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try (ZipFile zip = new ZipFile(new File(path, "sample.zip"))) {
+			final List<Sample> list = Csv.load(zip, "utf-8", cfg,
+					() -> new CsvEntityListHandler<>(Sample.class)
+							.filter(new SimpleBeanFilter().in("label", "あ", "い", "う", "か", "き", "く"))
+							.order(BeanOrder.asc("no"))
+							.offset(1)
+							.limit(3),
+					new RegexEntryNameFilter("^.+\\.csv$"),
+					executor
+			);
+			assertThat(list.size(), is(3));
+			assertThat(list.get(0).label, is("き"));
+			assertThat(list.get(1).label, is("か"));
+			assertThat(list.get(2).label, is("う"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoadLhaFileStringCsvConfigCsvListHandlerOfTLhaEntryFilterExecutor() throws IOException {
+		final File file = tempFolder.newFile("parallel.lzh");
+		final LhaOutputStream out = new LhaOutputStream(new FileOutputStream(file));
+		try {
+			for (int i = 0; i < 30; i++) {
+				out.putNextEntry(new LhaHeader("entry" + i + ".csv"));
+				out.write(entryData(i));
+				out.closeEntry();
+			}
+		} finally {
+			Csv.closeQuietly(out);
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		final LhaFile lha = new LhaFile(file);
+		try {
+			final AtomicInteger handlers = new AtomicInteger();
+			final List<String[]> list = Csv.load(lha, encoding, cfg, () -> {
+				handlers.incrementAndGet();
+				return new StringArrayListHandler();
+			}, null, executor);
+			assertEntryData(list, 30);
+			// エントリごとのハンドラと processScalar 用のハンドラ
+			assertThat(handlers.get(), is(31));
+		} finally {
+			lha.close();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLoadLhaFileExecutorIllegalArgumentException() throws IOException {
+		final LhaFile lha = new LhaFile(new File(path, "n225.lzh"));
+		try {
+			Csv.load(lha, encoding, cfg, StringArrayListHandler::new, null, null);
+		} finally {
+			lha.close();
+		}
+	}
+
+	@Test
+	public void testStreamFileStringCsvConfigCsvListHandlerOfT() throws IOException {
+		try (Stream<String[]> stream = Csv.stream(new File(path, "n225.csv"), encoding, cfg, new StringArrayListHandler())) {
+			assertThat(stream.count(), is(2694L));
+		}
+	}
+
+	@Test
+	public void testStreamLhaFileStringCsvConfigCsvListHandlerOfTLhaEntryFilter() throws IOException {
+		final LhaFile lha = new LhaFile(new File(path, "n225.lzh"));
+		try (Stream<String[]> stream = Csv.stream(lha, encoding, cfg, new StringArrayListHandler(), new RegexEntryNameFilter("^.+\\.csv$"))) {
+			assertThat(stream.count(), is(2694L));
+		} finally {
+			lha.close();
+		}
+	}
+
+	@Test
+	public void testStreamZipFileStringCsvConfigCsvListHandlerOfTZipEntryFilter() throws IOException {
+		try (ZipFile zip = new ZipFile(new File(path, "sample.zip"))) {
+			try (Stream<Sample> stream = Csv.stream(zip, "utf-8", cfg,
+					new CsvEntityListHandler<>(Sample.class)
+							.filter(new SimpleBeanFilter().in("label", "あ", "い", "う", "か", "き", "く"))
+							.order(BeanOrder.asc("no"))
+							.offset(1)
+							.limit(3),
+					new RegexEntryNameFilter("^.+\\.csv$"))) {
+				final List<Sample> list = stream.collect(Collectors.toList());
+				assertThat(list.size(), is(3));
+				assertThat(list.get(0).label, is("き"));
+				assertThat(list.get(1).label, is("か"));
+				assertThat(list.get(2).label, is("う"));
+			}
+		}
+	}
+
+	@Test
+	public void testStreamZipFileCsvConfigCsvListHandlerOfTZipEntryFilter() throws IOException {
+		try (ZipFile zip = new ZipFile(new File(path, "n225.zip"))) {
+			try (Stream<String[]> stream = Csv.stream(zip, cfg, new StringArrayListHandler().offset(2690).limit(10), new RegexEntryNameFilter("^.+\\.csv$"))) {
+				assertThat(stream.count(), is(4L));
+			}
+		}
+	}
+
 	@Test
 	public void testLoadZipFileCsvConfigCsvListHandlerOfT() throws IOException {
 		try (ZipFile zip = new ZipFile(new File(path, "n225.zip"))) {
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * {@link CsvTokenizer} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class CsvTokenizerTest {
+
+	private static final char[] CHARS = { 'a', 'N', ' ', '\t', ',', ';', '"', '\'', '\\', '\r', '\n', '\u3000' };
+
+	private static final String[] BREAK_STRINGS = { null, "<br>", "\\", "\"", "" };
+
+	@Test
+	public void testNewCsvTokenCompatibility() {
+		final Random random = new Random(20141016L);
+		final char[] work = new char[4];
+		for (int i = 0; i < 20000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			cfg.setBreakString(BREAK_STRINGS[random.nextInt(BREAK_STRINGS.length)]);
+			final boolean enclosed = random.nextBoolean();
+			final String value = (enclosed ? String.valueOf(cfg.getQuote()) : "") + randomText(random);
+
+			final String message = cfg.getBreakString() + " / " + value.replace("\r", "\\r").replace("\n", "\\n");
+			final String[] expected = legacy(cfg, value, enclosed);
+			final char[] src = ("xx" + value + "yy").toCharArray();
+			for (final char[] buf : new char[][]{ null, work, new char[1024] }) {
+				final String[] actual;
+				try {
+					final SimpleCsvToken token = CsvTokenizer.newCsvToken(cfg, src, 2, value.length(), enclosed, 1, 2, buf);
+					actual = new String[]{ token.getValue(), String.valueOf(token.isEnclosed()) };
+				} catch (final StringIndexOutOfBoundsException e) {
+					assertNull(message, expected);
+					continue;
+				}
+				assertThat(message, actual, is(expected));
+			}
+		}
+	}
+
+	@Test
+	public void testNewCsvToken() {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setNullString("NULL");
+		cfg.setBreakString("<br>");
+		cfg.setIgnoreLeadingWhitespaces(true);
+		cfg.setIgnoreTrailingWhitespaces(true);
+
+		SimpleCsvToken token = CsvTokenizer.newCsvToken(cfg, " \"a\r\nb\\\"c\r\" ", true, 1, 3);
+		assertThat(token.getValue(), is("a<br>b\"c<br>"));
+		assertThat(token.isEnclosed(), is(true));
+		assertThat(token.getStartLineNumber(), is(1));
+		assertThat(token.getEndLineNumber(), is(3));
+
+		token = CsvTokenizer.newCsvToken(cfg, " a\\,b ", false, 1, 1);
+		assertThat(token.getValue(), is("a,b"));
+		assertThat(token.isEnclosed(), is(false));
+
+		token = CsvTokenizer.newCsvToken(cfg, " NULL ", false, 1, 1);
+		assertNull(token.getValue());
+
+		token = CsvTokenizer.newCsvToken(cfg, "\"NULL\"", true, 1, 1);
+		assertThat(token.getValue(), is("NULL"));
+
+		// 最後の囲み文字以降にホワイトスペース以外の文字がある場合は囲み項目ではない
+		token = CsvTokenizer.newCsvToken(cfg, "\"a\"xb", true, 1, 1);
+		assertThat(token.getValue(), is("\"a\"xb"));
+		assertThat(token.isEnclosed(), is(false));
+	}
+
+	private static String randomText(final Random random) {
+		final int len = random.nextInt(16);
+		final StringBuilder sb = new StringBuilder(len);
+		for (int i = 0; i < len; i++) {
+			sb.append(CHARS[random.nextInt(CHARS.length)]);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 文字列の置換を繰返す従来の処理で CSV トークンの値と囲み項目かどうかを返します。囲み文字を除去できない場合は {@code null} を返します。
+	 */
+	private static String[] legacy(final CsvConfig cfg, final String value, final boolean enclosed) {
+		String result = value;
+		boolean _enclosed = enclosed;
+		if (_enclosed) {
+			final int i = result.lastIndexOf(cfg.getQuote()) + 1;
+			if (i < result.length() && !CsvTokenizer.isWhitespaces(result.substring(i + 1))) {
+				_enclosed = false;
+			}
+		}
+		if (cfg.isIgnoreLeadingWhitespaces() || _enclosed) {
+			int i = 0;
+			while (i < result.length() && Character.isWhitespace(result.charAt(i))) {
+				i++;
+			}
+			result = result.substring(i);
+		}
+		if (cfg.isIgnoreTrailingWhitespaces() || _enclosed) {
+			int i = result.length();
+			while (i > 0 && Character.isWhitespace(result.charAt(i - 1))) {
+				i--;
+			}
+			result = result.substring(0, i);
+		}
+		if (_enclosed) {
+			if (result.length() < 2) {
+				return null;
+			}
+			result = result.substring(1, result.length() - 1);
+			if (cfg.getBreakString() != null) {
+				result = result.replace("\r\n", "\n").replace('\r', '\n').replace("\n", cfg.getBreakString());
+			}
+			if (!cfg.isEscapeDisabled()) {
+				result = result.replace(cfg.getEscape() + "" + cfg.getQuote(), String.valueOf(cfg.getQuote()));
+			}
+		} else {
+			result = CsvTokenizer.toNullIfNullString(cfg, result);
+			if (result != null && !cfg.isEscapeDisabled()) {
+				result = result.replace(cfg.getEscape() + "" + cfg.getSeparator(), String.valueOf(cfg.getSeparator()));
+			}
+		}
+		return new String[]{ result, String.valueOf(_enclosed) };
+	}
+
+}
@@ -73,6 +73,24 @@ public class CsvWriterTest {
 		writer.close();
 	}
 
+	@Test
+	public void testWriteValuesThreadConfined() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setLineSeparator("\r\n");
+		cfg.setQuotePolicy(QuotePolicy.MINIMAL);
+		cfg.setVariableColumns(false);
+		cfg.setThreadConfined(true);
+		final StringWriter sw = new StringWriter();
+		try (CsvWriter writer = new CsvWriter(sw, cfg)) {
+			writer.writeValues(Arrays.asList("a", "b,c"));
+			writer.writeValues(Arrays.asList("d", "e\"f"));
+			writer.flush();
+			assertThat(sw.getBuffer().toString(), is("a,\"b,c\"\r\nd,\"e\\\"f\"\r\n"));
+			exception.expect(CsvValueException.class);
+			writer.writeValues(Arrays.asList("g"));
+		}
+	}
+
 	@Test
 	public void testCsvWriterWriterCsvConfig() throws IOException {
 		// Act
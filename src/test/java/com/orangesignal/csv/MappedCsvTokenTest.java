@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link MappedCsvToken} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class MappedCsvTokenTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testGetValue() {
+		final ByteBuffer segment = ByteBuffer.wrap("xx \"a\"\"b\" ,NULL".getBytes(StandardCharsets.UTF_8));
+		final CsvConfig cfg = new CsvConfig(',', '"', '"');
+		cfg.setNullString("NULL");
+
+		final MappedCsvToken token1 = new MappedCsvToken(segment, 2, 8, StandardCharsets.UTF_8, cfg, true, true, 1, 2);
+		assertThat(token1.getValue(), is("a\"b"));
+		assertThat(token1.isEnclosed(), is(true));
+		assertThat(token1.getStartLineNumber(), is(1));
+		assertThat(token1.getEndLineNumber(), is(2));
+
+		final MappedCsvToken token2 = new MappedCsvToken(segment, 11, 4, StandardCharsets.UTF_8, cfg, false, false, 2, 2);
+		assertNull(token2.getValue());
+		assertThat(token2.isEnclosed(), is(false));
+	}
+
+	@Test
+	public void testIsEnclosed() {
+		final ByteBuffer segment = ByteBuffer.wrap("\"a\" b".getBytes(StandardCharsets.UTF_8));
+		final MappedCsvToken token = new MappedCsvToken(segment, 0, 5, StandardCharsets.UTF_8, new CsvConfig(',', '"', '"'), true, true, 1, 1);
+		assertThat(token.isEnclosed(), is(false));
+		assertThat(token.getValue(), is("\"a\" b"));
+	}
+
+	@Test
+	public void testGetBytes() throws IOException {
+		final File file = folder.newFile();
+		Files.write(file.toPath(), "佐藤,\"鈴木\"\r\n".getBytes(StandardCharsets.UTF_8));
+		try (CsvReader reader = new CsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, new CsvConfig(',', '"', '"'))) {
+			final List<CsvToken> tokens = reader.readTokens();
+			assertThat(tokens.size(), is(2));
+
+			final ByteBuffer bytes = ((MappedCsvToken) tokens.get(1)).getBytes();
+			assertThat(bytes.isReadOnly(), is(true));
+			assertThat(bytes.remaining(), is(8));
+			assertThat(StandardCharsets.UTF_8.decode(bytes).toString(), is("\"鈴木\""));
+
+			assertThat(tokens.get(0).getValue(), is("佐藤"));
+			assertThat(tokens.get(1).getValue(), is("鈴木"));
+			assertThat(tokens.get(1).isEnclosed(), is(true));
+		}
+	}
+
+	@Test
+	public void testGetValueAfterClose() throws IOException {
+		final File file = folder.newFile();
+		Files.write(file.toPath(), "a,b\r\n".getBytes(StandardCharsets.UTF_8));
+		final List<CsvToken> tokens;
+		try (CsvReader reader = new CsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, new CsvConfig())) {
+			tokens = reader.readTokens();
+		}
+		assertThat(tokens.get(0).getValue(), is("a"));
+		assertThat(tokens.get(1).getValue(), is("b"));
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.orangesignal.csv.handlers.StringArrayListHandler;
+
+/**
+ * {@link ParallelCsvReader} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class ParallelCsvReaderTest {
+
+	private static ForkJoinPool pool;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void testParallelCsvReaderIllegalArgumentException() throws IOException {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Chunk size <= 0");
+		final File file = folder.newFile();
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			new ParallelCsvReader(channel, StandardCharsets.UTF_8, new CsvConfig(), pool, 0);
+		}
+	}
+
+	@Test
+	public void testStreamQuotedLineBreaks() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '"');
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setIgnoreLinePatterns(Pattern.compile("^#.*$"));
+		cfg.setSkipLines(1);
+
+		final File file = write("header\n" + "a,\"b\r\n# c\r\nd\"\n" + "\n" + "# comment\n" + "\"e\nf\",g\n" + "h,i", StandardCharsets.UTF_8);
+		for (int chunkSize = 1; chunkSize < 32; chunkSize++) {
+			try (ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, cfg, pool, chunkSize)) {
+				final List<List<String>> rows;
+				try (Stream<List<String>> stream = reader.stream()) {
+					rows = stream.collect(Collectors.toList());
+				}
+				assertThat(rows, is(Arrays.asList(
+						Arrays.asList("a", "b\r\n# c\r\nd"),
+						Arrays.asList("e\nf", "g"),
+						Arrays.asList("h", "i")
+					)));
+			}
+		}
+	}
+
+	@Test
+	public void testStreamCsvTokenException() throws IOException {
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setVariableColumns(false);
+
+		final File file = write("a,b\r\nc,d\r\ne\r\nf,g\r\n", StandardCharsets.UTF_8);
+		try (ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, cfg, pool, 4)) {
+			final List<List<String>> rows = new ArrayList<>();
+			try (Stream<List<String>> stream = reader.stream()) {
+				stream.forEach(rows::add);
+			} catch (final UncheckedIOException e) {
+				assertThat(e.getCause() instanceof CsvTokenException, is(true));
+				assertThat(e.getCause().getMessage(), is("Invalid column count in CSV input on line 3."));
+				final List<CsvToken> tokens = ((CsvTokenException) e.getCause()).getTokens();
+				assertThat(tokens.size(), is(1));
+				assertThat(tokens.get(0).getValue(), is("e"));
+				assertThat(tokens.get(0).getStartLineNumber(), is(3));
+			}
+			assertThat(rows, is(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"))));
+		}
+	}
+
+	@Test
+	public void testForEachChunkCsvTokenException() throws IOException {
+		exception.expect(CsvTokenException.class);
+		exception.expectMessage("Invalid column count in CSV input on line 3.");
+		final CsvConfig cfg = new CsvConfig();
+		cfg.setVariableColumns(false);
+
+		final File file = write("a,b\r\nc,d\r\ne\r\nf,g\r\n", StandardCharsets.UTF_8);
+		try (ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, cfg, pool, 4)) {
+			reader.forEachChunk(chunk -> { });
+		}
+	}
+
+	@Test
+	public void testStreamUnsupportedCharset() throws IOException {
+		final File file = write("a,b\r\nc,d", StandardCharsets.UTF_16);
+		try (ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_16, new CsvConfig(), pool, 4)) {
+			try (Stream<List<String>> stream = reader.stream()) {
+				assertThat(stream.collect(Collectors.toList()), is(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"))));
+			}
+		}
+	}
+
+	@Test
+	public void testClosed() throws IOException {
+		exception.expect(IOException.class);
+		exception.expectMessage("Reader closed");
+		final File file = folder.newFile();
+		final ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, new CsvConfig(), pool, 4);
+		reader.close();
+		reader.stream();
+	}
+
+	@Test
+	public void testLoadCompatibility() throws IOException {
+		final Charset charset = Charset.forName("Windows-31J");
+		final CsvConfig cfg = new CsvConfig(',');
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setSkipLines(1);
+		final File file = new File("src/test/resources/", "n225.csv");
+
+		final List<List<String>> expected = new ArrayList<>();
+		for (final String[] values : Csv.load(file, charset.name(), cfg, new StringArrayListHandler())) {
+			expected.add(Arrays.asList(values));
+		}
+		try (ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), charset, cfg, pool, 4096)) {
+			try (Stream<List<String>> stream = reader.stream()) {
+				assertThat(stream.collect(Collectors.toList()), is(expected));
+			}
+			final List<CsvChunk> chunks = Collections.synchronizedList(new ArrayList<CsvChunk>());
+			reader.forEachChunk(chunks::add);
+			assertThat(toRows(chunks), is(expected));
+		}
+	}
+
+	@Test
+	public void testStreamCompatibility() throws IOException {
+		final Random random = new Random(20141016L);
+		for (int i = 0; i < 1000; i++) {
+			final CsvConfig cfg = BlockCsvTokenizerTest.randomConfig(random);
+			final byte[] bytes = BlockCsvTokenizerTest.randomText(random).getBytes(StandardCharsets.UTF_8);
+			final int chunkSize = 1 + random.nextInt(16);
+			// メモリーへマップ中のファイルを書換えないように、ケースごとに別のファイルを使用します。
+			final File file = folder.newFile();
+			Files.write(file.toPath(), bytes);
+
+			final List<Object> expected = readAll(cfg, bytes);
+			if (expected == null) {
+				continue;
+			}
+			final List<Object> actual = new ArrayList<>();
+			try (ParallelCsvReader reader = new ParallelCsvReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8, cfg, pool, chunkSize)) {
+				try (Stream<List<String>> stream = reader.stream()) {
+					stream.forEach(actual::add);
+				} catch (final UncheckedIOException e) {
+					actual.add(e.getCause().getMessage());
+				}
+
+				if (!expected.isEmpty() && expected.get(expected.size() - 1) instanceof String) {
+					continue;
+				}
+				final List<CsvChunk> chunks = Collections.synchronizedList(new ArrayList<CsvChunk>());
+				reader.forEachChunk(chunks::add);
+				assertThat(new String(bytes, StandardCharsets.UTF_8), new ArrayList<Object>(toRows(chunks)), is(expected));
+			}
+			assertThat(new String(bytes, StandardCharsets.UTF_8), actual, is(expected));
+		}
+	}
+
+	private File write(final String text, final Charset charset) throws IOException {
+		final File file = folder.newFile();
+		Files.write(file.toPath(), text.getBytes(charset));
+		return file;
+	}
+
+	private static List<List<String>> toRows(final List<CsvChunk> chunks) {
+		final List<CsvChunk> sorted = new ArrayList<>(chunks);
+		Collections.sort(sorted, new Comparator<CsvChunk>() {
+			@Override
+			public int compare(final CsvChunk o1, final CsvChunk o2) {
+				return Integer.compare(o1.getIndex(), o2.getIndex());
+			}
+		});
+		final List<List<String>> results = new ArrayList<>();
+		for (final CsvChunk chunk : sorted) {
+			results.addAll(chunk.getRows());
+		}
+		return results;
+	}
+
+	/**
+	 * 区切り文字形式入力ストリームで読込んだ論理行の値のリストを返します。項目数が一致しない論理行があった場合は例外のメッセージを追加して終了します。
+	 * 実行時例外が発生した場合は {@code null} を返します。
+	 */
+	private static List<Object> readAll(final CsvConfig cfg, final byte[] bytes) throws IOException {
+		final List<Object> results = new ArrayList<>();
+		try (CsvReader reader = new CsvReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), cfg)) {
+			while (!reader.isEndOfFile()) {
+				try {
+					final List<String> values = reader.readValues();
+					if (values != null) {
+						results.add(values);
+					}
+				} catch (final CsvTokenException e) {
+					results.add(e.getMessage());
+					break;
+				} catch (final RuntimeException e) {
+					return null;
+				}
+			}
+		}
+		return results;
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv;
+
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * {@link TokenizerPolicy} クラスの単体テストです。
+ * 
+ * @author Koji Sugisawa
+ */
+public class TokenizerPolicyTest {
+
+	@Test
+	public void testValues() {
+		final TokenizerPolicy[] values = TokenizerPolicy.values();
+		for (final TokenizerPolicy value : values) {
+			switch (value) {
+				case STREAM: case BLOCK: case VECTOR:
+					break;
+				default:
+					fail();
+			}
+		}
+	}
+
+}
\ No newline at end of file
@@ -28,6 +28,8 @@ import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -261,6 +263,66 @@ public class BeanListHandlerTest {
 		}
 	}
 
+	@Test
+	public void testStreamOffsetLimit() throws Exception {
+		try (Stream<SampleBean> stream = new BeanListHandler<>(SampleBean.class)
+				.includes("name")
+				.offset(2)
+				.limit(3)
+				.stream(new CsvReader(new StringReader("name\nA\nB\nC\nD\nE\nF\nG"), cfg))) {
+			final List<SampleBean> list = stream.collect(Collectors.toList());
+			assertThat(list.size(), is(3));
+			assertThat(list.get(0).name, is("C"));
+			assertThat(list.get(1).name, is("D"));
+			assertThat(list.get(2).name, is("E"));
+		}
+	}
+
+	@Test
+	public void testStreamFilter() throws Exception {
+		final DateFormat df = new SimpleDateFormat("yyyy/MM/dd");
+		try (Stream<SampleBean> stream = new BeanListHandler<>(SampleBean.class)
+				.format("date", new SimpleDateFormat("yyyy/MM/dd"))
+				.filter(new SimpleCsvNamedValueFilter().ne("symbol", "gcu09", true))
+				.filter(new SimpleBeanFilter().ne("date", df.parse("2008/11/06")))
+				.offset(1).limit(1)
+				.stream(new CsvReader(new StringReader(
+						"symbol,name,price,volume,date\r\n" +
+								"GCQ09,COMEX 金 2009年08月限,1058.70,10,2008/08/06\r\n" +
+								"GCU09,COMEX 金 2009年09月限,1068.70,10,2008/09/06\r\n" +
+								"GCV09,COMEX 金 2009年10月限,1078.70,11,2008/10/06\r\n" +
+								"GCX09,COMEX 金 2009年11月限,1088.70,12,2008/11/06\r\n" +
+								"GCZ09,COMEX 金 2009年12月限,1098.70,13,2008/12/06\r\n"
+				), cfg))) {
+			final List<SampleBean> list = stream.collect(Collectors.toList());
+			assertThat(list.size(), is(1));
+			assertThat(list.get(0).symbol, is("GCV09"));
+			assertThat(list.get(0).date, is(df.parse("2008/10/06")));
+		}
+	}
+
+	@Test
+	public void testStreamSort() throws Exception {
+		try (Stream<SampleBean> stream = new BeanListHandler<>(SampleBean.class)
+				.format("date", new SimpleDateFormat("yyyy/MM/dd"))
+				.order(BeanOrder.desc("price"), BeanOrder.asc("volume"))
+				.offset(1).limit(3)
+				.stream(new CsvReader(new StringReader(
+						"symbol,name,price,volume,date\r\n" +
+								"GCQ09,COMEX 金 2009年08月限,1058.70,10,2008/08/06\r\n" +
+								"GCU09,COMEX 金 2009年09月限,1068.70,10,2008/09/06\r\n" +
+								"GCV09,COMEX 金 2009年10月限,1088.70,11,2008/10/06\r\n" +
+								"GCX09,COMEX 金 2009年11月限,1088.70,12,2008/11/06\r\n" +
+								"GCZ09,COMEX 金 2009年12月限,1098.70,13,2008/12/06\r\n"
+				), cfg))) {
+			final List<SampleBean> list = stream.collect(Collectors.toList());
+			assertThat(list.size(), is(3));
+			assertThat(list.get(0).symbol, is("GCV09"));
+			assertThat(list.get(1).symbol, is("GCX09"));
+			assertThat(list.get(2).symbol, is("GCU09"));
+		}
+	}
+
 	@Test
 	public void testSaveNoHeader() throws IOException {
 		final List<SampleBean> list = new ArrayList<>();
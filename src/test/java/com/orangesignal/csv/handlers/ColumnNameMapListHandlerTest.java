@@ -27,6 +27,8 @@ import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Map;
 
 import org.junit.Before;
@@ -140,6 +142,20 @@ public class ColumnNameMapListHandlerTest {
 		}
 	}
 
+	@Test
+	public void testStreamOffsetLimit() throws IOException {
+		try (Stream<Map<String, String>> stream = new ColumnNameMapListHandler().offset(1).limit(1).stream(new CsvReader(new StringReader("symbol,name,price,volume\r\nAAAA,aaa,10000,10\r\nBBBB,bbb,NULL,0"), cfg))) {
+			final List<Map<String, String>> list = stream.collect(Collectors.toList());
+			assertThat(list.size(), is(1));
+			final Map<String, String> m2 = list.get(0);
+			assertThat(m2.get("symbol"), is("BBBB"));
+			assertThat(m2.get("name"), is("bbb"));
+			assertTrue(m2.containsKey("price"));
+			assertNull(m2.get("price"));
+			assertThat(m2.get("volume"), is("0"));
+		}
+	}
+
 	@Test
 	public void testSaveNoHeader() throws IOException {
 		final List<Map<String, String>> list = new ArrayList<>(3);
@@ -27,6 +27,8 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.TimeZone;
 
 import org.junit.BeforeClass;
@@ -162,6 +164,20 @@ public class CsvEntityListHandlerTest {
 		}
 	}
 
+	@Test
+	public void testStreamOffsetLimit() throws IOException {
+		try (Stream<Price> stream = new CsvEntityListHandler<>(Price.class).offset(1).limit(1).stream(new CsvReader(new StringReader("シンボル,名称,価格,出来高,日付,時刻\r\nAAAA,aaa,10\\,000,10,2009/10/28,10:24:00\r\nBBBB,bbb,NULL,0,NULL,NULL"), cfg))) {
+			final List<Price> list = stream.collect(Collectors.toList());
+			assertThat(list.size(), is(1));
+			final Price o2 = list.get(0);
+			assertThat(o2.symbol, is("BBBB"));
+			assertThat(o2.name, is("bbb"));
+			assertNull(o2.price);
+			assertThat(o2.volume.longValue(), is(0L));
+			assertNull(o2.date);
+		}
+	}
+
 	@Test
 	public void testSave() throws Exception {
 		final DateFormat df = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
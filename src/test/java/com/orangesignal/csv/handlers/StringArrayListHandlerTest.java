@@ -17,14 +17,19 @@
 package com.orangesignal.csv.handlers;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.regex.Pattern;
 
 import org.junit.Test;
@@ -153,6 +158,80 @@ public class StringArrayListHandlerTest {
 		}
 	}
 
+	@Test
+	public void testStream() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setNullString("NULL");
+		cfg.setIgnoreTrailingWhitespaces(true);
+		cfg.setIgnoreLeadingWhitespaces(true);
+
+		try (Stream<String[]> stream = new StringArrayListHandler().stream(new CsvReader(new StringReader("aaa,bbb,ccc \r\n ddd,eee,fff \r\n ggg,hhh,iii \r\n zzz,yyy,NULL"), cfg))) {
+			final List<String[]> list = stream.collect(Collectors.toList());
+			assertThat(list.size(), is(4));
+			assertThat(list.get(0)[0], is("aaa"));
+			assertThat(list.get(3)[1], is("yyy"));
+			assertNull(list.get(3)[2]);
+		}
+	}
+
+	@Test
+	public void testStreamFilterOffsetLimit() throws IOException {
+		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
+		cfg.setNullString("NULL");
+		cfg.setIgnoreTrailingWhitespaces(true);
+		cfg.setIgnoreLeadingWhitespaces(true);
+
+		try (Stream<String[]> stream = new StringArrayListHandler()
+				.filter(new SimpleCsvValueFilter(new CsvValueOrExpression()).eq(0, "ddd").eq(1, "yyy"))
+				.offset(1)
+				.limit(1)
+				.stream(new CsvReader(new StringReader("aaa,bbb,ccc \r\n ddd,eee,fff \r\n ggg,hhh,iii \r\n zzz,yyy,NULL"), cfg))) {
+			final Iterator<String[]> it = stream.iterator();
+			final String[] values = it.next();
+			assertThat(values[0], is("zzz"));
+			assertThat(values[1], is("yyy"));
+			assertNull(values[2]);
+			assertFalse(it.hasNext());
+		}
+	}
+
+	@Test
+	public void testStreamLazy() throws IOException {
+		// 終端のない入力でも限度数までしか読込まないこと
+		final Reader endless = new Reader() {
+			private int row;
+			@Override
+			public int read(final char[] cbuf, final int off, final int len) {
+				final String line = (row++) + ",x\r\n";
+				final int n = Math.min(len, line.length());
+				line.getChars(0, n, cbuf, off);
+				return n;
+			}
+			@Override
+			public void close() {}
+		};
+		try (Stream<String[]> stream = new StringArrayListHandler().offset(10).limit(3).stream(new CsvReader(endless, new CsvConfig(',')))) {
+			final List<String> list = stream.map(values -> values[0]).collect(Collectors.toList());
+			assertThat(list.size(), is(3));
+			assertThat(list.get(0), is("10"));
+			assertThat(list.get(2), is("12"));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testStreamClose() throws IOException {
+		final CsvReader reader = new CsvReader(new StringReader("aaa,bbb\r\nccc,ddd"), new CsvConfig(','));
+		try (Stream<String[]> stream = new StringArrayListHandler().stream(reader)) {
+			assertThat(stream.findFirst().get()[0], is("aaa"));
+		}
+		reader.readValues();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStreamIllegalArgumentException() throws IOException {
+		new StringArrayListHandler().stream(null);
+	}
+
 	@Test
 	public void testSave() throws IOException {
 		final CsvConfig cfg = new CsvConfig(',', '"', '\\');
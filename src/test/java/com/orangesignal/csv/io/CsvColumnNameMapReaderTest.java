@@ -158,6 +158,20 @@ public class CsvColumnNameMapReaderTest {
 		}
 	}
 
+	@Test
+	public void testReadBatch() throws IOException {
+		try (CsvColumnNameMapReader reader = new CsvColumnNameMapReader(new CsvReader(new StringReader("symbol,name,price,volume\r\nAAAA,aaa,10000,10\r\nBBBB,bbb,NULL,0"), cfg))) {
+			final List<Map<String, String>> list = reader.readBatch(10);
+			assertThat(list.size(), is(2));
+			assertThat(list.get(0).get("symbol"), is("AAAA"));
+			assertThat(list.get(0).get("volume"), is("10"));
+			assertThat(list.get(1).get("symbol"), is("BBBB"));
+			assertTrue(list.get(1).containsKey("price"));
+			assertNull(list.get(1).get("price"));
+			assertThat(reader.readBatch(10).size(), is(0));
+		}
+	}
+
 	@Test
 	public void testRead2() throws IOException {
 		cfg.setSkipLines(1);
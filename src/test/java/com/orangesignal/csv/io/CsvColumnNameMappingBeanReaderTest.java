@@ -25,7 +25,9 @@ import java.io.StringReader;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.BeforeClass;
@@ -191,6 +193,59 @@ public class CsvColumnNameMappingBeanReaderTest {
 		}
 	}
 
+	@Test
+	public void testReadBatch() throws IOException {
+		try (CsvColumnNameMappingBeanReader<SampleBean> reader = CsvColumnNameMappingBeanReader.newInstance(
+				new CsvReader(new StringReader("symbol,name,price,volume\r\nAAAA,aaa,10000,10\r\nBBBB,bbb,NULL,0\r\nCCCC,ccc,1,1"), cfg),
+				SampleBean.class
+		)) {
+			final List<SampleBean> list = reader.readBatch(2);
+			assertThat(list.size(), is(2));
+			assertThat(list.get(0).symbol, is("AAAA"));
+			assertThat(list.get(0).price.longValue(), is(10000L));
+			assertThat(list.get(1).symbol, is("BBBB"));
+			assertNull(list.get(1).price);
+			assertThat(reader.readBatch(list, 2), is(1));
+			assertThat(list.get(2).symbol, is("CCCC"));
+			assertThat(reader.readBatch(list, 2), is(0));
+		}
+	}
+
+	@Test
+	public void testReadProjection() throws IOException {
+		try (CsvColumnNameMappingBeanReader<SampleBean> reader = CsvColumnNameMappingBeanReader.newInstance(
+				new CsvReader(new StringReader("symbol,memo,price,note\r\nAAAA,x\\,y,10000,z\r\nBBBB,x,2,z\r\nCCCC,x,1,z"), cfg),
+				CsvColumnNameMappingBeanTemplate.newInstance(SampleBean.class)
+						.column("symbol", "symbol")
+						.column("price", "price")
+		)) {
+			final SampleBean o1 = reader.read();
+			assertThat(o1.symbol, is("AAAA"));
+			assertThat(o1.price.longValue(), is(10000L));
+			assertNull(o1.name);
+
+			// 対応付けられていない項目は読飛ばされます。
+			assertThat(reader.readMappedValues(), is(Arrays.asList("BBBB", null, "2", null)));
+
+			// readValues() はすべての項目を読込みます。
+			assertThat(reader.readValues(), is(Arrays.asList("CCCC", "x", "1", "z")));
+			assertNull(reader.read());
+		}
+	}
+
+	@Test
+	public void testReadProjectionFilter() throws IOException {
+		try (CsvColumnNameMappingBeanReader<SampleBean> reader = CsvColumnNameMappingBeanReader.newInstance(
+				new CsvReader(new StringReader("symbol,memo,price\r\nAAAA,x,10000\r\nBBBB,y,1"), cfg),
+				CsvColumnNameMappingBeanTemplate.newInstance(SampleBean.class)
+						.column("symbol", "symbol")
+						.filter(new SimpleCsvNamedValueFilter().eq("memo", "y"))
+		)) {
+			// フィルタが設定されている場合はすべての項目を読込みます。
+			assertThat(reader.readMappedValues(), is(Arrays.asList("BBBB", "y", "1")));
+		}
+	}
+
 	@Test
 	public void testRead2() throws IOException {
 		try (CsvColumnNameMappingBeanReader<SampleBean> reader = CsvColumnNameMappingBeanReader.newInstance(
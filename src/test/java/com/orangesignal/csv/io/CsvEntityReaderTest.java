@@ -19,12 +19,20 @@ package com.orangesignal.csv.io;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.io.StringReader;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.BeforeClass;
 import org.junit.Rule;
@@ -195,6 +203,39 @@ public class CsvEntityReaderTest {
 		}
 	}
 
+	@Test
+	public void testRequiredCsvColumnExceptionValues() throws IOException {
+		try (CsvEntityReader<RequiredPrice> reader = CsvEntityReader.newInstance(
+				new CsvReader(new StringReader("シンボル,名称,価格,出来高,日付,時刻,備考\r\nNULL,bbb,1,0,NULL,NULL,memo"), cfg),
+				RequiredPrice.class
+		)) {
+			reader.read();
+			fail();
+		} catch (final CsvColumnException e) {
+			// 必須項目がある場合は項目に対応付けられていない項目も読込みます。
+			assertThat(e.getObject(), is((Object) Arrays.asList(null, "bbb", "1", "0", null, null, "memo")));
+		}
+	}
+
+	@Test
+	public void testReadValuesProjection() throws IOException {
+		try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(
+				new CsvReader(new StringReader("シンボル,名称,価格,出来高,日付,時刻,備考\r\nAAAA,aaa,1,10,NULL,NULL,x\r\nBBBB,bbb,2,20,NULL,NULL,y\r\nCCCC,ccc,3,30,NULL,NULL,z"), cfg),
+				Price.class
+		)) {
+			// readValues() はすべての項目を読込みます。
+			assertThat(reader.readValues(), is(Arrays.asList("AAAA", "aaa", "1", "10", null, null, "x")));
+
+			// 対応付けられていない項目は読飛ばされます。
+			assertThat(reader.readMappedValues(), is(Arrays.asList("BBBB", "bbb", "2", "20", null, null, null)));
+
+			final Price o3 = reader.read();
+			assertThat(o3.symbol, is("CCCC"));
+			assertThat(o3.volume.longValue(), is(30L));
+			assertNull(reader.read());
+		}
+	}
+
 	@Test
 	public void testRequired() throws IOException {
 		try (CsvEntityReader<RequiredPrice> reader = CsvEntityReader.newInstance(
@@ -279,6 +320,116 @@ public class CsvEntityReaderTest {
 		}
 	}
 
+	@Test
+	public void testReadBatch() throws IOException {
+		try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(
+				new CsvReader(new StringReader("シンボル,名称,価格,出来高,日付,時刻\r\nAAAA,aaa,10\\,000,10,2009/10/28,10:24:00\r\nBBBB,bbb,NULL,0,NULL,NULL\r\nCCCC,ccc,20,1,NULL,NULL"), cfg),
+				Price.class
+		)) {
+			final List<Price> list = new ArrayList<>();
+			assertThat(reader.readBatch(list, 2), is(2));
+			assertThat(list.get(0).symbol, is("AAAA"));
+			assertThat(list.get(0).price.longValue(), is(10000L));
+			assertThat(list.get(1).symbol, is("BBBB"));
+			assertNull(list.get(1).price);
+
+			final List<Price> rest = reader.readBatch(2);
+			assertThat(rest.size(), is(1));
+			assertThat(rest.get(0).symbol, is("CCCC"));
+
+			assertThat(reader.readBatch(list, 2), is(0));
+			assertThat(list.size(), is(2));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadBatchIllegalArgumentException() throws IOException {
+		try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(new CsvReader(new StringReader("")), Price.class)) {
+			reader.readBatch(0);
+		}
+	}
+
+	private static String prices(final int count) {
+		final StringBuilder sb = new StringBuilder("シンボル,名称,価格,出来高,日付,時刻\r\n");
+		for (int i = 0; i < count; i++) {
+			sb.append('S').append(i).append(",name").append(i).append(',').append(i).append("\\,000,").append(i % 100)
+				.append(",2009/").append(i % 12 + 1).append('/').append(i % 28 + 1).append(",10:").append(i % 60).append(":00\r\n");
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testReadParallel() throws Exception {
+		final String text = prices(1000);
+		final List<Price> expected;
+		try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(new CsvReader(new StringReader(text), cfg), Price.class)) {
+			expected = reader.readBatch(Integer.MAX_VALUE);
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (final boolean ordered : new boolean[]{ true, false }) {
+				final List<Price> list = new ArrayList<>();
+				try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(new CsvReader(new StringReader(text), cfg), Price.class)) {
+					assertThat(reader.readParallel(list, executor, 7, ordered), is(1000));
+					assertNull(reader.read());
+				}
+				if (!ordered) {
+					final Comparator<Price> c = (o1, o2) -> o1.symbol.compareTo(o2.symbol);
+					Collections.sort(list, c);
+					Collections.sort(expected, c);
+				}
+				assertThat(list.size(), is(expected.size()));
+				for (int i = 0; i < list.size(); i++) {
+					assertThat(list.get(i).symbol, is(expected.get(i).symbol));
+					assertThat(list.get(i).name, is(expected.get(i).name));
+					assertThat(list.get(i).price, is(expected.get(i).price));
+					assertThat(list.get(i).volume, is(expected.get(i).volume));
+					assertThat(list.get(i).date, is(expected.get(i).date));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testReadParallelMax() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(new CsvReader(new StringReader(prices(1000)), cfg), Price.class)) {
+			final List<Price> list = new ArrayList<>();
+			assertThat(reader.readParallel(list, executor, 7, true, 25), is(25));
+			assertThat(list.get(24).symbol, is("S24"));
+			// 最大件数を読込んだ後の論理行は読込まれずに残ります。
+			assertThat(reader.read().symbol, is("S25"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testReadParallelCsvColumnException() throws Exception {
+		exception.expect(CsvColumnException.class);
+		exception.expectMessage(String.format("[line: %d] %s must not be null", 4, "シンボル"));
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try (CsvEntityReader<RequiredPrice> reader = CsvEntityReader.newInstance(
+				new CsvReader(new StringReader("シンボル,名称,価格,出来高,日付,時刻\r\nAAAA,aaa,10\\,000,10,2009/10/28,10:24:00\r\nBBBB,bbb,NULL,0,NULL,NULL\r\nNULL,NULL,NULL,0,NULL,NULL"), cfg),
+				RequiredPrice.class
+		)) {
+			reader.readParallel(new ArrayList<RequiredPrice>(), executor, 1, true);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadParallelIllegalArgumentException() throws IOException {
+		try (CsvEntityReader<Price> reader = CsvEntityReader.newInstance(new CsvReader(new StringReader("")), Price.class)) {
+			reader.readParallel(new ArrayList<Price>(), null, 1, true);
+		}
+	}
+
 	@Test
 	public void testIssue30() throws IOException {
 		final CsvConfig cfg = new CsvConfig();
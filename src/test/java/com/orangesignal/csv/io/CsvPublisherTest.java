@@ -0,0 +1,264 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.csv.io;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.orangesignal.csv.Constants;
+import com.orangesignal.csv.CsvConfig;
+import com.orangesignal.csv.CsvReader;
+import com.orangesignal.csv.entity.Price;
+
+/**
+ * {@link CsvPublisher} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class CsvPublisherTest {
+
+	private CsvConfig cfg;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() throws Exception {
+		cfg = new CsvConfig(',');
+		cfg.setEscapeDisabled(false);
+		cfg.setNullString("NULL");
+		cfg.setIgnoreTrailingWhitespaces(true);
+		cfg.setIgnoreLeadingWhitespaces(true);
+		cfg.setIgnoreEmptyLines(true);
+		cfg.setLineSeparator(Constants.CRLF);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 受信したデータを記録する購読者です。
+	 */
+	private static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+		private final long initialRequest;
+		private final long nextRequest;
+		final List<T> items = Collections.synchronizedList(new ArrayList<T>());
+		final CountDownLatch done = new CountDownLatch(1);
+		volatile Flow.Subscription subscription;
+		volatile Throwable error;
+		volatile boolean completed;
+
+		TestSubscriber(final long initialRequest, final long nextRequest) {
+			this.initialRequest = initialRequest;
+			this.nextRequest = nextRequest;
+		}
+
+		@Override
+		public void onSubscribe(final Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(initialRequest);
+		}
+
+		@Override
+		public void onNext(final T item) {
+			items.add(item);
+			if (nextRequest > 0) {
+				subscription.request(nextRequest);
+			}
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			error = throwable;
+			done.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			done.countDown();
+		}
+
+		void await() throws InterruptedException {
+			assertTrue(done.await(10, TimeUnit.SECONDS));
+		}
+
+	}
+
+	private static String rows(final int count) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			sb.append(i).append(",v").append(i).append("\r\n");
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testSubscribeCsvReader() throws Exception {
+		final CsvReader reader = new CsvReader(new StringReader(rows(1000)), cfg);
+		final TestSubscriber<List<String>> subscriber = new TestSubscriber<>(1, 1);
+		CsvPublisher.newInstance(reader, executor, 16).subscribe(subscriber);
+		subscriber.await();
+
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertThat(subscriber.items.size(), is(1000));
+		assertThat(subscriber.items.get(0), is(Arrays.asList("0", "v0")));
+		assertThat(subscriber.items.get(999), is(Arrays.asList("999", "v999")));
+	}
+
+	@Test
+	public void testSubscribeUnbounded() throws Exception {
+		final CsvReader reader = new CsvReader(new StringReader(rows(1000)), cfg);
+		final TestSubscriber<List<String>> subscriber = new TestSubscriber<>(Long.MAX_VALUE, 0);
+		CsvPublisher.newInstance(reader, executor, 7).subscribe(subscriber);
+		subscriber.await();
+
+		assertTrue(subscriber.completed);
+		assertThat(subscriber.items.size(), is(1000));
+	}
+
+	@Test
+	public void testSubscribeCsvColumnNameMapReader() throws Exception {
+		final CsvColumnNameMapReader reader = new CsvColumnNameMapReader(new CsvReader(new StringReader("symbol,name\r\nAAAA,aaa\r\nBBBB,NULL"), cfg));
+		final TestSubscriber<Map<String, String>> subscriber = new TestSubscriber<>(Long.MAX_VALUE, 0);
+		CsvPublisher.newInstance(reader, executor).subscribe(subscriber);
+		subscriber.await();
+
+		assertTrue(subscriber.completed);
+		assertThat(subscriber.items.size(), is(2));
+		assertThat(subscriber.items.get(0).get("symbol"), is("AAAA"));
+		assertThat(subscriber.items.get(0).get("name"), is("aaa"));
+		assertThat(subscriber.items.get(1).get("symbol"), is("BBBB"));
+		assertNull(subscriber.items.get(1).get("name"));
+	}
+
+	@Test
+	public void testSubscribeCsvEntityReader() throws Exception {
+		final CsvEntityReader<Price> reader = CsvEntityReader.newInstance(new CsvReader(new StringReader("シンボル,名称,価格,出来高,日付,時刻\r\nAAAA,aaa,10\\,000,10,2009/10/28,10:24:00\r\nBBBB,bbb,NULL,0,NULL,NULL"), cfg), Price.class);
+		final TestSubscriber<Price> subscriber = new TestSubscriber<>(1, 1);
+		CsvPublisher.newInstance(reader, executor).subscribe(subscriber);
+		subscriber.await();
+
+		assertTrue(subscriber.completed);
+		assertThat(subscriber.items.size(), is(2));
+		assertThat(subscriber.items.get(0).symbol, is("AAAA"));
+		assertThat(subscriber.items.get(0).price.longValue(), is(10000L));
+		assertThat(subscriber.items.get(1).symbol, is("BBBB"));
+		assertNull(subscriber.items.get(1).price);
+	}
+
+	@Test
+	public void testDemand() throws Exception {
+		final CsvReader reader = new CsvReader(new StringReader(rows(100)), cfg);
+		final TestSubscriber<List<String>> subscriber = new TestSubscriber<>(3, 0);
+		CsvPublisher.newInstance(reader, executor, 2).subscribe(subscriber);
+
+		// 要求された件数を超えて読込まないこと
+		Thread.sleep(200L);
+		assertThat(subscriber.items.size(), is(3));
+		assertFalse(subscriber.completed);
+		assertThat(reader.readValues(), is(Arrays.asList("3", "v3")));
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		subscriber.await();
+		assertTrue(subscriber.completed);
+		assertThat(subscriber.items.size(), is(99));
+	}
+
+	@Test(expected = IOException.class)
+	public void testCancel() throws Exception {
+		final CsvReader reader = new CsvReader(new StringReader(rows(100)), cfg);
+		final CountDownLatch cancelled = new CountDownLatch(1);
+		CsvPublisher.newInstance(reader, executor).subscribe(new TestSubscriber<List<String>>(1, 0) {
+			@Override
+			public void onNext(final List<String> item) {
+				subscription.cancel();
+				cancelled.countDown();
+			}
+		});
+		assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		reader.readValues();
+	}
+
+	@Test
+	public void testRequestIllegalArgumentException() throws Exception {
+		final CsvReader reader = new CsvReader(new StringReader(rows(10)), cfg);
+		final TestSubscriber<List<String>> subscriber = new TestSubscriber<>(0, 0);
+		CsvPublisher.newInstance(reader, executor).subscribe(subscriber);
+		subscriber.await();
+
+		assertFalse(subscriber.completed);
+		assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+	}
+
+	@Test
+	public void testSubscribeIllegalStateException() throws Exception {
+		final CsvPublisher<List<String>> publisher = CsvPublisher.newInstance(new CsvReader(new StringReader(rows(10)), cfg), executor);
+		final TestSubscriber<List<String>> subscriber1 = new TestSubscriber<>(Long.MAX_VALUE, 0);
+		publisher.subscribe(subscriber1);
+		subscriber1.await();
+
+		final TestSubscriber<List<String>> subscriber2 = new TestSubscriber<>(Long.MAX_VALUE, 0);
+		publisher.subscribe(subscriber2);
+		subscriber2.await();
+		assertThat(subscriber2.error, instanceOf(IllegalStateException.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNewInstanceIllegalArgumentException1() {
+		CsvPublisher.newInstance((CsvReader) null, executor);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNewInstanceIllegalArgumentException2() {
+		CsvPublisher.newInstance(new CsvReader(new StringReader("")), null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNewInstanceIllegalArgumentException3() {
+		CsvPublisher.newInstance(new CsvReader(new StringReader("")), executor, 0);
+	}
+
+}
@@ -24,15 +24,22 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.text.DateFormat;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import com.orangesignal.csv.Constants;
 import com.orangesignal.csv.CsvConfig;
@@ -41,6 +48,8 @@ import com.orangesignal.csv.entity.IntegerArrayEntity;
 import com.orangesignal.csv.entity.Price;
 import com.orangesignal.csv.entity.StringArrayEntity;
 import com.orangesignal.csv.filters.SimpleBeanFilter;
+import com.orangesignal.csv.handlers.BeanOrder;
+import com.orangesignal.csv.handlers.CsvEntityListHandler;
 import com.orangesignal.csv.filters.SimpleCsvNamedValueFilter;
 
 /**
@@ -55,6 +64,9 @@ public class CsvEntityManagerTest {
 	@Rule
 	public ExpectedException exception = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
 	@BeforeClass
 	public static void setUpBeforeClass() throws Exception {
 		cfg = new CsvConfig(',');
@@ -122,6 +134,142 @@ public class CsvEntityManagerTest {
 		}
 	}
 
+	@Test
+	public void testLoadParallel() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try (Reader reader = new StringReader(
+				"シンボル,名称,価格,出来高,日付,時刻\r\n" +
+						"GCQ09,COMEX 金 2009年08月限,1\\,058.70,10,2008/08/06,12:00:00\r\n" +
+						"GCU09,COMEX 金 2009年09月限,1\\,068.70,10,2008/09/06,12:00:00\r\n" +
+						"GCV09,COMEX 金 2009年10月限,1\\,078.70,11,2008/10/06,12:00:00\r\n" +
+						"GCX09,COMEX 金 2009年11月限,1\\,088.70,12,2008/11/06,12:00:00\r\n" +
+						"GCZ09,COMEX 金 2009年12月限,1\\,098.70,13,2008/12/06,12:00:00\r\n"
+		)) {
+			final DateFormat df = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
+			df.setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+
+			final List<Price> list = new CsvEntityManager(cfg)
+					.load(Price.class)
+					.parallel(executor, 2, true)
+					.filter(new SimpleCsvNamedValueFilter().ne("シンボル", "gcu09", true))
+					.filter(new SimpleBeanFilter().ne("date", df.parse("2008/11/06 12:00:00")))
+					.offset(1).limit(1)
+					.from(reader);
+
+			assertThat(list.size(), is(1));
+			final Price o1 = list.get(0);
+			assertThat(o1.symbol, is("GCV09"));
+			assertThat(o1.name, is("COMEX 金 2009年10月限"));
+			assertThat(o1.price.doubleValue(), is(1078.70D));
+			assertThat(o1.volume.longValue(), is(11L));
+			assertThat(o1.date, is(df.parse("2008/10/06 12:00:00")));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(timeout = 30000)
+	public void testLoadParallelLimit() throws Exception {
+		// 終わりのない入力でも、取得最大件数分の論理行を読込んだ時点で読込みを終えることを検証します。
+		final Reader reader = new Reader() {
+			private final StringBuilder buf = new StringBuilder("シンボル,名称,価格,出来高,日付,時刻\r\n");
+			private int row;
+
+			@Override
+			public int read(final char[] cbuf, final int off, final int len) {
+				while (buf.length() < len) {
+					buf.append("GC").append(row++).append(",COMEX 金,1\\,058.70,10,2008/08/06,12:00:00\r\n");
+				}
+				buf.getChars(0, len, cbuf, off);
+				buf.delete(0, len);
+				return len;
+			}
+
+			@Override
+			public void close() {}
+		};
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (final boolean ordered : new boolean[] { true, false }) {
+				final List<Price> list = new CsvEntityManager(cfg)
+						.load(Price.class)
+						.parallel(executor, 3, ordered)
+						.offset(2).limit(10)
+						.from(reader);
+				assertThat(list.size(), is(10));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoadParallelOrder() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try (Reader reader = new StringReader(
+				"シンボル,名称,価格,出来高,日付,時刻\r\n" +
+						"GCQ09,COMEX 金 2009年08月限,1\\,058.70,10,2008/08/06,12:00:00\r\n" +
+						"GCZ09,COMEX 金 2009年12月限,1\\,098.70,13,2008/12/06,12:00:00\r\n" +
+						"GCV09,COMEX 金 2009年10月限,1\\,078.70,11,2008/10/06,12:00:00\r\n"
+		)) {
+			final List<Price> list = new CsvEntityManager(cfg)
+					.load(Price.class)
+					.parallel(executor, 1, false)
+					.order(BeanOrder.desc("symbol"))
+					.offset(1)
+					.from(reader);
+
+			assertThat(list.size(), is(2));
+			assertThat(list.get(0).symbol, is("GCV09"));
+			assertThat(list.get(1).symbol, is("GCQ09"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoadPaths() throws Exception {
+		final List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			final Path file = tempFolder.newFile("price" + i + ".csv").toPath();
+			Files.write(file, ("シンボル,名称,価格,出来高,日付,時刻\r\nGC" + i + ",COMEX 金,1\\,058,1" + i + ",2008/08/06,12:00:00\r\n").getBytes("UTF-8"));
+			paths.add(file);
+		}
+		final Map<Path, Exception> errors = new HashMap<>();
+		final List<Price> list = new CsvEntityManager(cfg)
+				.load(Price.class)
+				.order(BeanOrder.desc("symbol"))
+				.limit(3)
+				.from(paths, "UTF-8", 2, errors);
+
+		assertThat(errors.isEmpty(), is(true));
+		assertThat(list.size(), is(3));
+		assertThat(list.get(0).symbol, is("GC3"));
+		assertThat(list.get(0).price.longValue(), is(1058L));
+		assertThat(list.get(2).symbol, is("GC1"));
+	}
+
+	@Test
+	public void testLoadPathsSupplier() throws Exception {
+		final List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			final Path file = tempFolder.newFile("price" + i + ".csv").toPath();
+			Files.write(file, ("シンボル,名称,価格,出来高,日付,時刻\r\nGC" + i + ",COMEX 金,1\\,058,1" + i + ",2008/08/06,12:00:00\r\n").getBytes("UTF-8"));
+			paths.add(file);
+		}
+		final Map<Path, Exception> errors = new HashMap<>();
+		final List<Price> list = new CsvEntityManager(cfg)
+				.load(Price.class)
+				.from(paths, "UTF-8", () -> new CsvEntityListHandler<>(Price.class).order(BeanOrder.desc("symbol")).limit(3), 2, errors);
+
+		assertThat(errors.isEmpty(), is(true));
+		assertThat(list.size(), is(3));
+		assertThat(list.get(0).symbol, is("GC3"));
+		assertThat(list.get(0).price.longValue(), is(1058L));
+		assertThat(list.get(2).symbol, is("GC1"));
+	}
+
 	@Test
 	public void testSave() throws Exception {
 		final DateFormat df = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
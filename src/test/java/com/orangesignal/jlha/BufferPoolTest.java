@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link BufferPool} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class BufferPoolTest {
+
+	@Before
+	public void setUp() {
+		// 他のテストが同じスレッドで返却した配列を破棄します。
+		BufferPool.clear();
+	}
+
+	@Test
+	public void testTakeBytes() {
+		final byte[] buffer = BufferPool.takeBytes(12345);
+		Arrays.fill(buffer, (byte) 1);
+		BufferPool.giveBytes(buffer);
+
+		// 返却された配列は 0 で初期化されて再利用されます。
+		final byte[] reused = BufferPool.takeBytes(12345);
+		assertThat(reused == buffer, is(true));
+		assertArrayEquals(new byte[12345], reused);
+		assertThat(BufferPool.takeBytes(12345) == buffer, is(false));
+	}
+
+	@Test
+	public void testTakeInts() {
+		final int[] buffer = BufferPool.takeInts(12345);
+		Arrays.fill(buffer, 1);
+		BufferPool.giveInts(buffer);
+
+		final int[] reused = BufferPool.takeInts(12345);
+		assertThat(reused == buffer, is(true));
+		assertArrayEquals(new int[12345], reused);
+		assertThat(BufferPool.takeInts(12346) == buffer, is(false));
+	}
+
+	@Test
+	public void testMaxPooled() {
+		final Map<byte[], Boolean> given = new IdentityHashMap<>();
+		for (int i = 0; i < BufferPool.MAX_POOLED + 2; i++) {
+			given.put(new byte[54321], Boolean.TRUE);
+		}
+		for (final byte[] buffer : given.keySet()) {
+			BufferPool.giveBytes(buffer);
+		}
+
+		int reused = 0;
+		for (int i = 0; i < BufferPool.MAX_POOLED + 2; i++) {
+			if (given.containsKey(BufferPool.takeBytes(54321))) {
+				reused++;
+			}
+		}
+		assertThat(reused, is(BufferPool.MAX_POOLED));
+	}
+
+	@Test
+	public void testMaxPooledBytes() {
+		final int length = (int) (BufferPool.MAX_POOLED_BYTES / Integer.BYTES / 3);
+		final int[][] given = new int[BufferPool.MAX_POOLED][];
+		for (int i = 0; i < given.length; i++) {
+			given[i] = new int[length];
+			BufferPool.giveInts(given[i]);
+		}
+		// 合計バイト数の上限を超える配列は保持しません。
+		assertThat(BufferPool.pooledBytes(), is(3L * length * Integer.BYTES));
+
+		assertThat(BufferPool.takeInts(length) == given[2], is(true));
+		assertThat(BufferPool.pooledBytes(), is(2L * length * Integer.BYTES));
+
+		BufferPool.giveBytes(new byte[length * Integer.BYTES * 2]);
+		assertThat(BufferPool.pooledBytes(), is(2L * length * Integer.BYTES));
+
+		BufferPool.clear();
+		assertThat(BufferPool.pooledBytes(), is(0L));
+		assertThat(BufferPool.takeInts(length) == given[1], is(false));
+	}
+
+	@Test
+	public void testOptimalTablesNotPooled() throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, CompressMethod.LH7), CompressMethod.SEARCH, LzssOutputStream.OPTIMAL)) {
+			out.write(new byte[1000]);
+		}
+		// OPTIMAL でのみ使用する表の長さの配列はプールに返却されません。
+		final int dictionarySize = CompressMethod.toDictionarySize(CompressMethod.LH7);
+		final int length = dictionarySize * 2 + CompressMethod.toMaxMatch(CompressMethod.LH7) + 1;
+		final long pooled = BufferPool.pooledBytes();
+		assertThat(pooled > 0, is(true));
+		BufferPool.takeInts(length);
+		assertThat(BufferPool.pooledBytes(), is(pooled));
+	}
+
+	@Test
+	public void testThreadLocal() throws Exception {
+		final byte[] buffer = new byte[23456];
+		BufferPool.giveBytes(buffer);
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<byte[]> other = executor.submit(() -> BufferPool.takeBytes(23456));
+			assertThat(other.get() == buffer, is(false));
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(BufferPool.takeBytes(23456) == buffer, is(true));
+	}
+
+	@Test
+	public void testCodecs() throws IOException {
+		final byte[] data = new byte[50000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) (i % 251 < 100 ? i % 7 : i * 31);
+		}
+
+		// 配列を再利用しても、続けて構築した符号器と復号器の結果が変わらないことを検証します。
+		byte[] first = null;
+		for (int n = 0; n < 3; n++) {
+			for (final String parse : new String[] { LzssOutputStream.LAZY, LzssOutputStream.OPTIMAL }) {
+				final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, CompressMethod.LH7), CompressMethod.SEARCH, parse)) {
+					out.write(data);
+				}
+				if (first == null) {
+					first = baos.toByteArray();
+				} else if (LzssOutputStream.LAZY.equals(parse)) {
+					assertArrayEquals(first, baos.toByteArray());
+				}
+				try (InputStream in = new LzssInputStream(new PreLh5Decoder(new ByteArrayInputStream(baos.toByteArray()), CompressMethod.LH7), data.length)) {
+					assertArrayEquals(parse, data, in.readAllBytes());
+				}
+			}
+		}
+	}
+
+}
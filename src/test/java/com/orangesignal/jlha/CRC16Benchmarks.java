@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+
+/**
+ * Benchmark for {@link CRC16} updates over 16 MiB of random data.<p>
+ * The legacy update reproduces the previous bulk path, which looks up the single 256-entry table once per byte.
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class CRC16Benchmarks extends AbstractBenchmark {
+
+	private static final int[] TABLE = new int[256];
+
+	private static byte[] data;
+
+	private static long expected;
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		for (int i = 0; i < TABLE.length; i++) {
+			int crc = i;
+			for (int j = 0; j < 8; j++) {
+				crc = (crc & 1) != 0 ? crc >> 1 ^ CRC16.DEFAULT_POLY : crc >> 1;
+			}
+			TABLE[i] = crc;
+		}
+
+		data = new byte[16 * 1024 * 1024];
+		new Random(0).nextBytes(data);
+
+		final CRC16 crc = new CRC16();
+		for (final byte b : data) {
+			crc.update(b);
+		}
+		expected = crc.getValue();
+	}
+
+	@Test
+	public void testUpdate() {
+		final CRC16 crc = new CRC16();
+		crc.update(data, 0, data.length);
+		assertEquals(expected, crc.getValue());
+	}
+
+	@Test
+	public void testUpdateChunked() {
+		// LhaOutputStream への書込みと同様に 4096 バイトずつ更新します。
+		final CRC16 crc = new CRC16();
+		for (int i = 0; i < data.length; i += 4096) {
+			crc.update(data, i, 4096);
+		}
+		assertEquals(expected, crc.getValue());
+	}
+
+	@Test
+	public void testLegacyUpdate() {
+		int crc = CRC16.DEFAULT_INIT;
+		for (final byte b : data) {
+			crc = crc >> 8 ^ TABLE[(crc ^ b) & 0xFF];
+		}
+		assertEquals(expected, crc & 0xFFFF);
+	}
+
+}
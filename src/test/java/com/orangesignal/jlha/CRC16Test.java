@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * {@link CRC16} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class CRC16Test {
+
+	private static byte[] data;
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		data = new byte[1000];
+		new Random(0).nextBytes(data);
+	}
+
+	@Test
+	public void testGetValue() {
+		final CRC16 crc = new CRC16();
+		crc.update("123456789".getBytes(StandardCharsets.US_ASCII));
+		// CRC-16/ARC の検査値です。
+		assertThat(crc.getValue(), is(0xBB3DL));
+
+		final CRC16 ccitt = new CRC16(CRC16.CCITT_POLY);
+		ccitt.update("123456789".getBytes(StandardCharsets.US_ASCII));
+		// CRC-16/MCRF4XX の検査値です。
+		assertThat(ccitt.getValue(), is(0x6F91L));
+	}
+
+	@Test
+	public void testUpdate() {
+		// 8 バイト単位の更新と 1 バイトずつの更新が、開始位置と長さによらず一致することを検証します。
+		for (final int poly : new int[] { CRC16.CRC_ANSY_POLY, CRC16.CCITT_POLY }) {
+			for (int index = 0; index < 10; index++) {
+				for (int length = 0; length < 40; length++) {
+					assertUpdate(new CRC16(poly), new CRC16(poly), index, length);
+				}
+				assertUpdate(new CRC16(poly), new CRC16(poly), index, data.length - index);
+			}
+		}
+	}
+
+	@Test
+	public void testUpdateWideInit() {
+		// 16ビットに収まらない初期値でも 1 バイトずつの更新と一致することを検証します。
+		for (final int init : new int[] { 0x12345678, -1 }) {
+			assertUpdate(new CRC16(CRC16.DEFAULT_POLY, init), new CRC16(CRC16.DEFAULT_POLY, init), 3, data.length - 3);
+		}
+	}
+
+	@Test
+	public void testUpdateWideTable() {
+		final int[] table = new int[256];
+		for (int i = 0; i < table.length; i++) {
+			table[i] = i * 0x10001;
+		}
+		assertUpdate(new CRC16(table, 0), new CRC16(table, 0), 1, data.length - 1);
+	}
+
+	private static void assertUpdate(final CRC16 expected, final CRC16 actual, final int index, final int length) {
+		for (int i = index; i < index + length; i++) {
+			expected.update(data[i]);
+		}
+		actual.update(data, index, length);
+		assertThat(index + " " + length, actual.getValue(), is(expected.getValue()));
+	}
+
+}
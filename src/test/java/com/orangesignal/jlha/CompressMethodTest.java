@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * {@link CompressMethod} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class CompressMethodTest {
+
+	private static final String[] METHODS = {
+		CompressMethod.LH0, CompressMethod.LH1, CompressMethod.LH2, CompressMethod.LH3,
+		CompressMethod.LH4, CompressMethod.LH5, CompressMethod.LH6, CompressMethod.LH7,
+		CompressMethod.LZS, CompressMethod.LZ4, CompressMethod.LZ5
+	};
+
+	private static byte[] data;
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			sb.append(i).append(",abc,").append(i % 7 == 0 ? "\"x\"" : "yyyyyyyy").append("\r\n");
+		}
+		data = sb.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@Test
+	public void testIsDefaultGenerator() {
+		final String packages = CompressMethod.class.getPackage().getName();
+		assertTrue(LhaProperty.isDefaultGenerator("lha.lh5.decoder", "LzssInputStream(PreLh5Decoder(in,-lh5-),length)", packages));
+		assertTrue(LhaProperty.isDefaultGenerator("lha.lh5.decoder", " LzssInputStream( PreLh5Decoder( in, -lh5- ), length ) ", " " + packages));
+		assertTrue(LhaProperty.isDefaultGenerator("lha.header", "LhaHeader( data, encoding )", packages));
+		assertFalse(LhaProperty.isDefaultGenerator("lha.lh5.decoder", "LzssInputStream(PreLh5Decoder(in,-lh7-),length)", packages));
+		assertFalse(LhaProperty.isDefaultGenerator("lha.lh5.decoder", "LzssInputStream(PreLh5Decoder(in,-lh5-),length)", packages + ",other"));
+		assertFalse(LhaProperty.isDefaultGenerator("lha.unknown", "in", packages));
+		assertFalse(LhaProperty.isDefaultGenerator("lha.lh5.decoder", null, packages));
+	}
+
+	@Test
+	public void testConnectEncoderSameAsGenerator() throws IOException {
+		final Properties compiled = LhaProperty.getProperties();
+		final Properties parsed = LhaProperty.getProperties();
+		// パッケージ名の列挙をデフォルトと異なる表記にすると生成式が解析されます。
+		parsed.put("lha.packages", compiled.getProperty("lha.packages") + ",");
+
+		for (final String method : METHODS) {
+			final byte[] expected = encode(method, parsed);
+			final byte[] actual = encode(method, compiled);
+			assertArrayEquals(method, expected, actual);
+
+			assertArrayEquals(method, data, decode(actual, method, compiled));
+			assertArrayEquals(method, data, decode(actual, method, parsed));
+		}
+	}
+
+	@Test
+	public void testConnectDecoderCustomGenerator() throws IOException {
+		final Properties property = LhaProperty.getProperties();
+		final byte[] encoded = encode(CompressMethod.LH5, property);
+		property.put("lha.lh5.decoder", "LzssInputStream( PreLh5Decoder( in, -lh5- ), length )");
+		assertArrayEquals(data, decode(encoded, CompressMethod.LH5, property));
+
+		// 生成式が異なる場合は生成式が使用されます。
+		property.put("lha.lh5.decoder", "in");
+		assertThat(decode(encoded, CompressMethod.LH5, property).length, is(encoded.length));
+	}
+
+	@Test
+	public void testConnectEncoderFastest() throws IOException {
+		final Properties property = LhaProperty.getProperties();
+		property.put("lha.level", CompressMethod.FASTEST_LEVEL);
+
+		for (final String method : METHODS) {
+			final byte[] encoded = encode(method, property);
+			assertArrayEquals(method, data, decode(encoded, method, property));
+		}
+		assertFalse(CompressMethod.connectEncoder(new ByteArrayOutputStream(), CompressMethod.LH5, property) instanceof ParallelLh5OutputStream);
+
+		// 生成式がデフォルトと異なる場合は圧縮レベルに関わらず生成式が使用されます。
+		final Properties parsed = LhaProperty.getProperties();
+		parsed.put("lha.packages", parsed.getProperty("lha.packages") + ",");
+		final byte[] expected = encode(CompressMethod.LH5, parsed);
+		parsed.put("lha.level", CompressMethod.FASTEST_LEVEL);
+		assertArrayEquals(expected, encode(CompressMethod.LH5, parsed));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConnectEncoderUnknownLevel() {
+		final Properties property = LhaProperty.getProperties();
+		property.put("lha.level", "fast");
+		CompressMethod.connectEncoder(new ByteArrayOutputStream(), CompressMethod.LH5, property);
+	}
+
+	private static byte[] encode(final String method, final Properties property) throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		final OutputStream out = CompressMethod.connectEncoder(baos, method, property);
+		out.write(data);
+		out.close();
+		return baos.toByteArray();
+	}
+
+	private static byte[] decode(final byte[] encoded, final String method, final Properties property) throws IOException {
+		try (InputStream in = CompressMethod.connectDecoder(new ByteArrayInputStream(encoded), method, property, data.length)) {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			final byte[] buf = new byte[4096];
+			int len;
+			while ((len = in.read(buf)) != -1) {
+				baos.write(buf, 0, len);
+			}
+			return baos.toByteArray();
+		}
+	}
+
+}
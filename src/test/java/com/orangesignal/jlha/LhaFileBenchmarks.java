@@ -0,0 +1,250 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+
+/**
+ * Benchmark for {@link LhaFile} entry streams.<p>
+ * The legacy streams reproduce the previous design, which shares one {@link RandomAccessFile} under a global lock and seeks whenever another stream read last.
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class LhaFileBenchmarks extends AbstractBenchmark {
+
+	private static final int THREADS = 4;
+
+	private static File file;
+
+	private static long start;
+
+	private static long size;
+
+	private static ExecutorService executor;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		final byte[] expected;
+		file = new File("src/test/resources/", "ken_all.lzh");
+		final LhaFile lhaFile = new LhaFile(file);
+		try {
+			final LhaHeader header = lhaFile.getEntries()[0];
+			size = header.getCompressedSize();
+			start = file.length() - size - 1;
+			// 書庫は 1 エントリのみのため、末尾の書庫終端を除いた位置をエントリデータの開始位置とします。
+			expected = new byte[(int) size];
+			try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+				raf.seek(start);
+				raf.readFully(expected);
+			}
+			try (InputStream in = lhaFile.getInputStreamWithoutExtract(header)) {
+				assertArrayEquals(expected, in.readAllBytes());
+			}
+		} finally {
+			lhaFile.close();
+		}
+		final LhaFile mappedFile = new LhaFile(file, LhaFile.OPEN_MAPPED);
+		try {
+			try (InputStream in = mappedFile.getInputStreamWithoutExtract(mappedFile.getEntries()[0])) {
+				assertArrayEquals(expected, in.readAllBytes());
+			}
+		} finally {
+			mappedFile.close();
+		}
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testChannelReadByte() throws IOException {
+		final LhaFile lhaFile = new LhaFile(file);
+		try {
+			assertEquals(size, readByte(lhaFile.getInputStreamWithoutExtract(lhaFile.getEntries()[0])));
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testMappedReadByte() throws IOException {
+		final LhaFile lhaFile = new LhaFile(file, LhaFile.OPEN_MAPPED);
+		try {
+			assertEquals(size, readByte(lhaFile.getInputStreamWithoutExtract(lhaFile.getEntries()[0])));
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testLegacyReadByte() throws IOException {
+		try (RandomAccessFile archive = new RandomAccessFile(file, "r")) {
+			assertEquals(size, readByte(new LegacyInputStream(archive, new Object[1], start, size)));
+		}
+	}
+
+	@Test
+	public void testChannelConcurrentRead() throws Exception {
+		final LhaFile lhaFile = new LhaFile(file);
+		try {
+			final LhaHeader header = lhaFile.getEntries()[0];
+			concurrentRead(() -> read(lhaFile.getInputStreamWithoutExtract(header)));
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testMappedConcurrentRead() throws Exception {
+		final LhaFile lhaFile = new LhaFile(file, LhaFile.OPEN_MAPPED);
+		try {
+			final LhaHeader header = lhaFile.getEntries()[0];
+			concurrentRead(() -> read(lhaFile.getInputStreamWithoutExtract(header)));
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testLegacyConcurrentRead() throws Exception {
+		try (RandomAccessFile archive = new RandomAccessFile(file, "r")) {
+			final Object[] lastAccessObject = new Object[1];
+			concurrentRead(() -> read(new LegacyInputStream(archive, lastAccessObject, start, size)));
+		}
+	}
+
+	@Test
+	public void testChannelConcurrentExtract() throws Exception {
+		final LhaFile lhaFile = new LhaFile(file);
+		try {
+			final LhaHeader header = lhaFile.getEntries()[0];
+			concurrentRead(() -> {
+				final long len = read(lhaFile.getInputStream(header));
+				assertEquals(header.getOriginalSize(), len);
+				return len;
+			});
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	private static void concurrentRead(final Callable<Long> task) throws Exception {
+		final List<Future<Long>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(task));
+		}
+		for (final Future<Long> future : futures) {
+			future.get();
+		}
+	}
+
+	private static long readByte(final InputStream in) throws IOException {
+		long len = 0;
+		while (in.read() != -1) {
+			len++;
+		}
+		return len;
+	}
+
+	private static long read(final InputStream in) throws IOException {
+		final byte[] buf = new byte[4096];
+		long len = 0;
+		int n;
+		while ((n = in.read(buf)) != -1) {
+			len += n;
+		}
+		return len;
+	}
+
+	/**
+	 * 共有する {@link RandomAccessFile} を読込みのたびにロックし、最後に読込んだストリームが異なる場合にシークする従来の入力ストリームです。
+	 */
+	private static final class LegacyInputStream extends InputStream {
+
+		private final RandomAccessFile archive;
+		private final Object[] lastAccessObject;
+		private long position;
+		private final long end;
+
+		LegacyInputStream(final RandomAccessFile archive, final Object[] lastAccessObject, final long start, final long size) {
+			this.archive = archive;
+			this.lastAccessObject = lastAccessObject;
+			this.position = start;
+			this.end = start + size;
+		}
+
+		@Override
+		public int read() throws IOException {
+			synchronized (archive) {
+				if (position < end) {
+					if (lastAccessObject[0] != this) {
+						archive.seek(position);
+						lastAccessObject[0] = this;
+					}
+					final int data = archive.read();
+					if (0 <= data) {
+						position++;
+					}
+					return data;
+				}
+				return -1;
+			}
+		}
+
+		@Override
+		public int read(final byte[] buffer, final int index, final int length) throws IOException {
+			synchronized (archive) {
+				if (position < end) {
+					if (lastAccessObject[0] != this) {
+						archive.seek(position);
+						lastAccessObject[0] = this;
+					}
+					final int read = archive.read(buffer, index, (int) Math.min(end - position, length));
+					if (0 <= read) {
+						position += read;
+					}
+					return read;
+				}
+				return -1;
+			}
+		}
+
+	}
+
+}
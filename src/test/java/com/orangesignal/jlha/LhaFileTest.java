@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.FutureTask;
+
+import org.junit.Test;
+
+/**
+ * {@link LhaFile} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class LhaFileTest {
+
+	private static final File file = new File("src/test/resources/", "ken_all.lzh");
+
+	@Test
+	public void testInterruptedReader() throws Exception {
+		final LhaFile lhaFile = new LhaFile(file);
+		try {
+			final LhaHeader header = lhaFile.getEntries()[0];
+			final byte[] expected = lhaFile.getInputStreamWithoutExtract(header).readAllBytes();
+
+			final InputStream other = lhaFile.getInputStreamWithoutExtract(header);
+			final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[8192];
+			actual.write(buffer, 0, other.read(buffer));
+
+			// 割込まれたスレッドの読込みだけが失敗し、割込み状態は維持されます。
+			final InputStream interrupted = lhaFile.getInputStreamWithoutExtract(header);
+			Thread.currentThread().interrupt();
+			try {
+				interrupted.read(buffer);
+				fail();
+			} catch (final InterruptedIOException e) {
+				assertThat(Thread.interrupted(), is(true));
+			}
+
+			// 他のスレッドは開き直された FileChannel からエントリの残りを読込めます。
+			final FutureTask<byte[]> task = new FutureTask<>(other::readAllBytes);
+			new Thread(task).start();
+			actual.write(task.get());
+			assertArrayEquals(expected, actual.toByteArray());
+
+			assertArrayEquals(expected, interrupted.readAllBytes());
+			assertArrayEquals(expected, lhaFile.getInputStreamWithoutExtract(header).readAllBytes());
+		} finally {
+			Thread.interrupted();
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testCloseMapped() throws Exception {
+		assertClosed(new LhaFile(file, LhaFile.OPEN_MAPPED));
+	}
+
+	@Test
+	public void testCloseRead() throws Exception {
+		assertClosed(new LhaFile(file, LhaFile.OPEN_READ));
+	}
+
+	private static void assertClosed(final LhaFile lhaFile) throws IOException {
+		final InputStream in = lhaFile.getInputStreamWithoutExtract(lhaFile.getEntries()[0]);
+		in.read();
+		lhaFile.close();
+		// ストリームに読込み済みのデータやマップされた領域が残っていても、閉じた後は読込めません。
+		try {
+			in.read();
+			fail();
+		} catch (final ClosedChannelException e) {
+		}
+		try {
+			in.read(new byte[16]);
+			fail();
+		} catch (final ClosedChannelException e) {
+		}
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * {@link LzssInputStream} クラスの単体テストです。<p>
+ * {@link PreLh5Decoder} を一括で復号する場合と、1 符号ずつ復号する場合の結果を比較します。
+ *
+ * @author Koji Sugisawa
+ */
+public class LzssInputStreamTest {
+
+	@Test
+	public void testReadLhaFile() throws IOException {
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			for (final LhaHeader header : lhaFile.getEntries()) {
+				final byte[] bulk = readAll(lhaFile.getInputStream(header));
+				final InputStream in = lhaFile.getInputStreamWithoutExtract(header);
+				final byte[] symbol = readAll(new LzssInputStream(new SymbolDecoder(new PreLh5Decoder(in, header.getCompressMethod())), header.getOriginalSize()));
+				assertThat(bulk.length, is((int) header.getOriginalSize()));
+				assertArrayEquals(symbol, bulk);
+
+				final CRC16 crc = new CRC16();
+				crc.update(bulk);
+				assertThat((int) crc.getValue(), is(header.getCrc()));
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testRead() throws IOException {
+		final Random random = new Random(0);
+		final byte[] data = new byte[300000];
+		for (int i = 0; i < data.length; i++) {
+			// 短い一致、重なる一致、長い一致、未圧縮データが混在するデータを生成します。
+			final int r = random.nextInt(100);
+			if (r < 30 && 64 < i) {
+				data[i] = data[i - 1 - random.nextInt(64)];
+			} else if (r < 60 && 0 < i) {
+				data[i] = data[i - 1];
+			} else if (r < 80) {
+				data[i] = (byte) ('a' + random.nextInt(4));
+			} else {
+				data[i] = (byte) random.nextInt(256);
+			}
+		}
+
+		for (final String method : new String[] { CompressMethod.LH4, CompressMethod.LH5, CompressMethod.LH6, CompressMethod.LH7 }) {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, method))) {
+				out.write(data);
+			}
+			final byte[] encoded = baos.toByteArray();
+
+			assertArrayEquals(method, data, readAll(new LzssInputStream(new PreLh5Decoder(new ByteArrayInputStream(encoded), method), data.length)));
+			assertArrayEquals(method, data, readAll(new LzssInputStream(new SymbolDecoder(new PreLh5Decoder(new ByteArrayInputStream(encoded), method)), data.length)));
+
+			// 1 バイトずつ読込む場合も同じ結果になることを検証します。
+			try (InputStream in = new LzssInputStream(new PreLh5Decoder(new ByteArrayInputStream(encoded), method), data.length)) {
+				for (int i = 0; i < data.length; i++) {
+					assertThat(in.read(), is(data[i] & 0xFF));
+				}
+				assertThat(in.read(), is(-1));
+			}
+		}
+	}
+
+	private static byte[] readAll(final InputStream in) throws IOException {
+		try {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			final byte[] buf = new byte[3000];
+			int len;
+			while ((len = in.read(buf)) != -1) {
+				baos.write(buf, 0, len);
+			}
+			return baos.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * 1 符号ずつ復号させるために {@link PreLh5Decoder} を隠蔽する {@link PreLzssDecoder} です。
+	 */
+	private static final class SymbolDecoder implements PreLzssDecoder {
+
+		private final PreLzssDecoder decoder;
+
+		SymbolDecoder(final PreLzssDecoder decoder) {
+			this.decoder = decoder;
+		}
+
+		@Override
+		public int readCode() throws IOException {
+			return decoder.readCode();
+		}
+
+		@Override
+		public int readOffset() throws IOException {
+			return decoder.readOffset();
+		}
+
+		@Override
+		public void mark(final int readLimit) {
+			decoder.mark(readLimit);
+		}
+
+		@Override
+		public void reset() throws IOException {
+			decoder.reset();
+		}
+
+		@Override
+		public boolean markSupported() {
+			return decoder.markSupported();
+		}
+
+		@Override
+		public int available() throws IOException {
+			return decoder.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			decoder.close();
+		}
+
+		@Override
+		public int getDictionarySize() {
+			return decoder.getDictionarySize();
+		}
+
+		@Override
+		public int getMaxMatch() {
+			return decoder.getMaxMatch();
+		}
+
+		@Override
+		public int getThreshold() {
+			return decoder.getThreshold();
+		}
+
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+
+/**
+ * Benchmark for the {@link LzssOutputStream} parse methods.<p>
+ * The timings give the speed side of the speed/ratio curve and the compressed sizes printed after the run give the ratio side.
+ *
+ * @author Koji Sugisawa
+ * @since 3.0
+ */
+public class LzssOutputStreamBenchmarks extends AbstractBenchmark {
+
+	private static final Map<String, Integer> sizes = new TreeMap<>();
+
+	private static byte[] text;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			try (InputStream in = lhaFile.getInputStream(lhaFile.getEntries()[0])) {
+				text = Arrays.copyOf(in.readAllBytes(), 2 * 1024 * 1024);
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() {
+		for (final Map.Entry<String, Integer> e : sizes.entrySet()) {
+			System.out.printf("%s: %d -> %d bytes (%.2f%%)%n", e.getKey(), text.length, e.getValue(), e.getValue() * 100.0 / text.length);
+		}
+	}
+
+	@Test
+	public void testLh5Greedy() throws IOException {
+		encode(CompressMethod.LH5, LzssOutputStream.GREEDY);
+	}
+
+	@Test
+	public void testLh5Lazy() throws IOException {
+		encode(CompressMethod.LH5, LzssOutputStream.LAZY);
+	}
+
+	@Test
+	public void testLh5Optimal() throws IOException {
+		encode(CompressMethod.LH5, LzssOutputStream.OPTIMAL);
+	}
+
+	@Test
+	public void testLh5Fastest() throws IOException {
+		encode(CompressMethod.LH5, CompressMethod.FASTEST_LEVEL, CompressMethod.FASTEST_SEARCH, LzssOutputStream.GREEDY);
+	}
+
+	@Test
+	public void testLh7Greedy() throws IOException {
+		encode(CompressMethod.LH7, LzssOutputStream.GREEDY);
+	}
+
+	@Test
+	public void testLh7Lazy() throws IOException {
+		encode(CompressMethod.LH7, LzssOutputStream.LAZY);
+	}
+
+	@Test
+	public void testLh7Optimal() throws IOException {
+		encode(CompressMethod.LH7, LzssOutputStream.OPTIMAL);
+	}
+
+	private static void encode(final String method, final String parse) throws IOException {
+		encode(method, parse, CompressMethod.SEARCH, parse);
+	}
+
+	private static void encode(final String method, final String name, final LzssSearchMethodFactory search, final String parse) throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, method), search, parse)) {
+			out.write(text);
+		}
+		synchronized (sizes) {
+			sizes.put(method + " " + name, baos.size());
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * {@link LzssOutputStream} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class LzssOutputStreamTest {
+
+	private static final String[] PARSES = { LzssOutputStream.GREEDY, LzssOutputStream.LAZY, LzssOutputStream.OPTIMAL };
+
+	private static byte[] data;
+
+	private static byte[] text;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		final Random random = new Random(0);
+		data = new byte[200000];
+		for (int i = 0; i < data.length; i++) {
+			// 短い一致、重なる一致、長い一致、未圧縮データが混在するデータを生成します。
+			final int r = random.nextInt(100);
+			if (r < 30 && 64 < i) {
+				data[i] = data[i - 1 - random.nextInt(64)];
+			} else if (r < 60 && 0 < i) {
+				data[i] = data[i - 1];
+			} else if (r < 80) {
+				data[i] = (byte) ('a' + random.nextInt(4));
+			} else {
+				data[i] = (byte) random.nextInt(256);
+			}
+		}
+
+		final LhaFile lhaFile = new LhaFile(new File("src/test/resources/", "ken_all.lzh"));
+		try {
+			try (InputStream in = lhaFile.getInputStream(lhaFile.getEntries()[0])) {
+				text = Arrays.copyOf(in.readAllBytes(), 512 * 1024);
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	@Test
+	public void testWrite() throws IOException {
+		for (final String method : new String[] { CompressMethod.LH4, CompressMethod.LH5, CompressMethod.LH6, CompressMethod.LH7 }) {
+			for (final String parse : PARSES) {
+				final byte[] encoded = encode(method, parse, data);
+				assertArrayEquals(method + " " + parse, data, decode(new PreLh5Decoder(new ByteArrayInputStream(encoded), method), data.length));
+			}
+		}
+	}
+
+	@Test
+	public void testWriteLh1() throws IOException {
+		for (final String parse : PARSES) {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (OutputStream out = new LzssOutputStream(new PostLh1Encoder(baos), CompressMethod.SEARCH, parse)) {
+				out.write(data);
+			}
+			final byte[] encoded = baos.toByteArray();
+			assertArrayEquals(parse, data, decode(new PreLh1Decoder(new ByteArrayInputStream(encoded)), data.length));
+		}
+	}
+
+	@Test
+	public void testWriteFlush() throws IOException {
+		for (final String parse : PARSES) {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, CompressMethod.LH5), CompressMethod.SEARCH, parse)) {
+				for (int i = 0; i < data.length; i += 7777) {
+					out.write(data, i, Math.min(7777, data.length - i));
+					out.flush();
+				}
+			}
+			assertArrayEquals(parse, data, decode(new PreLh5Decoder(new ByteArrayInputStream(baos.toByteArray()), CompressMethod.LH5), data.length));
+		}
+	}
+
+	@Test
+	public void testSingleProbeHashSearch() throws IOException {
+		for (final String method : new String[] { CompressMethod.LH4, CompressMethod.LH5, CompressMethod.LH6, CompressMethod.LH7 }) {
+			for (final String parse : PARSES) {
+				final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, method), SingleProbeHashSearch::new, parse)) {
+					for (int i = 0; i < data.length; i += 7777) {
+						out.write(data, i, Math.min(7777, data.length - i));
+						out.flush();
+					}
+				}
+				assertArrayEquals(method + " " + parse, data, decode(new PreLh5Decoder(new ByteArrayInputStream(baos.toByteArray()), method), data.length));
+			}
+		}
+	}
+
+	@Test
+	public void testLazyIsDefault() throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, CompressMethod.LH5), CompressMethod.SEARCH)) {
+			out.write(text);
+		}
+		assertArrayEquals(baos.toByteArray(), encode(CompressMethod.LH5, LzssOutputStream.LAZY, text));
+	}
+
+	@Test
+	public void testCompressionRatio() throws IOException {
+		final int greedy = encode(CompressMethod.LH5, LzssOutputStream.GREEDY, text).length;
+		final int lazy = encode(CompressMethod.LH5, LzssOutputStream.LAZY, text).length;
+		final byte[] optimal = encode(CompressMethod.LH5, LzssOutputStream.OPTIMAL, text);
+		assertArrayEquals(text, decode(new PreLh5Decoder(new ByteArrayInputStream(optimal), CompressMethod.LH5), text.length));
+		assertTrue(greedy + " " + lazy, lazy < greedy);
+		assertTrue(lazy + " " + optimal.length, optimal.length < lazy);
+	}
+
+	@Test
+	public void testGenerator() throws IOException {
+		final Properties property = new Properties();
+		property.setProperty("lha.lh5.encoder", "LzssOutputStream( PostLh5Encoder( out, -lh5- ), HashAndChainedListSearch, [], optimal )");
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream out = CompressMethod.connectEncoder(baos, CompressMethod.LH5, property)) {
+			out.write(text);
+		}
+		assertArrayEquals(encode(CompressMethod.LH5, LzssOutputStream.OPTIMAL, text), baos.toByteArray());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalParse() {
+		new LzssOutputStream(new PostLh5Encoder(new ByteArrayOutputStream()), CompressMethod.SEARCH, "fastest");
+	}
+
+	@Test
+	public void testParseIgnoreCase() throws IOException {
+		final byte[] encoded = encode(CompressMethod.LH5, "Greedy", data);
+		assertThat(encoded, is(encode(CompressMethod.LH5, LzssOutputStream.GREEDY, data)));
+	}
+
+	private static byte[] encode(final String method, final String parse, final byte[] data) throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(baos, method), CompressMethod.SEARCH, parse)) {
+			out.write(data);
+		}
+		return baos.toByteArray();
+	}
+
+	private static byte[] decode(final PreLzssDecoder decoder, final int length) throws IOException {
+		try (InputStream in = new LzssInputStream(decoder, length)) {
+			return in.readAllBytes();
+		}
+	}
+
+}
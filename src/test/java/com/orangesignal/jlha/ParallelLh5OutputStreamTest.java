@@ -0,0 +1,271 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.orangesignal.jlha;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link ParallelLh5OutputStream} クラスの単体テストです。
+ *
+ * @author Koji Sugisawa
+ */
+public class ParallelLh5OutputStreamTest {
+
+	private static final String[] METHODS = { CompressMethod.LH4, CompressMethod.LH5, CompressMethod.LH6, CompressMethod.LH7 };
+
+	private static ExecutorService executor;
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private static byte[] data;
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		executor = Executors.newFixedThreadPool(4);
+
+		final Random random = new Random(0);
+		data = new byte[300000];
+		for (int i = 0; i < data.length; i++) {
+			// チャンクの境界をまたぐ長い一致が生じるように、繰返しの多いデータを生成します。
+			final int r = random.nextInt(100);
+			if (r < 30 && 64 < i) {
+				data[i] = data[i - 1 - random.nextInt(64)];
+			} else if (r < 70 && 0 < i) {
+				data[i] = data[i - 1];
+			} else if (r < 90) {
+				data[i] = (byte) ('a' + random.nextInt(4));
+			} else {
+				data[i] = (byte) random.nextInt(256);
+			}
+		}
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testWrite() throws IOException {
+		for (final String method : METHODS) {
+			final int dictionarySize = CompressMethod.toDictionarySize(method);
+			// 連結待ちが 1 つの場合と複数の場合を、チャンクのバイト数を変えて検証します。
+			for (final int maxPending : new int[] { 1, 3 }) {
+				final int chunkSize = dictionarySize + (maxPending - 1) * 1234;
+				final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				try (OutputStream out = new ParallelLh5OutputStream(baos, method, executor, chunkSize, maxPending)) {
+					out.write(data);
+				}
+				assertArrayEquals(method + " " + chunkSize, data, decode(method, baos.toByteArray(), data.length));
+			}
+		}
+	}
+
+	@Test
+	public void testWriteByte() throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream out = new ParallelLh5OutputStream(baos, CompressMethod.LH5, executor, 10000, 2)) {
+			for (final byte b : data) {
+				out.write(b);
+			}
+		}
+		assertArrayEquals(data, decode(CompressMethod.LH5, baos.toByteArray(), data.length));
+	}
+
+	@Test
+	public void testWriteEmpty() throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		new ParallelLh5OutputStream(baos, CompressMethod.LH5, executor).close();
+		assertThat(baos.size(), is(0));
+	}
+
+	@Test
+	public void testCompressionRatio() throws IOException {
+		final byte[] text = Arrays.copyOf(extract(new File("src/test/resources/", "ken_all.lzh")), 1024 * 1024);
+		for (final String method : new String[] { CompressMethod.LH5, CompressMethod.LH7 }) {
+			final ByteArrayOutputStream serial = new ByteArrayOutputStream();
+			try (OutputStream out = new LzssOutputStream(new PostLh5Encoder(serial, method))) {
+				out.write(text);
+			}
+			final ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+			try (OutputStream out = new ParallelLh5OutputStream(parallel, method, executor, 128 * 1024, 4)) {
+				out.write(text);
+			}
+			assertArrayEquals(method, text, decode(method, parallel.toByteArray(), text.length));
+			// チャンクの境界で失われる一致は僅かなため、逐次の圧縮と比べて 1% 以上大きくならないことを検証します。
+			assertTrue(method, parallel.size() < serial.size() * 1.01);
+		}
+	}
+
+	@Test
+	public void testLhaOutputStream() throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		final LhaOutputStream out = new LhaOutputStream(baos, LhaProperty.getProperties(), executor);
+		try {
+			for (final String method : new String[] { CompressMethod.LH5, CompressMethod.LH1, CompressMethod.LH7 }) {
+				final LhaHeader header = new LhaHeader(method + ".txt");
+				header.setCompressMethod(method);
+				out.putNextEntry(header);
+				out.write(data);
+				out.closeEntry();
+			}
+		} finally {
+			out.close();
+		}
+
+		final LhaInputStream in = new LhaInputStream(new ByteArrayInputStream(baos.toByteArray()));
+		try {
+			for (final String method : new String[] { CompressMethod.LH5, CompressMethod.LH1, CompressMethod.LH7 }) {
+				final LhaHeader header = in.getNextEntry();
+				assertThat(header.getCompressMethod(), is(method));
+				assertArrayEquals(method, data, in.readAllBytes());
+			}
+			assertThat(in.getNextEntry() == null, is(true));
+		} finally {
+			in.close();
+		}
+	}
+
+	@Test
+	public void testLhaOutputStreamTemporaryFile() throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (RandomAccessFile temp = new RandomAccessFile(tempFolder.newFile(), "rw")) {
+			final LhaOutputStream out = new LhaOutputStream(baos, temp, LhaProperty.getProperties(), executor);
+			try {
+				final LhaHeader header = new LhaHeader("lh7.txt");
+				header.setCompressMethod(CompressMethod.LH7);
+				out.putNextEntry(header);
+				out.write(data);
+				out.closeEntry();
+			} finally {
+				out.close();
+			}
+		}
+		final File file = tempFolder.newFile("temporary.lzh");
+		Files.write(file.toPath(), baos.toByteArray());
+		assertArrayEquals(data, extract(file));
+	}
+
+	@Test
+	public void testLhaImmediateOutputStream() throws IOException {
+		final File file = tempFolder.newFile("immediate.lzh");
+		try (RandomAccessFile archive = new RandomAccessFile(file, "rw")) {
+			final LhaImmediateOutputStream out = new LhaImmediateOutputStream(archive, LhaProperty.getProperties(), executor);
+			out.putNextEntry(newHeader(CompressMethod.LH7));
+			out.write(data);
+			out.closeEntry();
+			out.close();
+		}
+		assertArrayEquals(data, extract(file));
+	}
+
+	@Test
+	public void testLhaRetainedOutputStream() throws IOException {
+		final File file = tempFolder.newFile("retained.lzh");
+		try (RandomAccessFile archive = new RandomAccessFile(file, "rw")) {
+			final LhaRetainedOutputStream out = new LhaRetainedOutputStream(archive, LhaProperty.getProperties(), executor);
+			out.putNextEntry(newHeader(CompressMethod.LH7));
+			out.write(data);
+			out.closeEntry();
+			out.close();
+		}
+		assertArrayEquals(data, extract(file));
+	}
+
+	private static LhaHeader newHeader(final String method) {
+		final LhaHeader header = new LhaHeader(method + ".txt");
+		header.setCompressMethod(method);
+		header.setOriginalSize(data.length);
+		return header;
+	}
+
+	@Test
+	public void testWriteFastest() throws IOException {
+		for (final String method : METHODS) {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (OutputStream out = new ParallelLh5OutputStream(baos, method, executor, CompressMethod.toDictionarySize(method) + 1234, 3, CompressMethod.FASTEST_SEARCH, LzssOutputStream.GREEDY)) {
+				out.write(data);
+			}
+			assertArrayEquals(method, data, decode(method, baos.toByteArray(), data.length));
+		}
+
+		final Properties property = new Properties();
+		property.setProperty("lha.level", CompressMethod.FASTEST_LEVEL);
+		assertThat(CompressMethod.connectEncoder(new ByteArrayOutputStream(), CompressMethod.LH5, property, executor) instanceof ParallelLh5OutputStream, is(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedMethod() {
+		new ParallelLh5OutputStream(new ByteArrayOutputStream(), CompressMethod.LH1, executor);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalChunkSize() {
+		new ParallelLh5OutputStream(new ByteArrayOutputStream(), CompressMethod.LH7, executor, 1024, 1);
+	}
+
+	@Test
+	public void testConnectEncoderCustomGenerator() {
+		final Properties property = new Properties();
+		property.setProperty("lha.lh5.encoder", "LzssOutputStream( PostLh5Encoder( out, -lh5- ), HashAndChainedListSearch, [ HashShort ] )");
+		assertThat(CompressMethod.connectEncoder(new ByteArrayOutputStream(), CompressMethod.LH5, property, executor) instanceof LzssOutputStream, is(true));
+		assertThat(CompressMethod.connectEncoder(new ByteArrayOutputStream(), CompressMethod.LH5, new Properties(), executor) instanceof ParallelLh5OutputStream, is(true));
+		assertThat(CompressMethod.connectEncoder(new ByteArrayOutputStream(), CompressMethod.LH5, new Properties(), null) instanceof LzssOutputStream, is(true));
+	}
+
+	private static byte[] extract(final File file) throws IOException {
+		final LhaFile lhaFile = new LhaFile(file);
+		try {
+			try (InputStream in = lhaFile.getInputStream(lhaFile.getEntries()[0])) {
+				return in.readAllBytes();
+			}
+		} finally {
+			lhaFile.close();
+		}
+	}
+
+	private static byte[] decode(final String method, final byte[] encoded, final int length) throws IOException {
+		try (InputStream in = new LzssInputStream(new PreLh5Decoder(new ByteArrayInputStream(encoded), method), length)) {
+			return in.readAllBytes();
+		}
+	}
+
+}